@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.api.bag;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+
+/**
+ * A ConcurrentMutableBag is a MutableBag which may be updated by many threads at once without external locking.
+ * Occurrence updates on a single item are atomic. Iteration and bulk queries are weakly consistent: they reflect
+ * every update which completed before they started and may or may not reflect updates made while they run.
+ *
+ * @since 12.0
+ */
+public interface ConcurrentMutableBag<T>
+        extends MutableBag<T>
+{
+    @Override
+    ConcurrentMutableBag<T> newEmpty();
+
+    @Override
+    default ConcurrentMutableBag<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    @Override
+    default ConcurrentMutableBag<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    default ConcurrentMutableBag<T> withAll(Iterable<? extends T> elements)
+    {
+        this.addAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    default ConcurrentMutableBag<T> withoutAll(Iterable<? extends T> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    ConcurrentMutableBag<T> tap(Procedure<? super T> procedure);
+
+    /**
+     * Atomically replaces the occurrences of {@code item} with {@code newOccurrences} if, and only if, it currently
+     * has exactly {@code expectedOccurrences}.
+     *
+     * @return true if the occurrences were replaced
+     */
+    boolean setOccurrences(T item, int expectedOccurrences, int newOccurrences);
+}
@@ -42,6 +42,17 @@ public interface MutableMapFactory
      */
     <K, V> MutableMap<K, V> withInitialCapacity(int capacity);
 
+    /**
+     * Same as {@link #empty()}, but the map is meant to hold only a few entries. Implementations may keep such a map in
+     * a compact array which is searched linearly and switch to a hashed table once it grows.
+     *
+     * @since 12.0
+     */
+    default <K, V> MutableMap<K, V> small()
+    {
+        return this.empty();
+    }
+
     /**
      * Same as {@link #with(Object, Object)}.
      */
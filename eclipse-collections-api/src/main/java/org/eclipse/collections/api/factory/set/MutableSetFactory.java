@@ -60,6 +60,17 @@ public interface MutableSetFactory
      */
     <T> MutableSet<T> withInitialCapacity(int capacity);
 
+    /**
+     * Same as {@link #empty()}, but the set is meant to hold only a few elements. Implementations may keep such a set
+     * in a compact array which is searched linearly and switch to a hashed table once it grows.
+     *
+     * @since 12.0
+     */
+    default <T> MutableSet<T> small()
+    {
+        return this.empty();
+    }
+
     /**
      * Same as {@link #withAll(Iterable)}.
      */
@@ -320,6 +320,30 @@ public interface MutableList<T>
         return this.sortThis(SerializableComparators.byFunction(function));
     }
 
+    /**
+     * Sorts the internal data structure of this list using a parallel sort and returns the list itself as a
+     * convenience. Implementations backed by an array sort it in place with {@link java.util.Arrays#parallelSort};
+     * other implementations fall back to {@link #sortThis(Comparator)}. The sort is stable.
+     *
+     * @since 12.0
+     */
+    default MutableList<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        return this.sortThis(comparator);
+    }
+
+    /**
+     * Sorts the internal data structure of this list in parallel based on the natural order of the attribute returned
+     * by {@code function}.
+     *
+     * @see #sortThisParallel(Comparator)
+     * @since 12.0
+     */
+    default <V extends Comparable<? super V>> MutableList<T> sortThisByParallel(Function<? super T, ? extends V> function)
+    {
+        return this.sortThisParallel(SerializableComparators.byFunction(function));
+    }
+
     /**
      * @since 6.0
      */
@@ -75,6 +75,15 @@ public interface ParallelListIterable<T>
     @Override
     <V> ParallelListIterable<V> flatCollect(Function<? super T, ? extends Iterable<V>> function);
 
+    /**
+     * Returns the first element in encounter order that satisfies the predicate, or null if none does. Unlike
+     * {@link #detect(Predicate)}, which may return any matching element, a match only stops the batches after it;
+     * earlier batches are still scanned to completion.
+     *
+     * @since 12.0
+     */
+    T detectFirst(Predicate<? super T> predicate);
+
     @Override
     <V> ListMultimap<V, T> groupBy(Function<? super T, ? extends V> function);
 
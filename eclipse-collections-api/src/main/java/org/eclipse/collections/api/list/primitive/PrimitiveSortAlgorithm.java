@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.api.list.primitive;
+
+/**
+ * The algorithms which can be requested when sorting a primitive list in its natural order.
+ *
+ * @since 12.0
+ */
+public enum PrimitiveSortAlgorithm
+{
+    /**
+     * The comparison-based sort used by {@code sortThis()}, i.e. {@link java.util.Arrays#sort(int[])} and friends.
+     */
+    COMPARISON,
+
+    /**
+     * A least-significant-digit radix sort which makes one linear pass per byte of the primitive type. It allocates
+     * a scratch array of the same size as the list and is usually faster than {@link #COMPARISON} for large lists of
+     * int, long, float or double.
+     */
+    RADIX,
+
+    /**
+     * A parallel sort on the common fork-join pool, i.e. {@link java.util.Arrays#parallelSort(int[])} and friends.
+     */
+    PARALLEL
+}
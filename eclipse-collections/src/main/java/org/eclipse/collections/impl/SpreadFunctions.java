@@ -123,4 +123,96 @@ public final class SpreadFunctions
     {
         return SpreadFunctions.thirtyTwoBitSpread2(element);
     }
+
+    /**
+     * Returns the SipHash-1-3 of the characters of {@code element} under the 128-bit key {@code (k0, k1)}, reading the
+     * characters as little-endian UTF-16. Unlike {@link String#hashCode()}, colliding strings cannot be chosen without
+     * knowing the key, which makes it suitable for hashing keys that come from untrusted input.
+     *
+     * @since 12.0
+     */
+    public static long stringSipHash(String element, long k0, long k1)
+    {
+        SipHash sipHash = new SipHash(k0, k1);
+        int length = element.length();
+        int i = 0;
+        for (; i + 4 <= length; i += 4)
+        {
+            sipHash.compress(element.charAt(i)
+                    | (long) element.charAt(i + 1) << 16
+                    | (long) element.charAt(i + 2) << 32
+                    | (long) element.charAt(i + 3) << 48);
+        }
+        long lastWord = (long) (length << 1) << 56;
+        for (int shift = 0; i < length; i++, shift += 16)
+        {
+            lastWord |= (long) element.charAt(i) << shift;
+        }
+        sipHash.compress(lastWord);
+        return sipHash.finish();
+    }
+
+    /**
+     * Returns the SipHash-1-3 of the eight little-endian bytes of {@code element} under the 128-bit key {@code (k0, k1)}.
+     *
+     * @see #stringSipHash(String, long, long)
+     * @since 12.0
+     */
+    public static long longSipHash(long element, long k0, long k1)
+    {
+        SipHash sipHash = new SipHash(k0, k1);
+        sipHash.compress(element);
+        sipHash.compress(8L << 56);
+        return sipHash.finish();
+    }
+
+    private static final class SipHash
+    {
+        private long v0;
+        private long v1;
+        private long v2;
+        private long v3;
+
+        private SipHash(long k0, long k1)
+        {
+            this.v0 = k0 ^ 0x736F6D6570736575L;
+            this.v1 = k1 ^ 0x646F72616E646F6DL;
+            this.v2 = k0 ^ 0x6C7967656E657261L;
+            this.v3 = k1 ^ 0x7465646279746573L;
+        }
+
+        private void compress(long word)
+        {
+            this.v3 ^= word;
+            this.round();
+            this.v0 ^= word;
+        }
+
+        private long finish()
+        {
+            this.v2 ^= 0xFFL;
+            this.round();
+            this.round();
+            this.round();
+            return this.v0 ^ this.v1 ^ this.v2 ^ this.v3;
+        }
+
+        private void round()
+        {
+            this.v0 += this.v1;
+            this.v1 = Long.rotateLeft(this.v1, 13);
+            this.v1 ^= this.v0;
+            this.v0 = Long.rotateLeft(this.v0, 32);
+            this.v2 += this.v3;
+            this.v3 = Long.rotateLeft(this.v3, 16);
+            this.v3 ^= this.v2;
+            this.v0 += this.v3;
+            this.v3 = Long.rotateLeft(this.v3, 21);
+            this.v3 ^= this.v0;
+            this.v2 += this.v1;
+            this.v1 = Long.rotateLeft(this.v1, 17);
+            this.v1 ^= this.v2;
+            this.v2 = Long.rotateLeft(this.v2, 32);
+        }
+    }
 }
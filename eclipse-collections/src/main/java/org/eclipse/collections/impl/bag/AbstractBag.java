@@ -74,6 +74,7 @@ import org.eclipse.collections.impl.AbstractRichIterable;
 import org.eclipse.collections.impl.Counter;
 import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
 import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.internal.BoundedIntMaxHeap;
 
 /**
  * @since 7.0
@@ -953,14 +954,14 @@ public abstract class AbstractBag<T>
         {
             return returnWhenEmpty;
         }
-        int keySize = Math.min(n, this.sizeDistinct());
-        MutableList<ObjectIntPair<T>> sorted = this.toListWithOccurrences().sortThisByInt(function);
-        MutableList<ObjectIntPair<T>> results = sorted.subList(0, keySize).toList();
-        while (keySize < sorted.size() && results.getLast().getTwo() == sorted.get(keySize).getTwo())
+        MutableList<ObjectIntPair<T>> occurrences = this.toListWithOccurrences();
+        if (n >= occurrences.size())
         {
-            results.add(sorted.get(keySize));
-            keySize++;
+            return occurrences.sortThisByInt(function);
         }
-        return results;
+        BoundedIntMaxHeap heap = new BoundedIntMaxHeap(n);
+        occurrences.forEach(each -> heap.offer(function.intValueOf(each)));
+        int cutOff = heap.max();
+        return occurrences.select(each -> function.intValueOf(each) <= cutOff).sortThisByInt(function);
     }
 }
@@ -0,0 +1,603 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.ConcurrentMutableBag;
+import org.eclipse.collections.api.bag.ImmutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.predicate.primitive.ObjectIntPredicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.Counter;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+import org.eclipse.collections.impl.set.mutable.SetAdapter;
+
+/**
+ * A ConcurrentHashBag is a {@link ConcurrentMutableBag} backed by a {@link ConcurrentHashMap} from each item to an
+ * atomic counter. Adding or removing occurrences of an item is a compare-and-set on that item's counter, so writers
+ * on different items never contend and writers on the same item never block. The total size is kept in a
+ * {@link LongAdder}, which stripes the one counter every writer touches.
+ * <p>
+ * A counter which drops to zero is dead: it is unlinked from the map and any writer which observes it installs a
+ * fresh counter instead of reviving it. Iteration, {@link #size()} and the other bulk queries are weakly consistent,
+ * and {@link #toImmutable()} returns a snapshot in which each item's count is one that item actually had. Like
+ * {@link java.util.concurrent.ConcurrentHashMap}, this bag does not permit null items.
+ *
+ * @since 12.0
+ */
+public final class ConcurrentHashBag<T>
+        extends AbstractMutableBag<T>
+        implements ConcurrentMutableBag<T>, Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final ConcurrentHashMap<T, AtomicInteger> items;
+    private final LongAdder size = new LongAdder();
+
+    public ConcurrentHashBag()
+    {
+        this.items = ConcurrentHashMap.newMap();
+    }
+
+    public ConcurrentHashBag(int initialCapacity)
+    {
+        this.items = ConcurrentHashMap.newMap(initialCapacity);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag()
+    {
+        return new ConcurrentHashBag<>();
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(int initialCapacity)
+    {
+        return new ConcurrentHashBag<>(initialCapacity);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(Iterable<? extends E> source)
+    {
+        ConcurrentHashBag<E> result = new ConcurrentHashBag<>();
+        result.addAllIterable(source);
+        return result;
+    }
+
+    public static <E> ConcurrentHashBag<E> newBagWith(E... elements)
+    {
+        ConcurrentHashBag<E> result = new ConcurrentHashBag<>();
+        for (E element : elements)
+        {
+            result.add(element);
+        }
+        return result;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> newEmpty()
+    {
+        return ConcurrentHashBag.newBag();
+    }
+
+    @Override
+    public int addOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+        if (occurrences == 0)
+        {
+            return this.occurrencesOf(item);
+        }
+        while (true)
+        {
+            AtomicInteger counter = this.items.get(item);
+            if (counter == null)
+            {
+                counter = this.items.putIfAbsent(item, new AtomicInteger(occurrences));
+                if (counter == null)
+                {
+                    this.size.add(occurrences);
+                    return occurrences;
+                }
+            }
+            int current = counter.get();
+            while (current != 0)
+            {
+                int updated = Math.addExact(current, occurrences);
+                if (counter.compareAndSet(current, updated))
+                {
+                    this.size.add(occurrences);
+                    return updated;
+                }
+                current = counter.get();
+            }
+            if (this.items.replace(item, counter, new AtomicInteger(occurrences)))
+            {
+                this.size.add(occurrences);
+                return occurrences;
+            }
+        }
+    }
+
+    @Override
+    public boolean add(T item)
+    {
+        this.addOccurrences(item, 1);
+        return true;
+    }
+
+    @Override
+    public boolean removeOccurrences(Object item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot remove a negative number of occurrences");
+        }
+        if (occurrences == 0)
+        {
+            return false;
+        }
+        return this.removeUpTo(item, occurrences) > 0;
+    }
+
+    @Override
+    public boolean remove(Object item)
+    {
+        return this.removeUpTo(item, 1) > 0;
+    }
+
+    private int removeUpTo(Object item, int occurrences)
+    {
+        AtomicInteger counter = this.items.get(item);
+        if (counter == null)
+        {
+            return 0;
+        }
+        while (true)
+        {
+            int current = counter.get();
+            if (current == 0)
+            {
+                return 0;
+            }
+            int updated = Math.max(0, current - occurrences);
+            if (counter.compareAndSet(current, updated))
+            {
+                int removed = current - updated;
+                this.size.add(-removed);
+                if (updated == 0)
+                {
+                    this.items.remove(item, counter);
+                }
+                return removed;
+            }
+        }
+    }
+
+    @Override
+    public boolean setOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot set a negative number of occurrences");
+        }
+        while (true)
+        {
+            AtomicInteger counter = this.items.get(item);
+            if (counter == null)
+            {
+                if (occurrences == 0)
+                {
+                    return false;
+                }
+                if (this.items.putIfAbsent(item, new AtomicInteger(occurrences)) == null)
+                {
+                    this.size.add(occurrences);
+                    return true;
+                }
+                continue;
+            }
+            int current = counter.get();
+            if (current == occurrences)
+            {
+                return false;
+            }
+            if (current == 0)
+            {
+                if (this.items.replace(item, counter, new AtomicInteger(occurrences)))
+                {
+                    this.size.add(occurrences);
+                    return true;
+                }
+                continue;
+            }
+            if (counter.compareAndSet(current, occurrences))
+            {
+                this.size.add(occurrences - current);
+                if (occurrences == 0)
+                {
+                    this.items.remove(item, counter);
+                }
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public boolean setOccurrences(T item, int expectedOccurrences, int newOccurrences)
+    {
+        if (expectedOccurrences < 0 || newOccurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot set a negative number of occurrences");
+        }
+        while (true)
+        {
+            AtomicInteger counter = this.items.get(item);
+            int current = counter == null ? 0 : counter.get();
+            if (current != expectedOccurrences)
+            {
+                return false;
+            }
+            if (expectedOccurrences == newOccurrences)
+            {
+                return true;
+            }
+            if (current == 0)
+            {
+                boolean installed = counter == null
+                        ? this.items.putIfAbsent(item, new AtomicInteger(newOccurrences)) == null
+                        : this.items.replace(item, counter, new AtomicInteger(newOccurrences));
+                if (installed)
+                {
+                    this.size.add(newOccurrences);
+                    return true;
+                }
+                continue;
+            }
+            if (counter.compareAndSet(current, newOccurrences))
+            {
+                this.size.add(newOccurrences - current);
+                if (newOccurrences == 0)
+                {
+                    this.items.remove(item, counter);
+                }
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public int occurrencesOf(Object item)
+    {
+        AtomicInteger counter = this.items.get(item);
+        return counter == null ? 0 : counter.get();
+    }
+
+    @Override
+    public boolean contains(Object item)
+    {
+        return this.occurrencesOf(item) > 0;
+    }
+
+    @Override
+    public int size()
+    {
+        return (int) this.size.sum();
+    }
+
+    @Override
+    public int sizeDistinct()
+    {
+        return this.items.size();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size.sum() == 0L;
+    }
+
+    @Override
+    public void clear()
+    {
+        for (T each : this.items.keySet())
+        {
+            this.removeUpTo(each, Integer.MAX_VALUE);
+        }
+    }
+
+    @Override
+    protected RichIterable<T> getKeysView()
+    {
+        return this.items.keysView();
+    }
+
+    @Override
+    public void forEachWithOccurrences(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        this.items.forEachKeyValue((item, counter) ->
+        {
+            int occurrences = counter.get();
+            if (occurrences > 0)
+            {
+                objectIntProcedure.value(item, occurrences);
+            }
+        });
+    }
+
+    @Override
+    public boolean anySatisfyWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        return this.detectEntryWithOccurrences(predicate) != null;
+    }
+
+    @Override
+    public boolean allSatisfyWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        return this.detectEntryWithOccurrences((each, occurrences) -> !predicate.accept(each, occurrences)) == null;
+    }
+
+    @Override
+    public boolean noneSatisfyWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        return this.detectEntryWithOccurrences(predicate) == null;
+    }
+
+    @Override
+    public T detectWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        return this.detectEntryWithOccurrences(predicate);
+    }
+
+    private T detectEntryWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        for (Map.Entry<T, AtomicInteger> entry : this.items.entrySet())
+        {
+            int occurrences = entry.getValue().get();
+            if (occurrences > 0 && predicate.accept(entry.getKey(), occurrences))
+            {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public MutableMap<T, Integer> toMapOfItemToCount()
+    {
+        MutableMap<T, Integer> map = UnifiedMap.newMap(this.items.size());
+        this.forEachWithOccurrences(map::put);
+        return map;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> selectByOccurrences(IntPredicate predicate)
+    {
+        ConcurrentHashBag<T> result = ConcurrentHashBag.newBag();
+        this.forEachWithOccurrences((each, occurrences) ->
+        {
+            if (predicate.accept(occurrences))
+            {
+                result.addOccurrences(each, occurrences);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns an immutable copy of the counts visible to a single pass over the bag.
+     */
+    @Override
+    public ImmutableBag<T> toImmutable()
+    {
+        HashBag<T> snapshot = HashBag.newBag(this.items.size());
+        this.forEachWithOccurrences(snapshot::addOccurrences);
+        return snapshot.toImmutable();
+    }
+
+    @Override
+    public ConcurrentHashBag<T> tap(Procedure<? super T> procedure)
+    {
+        this.forEach(procedure);
+        return this;
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.forEachWithOccurrences((each, occurrences) ->
+        {
+            for (int i = 0; i < occurrences; i++)
+            {
+                procedure.value(each);
+            }
+        });
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        Counter index = new Counter();
+        this.forEachWithOccurrences((each, occurrences) ->
+        {
+            for (int i = 0; i < occurrences; i++)
+            {
+                objectIntProcedure.value(each, index.getCount());
+                index.increment();
+            }
+        });
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
+    {
+        this.forEachWithOccurrences((each, occurrences) ->
+        {
+            for (int i = 0; i < occurrences; i++)
+            {
+                procedure.value(each, parameter);
+            }
+        });
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new InternalIterator();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> predicate)
+    {
+        boolean changed = false;
+        for (T each : this.items.keySet())
+        {
+            if (predicate.accept(each))
+            {
+                changed |= this.removeUpTo(each, Integer.MAX_VALUE) > 0;
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        boolean changed = false;
+        for (T each : this.items.keySet())
+        {
+            if (predicate.accept(each, parameter))
+            {
+                changed |= this.removeUpTo(each, Integer.MAX_VALUE) > 0;
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        boolean changed = false;
+        Iterable<?> distinct = iterable instanceof Bag ? ((Bag<?>) iterable).distinctView() : iterable;
+        for (Object each : distinct)
+        {
+            changed |= this.removeUpTo(each, Integer.MAX_VALUE) > 0;
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        Bag<?> bag = (Bag<?>) other;
+        if (this.sizeDistinct() != bag.sizeDistinct())
+        {
+            return false;
+        }
+        return this.allSatisfyWithOccurrences((each, occurrences) -> bag.occurrencesOf(each) == occurrences);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        Counter counter = new Counter();
+        this.forEachWithOccurrences((each, occurrences) -> counter.add(each.hashCode() ^ occurrences));
+        return counter.getCount();
+    }
+
+    @Override
+    public <V> HashBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public <V> HashBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public RichIterable<T> distinctView()
+    {
+        return SetAdapter.adapt(this.items.keySet()).asUnmodifiable();
+    }
+
+    private final class InternalIterator implements Iterator<T>
+    {
+        private final Iterator<Map.Entry<T, AtomicInteger>> iterator = ConcurrentHashBag.this.items.entrySet().iterator();
+
+        private T currentItem;
+        private int occurrences;
+        private T lastReturned;
+        private boolean canRemove;
+
+        @Override
+        public boolean hasNext()
+        {
+            while (this.occurrences == 0 && this.iterator.hasNext())
+            {
+                Map.Entry<T, AtomicInteger> entry = this.iterator.next();
+                this.currentItem = entry.getKey();
+                this.occurrences = entry.getValue().get();
+            }
+            return this.occurrences > 0;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.occurrences--;
+            this.lastReturned = this.currentItem;
+            this.canRemove = true;
+            return this.currentItem;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            ConcurrentHashBag.this.remove(this.lastReturned);
+            this.canRemove = false;
+        }
+    }
+}
@@ -14,14 +14,12 @@ import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
-import java.util.Arrays;
 
 import org.eclipse.collections.api.bag.Bag;
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
 import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
 import org.eclipse.collections.impl.map.mutable.primitive.ObjectIntHashMap;
-import org.eclipse.collections.impl.utility.ArrayIterate;
 import org.eclipse.collections.impl.utility.Iterate;
 
 /**
@@ -82,10 +80,43 @@ public class HashBag<T>
     public static <E> HashBag<E> newBagWith(E... elements)
     {
         HashBag<E> result = HashBag.newBag();
-        ArrayIterate.addAllTo(elements, result);
+        result.addAllOccurrences(elements);
         return result;
     }
 
+    /**
+     * Adds one occurrence of each element of {@code items}, updating the size once at the end. The backing map is not
+     * presized, since the number of distinct elements in {@code items} is not known and may be far smaller than its
+     * length.
+     *
+     * @since 12.0
+     */
+    public boolean addAllOccurrences(T[] items)
+    {
+        if (items.length == 0)
+        {
+            return false;
+        }
+        ObjectIntHashMap<T> map = (ObjectIntHashMap<T>) this.items;
+        for (T item : items)
+        {
+            map.addToValue(item, 1);
+        }
+        this.size += items.length;
+        return true;
+    }
+
+    @Override
+    protected boolean addAllBag(Bag<? extends T> source)
+    {
+        int sourceSize = source.size();
+        ObjectIntHashMap<T> map = (ObjectIntHashMap<T>) this.items;
+        map.ensureCapacity(map.size() + source.sizeDistinct());
+        source.forEachWithOccurrences(map::addToValue);
+        this.size += sourceSize;
+        return sourceSize > 0;
+    }
+
     /**
      * Rehashes every element in the set into a new backing table of the smallest possible size and eliminating removed sentinels.
      *
@@ -159,7 +190,7 @@ public class HashBag<T>
 
     public HashBag<T> with(T... elements)
     {
-        this.addAll(Arrays.asList(elements));
+        this.addAllOccurrences(elements);
         return this;
     }
 
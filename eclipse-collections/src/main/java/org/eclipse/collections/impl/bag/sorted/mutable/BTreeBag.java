@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.sorted.mutable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
+import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+import org.eclipse.collections.impl.Counter;
+import org.eclipse.collections.impl.map.sorted.mutable.BTreeSortedMap;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A BTreeBag is a TreeBag which keeps the occurrences of each item in a {@link BTreeSortedMap}, so the distinct items
+ * are stored in the wide nodes of a B+-tree instead of a red-black tree.
+ *
+ * @since 12.0
+ */
+public class BTreeBag<T>
+        extends TreeBag<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    public BTreeBag()
+    {
+        super(BTreeSortedMap.newMap());
+    }
+
+    public BTreeBag(Comparator<? super T> comparator)
+    {
+        super(BTreeSortedMap.newMap(comparator));
+    }
+
+    public static <E> BTreeBag<E> newBag()
+    {
+        return new BTreeBag<>();
+    }
+
+    public static <E> BTreeBag<E> newBag(Comparator<? super E> comparator)
+    {
+        return new BTreeBag<>(comparator);
+    }
+
+    public static <E> BTreeBag<E> newBag(Comparator<? super E> comparator, Iterable<? extends E> iterable)
+    {
+        return Iterate.addAllTo(iterable, new BTreeBag<>(comparator));
+    }
+
+    public static <E> BTreeBag<E> newBagWith(E... elements)
+    {
+        //noinspection SSBasedInspection
+        return Iterate.addAllTo(Arrays.asList(elements), new BTreeBag<>());
+    }
+
+    public static <E> BTreeBag<E> newBagWith(Comparator<? super E> comparator, E... elements)
+    {
+        //noinspection SSBasedInspection
+        return BTreeBag.newBag(comparator, Arrays.asList(elements));
+    }
+
+    @Override
+    protected MutableSortedMap<T, Counter> newItems(Comparator<? super T> comparator)
+    {
+        return BTreeSortedMap.newMap(comparator);
+    }
+
+    @Override
+    public BTreeBag<T> clone()
+    {
+        return BTreeBag.newBag(this.comparator(), this);
+    }
+
+    @Override
+    public MutableSortedBag<T> newEmpty()
+    {
+        return BTreeBag.newBag(this.comparator());
+    }
+}
@@ -71,7 +71,12 @@ public class TreeBag<T>
         this.items = SortedMaps.mutable.empty();
     }
 
-    private TreeBag(MutableSortedMap<T, Counter> map)
+    /**
+     * Creates a bag which keeps its counts in {@code map}, for subclasses which store them in another sorted map.
+     *
+     * @since 12.0
+     */
+    protected TreeBag(MutableSortedMap<T, Counter> map)
     {
         this.items = map;
         this.size = (int) map.valuesView().sumOfInt(Counter.TO_COUNT);
@@ -295,7 +300,7 @@ public class TreeBag<T>
     @Override
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
     {
-        this.items = new TreeSortedMap<>((Comparator<T>) in.readObject());
+        this.items = this.newItems((Comparator<T>) in.readObject());
         int size = in.readInt();
         for (int i = 0; i < size; i++)
         {
@@ -303,6 +308,16 @@ public class TreeBag<T>
         }
     }
 
+    /**
+     * Returns the empty sorted map a deserialized bag keeps its counts in.
+     *
+     * @since 12.0
+     */
+    protected MutableSortedMap<T, Counter> newItems(Comparator<? super T> comparator)
+    {
+        return TreeSortedMap.newMap(comparator);
+    }
+
     @Override
     public void each(Procedure<? super T> procedure)
     {
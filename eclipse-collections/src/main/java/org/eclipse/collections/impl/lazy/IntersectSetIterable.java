@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy;
+
+import java.util.Iterator;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.set.SetIterable;
+import org.eclipse.collections.impl.block.procedure.AdaptObjectIntProcedureToProcedure;
+import org.eclipse.collections.impl.lazy.iterator.SelectIterator;
+
+/**
+ * An IntersectSetIterable is a live view of the intersection of two sets. Nothing is copied: the smaller set is
+ * iterated and each of its elements is probed in the larger set.
+ *
+ * @since 12.0
+ */
+public class IntersectSetIterable<T>
+        extends AbstractLazyIterable<T>
+{
+    private final SetIterable<T> setA;
+    private final SetIterable<T> setB;
+
+    public IntersectSetIterable(SetIterable<? extends T> setA, SetIterable<? extends T> setB)
+    {
+        this.setA = (SetIterable<T>) setA;
+        this.setB = (SetIterable<T>) setB;
+    }
+
+    private SetIterable<T> larger()
+    {
+        return this.setA.size() >= this.setB.size() ? this.setA : this.setB;
+    }
+
+    private SetIterable<T> smaller()
+    {
+        return this.setA.size() >= this.setB.size() ? this.setB : this.setA;
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        SetIterable<T> larger = this.larger();
+        this.smaller().each(each ->
+        {
+            if (larger.contains(each))
+            {
+                procedure.value(each);
+            }
+        });
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        this.each(new AdaptObjectIntProcedureToProcedure<>(objectIntProcedure));
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return this.setA.contains(object) && this.setB.contains(object);
+    }
+
+    @Override
+    public int size()
+    {
+        SetIterable<T> larger = this.larger();
+        return this.smaller().count(larger::contains);
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        SetIterable<T> larger = this.larger();
+        return this.smaller().noneSatisfy(larger::contains);
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        SetIterable<T> larger = this.larger();
+        return new SelectIterator<>(this.smaller(), larger::contains);
+    }
+}
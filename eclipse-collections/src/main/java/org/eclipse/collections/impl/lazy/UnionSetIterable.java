@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy;
+
+import java.util.Iterator;
+
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.set.SetIterable;
+import org.eclipse.collections.impl.block.procedure.AdaptObjectIntProcedureToProcedure;
+import org.eclipse.collections.impl.lazy.iterator.SelectIterator;
+import org.eclipse.collections.impl.utility.LazyIterate;
+
+/**
+ * A UnionSetIterable is a live view of the union of two sets. Nothing is copied: the larger set is iterated first,
+ * followed by the elements of the smaller set which the larger set does not contain.
+ *
+ * @since 12.0
+ */
+public class UnionSetIterable<T>
+        extends AbstractLazyIterable<T>
+{
+    private final SetIterable<T> setA;
+    private final SetIterable<T> setB;
+
+    public UnionSetIterable(SetIterable<? extends T> setA, SetIterable<? extends T> setB)
+    {
+        this.setA = (SetIterable<T>) setA;
+        this.setB = (SetIterable<T>) setB;
+    }
+
+    private SetIterable<T> larger()
+    {
+        return this.setA.size() >= this.setB.size() ? this.setA : this.setB;
+    }
+
+    private SetIterable<T> smaller()
+    {
+        return this.setA.size() >= this.setB.size() ? this.setB : this.setA;
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        SetIterable<T> larger = this.larger();
+        SetIterable<T> smaller = this.smaller();
+        larger.each(procedure);
+        smaller.each(each ->
+        {
+            if (!larger.contains(each))
+            {
+                procedure.value(each);
+            }
+        });
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        this.each(new AdaptObjectIntProcedureToProcedure<>(objectIntProcedure));
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return this.setA.contains(object) || this.setB.contains(object);
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.setA.isEmpty() && this.setB.isEmpty();
+    }
+
+    @Override
+    public int size()
+    {
+        SetIterable<T> larger = this.larger();
+        return larger.size() + this.smaller().count(each -> !larger.contains(each));
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        return this.setA.anySatisfy(predicate) || this.setB.anySatisfy(predicate);
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        return this.setA.allSatisfy(predicate) && this.setB.allSatisfy(predicate);
+    }
+
+    @Override
+    public boolean noneSatisfy(Predicate<? super T> predicate)
+    {
+        return this.setA.noneSatisfy(predicate) && this.setB.noneSatisfy(predicate);
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        SetIterable<T> larger = this.larger();
+        SetIterable<T> smaller = this.smaller();
+        Iterable<T> rest = () -> new SelectIterator<>(smaller, each -> !larger.contains(each));
+        return LazyIterate.concatenate(larger, rest).iterator();
+    }
+}
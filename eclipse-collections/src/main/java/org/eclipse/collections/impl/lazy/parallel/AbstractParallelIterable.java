@@ -21,6 +21,8 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.ParallelIterable;
@@ -71,6 +73,8 @@ import org.eclipse.collections.impl.set.sorted.mutable.TreeSortedSet;
 @Beta
 public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements ParallelIterable<T>
 {
+    private static final int TERMINATION_CHECK_INTERVAL = 64;
+
     protected static <T> void forEach(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Procedure<? super T> procedure)
     {
         LazyIterable<Future<?>> futures =
@@ -97,9 +101,10 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     protected static <T> boolean anySatisfy(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
     {
+        AtomicBoolean satisfied = new AtomicBoolean();
         CompletionService<Boolean> completionService = new ExecutorCompletionService<>(parallelIterable.getExecutorService());
         MutableSet<Future<Boolean>> futures =
-                parallelIterable.split().collect(batch -> completionService.submit(() -> batch.anySatisfy(predicate)), Sets.mutable.empty());
+                parallelIterable.split().collect(batch -> completionService.submit(() -> batch.anySatisfy(new ShortCircuitPredicate<>(predicate, satisfied, true))), Sets.mutable.empty());
 
         while (futures.notEmpty())
         {
@@ -131,9 +136,10 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     protected static <T> boolean allSatisfy(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
     {
+        AtomicBoolean violated = new AtomicBoolean();
         CompletionService<Boolean> completionService = new ExecutorCompletionService<>(parallelIterable.getExecutorService());
         MutableSet<Future<Boolean>> futures =
-                parallelIterable.split().collect(batch -> completionService.submit(() -> batch.allSatisfy(predicate)), Sets.mutable.empty());
+                parallelIterable.split().collect(batch -> completionService.submit(() -> batch.allSatisfy(new ShortCircuitPredicate<>(predicate, violated, false))), Sets.mutable.empty());
 
         while (futures.notEmpty())
         {
@@ -163,25 +169,83 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         return true;
     }
 
+    /**
+     * Returns any element that satisfies the predicate. As soon as one batch finds a match, every other batch stops
+     * scanning at its next termination check, so the result is not necessarily the first match in encounter order.
+     *
+     * @see #detectFirst(AbstractParallelIterable, Predicate)
+     */
     protected static <T> T detect(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
     {
-        LazyIterable<? extends RootBatch<T>> chunks = parallelIterable.split();
-        LazyIterable<Future<T>> futures =
-                chunks.collect(chunk -> parallelIterable.getExecutorService().submit(() -> chunk.detect(predicate)));
-        // The call to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
-        MutableList<Future<T>> futuresList = futures.toList();
-        for (Future<T> future : futuresList)
+        AtomicInteger acceptedBatchIndex = new AtomicInteger(Integer.MAX_VALUE);
+        CompletionService<DetectPredicate<T>> completionService = new ExecutorCompletionService<>(parallelIterable.getExecutorService());
+        MutableSet<Future<DetectPredicate<T>>> futures =
+                parallelIterable.split().collect(batch -> completionService.submit(() -> {
+                    DetectPredicate<T> detectPredicate = new DetectPredicate<>(predicate, acceptedBatchIndex, 0, false);
+                    batch.detect(detectPredicate);
+                    return detectPredicate;
+                }), Sets.mutable.empty());
+
+        while (futures.notEmpty())
+        {
+            try
+            {
+                Future<DetectPredicate<T>> future = completionService.take();
+                DetectPredicate<T> detectPredicate = future.get();
+                if (detectPredicate.isAccepted())
+                {
+                    for (Future<DetectPredicate<T>> eachFuture : futures)
+                    {
+                        eachFuture.cancel(true);
+                    }
+                    return detectPredicate.getResult();
+                }
+                futures.remove(future);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            catch (ExecutionException e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the first element in encounter order that satisfies the predicate. A match in one batch only stops the
+     * batches to its right; batches to its left keep scanning since they may still contain an earlier match.
+     */
+    protected static <T> T detectFirst(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
+    {
+        AtomicInteger firstAcceptedBatchIndex = new AtomicInteger(Integer.MAX_VALUE);
+        MutableList<? extends RootBatch<T>> batches = parallelIterable.split().toList();
+        MutableList<Future<DetectPredicate<T>>> futures = FastList.newList(batches.size());
+        for (int i = 0; i < batches.size(); i++)
+        {
+            RootBatch<T> batch = batches.get(i);
+            DetectPredicate<T> detectPredicate = new DetectPredicate<>(predicate, firstAcceptedBatchIndex, i, true);
+            futures.add(parallelIterable.getExecutorService().submit(() -> {
+                batch.detect(detectPredicate);
+                return detectPredicate;
+            }));
+        }
+
+        for (int i = 0; i < futures.size(); i++)
         {
             try
             {
-                T eachResult = future.get();
-                if (eachResult != null)
+                DetectPredicate<T> detectPredicate = futures.get(i).get();
+                if (detectPredicate.isAccepted())
                 {
-                    for (Future<T> eachFutureToCancel : futuresList)
+                    for (int j = i + 1; j < futures.size(); j++)
                     {
-                        eachFutureToCancel.cancel(true);
+                        futures.get(j).cancel(true);
                     }
-                    return eachResult;
+                    return detectPredicate.getResult();
                 }
             }
             catch (InterruptedException e)
@@ -466,6 +530,15 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         return this.detectIfNone(Predicates.bind(predicate, parameter), function);
     }
 
+    /**
+     * Returns the first element in encounter order that satisfies the predicate. Iterables without an encounter order
+     * return the same result as {@link #detect(Predicate)}.
+     */
+    public T detectFirst(Predicate<? super T> predicate)
+    {
+        return this.detect(predicate);
+    }
+
     @Override
     public <E> E[] toArray(E[] array)
     {
@@ -765,4 +838,111 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         });
         return result;
     }
+
+    /**
+     * Wraps the predicate passed to a single batch so that the batch gives up as soon as another batch has found the
+     * answer. The shared flag is only read every {@link #TERMINATION_CHECK_INTERVAL} elements to keep the volatile
+     * read off the per-element path.
+     */
+    private static final class ShortCircuitPredicate<T> implements Predicate<T>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Predicate<? super T> predicate;
+        private final AtomicBoolean terminated;
+        private final boolean shortCircuitResult;
+        private int count;
+
+        private ShortCircuitPredicate(Predicate<? super T> predicate, AtomicBoolean terminated, boolean shortCircuitResult)
+        {
+            this.predicate = predicate;
+            this.terminated = terminated;
+            this.shortCircuitResult = shortCircuitResult;
+        }
+
+        @Override
+        public boolean accept(T each)
+        {
+            if (++this.count == TERMINATION_CHECK_INTERVAL)
+            {
+                this.count = 0;
+                if (this.terminated.get())
+                {
+                    return this.shortCircuitResult;
+                }
+            }
+            boolean result = this.predicate.accept(each);
+            if (result == this.shortCircuitResult)
+            {
+                this.terminated.set(true);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Wraps the predicate passed to a single batch's detect() and remembers the accepted element, so that a batch
+     * which stops early can be told apart from a batch which found a match.
+     */
+    private static final class DetectPredicate<T> implements Predicate<T>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Predicate<? super T> predicate;
+        private final AtomicInteger firstAcceptedBatchIndex;
+        private final int batchIndex;
+        private final boolean ordered;
+        private int count;
+        private boolean accepted;
+        private T result;
+
+        private DetectPredicate(Predicate<? super T> predicate, AtomicInteger firstAcceptedBatchIndex, int batchIndex, boolean ordered)
+        {
+            this.predicate = predicate;
+            this.firstAcceptedBatchIndex = firstAcceptedBatchIndex;
+            this.batchIndex = batchIndex;
+            this.ordered = ordered;
+        }
+
+        @Override
+        public boolean accept(T each)
+        {
+            if (++this.count == TERMINATION_CHECK_INTERVAL)
+            {
+                this.count = 0;
+                if (this.isTerminated())
+                {
+                    return true;
+                }
+            }
+            if (this.predicate.accept(each))
+            {
+                this.accepted = true;
+                this.result = each;
+                int current = this.firstAcceptedBatchIndex.get();
+                while (this.batchIndex < current && !this.firstAcceptedBatchIndex.compareAndSet(current, this.batchIndex))
+                {
+                    current = this.firstAcceptedBatchIndex.get();
+                }
+                return true;
+            }
+            return false;
+        }
+
+        private boolean isTerminated()
+        {
+            int firstAccepted = this.firstAcceptedBatchIndex.get();
+            return this.ordered ? firstAccepted < this.batchIndex : firstAccepted != Integer.MAX_VALUE;
+        }
+
+        public boolean isAccepted()
+        {
+            return this.accepted;
+        }
+
+        public T getResult()
+        {
+            return this.result;
+        }
+    }
 }
@@ -87,6 +87,12 @@ public final class ListIterableParallelIterable<T> extends AbstractParallelListI
         return AbstractParallelIterable.detect(this, predicate);
     }
 
+    @Override
+    public T detectFirst(Predicate<? super T> predicate)
+    {
+        return AbstractParallelIterable.detectFirst(this, predicate);
+    }
+
     @Override
     public Object[] toArray()
     {
@@ -36,6 +36,20 @@ public final class MultiReaderParallelListIterable<T> extends AbstractMultiReade
         return this.wrap(this.delegate.asUnique());
     }
 
+    @Override
+    public T detectFirst(Predicate<? super T> predicate)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.detectFirst(predicate);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
     @Override
     public ParallelListIterable<T> select(Predicate<? super T> predicate)
     {
@@ -34,6 +34,12 @@ public class NonParallelListIterable<T> extends NonParallelIterable<T, ListItera
         return new NonParallelUnsortedSetIterable<>(this.delegate.toSet());
     }
 
+    @Override
+    public T detectFirst(Predicate<? super T> predicate)
+    {
+        return this.delegate.detect(predicate);
+    }
+
     @Override
     public ParallelListIterable<T> select(Predicate<? super T> predicate)
     {
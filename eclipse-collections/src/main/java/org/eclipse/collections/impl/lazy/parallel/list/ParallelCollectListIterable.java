@@ -76,4 +76,11 @@ public class ParallelCollectListIterable<T, V> extends AbstractParallelListItera
         T resultItem = this.parallelIterable.detect(Predicates.attributePredicate(this.function, predicate));
         return resultItem == null ? null : this.function.valueOf(resultItem);
     }
+
+    @Override
+    public V detectFirst(Predicate<? super V> predicate)
+    {
+        T resultItem = this.parallelIterable.detectFirst(Predicates.attributePredicate(this.function, predicate));
+        return resultItem == null ? null : this.function.valueOf(resultItem);
+    }
 }
@@ -10,7 +10,10 @@
 
 package org.eclipse.collections.impl.lazy.parallel.list;
 
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.collections.api.LazyIterable;
@@ -18,8 +21,10 @@ import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
 import org.eclipse.collections.impl.lazy.parallel.OrderedBatch;
+import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.utility.Iterate;
 
 @Beta
@@ -77,6 +82,51 @@ public class ParallelFlatCollectListIterable<T, V> extends AbstractParallelListI
         return result.get();
     }
 
+    @Override
+    public V detectFirst(Predicate<? super V> predicate)
+    {
+        // Predicates may be stateful, so each batch remembers its own accepted element instead of the element being
+        // detected again afterwards. Keeping the results by batch index also handles null and duplicate source elements
+        AtomicInteger firstAcceptedBatchIndex = new AtomicInteger(Integer.MAX_VALUE);
+        MutableList<? extends OrderedBatch<T>> batches = this.parallelIterable.split().toList();
+        MutableList<Future<DetectFirstProcedure<T, V>>> futures = FastList.newList(batches.size());
+        for (int i = 0; i < batches.size(); i++)
+        {
+            OrderedBatch<T> batch = batches.get(i);
+            DetectFirstProcedure<T, V> procedure = new DetectFirstProcedure<>(this.function, predicate, firstAcceptedBatchIndex, i);
+            futures.add(this.getExecutorService().submit(() -> {
+                batch.forEach(procedure);
+                return procedure;
+            }));
+        }
+
+        for (int i = 0; i < futures.size(); i++)
+        {
+            try
+            {
+                DetectFirstProcedure<T, V> procedure = futures.get(i).get();
+                if (procedure.isAccepted())
+                {
+                    for (int j = i + 1; j < futures.size(); j++)
+                    {
+                        futures.get(j).cancel(true);
+                    }
+                    return procedure.getResult();
+                }
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            catch (ExecutionException e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
+        return null;
+    }
+
     @Override
     public boolean anySatisfy(Predicate<? super V> predicate)
     {
@@ -88,4 +138,63 @@ public class ParallelFlatCollectListIterable<T, V> extends AbstractParallelListI
     {
         return this.parallelIterable.allSatisfy(each -> Iterate.allSatisfy(this.function.valueOf(each), predicate));
     }
+
+    private static final class DetectFirstProcedure<T, V> implements Procedure<T>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Function<? super T, ? extends Iterable<V>> function;
+        private final Predicate<? super V> predicate;
+        private final AtomicInteger firstAcceptedBatchIndex;
+        private final int batchIndex;
+        private boolean accepted;
+        private V result;
+
+        private DetectFirstProcedure(
+                Function<? super T, ? extends Iterable<V>> function,
+                Predicate<? super V> predicate,
+                AtomicInteger firstAcceptedBatchIndex,
+                int batchIndex)
+        {
+            this.function = function;
+            this.predicate = predicate;
+            this.firstAcceptedBatchIndex = firstAcceptedBatchIndex;
+            this.batchIndex = batchIndex;
+        }
+
+        @Override
+        public void value(T each)
+        {
+            // Batches cannot stop iterating early, so once this batch or an earlier one has a match the remaining
+            // source elements are skipped without being flattened
+            if (this.accepted || this.firstAcceptedBatchIndex.get() < this.batchIndex)
+            {
+                return;
+            }
+            for (V item : this.function.valueOf(each))
+            {
+                if (this.predicate.accept(item))
+                {
+                    this.accepted = true;
+                    this.result = item;
+                    int current = this.firstAcceptedBatchIndex.get();
+                    while (this.batchIndex < current && !this.firstAcceptedBatchIndex.compareAndSet(current, this.batchIndex))
+                    {
+                        current = this.firstAcceptedBatchIndex.get();
+                    }
+                    return;
+                }
+            }
+        }
+
+        public boolean isAccepted()
+        {
+            return this.accepted;
+        }
+
+        public V getResult()
+        {
+            return this.result;
+        }
+    }
 }
@@ -34,6 +34,15 @@ public final class SynchronizedParallelListIterable<T> extends AbstractSynchroni
         return this.wrap(this.delegate.asUnique());
     }
 
+    @Override
+    public T detectFirst(Predicate<? super T> predicate)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.detectFirst(predicate);
+        }
+    }
+
     @Override
     public ParallelListIterable<T> select(Predicate<? super T> predicate)
     {
@@ -80,6 +80,12 @@ class ParallelSelectSortedSetIterable<T> extends AbstractParallelSortedSetIterab
         return this.parallelIterable.detect(Predicates.and(this.predicate, predicate));
     }
 
+    @Override
+    public T detectFirst(Predicate<? super T> predicate)
+    {
+        return this.parallelIterable.detectFirst(Predicates.and(this.predicate, predicate));
+    }
+
     private static final class SelectAllSatisfyPredicate<T> implements Predicate<T>
     {
         private final Predicate<? super T> left;
@@ -14,15 +14,22 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Spliterator;
 import java.util.Spliterators;
 
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
+import org.eclipse.collections.api.block.function.primitive.IntFunction;
+import org.eclipse.collections.api.block.function.primitive.LongFunction;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.list.FixedSizeList;
+import org.eclipse.collections.impl.block.factory.Comparators;
 import org.eclipse.collections.impl.block.factory.Predicates2;
 import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.internal.InternalArraySort;
 
 /**
  * This class provides a MutableList wrapper around an array. All the internal iteration methods of the MutableList
@@ -185,6 +192,40 @@ public final class ArrayAdapter<T>
         return (ArrayAdapter<T>) super.sortThis(comparator);
     }
 
+    @Override
+    public ArrayAdapter<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        Arrays.parallelSort(this.items, comparator);
+        return this;
+    }
+
+    @Override
+    public <V extends Comparable<? super V>> ArrayAdapter<T> sortThisByParallel(Function<? super T, ? extends V> function)
+    {
+        return this.sortThisParallel(Comparators.byFunction(function));
+    }
+
+    @Override
+    public ArrayAdapter<T> sortThisByInt(IntFunction<? super T> function)
+    {
+        InternalArraySort.sortByInt(this.items, this.items.length, function);
+        return this;
+    }
+
+    @Override
+    public ArrayAdapter<T> sortThisByLong(LongFunction<? super T> function)
+    {
+        InternalArraySort.sortByLong(this.items, this.items.length, function);
+        return this;
+    }
+
+    @Override
+    public ArrayAdapter<T> sortThisByDouble(DoubleFunction<? super T> function)
+    {
+        InternalArraySort.sortByDouble(this.items, this.items.length, function);
+        return this;
+    }
+
     @Override
     public FixedSizeList<T> tap(Procedure<? super T> procedure)
     {
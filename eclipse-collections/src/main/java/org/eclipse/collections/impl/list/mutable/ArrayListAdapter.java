@@ -12,7 +12,9 @@ package org.eclipse.collections.impl.list.mutable;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.ListIterator;
 import java.util.RandomAccess;
 
 import org.eclipse.collections.api.block.HashingStrategy;
@@ -28,6 +30,7 @@ import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.ordered.OrderedIterable;
 import org.eclipse.collections.api.partition.list.PartitionMutableList;
 import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.block.factory.Comparators;
 import org.eclipse.collections.impl.block.procedure.CollectionAddProcedure;
 import org.eclipse.collections.impl.multimap.list.FastListMultimap;
 import org.eclipse.collections.impl.utility.ArrayIterate;
@@ -214,6 +217,26 @@ public final class ArrayListAdapter<T>
         return (ArrayListAdapter<T>) super.sortThis();
     }
 
+    @Override
+    public ArrayListAdapter<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        T[] array = (T[]) this.delegate.toArray();
+        Arrays.parallelSort(array, comparator);
+        ListIterator<T> iterator = this.delegate.listIterator();
+        for (T each : array)
+        {
+            iterator.next();
+            iterator.set(each);
+        }
+        return this;
+    }
+
+    @Override
+    public <V extends Comparable<? super V>> ArrayListAdapter<T> sortThisByParallel(Function<? super T, ? extends V> function)
+    {
+        return this.sortThisParallel(Comparators.byFunction(function));
+    }
+
     @Override
     public ArrayListAdapter<T> with(T element)
     {
@@ -94,6 +94,7 @@ import org.eclipse.collections.impl.utility.ArrayListIterate;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.eclipse.collections.impl.utility.internal.InternalArrayIterate;
+import org.eclipse.collections.impl.utility.internal.InternalArraySort;
 import org.eclipse.collections.impl.utility.internal.RandomAccessListIterate;
 
 /**
@@ -279,6 +280,40 @@ public class FastList<T>
         return (FastList<T>) super.sortThis();
     }
 
+    @Override
+    public FastList<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        Arrays.parallelSort(this.items, 0, this.size, comparator);
+        return this;
+    }
+
+    @Override
+    public <V extends Comparable<? super V>> FastList<T> sortThisByParallel(Function<? super T, ? extends V> function)
+    {
+        return this.sortThisParallel(Comparators.byFunction(function));
+    }
+
+    @Override
+    public FastList<T> sortThisByInt(IntFunction<? super T> function)
+    {
+        InternalArraySort.sortByInt(this.items, this.size, function);
+        return this;
+    }
+
+    @Override
+    public FastList<T> sortThisByLong(LongFunction<? super T> function)
+    {
+        InternalArraySort.sortByLong(this.items, this.size, function);
+        return this;
+    }
+
+    @Override
+    public FastList<T> sortThisByDouble(DoubleFunction<? super T> function)
+    {
+        InternalArraySort.sortByDouble(this.items, this.size, function);
+        return this;
+    }
+
     @Override
     public FastList<T> reverseThis()
     {
@@ -414,6 +414,27 @@ public final class MultiReaderFastList<T>
         }
     }
 
+    @Override
+    public MultiReaderList<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        try (LockWrapper wrapper = this.lockWrapper.acquireWriteLock())
+        {
+            this.delegate.sortThisParallel(comparator);
+            return this;
+        }
+    }
+
+    @Override
+    public <V extends Comparable<? super V>> MultiReaderList<T> sortThisByParallel(
+            Function<? super T, ? extends V> function)
+    {
+        try (LockWrapper wrapper = this.lockWrapper.acquireWriteLock())
+        {
+            this.delegate.sortThisByParallel(function);
+            return this;
+        }
+    }
+
     @Override
     public <V extends Comparable<? super V>> MultiReaderList<T> sortThisBy(
             Function<? super T, ? extends V> function)
@@ -52,6 +52,12 @@ public class MutableMapFactoryImpl implements MutableMapFactory
         return UnifiedMap.newMap(capacity);
     }
 
+    @Override
+    public <K, V> MutableMap<K, V> small()
+    {
+        return SmallMap.newMap();
+    }
+
     @Override
     public <K, V> MutableMap<K, V> of(K key, V value)
     {
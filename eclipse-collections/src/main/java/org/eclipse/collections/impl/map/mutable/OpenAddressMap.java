@@ -0,0 +1,794 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * OpenAddressMap is a MutableMap laid out like a SwissTable. Keys and values are stored interleaved in one
+ * {@code Object[]}, so there are no per-entry objects and no overflow buckets. Every slot also has a control byte, and
+ * the control bytes of each group of eight slots are packed into one {@code long}. A control byte is either empty,
+ * deleted, or the low seven bits of the key's hash.
+ * <p>
+ * A lookup hashes once, picks a group from the high bits of the hash and matches all eight control bytes of the group
+ * against the seven-bit tag at once with word arithmetic, so {@code equals} is only called on keys whose tag matches.
+ * Groups are probed triangularly until one with an empty slot is found. The table grows when seven eighths of it are
+ * in use. Unlike {@link UnifiedMap}, colliding keys never allocate chains; the cost of a poor {@code hashCode} is
+ * longer probes rather than pointer chasing.
+ * <p>
+ * Null keys and values are supported. Iteration order is the order of the slots.
+ *
+ * @since 12.0
+ */
+public class OpenAddressMap<K, V>
+        extends AbstractMutableMap<K, V>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int GROUP_SIZE = 8;
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private static final long LSBS = 0x0101010101010101L;
+    private static final long MSBS = 0x8080808080808080L;
+
+    private static final byte EMPTY = (byte) 0x80;
+    private static final byte DELETED = (byte) 0xFE;
+
+    private long[] controls;
+    private Object[] table;
+    private int occupied;
+    private int growthLeft;
+
+    public OpenAddressMap()
+    {
+        this.allocate(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public OpenAddressMap(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        this.allocate(OpenAddressMap.capacityFor(initialCapacity));
+    }
+
+    public OpenAddressMap(Map<? extends K, ? extends V> map)
+    {
+        this(map.size());
+        this.putAll(map);
+    }
+
+    private OpenAddressMap(OpenAddressMap<K, V> map)
+    {
+        this.controls = map.controls.clone();
+        this.table = map.table.clone();
+        this.occupied = map.occupied;
+        this.growthLeft = map.growthLeft;
+    }
+
+    public static <K, V> OpenAddressMap<K, V> newMap()
+    {
+        return new OpenAddressMap<>();
+    }
+
+    public static <K, V> OpenAddressMap<K, V> newMap(int size)
+    {
+        return new OpenAddressMap<>(size);
+    }
+
+    public static <K, V> OpenAddressMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        return new OpenAddressMap<>(map);
+    }
+
+    public static <K, V> OpenAddressMap<K, V> newWithKeysValues(K key, V value)
+    {
+        return new OpenAddressMap<K, V>(1).withKeyValue(key, value);
+    }
+
+    public static <K, V> OpenAddressMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return new OpenAddressMap<K, V>(2).withKeyValue(key1, value1).withKeyValue(key2, value2);
+    }
+
+    public static <K, V> OpenAddressMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return new OpenAddressMap<K, V>(3).withKeyValue(key1, value1).withKeyValue(key2, value2).withKeyValue(key3, value3);
+    }
+
+    @Override
+    public OpenAddressMap<K, V> withKeyValue(K key, V value)
+    {
+        this.put(key, value);
+        return this;
+    }
+
+    @Override
+    public OpenAddressMap<K, V> clone()
+    {
+        return new OpenAddressMap<>(this);
+    }
+
+    @Override
+    public MutableMap<K, V> newEmpty()
+    {
+        return new OpenAddressMap<>();
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newEmpty(int capacity)
+    {
+        return new OpenAddressMap<>(capacity);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.occupied;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.occupied == 0;
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        int slot = this.find(key, OpenAddressMap.hash(key));
+        return slot < 0 ? null : (V) this.table[(slot << 1) + 1];
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.find(key, OpenAddressMap.hash(key)) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        for (int slot = this.nextFullSlot(0); slot >= 0; slot = this.nextFullSlot(slot + 1))
+        {
+            if (Objects.equals(this.table[(slot << 1) + 1], value))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        int hash = OpenAddressMap.hash(key);
+        int slot = this.find(key, hash);
+        if (slot >= 0)
+        {
+            int valueIndex = (slot << 1) + 1;
+            V oldValue = (V) this.table[valueIndex];
+            this.table[valueIndex] = value;
+            return oldValue;
+        }
+        slot = this.findInsertSlot(hash);
+        if (this.growthLeft == 0 && this.controlAt(slot) == EMPTY)
+        {
+            this.grow();
+            slot = this.findInsertSlot(hash);
+        }
+        this.insert(slot, hash, key, value);
+        this.occupied++;
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof OpenAddressMap<?, ?>)
+        {
+            ((OpenAddressMap<? extends K, ? extends V>) map).forEachKeyValue(this::put);
+        }
+        else
+        {
+            for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+            {
+                this.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        int slot = this.find(key, OpenAddressMap.hash(key));
+        if (slot < 0)
+        {
+            return null;
+        }
+        V oldValue = (V) this.table[(slot << 1) + 1];
+        this.removeSlot(slot);
+        return oldValue;
+    }
+
+    @Override
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    @Override
+    public void clear()
+    {
+        if (this.occupied == 0 && this.growthLeft == OpenAddressMap.maxLoad(this.capacity()))
+        {
+            return;
+        }
+        Arrays.fill(this.controls, MSBS);
+        Arrays.fill(this.table, null);
+        this.occupied = 0;
+        this.growthLeft = OpenAddressMap.maxLoad(this.capacity());
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        long[] controls = this.controls;
+        Object[] table = this.table;
+        for (int group = 0; group < controls.length; group++)
+        {
+            long full = ~controls[group] & MSBS;
+            while (full != 0)
+            {
+                int index = (group << 3) + (Long.numberOfTrailingZeros(full) >>> 3) << 1;
+                procedure.value((K) table[index], (V) table[index + 1]);
+                full &= full - 1;
+            }
+        }
+    }
+
+    @Override
+    public <E> MutableMap<K, V> collectKeysAndValues(
+            Iterable<E> iterable,
+            Function<? super E, ? extends K> keyFunction,
+            Function<? super E, ? extends V> valueFunction)
+    {
+        Iterate.addToMap(iterable, keyFunction, valueFunction, this);
+        return this;
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return new ValueIterator();
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    @Override
+    public ImmutableMap<K, V> toImmutable()
+    {
+        return Maps.immutable.ofMap(this);
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+        Map<?, ?> other = (Map<?, ?>) object;
+        if (this.size() != other.size())
+        {
+            return false;
+        }
+        for (int slot = this.nextFullSlot(0); slot >= 0; slot = this.nextFullSlot(slot + 1))
+        {
+            Object key = this.table[slot << 1];
+            Object value = this.table[(slot << 1) + 1];
+            Object otherValue = other.get(key);
+            if (!Objects.equals(otherValue, value) || (value == null && !other.containsKey(key)))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int slot = this.nextFullSlot(0); slot >= 0; slot = this.nextFullSlot(slot + 1))
+        {
+            hashCode += Objects.hashCode(this.table[slot << 1]) ^ Objects.hashCode(this.table[(slot << 1) + 1]);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+        builder.append('{');
+        for (int slot = this.nextFullSlot(0); slot >= 0; slot = this.nextFullSlot(slot + 1))
+        {
+            if (builder.length() > 1)
+            {
+                builder.append(", ");
+            }
+            Object key = this.table[slot << 1];
+            Object value = this.table[(slot << 1) + 1];
+            builder.append(key == this ? "(this Map)" : key);
+            builder.append('=');
+            builder.append(value == this ? "(this Map)" : value);
+        }
+        builder.append('}');
+        return builder.toString();
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.occupied);
+        for (int slot = this.nextFullSlot(0); slot >= 0; slot = this.nextFullSlot(slot + 1))
+        {
+            out.writeObject(this.table[slot << 1]);
+            out.writeObject(this.table[(slot << 1) + 1]);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.allocate(OpenAddressMap.capacityFor(size));
+        for (int i = 0; i < size; i++)
+        {
+            this.put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+
+    /**
+     * Finalizes {@code key.hashCode()} so that every bit of the result depends on every bit of the hash code. The low
+     * seven bits become the tag and the remaining bits pick the group.
+     */
+    private static int hash(Object key)
+    {
+        int h = key == null ? 0 : key.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static int capacityFor(int size)
+    {
+        int capacity = GROUP_SIZE;
+        while (OpenAddressMap.maxLoad(capacity) < size)
+        {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int maxLoad(int capacity)
+    {
+        return capacity - (capacity >>> 3);
+    }
+
+    private int capacity()
+    {
+        return this.controls.length << 3;
+    }
+
+    private void allocate(int capacity)
+    {
+        this.controls = new long[capacity >>> 3];
+        Arrays.fill(this.controls, MSBS);
+        this.table = new Object[capacity << 1];
+        this.growthLeft = OpenAddressMap.maxLoad(capacity) - this.occupied;
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or -1. Each set high bit of {@code matches} marks a control byte which
+     * may equal the tag; the word trick can report false positives above a true match, so the byte is checked again.
+     */
+    private int find(Object key, int hash)
+    {
+        long tag = hash & 0x7F;
+        long pattern = LSBS * tag;
+        int mask = this.controls.length - 1;
+        int group = (hash >>> 7) & mask;
+        for (int step = 1; ; step++)
+        {
+            long word = this.controls[group];
+            long difference = word ^ pattern;
+            long matches = (difference - LSBS) & ~difference & MSBS;
+            while (matches != 0)
+            {
+                int bit = Long.numberOfTrailingZeros(matches);
+                if ((word >>> (bit & ~7) & 0xFF) == tag)
+                {
+                    int slot = (group << 3) + (bit >>> 3);
+                    Object candidate = this.table[slot << 1];
+                    if (candidate == key || candidate != null && candidate.equals(key))
+                    {
+                        return slot;
+                    }
+                }
+                matches &= matches - 1;
+            }
+            if (OpenAddressMap.matchEmpty(word) != 0)
+            {
+                return -1;
+            }
+            group = (group + step) & mask;
+        }
+    }
+
+    /**
+     * Returns the first empty or deleted slot on the probe sequence of {@code hash}. There is always one, because the
+     * table grows before its last empty slot beyond the maximum load is used.
+     */
+    private int findInsertSlot(int hash)
+    {
+        int mask = this.controls.length - 1;
+        int group = (hash >>> 7) & mask;
+        for (int step = 1; ; step++)
+        {
+            long available = this.controls[group] & MSBS;
+            if (available != 0)
+            {
+                return (group << 3) + (Long.numberOfTrailingZeros(available) >>> 3);
+            }
+            group = (group + step) & mask;
+        }
+    }
+
+    /**
+     * Sets the high bit of every byte of {@code word} which is {@link #EMPTY}. Empty and deleted bytes both have their
+     * high bit set, and only deleted bytes also have their second lowest bit set.
+     */
+    private static long matchEmpty(long word)
+    {
+        return word & ~(word << 6) & MSBS;
+    }
+
+    private byte controlAt(int slot)
+    {
+        return (byte) (this.controls[slot >>> 3] >>> ((slot & 7) << 3));
+    }
+
+    private void setControl(int slot, byte control)
+    {
+        int shift = (slot & 7) << 3;
+        int group = slot >>> 3;
+        this.controls[group] = this.controls[group] & ~(0xFFL << shift) | (control & 0xFFL) << shift;
+    }
+
+    private void insert(int slot, int hash, Object key, Object value)
+    {
+        if (this.controlAt(slot) == EMPTY)
+        {
+            this.growthLeft--;
+        }
+        this.setControl(slot, (byte) (hash & 0x7F));
+        this.table[slot << 1] = key;
+        this.table[(slot << 1) + 1] = value;
+    }
+
+    /**
+     * Empties {@code slot}. A lookup stops at the first group with an empty slot, so if the group already has one no
+     * probe sequence runs through it and the slot can become empty again; otherwise it must be marked deleted.
+     */
+    private void removeSlot(int slot)
+    {
+        if (OpenAddressMap.matchEmpty(this.controls[slot >>> 3]) != 0)
+        {
+            this.setControl(slot, EMPTY);
+            this.growthLeft++;
+        }
+        else
+        {
+            this.setControl(slot, DELETED);
+        }
+        this.table[slot << 1] = null;
+        this.table[(slot << 1) + 1] = null;
+        this.occupied--;
+    }
+
+    /**
+     * Makes room for one more key. If deleted slots account for much of the load, the table is rebuilt at the same
+     * capacity to reclaim them; otherwise it doubles.
+     */
+    private void grow()
+    {
+        int capacity = this.capacity();
+        this.rehash(this.occupied < OpenAddressMap.maxLoad(capacity) >>> 1 ? capacity : capacity << 1);
+    }
+
+    private void rehash(int newCapacity)
+    {
+        long[] oldControls = this.controls;
+        Object[] oldTable = this.table;
+        this.allocate(newCapacity);
+        this.growthLeft += this.occupied;
+        for (int group = 0; group < oldControls.length; group++)
+        {
+            long full = ~oldControls[group] & MSBS;
+            while (full != 0)
+            {
+                int index = (group << 3) + (Long.numberOfTrailingZeros(full) >>> 3) << 1;
+                Object key = oldTable[index];
+                int hash = OpenAddressMap.hash(key);
+                this.insert(this.findInsertSlot(hash), hash, key, oldTable[index + 1]);
+                full &= full - 1;
+            }
+        }
+    }
+
+    private int nextFullSlot(int from)
+    {
+        int capacity = this.capacity();
+        for (int slot = from; slot < capacity; slot++)
+        {
+            if (this.controlAt(slot) >= 0)
+            {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private abstract class SlotIterator<E> implements Iterator<E>
+    {
+        private int nextSlot = OpenAddressMap.this.nextFullSlot(0);
+        private int currentSlot = -1;
+
+        protected abstract E element(int slot);
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.nextSlot >= 0;
+        }
+
+        @Override
+        public E next()
+        {
+            if (this.nextSlot < 0)
+            {
+                throw new NoSuchElementException();
+            }
+            this.currentSlot = this.nextSlot;
+            this.nextSlot = OpenAddressMap.this.nextFullSlot(this.currentSlot + 1);
+            return this.element(this.currentSlot);
+        }
+
+        @Override
+        public void remove()
+        {
+            if (this.currentSlot < 0)
+            {
+                throw new IllegalStateException();
+            }
+            OpenAddressMap.this.removeSlot(this.currentSlot);
+            this.currentSlot = -1;
+        }
+    }
+
+    private final class KeyIterator extends SlotIterator<K>
+    {
+        @Override
+        protected K element(int slot)
+        {
+            return (K) OpenAddressMap.this.table[slot << 1];
+        }
+    }
+
+    private final class ValueIterator extends SlotIterator<V>
+    {
+        @Override
+        protected V element(int slot)
+        {
+            return (V) OpenAddressMap.this.table[(slot << 1) + 1];
+        }
+    }
+
+    private final class EntryIterator extends SlotIterator<Entry<K, V>>
+    {
+        @Override
+        protected Entry<K, V> element(int slot)
+        {
+            return new WriteThroughEntry((K) OpenAddressMap.this.table[slot << 1], (V) OpenAddressMap.this.table[(slot << 1) + 1]);
+        }
+    }
+
+    private final class WriteThroughEntry extends AbstractMap.SimpleEntry<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private WriteThroughEntry(K key, V value)
+        {
+            super(key, value);
+        }
+
+        @Override
+        public V setValue(V value)
+        {
+            super.setValue(value);
+            return OpenAddressMap.this.put(this.getKey(), value);
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeyIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return OpenAddressMap.this.occupied;
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return OpenAddressMap.this.containsKey(key);
+        }
+
+        @Override
+        public boolean remove(Object key)
+        {
+            int slot = OpenAddressMap.this.find(key, OpenAddressMap.hash(key));
+            if (slot < 0)
+            {
+                return false;
+            }
+            OpenAddressMap.this.removeSlot(slot);
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            OpenAddressMap.this.clear();
+        }
+    }
+
+    private final class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValueIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return OpenAddressMap.this.occupied;
+        }
+
+        @Override
+        public boolean contains(Object value)
+        {
+            return OpenAddressMap.this.containsValue(value);
+        }
+
+        @Override
+        public void clear()
+        {
+            OpenAddressMap.this.clear();
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return OpenAddressMap.this.occupied;
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            return this.slotOf(object) >= 0;
+        }
+
+        @Override
+        public boolean remove(Object object)
+        {
+            int slot = this.slotOf(object);
+            if (slot < 0)
+            {
+                return false;
+            }
+            OpenAddressMap.this.removeSlot(slot);
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            OpenAddressMap.this.clear();
+        }
+
+        private int slotOf(Object object)
+        {
+            if (!(object instanceof Entry))
+            {
+                return -1;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) object;
+            Object key = entry.getKey();
+            int slot = OpenAddressMap.this.find(key, OpenAddressMap.hash(key));
+            return slot >= 0 && Objects.equals(OpenAddressMap.this.table[(slot << 1) + 1], entry.getValue()) ? slot : -1;
+        }
+    }
+}
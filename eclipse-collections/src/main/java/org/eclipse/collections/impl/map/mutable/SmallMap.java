@@ -0,0 +1,684 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * SmallMap is a MutableMap for the many maps which only ever hold a handful of entries. Up to eight entries are kept
+ * in insertion order in one {@code Object[]} of interleaved keys and values which is searched linearly, so a map of
+ * three entries costs one object and a small array instead of the 32-slot table of a default {@link UnifiedMap}. The
+ * array starts empty and grows two entries at a time.
+ * <p>
+ * Adding one more entry than the array holds promotes the map to a {@link UnifiedMap}, to which every operation is
+ * then forwarded; views such as {@link #keySet()} that were taken before the promotion keep working. {@link #clear()}
+ * drops the UnifiedMap and returns the map to its array form.
+ * <p>
+ * Null keys and values are supported.
+ *
+ * @see org.eclipse.collections.api.factory.map.MutableMapFactory#small()
+ * @since 12.0
+ */
+public class SmallMap<K, V>
+        extends AbstractMutableMap<K, V>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int MAX_ARRAY_SIZE = 8;
+    private static final Object[] EMPTY_TABLE = {};
+
+    // keys and values interleaved, used while promoted is null
+    private Object[] table = EMPTY_TABLE;
+    private int occupied;
+    private UnifiedMap<K, V> promoted;
+
+    public SmallMap()
+    {
+    }
+
+    public SmallMap(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        if (initialCapacity > MAX_ARRAY_SIZE)
+        {
+            this.table = null;
+            this.promoted = UnifiedMap.newMap(initialCapacity);
+        }
+        else if (initialCapacity > 0)
+        {
+            this.table = new Object[initialCapacity << 1];
+        }
+    }
+
+    public SmallMap(Map<? extends K, ? extends V> map)
+    {
+        this(map.size());
+        this.putAll(map);
+    }
+
+    public static <K, V> SmallMap<K, V> newMap()
+    {
+        return new SmallMap<>();
+    }
+
+    public static <K, V> SmallMap<K, V> newMap(int size)
+    {
+        return new SmallMap<>(size);
+    }
+
+    public static <K, V> SmallMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        return new SmallMap<>(map);
+    }
+
+    public static <K, V> SmallMap<K, V> newWithKeysValues(K key, V value)
+    {
+        return new SmallMap<K, V>(1).withKeyValue(key, value);
+    }
+
+    public static <K, V> SmallMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return new SmallMap<K, V>(2).withKeyValue(key1, value1).withKeyValue(key2, value2);
+    }
+
+    public static <K, V> SmallMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return new SmallMap<K, V>(3).withKeyValue(key1, value1).withKeyValue(key2, value2).withKeyValue(key3, value3);
+    }
+
+    public static <K, V> SmallMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        return new SmallMap<K, V>(4).withKeyValue(key1, value1).withKeyValue(key2, value2).withKeyValue(key3, value3).withKeyValue(key4, value4);
+    }
+
+    /**
+     * Returns true if this map has outgrown its array and forwards to a {@link UnifiedMap}.
+     */
+    public boolean isPromoted()
+    {
+        return this.promoted != null;
+    }
+
+    @Override
+    public SmallMap<K, V> withKeyValue(K key, V value)
+    {
+        this.put(key, value);
+        return this;
+    }
+
+    @Override
+    public SmallMap<K, V> clone()
+    {
+        SmallMap<K, V> clone = new SmallMap<>();
+        if (this.promoted != null)
+        {
+            clone.table = null;
+            clone.promoted = this.promoted.clone();
+        }
+        else if (this.occupied > 0)
+        {
+            clone.table = Arrays.copyOf(this.table, this.occupied << 1);
+            clone.occupied = this.occupied;
+        }
+        return clone;
+    }
+
+    @Override
+    public MutableMap<K, V> newEmpty()
+    {
+        return new SmallMap<>();
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newEmpty(int capacity)
+    {
+        return new SmallMap<>(capacity);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.promoted != null ? this.promoted.size() : this.occupied;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size() == 0;
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        if (this.promoted != null)
+        {
+            return this.promoted.get(key);
+        }
+        int index = this.indexOfKey(key);
+        return index < 0 ? null : (V) this.table[index + 1];
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        if (this.promoted != null)
+        {
+            return this.promoted.containsKey(key);
+        }
+        return this.indexOfKey(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        if (this.promoted != null)
+        {
+            return this.promoted.containsValue(value);
+        }
+        for (int index = 1; index < this.occupied << 1; index += 2)
+        {
+            if (Objects.equals(this.table[index], value))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        if (this.promoted != null)
+        {
+            return this.promoted.put(key, value);
+        }
+        int index = this.indexOfKey(key);
+        if (index >= 0)
+        {
+            V oldValue = (V) this.table[index + 1];
+            this.table[index + 1] = value;
+            return oldValue;
+        }
+        if (this.occupied == MAX_ARRAY_SIZE)
+        {
+            this.promote();
+            return this.promoted.put(key, value);
+        }
+        index = this.occupied << 1;
+        if (index == this.table.length)
+        {
+            this.table = Arrays.copyOf(this.table, Math.min(index + 4, MAX_ARRAY_SIZE << 1));
+        }
+        this.table[index] = key;
+        this.table[index + 1] = value;
+        this.occupied++;
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        if (this.promoted == null && this.occupied + map.size() > MAX_ARRAY_SIZE)
+        {
+            this.promote();
+        }
+        if (this.promoted != null)
+        {
+            this.promoted.putAll(map);
+            return;
+        }
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+        {
+            this.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        if (this.promoted != null)
+        {
+            return this.promoted.remove(key);
+        }
+        int index = this.indexOfKey(key);
+        if (index < 0)
+        {
+            return null;
+        }
+        V oldValue = (V) this.table[index + 1];
+        this.removeAt(index);
+        return oldValue;
+    }
+
+    @Override
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    @Override
+    public void clear()
+    {
+        this.promoted = null;
+        this.table = EMPTY_TABLE;
+        this.occupied = 0;
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        if (this.promoted != null)
+        {
+            this.promoted.forEachKeyValue(procedure);
+            return;
+        }
+        Object[] table = this.table;
+        for (int index = 0; index < this.occupied << 1; index += 2)
+        {
+            procedure.value((K) table[index], (V) table[index + 1]);
+        }
+    }
+
+    @Override
+    public <E> MutableMap<K, V> collectKeysAndValues(
+            Iterable<E> iterable,
+            Function<? super E, ? extends K> keyFunction,
+            Function<? super E, ? extends V> valueFunction)
+    {
+        Iterate.addToMap(iterable, keyFunction, valueFunction, this);
+        return this;
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return this.values().iterator();
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    @Override
+    public ImmutableMap<K, V> toImmutable()
+    {
+        return Maps.immutable.ofMap(this);
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (this.promoted != null)
+        {
+            return this.promoted.equals(object);
+        }
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+        Map<?, ?> other = (Map<?, ?>) object;
+        if (this.occupied != other.size())
+        {
+            return false;
+        }
+        for (int index = 0; index < this.occupied << 1; index += 2)
+        {
+            Object key = this.table[index];
+            Object value = this.table[index + 1];
+            Object otherValue = other.get(key);
+            if (!Objects.equals(otherValue, value) || (value == null && !other.containsKey(key)))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        if (this.promoted != null)
+        {
+            return this.promoted.hashCode();
+        }
+        int hashCode = 0;
+        for (int index = 0; index < this.occupied << 1; index += 2)
+        {
+            hashCode += Objects.hashCode(this.table[index]) ^ Objects.hashCode(this.table[index + 1]);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+        builder.append('{');
+        this.forEachKeyValue((key, value) ->
+        {
+            if (builder.length() > 1)
+            {
+                builder.append(", ");
+            }
+            builder.append(key == this ? "(this Map)" : key);
+            builder.append('=');
+            builder.append(value == this ? "(this Map)" : value);
+        });
+        builder.append('}');
+        return builder.toString();
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size());
+        if (this.promoted != null)
+        {
+            for (Map.Entry<K, V> entry : this.promoted.entrySet())
+            {
+                out.writeObject(entry.getKey());
+                out.writeObject(entry.getValue());
+            }
+            return;
+        }
+        for (int index = 0; index < this.occupied << 1; index++)
+        {
+            out.writeObject(this.table[index]);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        if (size > MAX_ARRAY_SIZE)
+        {
+            this.table = null;
+            this.promoted = UnifiedMap.newMap(size);
+        }
+        else
+        {
+            this.table = size == 0 ? EMPTY_TABLE : new Object[size << 1];
+        }
+        for (int i = 0; i < size; i++)
+        {
+            this.put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+
+    private int indexOfKey(Object key)
+    {
+        Object[] table = this.table;
+        for (int index = 0; index < this.occupied << 1; index += 2)
+        {
+            Object each = table[index];
+            if (each == key || each != null && each.equals(key))
+            {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(int index)
+    {
+        int end = this.occupied << 1;
+        System.arraycopy(this.table, index + 2, this.table, index, end - index - 2);
+        this.table[end - 2] = null;
+        this.table[end - 1] = null;
+        this.occupied--;
+    }
+
+    private void promote()
+    {
+        UnifiedMap<K, V> map = UnifiedMap.newMap(MAX_ARRAY_SIZE << 1);
+        for (int index = 0; index < this.occupied << 1; index += 2)
+        {
+            map.put((K) this.table[index], (V) this.table[index + 1]);
+        }
+        this.promoted = map;
+        this.table = null;
+        this.occupied = 0;
+    }
+
+    private abstract class ArrayIterator<E> implements Iterator<E>
+    {
+        private int nextIndex;
+        private int currentIndex = -1;
+
+        protected abstract E element(int index);
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.nextIndex < SmallMap.this.occupied << 1;
+        }
+
+        @Override
+        public E next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.currentIndex = this.nextIndex;
+            this.nextIndex += 2;
+            return this.element(this.currentIndex);
+        }
+
+        @Override
+        public void remove()
+        {
+            if (this.currentIndex < 0)
+            {
+                throw new IllegalStateException();
+            }
+            SmallMap.this.removeAt(this.currentIndex);
+            this.nextIndex = this.currentIndex;
+            this.currentIndex = -1;
+        }
+    }
+
+    private final class KeyIterator extends ArrayIterator<K>
+    {
+        @Override
+        protected K element(int index)
+        {
+            return (K) SmallMap.this.table[index];
+        }
+    }
+
+    private final class ValueIterator extends ArrayIterator<V>
+    {
+        @Override
+        protected V element(int index)
+        {
+            return (V) SmallMap.this.table[index + 1];
+        }
+    }
+
+    private final class EntryIterator extends ArrayIterator<Entry<K, V>>
+    {
+        @Override
+        protected Entry<K, V> element(int index)
+        {
+            return new WriteThroughEntry((K) SmallMap.this.table[index], (V) SmallMap.this.table[index + 1]);
+        }
+    }
+
+    private final class WriteThroughEntry extends AbstractMap.SimpleEntry<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private WriteThroughEntry(K key, V value)
+        {
+            super(key, value);
+        }
+
+        @Override
+        public V setValue(V value)
+        {
+            super.setValue(value);
+            return SmallMap.this.put(this.getKey(), value);
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            UnifiedMap<K, V> promoted = SmallMap.this.promoted;
+            return promoted != null ? promoted.keySet().iterator() : new KeyIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return SmallMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return SmallMap.this.containsKey(key);
+        }
+
+        @Override
+        public boolean remove(Object key)
+        {
+            int sizeBefore = SmallMap.this.size();
+            SmallMap.this.remove(key);
+            return SmallMap.this.size() != sizeBefore;
+        }
+
+        @Override
+        public void clear()
+        {
+            SmallMap.this.clear();
+        }
+    }
+
+    private final class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            UnifiedMap<K, V> promoted = SmallMap.this.promoted;
+            return promoted != null ? promoted.values().iterator() : new ValueIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return SmallMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object value)
+        {
+            return SmallMap.this.containsValue(value);
+        }
+
+        @Override
+        public void clear()
+        {
+            SmallMap.this.clear();
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            UnifiedMap<K, V> promoted = SmallMap.this.promoted;
+            return promoted != null ? promoted.entrySet().iterator() : new EntryIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return SmallMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            if (!(object instanceof Entry))
+            {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) object;
+            Object key = entry.getKey();
+            return SmallMap.this.containsKey(key) && Objects.equals(SmallMap.this.get(key), entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object object)
+        {
+            if (!this.contains(object))
+            {
+                return false;
+            }
+            SmallMap.this.remove(((Entry<?, ?>) object).getKey());
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            SmallMap.this.clear();
+        }
+    }
+}
@@ -18,6 +18,8 @@ import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Array;
+import java.security.SecureRandom;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
@@ -40,6 +42,7 @@ import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.map.UnsortedMapIterable;
 import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.SpreadFunctions;
 import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.block.procedure.AppendStringProcedure;
@@ -115,6 +118,18 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
 
     private static final long serialVersionUID = 1L;
 
+    // shared by every map which has released its table; index() always lands on its only bucket, which stays empty
+    private static final Object[] EMPTY_TABLE = new Object[2];
+
+    // seeded and shrinking maps write this in place of the size, then their options, then the form of ordinary maps;
+    // readers from before 12.0 take it for the size and fail on the data which follows
+    private static final int OPTIONS_MARKER = Integer.MAX_VALUE;
+    private static final int SEEDED_HASHING = 1;
+    private static final int SHRINKING = 2;
+
+    // in a seeded map, a chain which holds more than this many keys of one Comparable class is kept sorted
+    private static final int SORTED_CHAIN_THRESHOLD = 8;
+
     protected transient Object[] table;
 
     protected transient int occupied;
@@ -123,6 +138,17 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
 
     protected int maxSize;
 
+    protected float shrinkLoadFactor;
+
+    // removals which take occupied below minSize downsize the table; zero unless a shrink load factor has been set
+    protected int minSize;
+
+    protected boolean seededHashing;
+
+    protected long hashSeed0;
+
+    protected long hashSeed1;
+
     public UnifiedMap()
     {
         this.allocate(DEFAULT_INITIAL_CAPACITY << 1);
@@ -156,6 +182,10 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
     {
         this(Math.max(map.size(), DEFAULT_INITIAL_CAPACITY), DEFAULT_LOAD_FACTOR);
 
+        if (map instanceof UnifiedMap)
+        {
+            this.copyShrinkLoadFactor((UnifiedMap<?, ?>) map);
+        }
         this.putAll(map);
     }
 
@@ -188,6 +218,59 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
         return new UnifiedMap<>(map);
     }
 
+    /**
+     * Creates an empty map which hashes its keys under a random seed of its own, so that keys chosen to pile into one
+     * bucket of an ordinary UnifiedMap are spread over the table like any others. String keys are hashed from their
+     * characters with {@link SpreadFunctions#stringSipHash(String, long, long) SipHash}, which also separates strings
+     * with equal hash codes, and so are Long and Double keys from their values. Other keys have their hash code hashed
+     * with the seed, so keys with equal hash codes still share a bucket; once more than eight keys of one
+     * {@link Comparable} class share a bucket, the bucket is kept sorted and searched by binary search. Maps made by
+     * {@link #newEmpty()} share the seed, while {@link #clone()} and deserialization draw a new one.
+     *
+     * @since 12.0
+     */
+    public static <K, V> UnifiedMap<K, V> newSeededMap()
+    {
+        return UnifiedMap.newSeededMap(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * @see #newSeededMap()
+     * @since 12.0
+     */
+    public static <K, V> UnifiedMap<K, V> newSeededMap(int size)
+    {
+        UnifiedMap<K, V> map = new UnifiedMap<>(size);
+        map.seededHashing = true;
+        map.hashSeed0 = HashSeeds.RANDOM.nextLong();
+        map.hashSeed1 = HashSeeds.RANDOM.nextLong();
+        return map;
+    }
+
+    /**
+     * Creates an empty map which allocates no table until its first put, and which downsizes its table when removals
+     * leave fewer than {@code shrinkLoadFactor} of its buckets occupied.
+     *
+     * @see #setShrinkLoadFactor(float)
+     * @since 12.0
+     */
+    public static <K, V> UnifiedMap<K, V> newShrinkingMap(float shrinkLoadFactor)
+    {
+        return UnifiedMap.newShrinkingMap(DEFAULT_LOAD_FACTOR, shrinkLoadFactor);
+    }
+
+    /**
+     * @see #newShrinkingMap(float)
+     * @since 12.0
+     */
+    public static <K, V> UnifiedMap<K, V> newShrinkingMap(float loadFactor, float shrinkLoadFactor)
+    {
+        UnifiedMap<K, V> map = new UnifiedMap<>(0, loadFactor);
+        map.setShrinkLoadFactor(shrinkLoadFactor);
+        map.releaseTable();
+        return map;
+    }
+
     public static <K, V> UnifiedMap<K, V> newMapWith(Pair<K, V>... pairs)
     {
         return new UnifiedMap<>(pairs);
@@ -260,19 +343,68 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
     @Override
     public UnifiedMap<K, V> clone()
     {
+        if (this.seededHashing)
+        {
+            UnifiedMap<K, V> clone = UnifiedMap.newSeededMap(this.size());
+            clone.copyShrinkLoadFactor(this);
+            clone.putAll(this);
+            return clone;
+        }
         return new UnifiedMap<>(this);
     }
 
     @Override
     public MutableMap<K, V> newEmpty()
     {
-        return new UnifiedMap<>();
+        return this.withSameHashing(new UnifiedMap<>());
     }
 
     @Override
     public MutableMap<K, V> newEmpty(int capacity)
     {
-        return new UnifiedMap<>(capacity, this.loadFactor);
+        return this.withSameHashing(new UnifiedMap<>(capacity, this.loadFactor));
+    }
+
+    // collectValues() and retainAll() copy this map's table into a map made by newEmpty(), so it must hash the same way
+    private <KK, VV> UnifiedMap<KK, VV> withSameHashing(UnifiedMap<KK, VV> map)
+    {
+        map.seededHashing = this.seededHashing;
+        map.hashSeed0 = this.hashSeed0;
+        map.hashSeed1 = this.hashSeed1;
+        return map;
+    }
+
+    /**
+     * Makes {@link #remove(Object)} and {@link #removeIf(Predicate2)} downsize the table once fewer than
+     * {@code shrinkLoadFactor} of its buckets are occupied, and makes {@link #clear()} release the table until the next
+     * put. The table is never downsized below its default capacity, and the shrink load factor may be at most half the
+     * load factor, so a table which has just grown or shrunk is never immediately due to resize again. Removing through
+     * an iterator never downsizes the table. A shrink load factor of zero turns the policy off. The shrink load factor
+     * is serialized with the map.
+     *
+     * @since 12.0
+     */
+    public void setShrinkLoadFactor(float shrinkLoadFactor)
+    {
+        if (shrinkLoadFactor < 0.0f)
+        {
+            throw new IllegalArgumentException("shrink load factor cannot be less than 0");
+        }
+        if (shrinkLoadFactor > this.loadFactor / 2.0f)
+        {
+            throw new IllegalArgumentException("shrink load factor cannot be greater than half the load factor");
+        }
+        this.shrinkLoadFactor = shrinkLoadFactor;
+        this.computeMinSize(this.table.length >> 1);
+    }
+
+    // a copy made with the default load factor cannot always take the source's shrink load factor as it is
+    private void copyShrinkLoadFactor(UnifiedMap<?, ?> source)
+    {
+        if (source.shrinkLoadFactor > 0.0f)
+        {
+            this.setShrinkLoadFactor(Math.min(source.shrinkLoadFactor, this.loadFactor / 2.0f));
+        }
     }
 
     private int fastCeil(float v)
@@ -300,6 +432,7 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
     {
         this.allocateTable(capacity << 1); // the table size is twice the capacity to handle both keys and values
         this.computeMaxSize(capacity);
+        this.computeMinSize(capacity);
 
         return capacity;
     }
@@ -314,20 +447,255 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
         this.maxSize = Math.min(capacity - 1, (int) (capacity * this.loadFactor));
     }
 
+    private void computeMinSize(int capacity)
+    {
+        this.minSize = capacity > DEFAULT_INITIAL_CAPACITY << 1 ? (int) (capacity * this.shrinkLoadFactor) : 0;
+    }
+
+    private void releaseTable()
+    {
+        this.table = EMPTY_TABLE;
+        this.occupied = 0;
+        this.maxSize = 0;
+        this.minSize = 0;
+    }
+
+    private void allocateIfReleased()
+    {
+        if (this.table == EMPTY_TABLE)
+        {
+            this.allocate(DEFAULT_INITIAL_CAPACITY << 1);
+        }
+    }
+
+    private void shrinkIfSparse()
+    {
+        if (this.occupied < this.minSize)
+        {
+            this.resize(Math.max(this.fastCeil(this.occupied / this.loadFactor), DEFAULT_INITIAL_CAPACITY << 1));
+        }
+    }
+
     protected int index(Object key)
     {
         // This function ensures that hashCodes that differ only by
         // constant multiples at each bit position have a bounded
         // number of collisions (approximately 8 at default load factor).
-        int h = key == null ? 0 : key.hashCode();
+        int h = this.seededHashing ? this.seededHashCode(key) : key == null ? 0 : key.hashCode();
         h ^= h >>> 20 ^ h >>> 12;
         h ^= h >>> 7 ^ h >>> 4;
         return (h & (this.table.length >> 1) - 1) << 1;
     }
 
+    private int seededHashCode(Object key)
+    {
+        if (key instanceof String)
+        {
+            return (int) SpreadFunctions.stringSipHash((String) key, this.hashSeed0, this.hashSeed1);
+        }
+        // the hash codes of Long and Double fold 64 bits into 32, so colliding values are easy to choose
+        if (key instanceof Long)
+        {
+            return (int) SpreadFunctions.longSipHash((Long) key, this.hashSeed0, this.hashSeed1);
+        }
+        if (key instanceof Double)
+        {
+            return (int) SpreadFunctions.longSipHash(Double.doubleToLongBits((Double) key), this.hashSeed0, this.hashSeed1);
+        }
+        return (int) SpreadFunctions.longSipHash(key == null ? 0 : key.hashCode(), this.hashSeed0, this.hashSeed1);
+    }
+
+    /*
+     * A sorted chain has a length of 2 modulo 4, while every other chain grows four slots at a time, so iterating over
+     * it needs no special case. Its keys, all of one Comparable class, fill it from the front in ascending order.
+     */
+    private static boolean isSortedChain(Object[] chain)
+    {
+        return (chain.length & 2) != 0;
+    }
+
+    /**
+     * Returns the position of {@code key} in a chain of a seeded map, or {@code -1 - position} of the slot where it
+     * belongs if it is absent.
+     */
+    private int seededChainIndexOf(Object[] chain, K key)
+    {
+        if (UnifiedMap.isSortedChain(chain) && key != null && key.getClass() == chain[0].getClass())
+        {
+            return UnifiedMap.sortedChainIndexOf(chain, key);
+        }
+        for (int i = 0; i < chain.length; i += 2)
+        {
+            Object cur = chain[i];
+            if (cur == null)
+            {
+                return -1 - i;
+            }
+            if (this.nonNullTableObjectEquals(cur, key))
+            {
+                return i;
+            }
+        }
+        return -1 - chain.length;
+    }
+
+    private static int sortedChainIndexOf(Object[] chain, Object key)
+    {
+        Comparable<Object> comparable = (Comparable<Object>) key;
+        int low = 0;
+        int high = (UnifiedMap.sortedChainLength(chain) >> 1) - 1;
+        while (low <= high)
+        {
+            int mid = low + high >>> 1;
+            int comparison = comparable.compareTo(chain[mid << 1]);
+            if (comparison > 0)
+            {
+                low = mid + 1;
+            }
+            else if (comparison < 0)
+            {
+                high = mid - 1;
+            }
+            else
+            {
+                return UnifiedMap.sortedChainIndexOfEqual(chain, key, mid << 1);
+            }
+        }
+        return -1 - (low << 1);
+    }
+
+    // keys which compare equal to key need not be equal to it, so every one of them is checked
+    private static int sortedChainIndexOfEqual(Object[] chain, Object key, int position)
+    {
+        Comparable<Object> comparable = (Comparable<Object>) key;
+        int i = position;
+        while (i > 0 && comparable.compareTo(chain[i - 2]) == 0)
+        {
+            i -= 2;
+        }
+        for (; i < chain.length && chain[i] != null && comparable.compareTo(chain[i]) == 0; i += 2)
+        {
+            if (chain[i] == key || chain[i].equals(key))
+            {
+                return i;
+            }
+        }
+        return -1 - i;
+    }
+
+    // the number of slots in use in a sorted chain
+    private static int sortedChainLength(Object[] chain)
+    {
+        int low = 0;
+        int high = chain.length >> 1;
+        while (low < high)
+        {
+            int mid = low + high >>> 1;
+            if (chain[mid << 1] == null)
+            {
+                high = mid;
+            }
+            else
+            {
+                low = mid + 1;
+            }
+        }
+        return low << 1;
+    }
+
+    private void addToSeededChain(int index, int position, K key, V value)
+    {
+        this.insertIntoSeededChain(index, position, key, value);
+        if (++this.occupied > this.maxSize)
+        {
+            this.rehash(this.table.length);
+        }
+    }
+
+    /**
+     * Stores {@code key} and {@code value} in the chain at {@code index}, at the {@code position} found by
+     * {@link #seededChainIndexOf(Object[], Object)}, without counting the new entry.
+     */
+    private void insertIntoSeededChain(int index, int position, K key, V value)
+    {
+        Object[] chain = (Object[]) this.table[index + 1];
+        if (!UnifiedMap.isSortedChain(chain))
+        {
+            if (position == chain.length)
+            {
+                chain = new Object[chain.length + 4];
+                System.arraycopy(this.table[index + 1], 0, chain, 0, position);
+                this.table[index + 1] = chain;
+            }
+            chain[position] = UnifiedMap.toSentinelIfNull(key);
+            chain[position + 1] = value;
+            if (position >= SORTED_CHAIN_THRESHOLD << 1)
+            {
+                this.sortChainIfComparable(index);
+            }
+            return;
+        }
+        int length = UnifiedMap.sortedChainLength(chain);
+        if (key == null || key.getClass() != chain[0].getClass())
+        {
+            // a key of another class cannot be ordered among the others, so the chain goes back to insertion order
+            Object[] newChain = new Object[length + 5 & ~3];
+            System.arraycopy(chain, 0, newChain, 0, length);
+            newChain[length] = UnifiedMap.toSentinelIfNull(key);
+            newChain[length + 1] = value;
+            this.table[index + 1] = newChain;
+            return;
+        }
+        if (length == chain.length)
+        {
+            chain = new Object[(length << 1) - 2];
+            System.arraycopy(this.table[index + 1], 0, chain, 0, length);
+            this.table[index + 1] = chain;
+        }
+        System.arraycopy(chain, position, chain, position + 2, length - position);
+        chain[position] = key;
+        chain[position + 1] = value;
+    }
+
+    private void sortChainIfComparable(int index)
+    {
+        Object[] chain = (Object[]) this.table[index + 1];
+        if (!(chain[0] instanceof Comparable))
+        {
+            return;
+        }
+        Class<?> keyClass = chain[0].getClass();
+        int length = 0;
+        for (; length < chain.length && chain[length] != null; length += 2)
+        {
+            if (chain[length].getClass() != keyClass)
+            {
+                return;
+            }
+        }
+        Object[][] entries = new Object[length >> 1][];
+        for (int i = 0; i < length; i += 2)
+        {
+            entries[i >> 1] = new Object[]{chain[i], chain[i + 1]};
+        }
+        Arrays.sort(entries, (entry1, entry2) -> ((Comparable<Object>) entry1[0]).compareTo(entry2[0]));
+        Object[] sortedChain = new Object[(length & ~3) + 6];
+        for (int i = 0; i < length; i += 2)
+        {
+            sortedChain[i] = entries[i >> 1][0];
+            sortedChain[i + 1] = entries[i >> 1][1];
+        }
+        this.table[index + 1] = sortedChain;
+    }
+
     @Override
     public void clear()
     {
+        if (this.shrinkLoadFactor > 0.0f)
+        {
+            this.releaseTable();
+            return;
+        }
         if (this.occupied == 0)
         {
             return;
@@ -344,6 +712,7 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
     @Override
     public V put(K key, V value)
     {
+        this.allocateIfReleased();
         int index = this.index(key);
         Object cur = this.table[index];
         if (cur == null)
@@ -367,6 +736,19 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
 
     private V chainedPut(K key, int index, V value)
     {
+        if (this.seededHashing && this.table[index] == CHAINED_KEY)
+        {
+            Object[] chain = (Object[]) this.table[index + 1];
+            int i = this.seededChainIndexOf(chain, key);
+            if (i >= 0)
+            {
+                V result = (V) chain[i + 1];
+                chain[i + 1] = value;
+                return result;
+            }
+            this.addToSeededChain(index, -1 - i, key, value);
+            return null;
+        }
         if (this.table[index] == CHAINED_KEY)
         {
             Object[] chain = (Object[]) this.table[index + 1];
@@ -417,6 +799,7 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
     @Override
     public V updateValue(K key, Function0<? extends V> factory, Function<? super V, ? extends V> function)
     {
+        this.allocateIfReleased();
         int index = this.index(key);
         Object cur = this.table[index];
         if (cur == null)
@@ -439,6 +822,20 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
 
     private V chainedUpdateValue(K key, int index, Function0<? extends V> factory, Function<? super V, ? extends V> function)
     {
+        if (this.seededHashing && this.table[index] == CHAINED_KEY)
+        {
+            Object[] chain = (Object[]) this.table[index + 1];
+            int i = this.seededChainIndexOf(chain, key);
+            if (i >= 0)
+            {
+                V result = function.valueOf((V) chain[i + 1]);
+                chain[i + 1] = result;
+                return result;
+            }
+            V result = function.valueOf(factory.value());
+            this.addToSeededChain(index, -1 - i, key, result);
+            return result;
+        }
         if (this.table[index] == CHAINED_KEY)
         {
             Object[] chain = (Object[]) this.table[index + 1];
@@ -493,6 +890,7 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
     @Override
     public <P> V updateValueWith(K key, Function0<? extends V> factory, Function2<? super V, ? super P, ? extends V> function, P parameter)
     {
+        this.allocateIfReleased();
         int index = this.index(key);
         Object cur = this.table[index];
         if (cur == null)
@@ -520,6 +918,20 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
             Function2<? super V, ? super P, ? extends V> function,
             P parameter)
     {
+        if (this.seededHashing && this.table[index] == CHAINED_KEY)
+        {
+            Object[] chain = (Object[]) this.table[index + 1];
+            int i = this.seededChainIndexOf(chain, key);
+            if (i >= 0)
+            {
+                V result = function.value((V) chain[i + 1], parameter);
+                chain[i + 1] = result;
+                return result;
+            }
+            V result = function.value(factory.value(), parameter);
+            this.addToSeededChain(index, -1 - i, key, result);
+            return result;
+        }
         if (this.table[index] == CHAINED_KEY)
         {
             Object[] chain = (Object[]) this.table[index + 1];
@@ -574,6 +986,7 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
     @Override
     public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction)
     {
+        this.allocateIfReleased();
         Objects.requireNonNull(value, "value cannot be null");
         Objects.requireNonNull(remappingFunction, "remappingFunction cannot be null");
 
@@ -602,6 +1015,26 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
 
     private V chainedMerge(K key, int index, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction)
     {
+        if (this.seededHashing && this.table[index] == CHAINED_KEY)
+        {
+            Object[] chain = (Object[]) this.table[index + 1];
+            int i = this.seededChainIndexOf(chain, key);
+            if (i < 0)
+            {
+                this.addToSeededChain(index, -1 - i, key, value);
+                return value;
+            }
+            V newValue = remappingFunction.apply((V) chain[i + 1], value);
+            if (newValue == null)
+            {
+                this.overwriteWithLastElementFromChain(chain, index, i);
+            }
+            else
+            {
+                chain[i + 1] = newValue;
+            }
+            return newValue;
+        }
         if (this.table[index] == CHAINED_KEY)
         {
             Object[] chain = (Object[]) this.table[index + 1];
@@ -659,6 +1092,7 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
     @Override
     public V getIfAbsentPut(K key, Function0<? extends V> function)
     {
+        this.allocateIfReleased();
         int index = this.index(key);
         Object cur = this.table[index];
 
@@ -682,6 +1116,18 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
 
     private V chainedGetIfAbsentPut(K key, int index, Function0<? extends V> function)
     {
+        if (this.seededHashing && this.table[index] == CHAINED_KEY)
+        {
+            Object[] chain = (Object[]) this.table[index + 1];
+            int i = this.seededChainIndexOf(chain, key);
+            if (i >= 0)
+            {
+                return (V) chain[i + 1];
+            }
+            V result = function.value();
+            this.addToSeededChain(index, -1 - i, key, result);
+            return result;
+        }
         V result = null;
         if (this.table[index] == CHAINED_KEY)
         {
@@ -741,6 +1187,7 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
     @Override
     public V getIfAbsentPut(K key, V value)
     {
+        this.allocateIfReleased();
         int index = this.index(key);
         Object cur = this.table[index];
 
@@ -763,6 +1210,17 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
 
     private V chainedGetIfAbsentPut(K key, int index, V value)
     {
+        if (this.seededHashing && this.table[index] == CHAINED_KEY)
+        {
+            Object[] chain = (Object[]) this.table[index + 1];
+            int i = this.seededChainIndexOf(chain, key);
+            if (i >= 0)
+            {
+                return (V) chain[i + 1];
+            }
+            this.addToSeededChain(index, -1 - i, key, value);
+            return value;
+        }
         V result = value;
         if (this.table[index] == CHAINED_KEY)
         {
@@ -819,6 +1277,7 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
     @Override
     public <P> V getIfAbsentPutWith(K key, Function<? super P, ? extends V> function, P parameter)
     {
+        this.allocateIfReleased();
         int index = this.index(key);
         Object cur = this.table[index];
 
@@ -842,6 +1301,18 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
 
     private <P> V chainedGetIfAbsentPutWith(K key, int index, Function<? super P, ? extends V> function, P parameter)
     {
+        if (this.seededHashing && this.table[index] == CHAINED_KEY)
+        {
+            Object[] chain = (Object[]) this.table[index + 1];
+            int i = this.seededChainIndexOf(chain, key);
+            if (i >= 0)
+            {
+                return (V) chain[i + 1];
+            }
+            V result = function.valueOf(parameter);
+            this.addToSeededChain(index, -1 - i, key, result);
+            return result;
+        }
         V result = null;
         if (this.table[index] == CHAINED_KEY)
         {
@@ -982,6 +1453,11 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
 
     private V getFromChain(Object[] chain, K key)
     {
+        if (UnifiedMap.isSortedChain(chain))
+        {
+            int i = this.seededChainIndexOf(chain, key);
+            return i < 0 ? null : (V) chain[i + 1];
+        }
         for (int i = 0; i < chain.length; i += 2)
         {
             Object k = chain[i];
@@ -1015,6 +1491,10 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
 
     private boolean chainContainsKey(Object[] chain, K key)
     {
+        if (UnifiedMap.isSortedChain(chain))
+        {
+            return this.seededChainIndexOf(chain, key) >= 0;
+        }
         for (int i = 0; i < chain.length; i += 2)
         {
             Object k = chain[i];
@@ -1165,6 +1645,7 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
                 }
             }
         }
+        this.shrinkIfSparse();
         return previousOccupied > this.occupied;
     }
 
@@ -1353,13 +1834,16 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
             Object val = this.table[index + 1];
             if (cur == CHAINED_KEY)
             {
-                return this.removeFromChain((Object[]) val, (K) key, index);
+                V result = this.removeFromChain((Object[]) val, (K) key, index);
+                this.shrinkIfSparse();
+                return result;
             }
             if (this.nonNullTableObjectEquals(cur, (K) key))
             {
                 this.table[index] = null;
                 this.table[index + 1] = null;
                 this.occupied--;
+                this.shrinkIfSparse();
                 return (V) val;
             }
         }
@@ -1368,6 +1852,17 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
 
     private V removeFromChain(Object[] chain, K key, int index)
     {
+        if (UnifiedMap.isSortedChain(chain))
+        {
+            int i = this.seededChainIndexOf(chain, key);
+            if (i < 0)
+            {
+                return null;
+            }
+            V val = (V) chain[i + 1];
+            this.overwriteWithLastElementFromChain(chain, index, i);
+            return val;
+        }
         for (int i = 0; i < chain.length; i += 2)
         {
             Object k = chain[i];
@@ -1387,6 +1882,21 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
 
     private void overwriteWithLastElementFromChain(Object[] chain, int index, int i)
     {
+        if (UnifiedMap.isSortedChain(chain))
+        {
+            // the later keys move down instead, to keep the chain in order
+            int length = UnifiedMap.sortedChainLength(chain);
+            System.arraycopy(chain, i + 2, chain, i, length - i - 2);
+            chain[length - 2] = null;
+            chain[length - 1] = null;
+            if (length == 2)
+            {
+                this.table[index] = null;
+                this.table[index + 1] = null;
+            }
+            this.occupied--;
+            return;
+        }
         int j = chain.length - 2;
         for (; j > i; j -= 2)
         {
@@ -1564,16 +2074,22 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
 
     public boolean trimToSize()
     {
-        if (this.table.length <= this.fastCeil(this.occupied / this.loadFactor) << 2)
+        if (this.table == EMPTY_TABLE || this.table.length <= this.fastCeil(this.occupied / this.loadFactor) << 2)
         {
             return false;
         }
 
+        this.resize(this.fastCeil(this.occupied / this.loadFactor));
+        return true;
+    }
+
+    private void resize(int minimumCapacity)
+    {
         Object[] temp = this.table;
-        this.init(this.fastCeil(this.occupied / this.loadFactor));
+        this.init(minimumCapacity);
         if (this.isEmpty())
         {
-            return true;
+            return;
         }
 
         int mask = this.table.length - 1;
@@ -1597,7 +2113,6 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
                 this.putForTrim((K) key, (V) temp[j + 1], j, mask);
             }
         }
-        return true;
     }
 
     private void putForTrim(K key, V value, int oldIndex, int mask)
@@ -1615,6 +2130,13 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
 
     private void chainedPutForTrim(K key, int index, V value)
     {
+        if (this.seededHashing && this.table[index] == CHAINED_KEY)
+        {
+            K nonSentinelKey = this.nonSentinel(key);
+            int i = this.seededChainIndexOf((Object[]) this.table[index + 1], nonSentinelKey);
+            this.insertIntoSeededChain(index, -1 - i, nonSentinelKey, value);
+            return;
+        }
         if (this.table[index] == CHAINED_KEY)
         {
             Object[] chain = (Object[]) this.table[index + 1];
@@ -1647,10 +2169,32 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
     {
         int size = in.readInt();
+        int options = 0;
+        float shrinkLoadFactor = 0.0f;
+        if (size == OPTIONS_MARKER)
+        {
+            options = in.readByte();
+            if ((options & SHRINKING) != 0)
+            {
+                shrinkLoadFactor = in.readFloat();
+            }
+            size = in.readInt();
+        }
         this.loadFactor = in.readFloat();
+        if ((options & SEEDED_HASHING) != 0)
+        {
+            // the seed is drawn before any entry is hashed, so entries chosen to collide are never chained
+            this.seededHashing = true;
+            this.hashSeed0 = HashSeeds.RANDOM.nextLong();
+            this.hashSeed1 = HashSeeds.RANDOM.nextLong();
+        }
         this.init(Math.max(
                 (int) (size / this.loadFactor) + 1,
                 DEFAULT_INITIAL_CAPACITY));
+        if (shrinkLoadFactor > 0.0f)
+        {
+            this.setShrinkLoadFactor(shrinkLoadFactor);
+        }
         for (int i = 0; i < size; i++)
         {
             this.put((K) in.readObject(), (V) in.readObject());
@@ -1660,6 +2204,16 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
     @Override
     public void writeExternal(ObjectOutput out) throws IOException
     {
+        int options = (this.seededHashing ? SEEDED_HASHING : 0) | (this.shrinkLoadFactor > 0.0f ? SHRINKING : 0);
+        if (options != 0)
+        {
+            out.writeInt(OPTIONS_MARKER);
+            out.writeByte(options);
+            if (this.shrinkLoadFactor > 0.0f)
+            {
+                out.writeFloat(this.shrinkLoadFactor);
+            }
+        }
         out.writeInt(this.size());
         out.writeFloat(this.loadFactor);
         for (int i = 0; i < this.table.length; i += 2)
@@ -2305,6 +2859,7 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
                 UnifiedMap.this.maxSize = retainedCopy.maxSize;
                 UnifiedMap.this.occupied = retainedCopy.occupied;
                 UnifiedMap.this.table = retainedCopy.table;
+                UnifiedMap.this.computeMinSize(retainedCopy.table.length >> 1);
                 return true;
             }
             return false;
@@ -2543,6 +3098,16 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
         {
             Object[] chain = (Object[]) UnifiedMap.this.table[this.position + 1];
             int pos = this.chainPosition - 2;
+            if (UnifiedMap.isSortedChain(chain))
+            {
+                int length = UnifiedMap.sortedChainLength(chain);
+                System.arraycopy(chain, this.chainPosition, chain, pos, length - this.chainPosition);
+                chain[length - 2] = null;
+                chain[length - 1] = null;
+                this.chainPosition = pos;
+                this.lastReturned = false;
+                return;
+            }
             int replacePos = this.chainPosition;
             while (replacePos < chain.length - 2 && chain[replacePos + 2] != null)
             {
@@ -2828,6 +3393,7 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
                 UnifiedMap.this.maxSize = retainedCopy.maxSize;
                 UnifiedMap.this.occupied = retainedCopy.occupied;
                 UnifiedMap.this.table = retainedCopy.table;
+                UnifiedMap.this.computeMinSize(retainedCopy.table.length >> 1);
                 return true;
             }
             return false;
@@ -3396,4 +3962,13 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
     {
         return cur == key || (cur == NULL_KEY ? key == null : cur.equals(key));
     }
+
+    private static final class HashSeeds
+    {
+        private static final SecureRandom RANDOM = new SecureRandom();
+
+        private HashSeeds()
+        {
+        }
+    }
 }
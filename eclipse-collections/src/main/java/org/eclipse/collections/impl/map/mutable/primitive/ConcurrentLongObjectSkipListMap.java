@@ -0,0 +1,2310 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable.primitive;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.collections.api.LazyLongIterable;
+import org.eclipse.collections.api.LongIterable;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.bag.primitive.MutableBooleanBag;
+import org.eclipse.collections.api.bag.primitive.MutableByteBag;
+import org.eclipse.collections.api.bag.primitive.MutableCharBag;
+import org.eclipse.collections.api.bag.primitive.MutableDoubleBag;
+import org.eclipse.collections.api.bag.primitive.MutableFloatBag;
+import org.eclipse.collections.api.bag.primitive.MutableIntBag;
+import org.eclipse.collections.api.bag.primitive.MutableLongBag;
+import org.eclipse.collections.api.bag.primitive.MutableShortBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.BooleanFunction;
+import org.eclipse.collections.api.block.function.primitive.ByteFunction;
+import org.eclipse.collections.api.block.function.primitive.CharFunction;
+import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
+import org.eclipse.collections.api.block.function.primitive.FloatFunction;
+import org.eclipse.collections.api.block.function.primitive.IntFunction;
+import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.LongToObjectFunction;
+import org.eclipse.collections.api.block.function.primitive.ObjectLongToObjectFunction;
+import org.eclipse.collections.api.block.function.primitive.ShortFunction;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.predicate.primitive.LongObjectPredicate;
+import org.eclipse.collections.api.block.predicate.primitive.LongPredicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.LongObjectProcedure;
+import org.eclipse.collections.api.block.procedure.primitive.LongProcedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.factory.Bags;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.primitive.LongObjectMaps;
+import org.eclipse.collections.api.factory.primitive.LongSets;
+import org.eclipse.collections.api.factory.primitive.ObjectDoubleMaps;
+import org.eclipse.collections.api.factory.primitive.ObjectLongMaps;
+import org.eclipse.collections.api.iterator.LongIterator;
+import org.eclipse.collections.api.iterator.MutableLongIterator;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.ImmutableLongObjectMap;
+import org.eclipse.collections.api.map.primitive.LongObjectMap;
+import org.eclipse.collections.api.map.primitive.MutableLongObjectMap;
+import org.eclipse.collections.api.map.primitive.MutableLongObjectSortedMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectDoubleMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectLongMap;
+import org.eclipse.collections.api.multimap.bag.MutableBagMultimap;
+import org.eclipse.collections.api.partition.bag.PartitionMutableBag;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.primitive.ImmutableLongSet;
+import org.eclipse.collections.api.set.primitive.LongSet;
+import org.eclipse.collections.api.set.primitive.MutableLongSet;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.api.tuple.primitive.LongObjectPair;
+import org.eclipse.collections.impl.AbstractRichIterable;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.bag.mutable.primitive.BooleanHashBag;
+import org.eclipse.collections.impl.bag.mutable.primitive.ByteHashBag;
+import org.eclipse.collections.impl.bag.mutable.primitive.CharHashBag;
+import org.eclipse.collections.impl.bag.mutable.primitive.DoubleHashBag;
+import org.eclipse.collections.impl.bag.mutable.primitive.FloatHashBag;
+import org.eclipse.collections.impl.bag.mutable.primitive.IntHashBag;
+import org.eclipse.collections.impl.bag.mutable.primitive.LongHashBag;
+import org.eclipse.collections.impl.bag.mutable.primitive.ShortHashBag;
+import org.eclipse.collections.impl.block.factory.Functions;
+import org.eclipse.collections.impl.block.factory.Predicates;
+import org.eclipse.collections.impl.block.factory.PrimitiveFunctions;
+import org.eclipse.collections.impl.block.procedure.MutatingAggregationProcedure;
+import org.eclipse.collections.impl.block.procedure.PartitionProcedure;
+import org.eclipse.collections.impl.block.procedure.SelectInstancesOfProcedure;
+import org.eclipse.collections.impl.iterator.UnmodifiableLongIterator;
+import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
+import org.eclipse.collections.impl.lazy.primitive.AbstractLazyLongIterable;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+import org.eclipse.collections.impl.partition.bag.PartitionHashBag;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.set.mutable.primitive.BoxedMutableLongSet;
+import org.eclipse.collections.impl.set.mutable.primitive.ConcurrentLongSkipListSet;
+import org.eclipse.collections.impl.set.mutable.primitive.LongHashSet;
+import org.eclipse.collections.impl.set.mutable.primitive.SynchronizedLongSet;
+import org.eclipse.collections.impl.set.mutable.primitive.UnmodifiableLongSet;
+import org.eclipse.collections.impl.set.primitive.AbstractLongSet;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+
+/**
+ * ConcurrentLongObjectSkipListMap is a {@link MutableLongObjectSortedMap} that may be read and written by many threads
+ * at once without locking. It is the lock-free skip list of {@link java.util.concurrent.ConcurrentSkipListMap} with
+ * the keys stored unboxed in the nodes, so neither a lookup nor an insert boxes its key.
+ * <p>
+ * The iteration methods, including the ones inherited from {@link RichIterable}, walk the bottom level of the skip
+ * list directly. Like the iterators they are weakly consistent: they never throw a
+ * {@link java.util.ConcurrentModificationException} and see each key at most once, in ascending order. The
+ * get-or-create and update methods such as {@link #getIfAbsentPut(long, Function0)} and
+ * {@link #updateValue(long, Function0, Function)} are atomic, although a factory or function may be evaluated more than
+ * once when threads race on the same key. {@link #size()} is kept in a {@link LongAdder}; the size of a range view is
+ * counted, so it takes time proportional to the view.
+ * <p>
+ * Null values are permitted.
+ *
+ * @since 12.0
+ */
+public class ConcurrentLongObjectSkipListMap<V> extends AbstractRichIterable<V> implements MutableLongObjectSortedMap<V>, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    // stored in place of a null value, since a node with a null value is a deleted node
+    private static final Object NULL_VALUE = new Object();
+
+    private SkipList skipList;
+
+    // the bounds of a range view, low inclusive and high exclusive; a map created by a constructor has neither
+    private long low;
+    private boolean hasLow;
+    private long high;
+    private boolean hasHigh;
+
+    public ConcurrentLongObjectSkipListMap()
+    {
+        this.skipList = new SkipList();
+    }
+
+    public ConcurrentLongObjectSkipListMap(LongObjectMap<? extends V> map)
+    {
+        this();
+        this.putAll(map);
+    }
+
+    private ConcurrentLongObjectSkipListMap(SkipList skipList, long low, boolean hasLow, long high, boolean hasHigh)
+    {
+        this.skipList = skipList;
+        this.low = low;
+        this.hasLow = hasLow;
+        this.high = high;
+        this.hasHigh = hasHigh;
+    }
+
+    public static <V> ConcurrentLongObjectSkipListMap<V> newMap()
+    {
+        return new ConcurrentLongObjectSkipListMap<>();
+    }
+
+    public static <V> ConcurrentLongObjectSkipListMap<V> newWithKeysValues(long key1, V value1)
+    {
+        return new ConcurrentLongObjectSkipListMap<V>().withKeyValue(key1, value1);
+    }
+
+    public static <V> ConcurrentLongObjectSkipListMap<V> newWithKeysValues(long key1, V value1, long key2, V value2)
+    {
+        return new ConcurrentLongObjectSkipListMap<V>().withKeyValue(key1, value1).withKeyValue(key2, value2);
+    }
+
+    public static <V> ConcurrentLongObjectSkipListMap<V> newWithKeysValues(long key1, V value1, long key2, V value2, long key3, V value3)
+    {
+        return new ConcurrentLongObjectSkipListMap<V>().withKeyValue(key1, value1).withKeyValue(key2, value2).withKeyValue(key3, value3);
+    }
+
+    private static Object mask(Object value)
+    {
+        return value == null ? NULL_VALUE : value;
+    }
+
+    private static <V> V unmask(Object value)
+    {
+        return value == NULL_VALUE ? null : (V) value;
+    }
+
+    private boolean isBounded()
+    {
+        return this.hasLow || this.hasHigh;
+    }
+
+    private boolean tooLow(long key)
+    {
+        return this.hasLow && key < this.low;
+    }
+
+    private boolean tooHigh(long key)
+    {
+        return this.hasHigh && key >= this.high;
+    }
+
+    private boolean inRange(long key)
+    {
+        return !this.tooLow(key) && !this.tooHigh(key);
+    }
+
+    private boolean inClosedRange(long key)
+    {
+        return !this.tooLow(key) && (!this.hasHigh || key <= this.high);
+    }
+
+    private void checkInRange(long key)
+    {
+        if (!this.inRange(key))
+        {
+            throw new IllegalArgumentException("key out of range");
+        }
+    }
+
+    /**
+     * Returns the node of the lowest key of the map or view, or null if it is empty.
+     */
+    private Node firstNode()
+    {
+        Node node = this.hasLow ? this.skipList.findNear(this.low, SkipList.GT | SkipList.EQ) : this.skipList.findFirst();
+        return node == null || this.tooHigh(node.key) ? null : node;
+    }
+
+    /**
+     * Returns the node of the highest key of the map or view, or null if it is empty.
+     */
+    private Node lastNode()
+    {
+        Node node = this.hasHigh ? this.skipList.findNear(this.high, SkipList.LT) : this.skipList.findLast();
+        return node == null || this.tooLow(node.key) ? null : node;
+    }
+
+    /**
+     * Walks the live entries of the map or view in key order and returns the first node whose key and stored value
+     * satisfy the predicate, or null. A null value is passed as it is stored, as {@link #NULL_VALUE}.
+     */
+    private Node detectNode(LongObjectPredicate<Object> predicate)
+    {
+        for (Node node = this.firstNode(); node != null; node = node.next)
+        {
+            Object value = node.getValidValue();
+            if (value != null)
+            {
+                if (this.tooHigh(node.key))
+                {
+                    return null;
+                }
+                if (predicate.accept(node.key, value))
+                {
+                    return node;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the stored form of the first value, in key order, that satisfies the predicate, or null.
+     */
+    private Object detectValue(Predicate<? super V> predicate)
+    {
+        for (Node node = this.firstNode(); node != null; node = node.next)
+        {
+            Object value = node.getValidValue();
+            if (value != null)
+            {
+                if (this.tooHigh(node.key))
+                {
+                    return null;
+                }
+                if (predicate.accept(ConcurrentLongObjectSkipListMap.unmask(value)))
+                {
+                    return value;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj)
+        {
+            return true;
+        }
+        if (!(obj instanceof LongObjectMap))
+        {
+            return false;
+        }
+        LongObjectMap<V> other = (LongObjectMap<V>) obj;
+        if (this.size() != other.size())
+        {
+            return false;
+        }
+        return this.detectNode((key, value) ->
+                !other.containsKey(key) || !Objects.equals(ConcurrentLongObjectSkipListMap.unmask(value), other.get(key))) == null;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int[] result = {0};
+        this.forEachKeyValue((key, value) -> result[0] += (int) (key ^ key >>> 32) ^ Objects.hashCode(value));
+        return result[0];
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder appendable = new StringBuilder();
+        appendable.append("{");
+        this.forEachKeyValue((key, value) ->
+        {
+            if (appendable.length() > 1)
+            {
+                appendable.append(", ");
+            }
+            appendable.append(key).append("=").append(value);
+        });
+        appendable.append("}");
+        return appendable.toString();
+    }
+
+    @Override
+    public int size()
+    {
+        if (this.isBounded())
+        {
+            int[] count = {0};
+            this.detectNode((key, value) ->
+            {
+                count[0]++;
+                return false;
+            });
+            return count[0];
+        }
+        long size = this.skipList.size.sum();
+        return size < 0L ? 0 : size > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.firstNode() == null;
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return new ValueIterator();
+    }
+
+    @Override
+    public ConcurrentLongObjectSkipListMap<V> tap(Procedure<? super V> procedure)
+    {
+        this.forEachValue(procedure);
+        return this;
+    }
+
+    @Override
+    public void each(Procedure<? super V> procedure)
+    {
+        this.forEachKeyValue((key, value) -> procedure.value(value));
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super V> objectIntProcedure)
+    {
+        int[] index = {0};
+        this.forEachKeyValue((key, value) -> objectIntProcedure.value(value, index[0]++));
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        this.each(procedure);
+    }
+
+    @Override
+    public void forEachKey(LongProcedure procedure)
+    {
+        this.detectNode((key, value) ->
+        {
+            procedure.value(key);
+            return false;
+        });
+    }
+
+    @Override
+    public void forEachKeyValue(LongObjectProcedure<? super V> procedure)
+    {
+        this.detectNode((key, value) ->
+        {
+            procedure.value(key, ConcurrentLongObjectSkipListMap.unmask(value));
+            return false;
+        });
+    }
+
+    @Override
+    public V detect(Predicate<? super V> predicate)
+    {
+        return ConcurrentLongObjectSkipListMap.unmask(this.detectValue(predicate));
+    }
+
+    @Override
+    public Optional<V> detectOptional(Predicate<? super V> predicate)
+    {
+        Object value = this.detectValue(predicate);
+        return value == null ? Optional.empty() : Optional.of(ConcurrentLongObjectSkipListMap.unmask(value));
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super V> predicate)
+    {
+        return this.detectValue(predicate) != null;
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super V> predicate)
+    {
+        return this.detectValue(Predicates.not(predicate)) == null;
+    }
+
+    @Override
+    public boolean noneSatisfy(Predicate<? super V> predicate)
+    {
+        return this.detectValue(predicate) == null;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        return this.anySatisfy(each -> Objects.equals(each, value));
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return this.containsValue(object);
+    }
+
+    @Override
+    public MutableBag<V> select(Predicate<? super V> predicate)
+    {
+        return this.select(predicate, Bags.mutable.empty());
+    }
+
+    @Override
+    public <P> MutableBag<V> selectWith(Predicate2<? super V, ? super P> predicate, P parameter)
+    {
+        return this.selectWith(predicate, parameter, Bags.mutable.empty());
+    }
+
+    @Override
+    public MutableBag<V> reject(Predicate<? super V> predicate)
+    {
+        return this.reject(predicate, Bags.mutable.empty());
+    }
+
+    @Override
+    public <P> MutableBag<V> rejectWith(Predicate2<? super V, ? super P> predicate, P parameter)
+    {
+        return this.rejectWith(predicate, parameter, Bags.mutable.empty());
+    }
+
+    @Override
+    public PartitionMutableBag<V> partition(Predicate<? super V> predicate)
+    {
+        PartitionMutableBag<V> partitionMutableBag = new PartitionHashBag<>();
+        this.forEach(new PartitionProcedure<V>(predicate, partitionMutableBag));
+        return partitionMutableBag;
+    }
+
+    @Override
+    public <P> PartitionMutableBag<V> partitionWith(Predicate2<? super V, ? super P> predicate, P parameter)
+    {
+        PartitionMutableBag<V> partitionMutableBag = new PartitionHashBag<>();
+        this.forEach(new PartitionProcedure<V>(Predicates.bind(predicate, parameter), partitionMutableBag));
+        return partitionMutableBag;
+    }
+
+    @Override
+    public <S> MutableBag<S> selectInstancesOf(Class<S> clazz)
+    {
+        MutableBag<S> result = Bags.mutable.empty();
+        this.forEach(new SelectInstancesOfProcedure<S>(clazz, result));
+        return result;
+    }
+
+    @Override
+    public <VV> MutableBag<VV> collect(Function<? super V, ? extends VV> function)
+    {
+        return this.collect(function, new HashBag<VV>());
+    }
+
+    @Override
+    public MutableBooleanBag collectBoolean(BooleanFunction<? super V> booleanFunction)
+    {
+        return this.collectBoolean(booleanFunction, new BooleanHashBag());
+    }
+
+    @Override
+    public MutableByteBag collectByte(ByteFunction<? super V> byteFunction)
+    {
+        return this.collectByte(byteFunction, new ByteHashBag());
+    }
+
+    @Override
+    public MutableCharBag collectChar(CharFunction<? super V> charFunction)
+    {
+        return this.collectChar(charFunction, new CharHashBag());
+    }
+
+    @Override
+    public MutableDoubleBag collectDouble(DoubleFunction<? super V> doubleFunction)
+    {
+        return this.collectDouble(doubleFunction, new DoubleHashBag());
+    }
+
+    @Override
+    public MutableFloatBag collectFloat(FloatFunction<? super V> floatFunction)
+    {
+        return this.collectFloat(floatFunction, new FloatHashBag());
+    }
+
+    @Override
+    public MutableIntBag collectInt(IntFunction<? super V> intFunction)
+    {
+        return this.collectInt(intFunction, new IntHashBag());
+    }
+
+    @Override
+    public MutableLongBag collectLong(LongFunction<? super V> longFunction)
+    {
+        return this.collectLong(longFunction, new LongHashBag());
+    }
+
+    @Override
+    public MutableShortBag collectShort(ShortFunction<? super V> shortFunction)
+    {
+        return this.collectShort(shortFunction, new ShortHashBag());
+    }
+
+    @Override
+    public <P, VV> MutableBag<VV> collectWith(Function2<? super V, ? super P, ? extends VV> function, P parameter)
+    {
+        return this.collect(Functions.bind(function, parameter));
+    }
+
+    @Override
+    public <VV> MutableBag<VV> collectIf(Predicate<? super V> predicate, Function<? super V, ? extends VV> function)
+    {
+        return this.collectIf(predicate, function, HashBag.newBag());
+    }
+
+    @Override
+    public <VV> MutableBag<VV> flatCollect(Function<? super V, ? extends Iterable<VV>> function)
+    {
+        return this.flatCollect(function, HashBag.newBag());
+    }
+
+    @Override
+    public <VV> MutableBagMultimap<VV, V> groupBy(Function<? super V, ? extends VV> function)
+    {
+        return this.groupBy(function, HashBagMultimap.<VV, V>newMultimap());
+    }
+
+    @Override
+    public <VV> MutableBagMultimap<VV, V> groupByEach(Function<? super V, ? extends Iterable<VV>> function)
+    {
+        return this.groupByEach(function, HashBagMultimap.<VV, V>newMultimap());
+    }
+
+    @Override
+    public <K, VV> MutableMap<K, VV> aggregateInPlaceBy(Function<? super V, ? extends K> groupBy, Function0<? extends VV> zeroValueFactory, Procedure2<? super VV, ? super V> mutatingAggregator)
+    {
+        MutableMap<K, VV> map = UnifiedMap.newMap();
+        this.forEach(new MutatingAggregationProcedure<V, K, VV>(map, groupBy, zeroValueFactory, mutatingAggregator));
+        return map;
+    }
+
+    /**
+     * @deprecated in 7.0. Use {@link org.eclipse.collections.api.ordered.OrderedIterable#zip(Iterable)} instead.
+     */
+    @Deprecated
+    @Override
+    public <S> MutableBag<Pair<V, S>> zip(Iterable<S> that)
+    {
+        return this.zip(that, HashBag.newBag());
+    }
+
+    /**
+     * @deprecated in 7.0. Use {@link org.eclipse.collections.api.ordered.OrderedIterable#zipWithIndex()} instead.
+     */
+    @Deprecated
+    @Override
+    public MutableSet<Pair<V, Integer>> zipWithIndex()
+    {
+        return this.zipWithIndex(UnifiedSet.<Pair<V, Integer>>newSet());
+    }
+
+    @Override
+    public RichIterable<RichIterable<V>> chunk(int size)
+    {
+        if (size <= 0)
+        {
+            throw new IllegalArgumentException("Size for groups must be positive but was: " + size);
+        }
+        MutableList<RichIterable<V>> result = Lists.mutable.empty();
+        MutableList<V>[] batch = new MutableList[1];
+        this.each(value ->
+        {
+            if (batch[0] == null || batch[0].size() == size)
+            {
+                batch[0] = Lists.mutable.empty();
+                result.add(batch[0]);
+            }
+            batch[0].add(value);
+        });
+        return result;
+    }
+
+    @Override
+    public <V1> MutableObjectLongMap<V1> sumByInt(Function<? super V, ? extends V1> groupBy, IntFunction<? super V> function)
+    {
+        MutableObjectLongMap<V1> result = ObjectLongMaps.mutable.empty();
+        return this.injectInto(result, PrimitiveFunctions.sumByIntFunction(groupBy, function));
+    }
+
+    @Override
+    public <V1> MutableObjectDoubleMap<V1> sumByFloat(Function<? super V, ? extends V1> groupBy, FloatFunction<? super V> function)
+    {
+        MutableObjectDoubleMap<V1> result = ObjectDoubleMaps.mutable.empty();
+        return this.injectInto(result, PrimitiveFunctions.sumByFloatFunction(groupBy, function));
+    }
+
+    @Override
+    public <V1> MutableObjectLongMap<V1> sumByLong(Function<? super V, ? extends V1> groupBy, LongFunction<? super V> function)
+    {
+        MutableObjectLongMap<V1> result = ObjectLongMaps.mutable.empty();
+        return this.injectInto(result, PrimitiveFunctions.sumByLongFunction(groupBy, function));
+    }
+
+    @Override
+    public <V1> MutableObjectDoubleMap<V1> sumByDouble(Function<? super V, ? extends V1> groupBy, DoubleFunction<? super V> function)
+    {
+        MutableObjectDoubleMap<V1> result = ObjectDoubleMaps.mutable.empty();
+        return this.injectInto(result, PrimitiveFunctions.sumByDoubleFunction(groupBy, function));
+    }
+
+    @Override
+    public V getFirst()
+    {
+        return ConcurrentLongObjectSkipListMap.unmask(this.detectValue(each -> true));
+    }
+
+    @Override
+    public V getLast()
+    {
+        Node node = this.lastNode();
+        return node == null ? null : ConcurrentLongObjectSkipListMap.unmask(node.getValidValue());
+    }
+
+    @Override
+    public void clear()
+    {
+        this.detectNode((key, value) ->
+        {
+            this.skipList.remove(key, null);
+            return false;
+        });
+    }
+
+    @Override
+    public V put(long key, V value)
+    {
+        this.checkInRange(key);
+        return ConcurrentLongObjectSkipListMap.unmask(this.skipList.put(key, ConcurrentLongObjectSkipListMap.mask(value), false));
+    }
+
+    /**
+     * Associates the value with the key unless the key is already present, and returns the value that was present, or
+     * null if there was none.
+     */
+    public V putIfAbsent(long key, V value)
+    {
+        this.checkInRange(key);
+        return ConcurrentLongObjectSkipListMap.unmask(this.skipList.put(key, ConcurrentLongObjectSkipListMap.mask(value), true));
+    }
+
+    /**
+     * Replaces the value of the key only if it is currently mapped to a value equal to {@code oldValue}.
+     */
+    public boolean replace(long key, V oldValue, V newValue)
+    {
+        if (!this.inRange(key))
+        {
+            return false;
+        }
+        while (true)
+        {
+            Object current = this.skipList.get(key);
+            if (current == null || !Objects.equals(ConcurrentLongObjectSkipListMap.unmask(current), oldValue))
+            {
+                return false;
+            }
+            if (this.skipList.replace(key, current, ConcurrentLongObjectSkipListMap.mask(newValue)))
+            {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Removes the key only if it is currently mapped to a value equal to {@code value}.
+     */
+    public boolean remove(long key, Object value)
+    {
+        if (!this.inRange(key))
+        {
+            return false;
+        }
+        while (true)
+        {
+            Object current = this.skipList.get(key);
+            if (current == null || !Objects.equals(ConcurrentLongObjectSkipListMap.unmask(current), value))
+            {
+                return false;
+            }
+            if (this.skipList.remove(key, current) != null)
+            {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void putAll(LongObjectMap<? extends V> map)
+    {
+        map.forEachKeyValue(this::put);
+    }
+
+    @Override
+    public V removeKey(long key)
+    {
+        return this.inRange(key) ? ConcurrentLongObjectSkipListMap.unmask(this.skipList.remove(key, null)) : null;
+    }
+
+    @Override
+    public V remove(long key)
+    {
+        return this.removeKey(key);
+    }
+
+    /**
+     * Removes the entries that satisfy the predicate. An entry is removed only if its value has not been replaced
+     * since the predicate saw it.
+     */
+    @Override
+    public boolean removeIf(LongObjectPredicate<? super V> predicate)
+    {
+        boolean[] changed = {false};
+        this.detectNode((key, value) ->
+        {
+            if (predicate.accept(key, ConcurrentLongObjectSkipListMap.unmask(value)) && this.skipList.remove(key, value) != null)
+            {
+                changed[0] = true;
+            }
+            return false;
+        });
+        return changed[0];
+    }
+
+    /**
+     * Puts the value unless the key is already present, and returns whichever value the key ends up with.
+     */
+    private V putIfAbsentAndGet(long key, V value)
+    {
+        Object previous = this.skipList.put(key, ConcurrentLongObjectSkipListMap.mask(value), true);
+        return previous == null ? value : ConcurrentLongObjectSkipListMap.unmask(previous);
+    }
+
+    @Override
+    public V getIfAbsentPut(long key, V value)
+    {
+        this.checkInRange(key);
+        Object current = this.skipList.get(key);
+        return current == null ? this.putIfAbsentAndGet(key, value) : ConcurrentLongObjectSkipListMap.unmask(current);
+    }
+
+    @Override
+    public V getIfAbsentPut(long key, Function0<? extends V> function)
+    {
+        this.checkInRange(key);
+        Object current = this.skipList.get(key);
+        return current == null ? this.putIfAbsentAndGet(key, function.value()) : ConcurrentLongObjectSkipListMap.unmask(current);
+    }
+
+    @Override
+    public V getIfAbsentPutWithKey(long key, LongToObjectFunction<? extends V> function)
+    {
+        this.checkInRange(key);
+        Object current = this.skipList.get(key);
+        return current == null ? this.putIfAbsentAndGet(key, function.valueOf(key)) : ConcurrentLongObjectSkipListMap.unmask(current);
+    }
+
+    @Override
+    public <P> V getIfAbsentPutWith(long key, Function<? super P, ? extends V> function, P parameter)
+    {
+        this.checkInRange(key);
+        Object current = this.skipList.get(key);
+        return current == null ? this.putIfAbsentAndGet(key, function.valueOf(parameter)) : ConcurrentLongObjectSkipListMap.unmask(current);
+    }
+
+    @Override
+    public V updateValue(long key, Function0<? extends V> factory, Function<? super V, ? extends V> function)
+    {
+        this.checkInRange(key);
+        while (true)
+        {
+            Object current = this.skipList.get(key);
+            if (current == null)
+            {
+                V value = function.valueOf(factory.value());
+                if (this.skipList.put(key, ConcurrentLongObjectSkipListMap.mask(value), true) == null)
+                {
+                    return value;
+                }
+            }
+            else
+            {
+                V value = function.valueOf(ConcurrentLongObjectSkipListMap.unmask(current));
+                if (this.skipList.replace(key, current, ConcurrentLongObjectSkipListMap.mask(value)))
+                {
+                    return value;
+                }
+            }
+        }
+    }
+
+    @Override
+    public <P> V updateValueWith(long key, Function0<? extends V> factory, Function2<? super V, ? super P, ? extends V> function, P parameter)
+    {
+        return this.updateValue(key, factory, each -> function.value(each, parameter));
+    }
+
+    @Override
+    public ConcurrentLongObjectSkipListMap<V> withKeyValue(long key, V value)
+    {
+        this.put(key, value);
+        return this;
+    }
+
+    @Override
+    public ConcurrentLongObjectSkipListMap<V> withoutKey(long key)
+    {
+        this.removeKey(key);
+        return this;
+    }
+
+    @Override
+    public ConcurrentLongObjectSkipListMap<V> withoutAllKeys(LongIterable keys)
+    {
+        keys.forEach(this::removeKey);
+        return this;
+    }
+
+    @Override
+    public MutableLongObjectMap<V> asUnmodifiable()
+    {
+        return new UnmodifiableLongObjectMap<>(this);
+    }
+
+    @Override
+    public MutableLongObjectMap<V> asSynchronized()
+    {
+        return new SynchronizedLongObjectMap<>(this);
+    }
+
+    @Override
+    public ImmutableLongObjectMap<V> toImmutable()
+    {
+        return LongObjectMaps.immutable.withAll(this);
+    }
+
+    @Override
+    public V get(long key)
+    {
+        return this.inRange(key) ? ConcurrentLongObjectSkipListMap.unmask(this.skipList.get(key)) : null;
+    }
+
+    @Override
+    public V getIfAbsent(long key, Function0<? extends V> ifAbsent)
+    {
+        Object value = this.inRange(key) ? this.skipList.get(key) : null;
+        return value == null ? ifAbsent.value() : ConcurrentLongObjectSkipListMap.unmask(value);
+    }
+
+    @Override
+    public boolean containsKey(long key)
+    {
+        return this.inRange(key) && this.skipList.get(key) != null;
+    }
+
+    @Override
+    public LazyLongIterable keysView()
+    {
+        return new KeysView();
+    }
+
+    @Override
+    public RichIterable<LongObjectPair<V>> keyValuesView()
+    {
+        return new KeyValuesView();
+    }
+
+    @Override
+    public MutableObjectLongMap<V> flipUniqueValues()
+    {
+        MutableObjectLongMap<V> result = ObjectLongMaps.mutable.empty();
+        this.forEachKeyValue((key, value) ->
+        {
+            if (result.containsKey(value))
+            {
+                throw new IllegalStateException("Duplicate value: " + value + " found at key: " + result.get(value) + " and key: " + key);
+            }
+            result.put(value, key);
+        });
+        return result;
+    }
+
+    @Override
+    public ConcurrentLongObjectSkipListMap<V> select(LongObjectPredicate<? super V> predicate)
+    {
+        ConcurrentLongObjectSkipListMap<V> result = new ConcurrentLongObjectSkipListMap<>();
+        this.forEachKeyValue((key, value) ->
+        {
+            if (predicate.accept(key, value))
+            {
+                result.put(key, value);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public ConcurrentLongObjectSkipListMap<V> reject(LongObjectPredicate<? super V> predicate)
+    {
+        ConcurrentLongObjectSkipListMap<V> result = new ConcurrentLongObjectSkipListMap<>();
+        this.forEachKeyValue((key, value) ->
+        {
+            if (!predicate.accept(key, value))
+            {
+                result.put(key, value);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public long firstKey()
+    {
+        Node node = this.firstNode();
+        if (node == null)
+        {
+            throw new NoSuchElementException();
+        }
+        return node.key;
+    }
+
+    @Override
+    public long lastKey()
+    {
+        Node node = this.lastNode();
+        if (node == null)
+        {
+            throw new NoSuchElementException();
+        }
+        return node.key;
+    }
+
+    @Override
+    public long floorKey(long key, long ifNone)
+    {
+        if (this.tooLow(key))
+        {
+            return ifNone;
+        }
+        Node node = this.tooHigh(key) ? this.lastNode() : this.skipList.findNear(key, SkipList.LT | SkipList.EQ);
+        return node == null || this.tooLow(node.key) ? ifNone : node.key;
+    }
+
+    @Override
+    public long ceilingKey(long key, long ifNone)
+    {
+        if (this.tooHigh(key))
+        {
+            return ifNone;
+        }
+        Node node = this.tooLow(key) ? this.firstNode() : this.skipList.findNear(key, SkipList.GT | SkipList.EQ);
+        return node == null || this.tooHigh(node.key) ? ifNone : node.key;
+    }
+
+    @Override
+    public long lowerKey(long key, long ifNone)
+    {
+        if (this.hasLow && key <= this.low)
+        {
+            return ifNone;
+        }
+        Node node = this.tooHigh(key) ? this.lastNode() : this.skipList.findNear(key, SkipList.LT);
+        return node == null || this.tooLow(node.key) ? ifNone : node.key;
+    }
+
+    @Override
+    public long higherKey(long key, long ifNone)
+    {
+        if (this.tooHigh(key))
+        {
+            return ifNone;
+        }
+        Node node = this.tooLow(key) ? this.firstNode() : this.skipList.findNear(key, SkipList.GT);
+        return node == null || this.tooHigh(node.key) ? ifNone : node.key;
+    }
+
+    private void checkBound(long bound, String name)
+    {
+        if (!this.inClosedRange(bound))
+        {
+            throw new IllegalArgumentException(name + " out of range");
+        }
+    }
+
+    @Override
+    public ConcurrentLongObjectSkipListMap<V> subMap(long fromKey, long toKey)
+    {
+        if (fromKey > toKey)
+        {
+            throw new IllegalArgumentException("fromKey > toKey");
+        }
+        this.checkBound(fromKey, "fromKey");
+        this.checkBound(toKey, "toKey");
+        return new ConcurrentLongObjectSkipListMap<>(this.skipList, fromKey, true, toKey, true);
+    }
+
+    @Override
+    public ConcurrentLongObjectSkipListMap<V> headMap(long toKey)
+    {
+        this.checkBound(toKey, "toKey");
+        return new ConcurrentLongObjectSkipListMap<>(this.skipList, this.low, this.hasLow, toKey, true);
+    }
+
+    @Override
+    public ConcurrentLongObjectSkipListMap<V> tailMap(long fromKey)
+    {
+        this.checkBound(fromKey, "fromKey");
+        return new ConcurrentLongObjectSkipListMap<>(this.skipList, fromKey, true, this.high, this.hasHigh);
+    }
+
+    @Override
+    public MutableLongSet keySet()
+    {
+        return new KeySet();
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    /**
+     * Writes a snapshot of the entries in key order. A range view is written as a map of its own, without its bounds.
+     */
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        LongArrayList keys = new LongArrayList();
+        MutableList<V> values = Lists.mutable.empty();
+        this.forEachKeyValue((key, value) ->
+        {
+            keys.add(key);
+            values.add(value);
+        });
+        out.writeInt(keys.size());
+        for (int i = 0; i < keys.size(); i++)
+        {
+            out.writeLong(keys.get(i));
+            out.writeObject(values.get(i));
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        this.skipList = new SkipList();
+        this.hasLow = false;
+        this.hasHigh = false;
+        int size = in.readInt();
+        for (int i = 0; i < size; i++)
+        {
+            this.skipList.put(in.readLong(), ConcurrentLongObjectSkipListMap.mask(in.readObject()), false);
+        }
+    }
+
+    /**
+     * A node of the bottom level of the skip list. A node whose value is null has been deleted, and a node whose
+     * value is itself is a marker appended after a deleted node so that no insert can follow it.
+     */
+    private static final class Node
+    {
+        private static final AtomicReferenceFieldUpdater<Node, Object> VALUE_UPDATER =
+                AtomicReferenceFieldUpdater.newUpdater(Node.class, Object.class, "value");
+        private static final AtomicReferenceFieldUpdater<Node, Node> NEXT_UPDATER =
+                AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+
+        private final long key;
+        private volatile Object value;
+        private volatile Node next;
+
+        private Node(long key, Object value, Node next)
+        {
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+
+        private Node(Node next)
+        {
+            this.key = 0L;
+            this.value = this;
+            this.next = next;
+        }
+
+        private boolean casValue(Object expected, Object value)
+        {
+            return VALUE_UPDATER.compareAndSet(this, expected, value);
+        }
+
+        private boolean casNext(Node expected, Node next)
+        {
+            return NEXT_UPDATER.compareAndSet(this, expected, next);
+        }
+
+        private boolean isBaseHeader()
+        {
+            return this.value == SkipList.BASE_HEADER;
+        }
+
+        private boolean appendMarker(Node next)
+        {
+            return this.casNext(next, new Node(next));
+        }
+
+        /**
+         * Helps a deletion along: appends the marker after this deleted node, or unlinks the node and its marker from
+         * its predecessor.
+         */
+        private void helpDelete(Node predecessor, Node next)
+        {
+            if (next == this.next && this == predecessor.next)
+            {
+                if (next == null || next.value != next)
+                {
+                    this.casNext(next, new Node(next));
+                }
+                else
+                {
+                    predecessor.casNext(this, next.next);
+                }
+            }
+        }
+
+        /**
+         * Returns the stored value, or null if this node is deleted, a marker or the base header.
+         */
+        private Object getValidValue()
+        {
+            Object value = this.value;
+            return value == this || value == SkipList.BASE_HEADER ? null : value;
+        }
+    }
+
+    private static class Index
+    {
+        private static final AtomicReferenceFieldUpdater<Index, Index> RIGHT_UPDATER =
+                AtomicReferenceFieldUpdater.newUpdater(Index.class, Index.class, "right");
+
+        final Node node;
+        final Index down;
+        volatile Index right;
+
+        private Index(Node node, Index down, Index right)
+        {
+            this.node = node;
+            this.down = down;
+            this.right = right;
+        }
+
+        private boolean indexesDeletedNode()
+        {
+            return this.node.value == null;
+        }
+
+        private boolean link(Index successor, Index newSuccessor)
+        {
+            newSuccessor.right = successor;
+            return this.node.value != null && RIGHT_UPDATER.compareAndSet(this, successor, newSuccessor);
+        }
+
+        private boolean unlink(Index successor)
+        {
+            return this.node.value != null && RIGHT_UPDATER.compareAndSet(this, successor, successor.right);
+        }
+    }
+
+    private static final class HeadIndex extends Index
+    {
+        private final int level;
+
+        private HeadIndex(Node node, Index down, Index right, int level)
+        {
+            super(node, down, right);
+            this.level = level;
+        }
+    }
+
+    /**
+     * The skip list shared by a map and its range views. The algorithm is the one of
+     * {@link java.util.concurrent.ConcurrentSkipListMap}: inserts and removals publish themselves with a single
+     * compare-and-set on the bottom level, a removal first nulls the value and then unlinks the node behind a marker,
+     * and the index levels above are maintained lazily, so any thread that meets a deleted node helps to unlink it.
+     */
+    private static final class SkipList
+    {
+        private static final int GT = 0;
+        private static final int EQ = 1;
+        private static final int LT = 2;
+
+        private static final Object BASE_HEADER = new Object();
+
+        private static final AtomicReferenceFieldUpdater<SkipList, HeadIndex> HEAD_UPDATER =
+                AtomicReferenceFieldUpdater.newUpdater(SkipList.class, HeadIndex.class, "head");
+
+        private volatile HeadIndex head = new HeadIndex(new Node(0L, BASE_HEADER, null), null, null, 1);
+        private final LongAdder size = new LongAdder();
+
+        private boolean casHead(HeadIndex expected, HeadIndex head)
+        {
+            return HEAD_UPDATER.compareAndSet(this, expected, head);
+        }
+
+        /**
+         * Returns a node with a key lower than the given key from the lowest index level that has one, unlinking
+         * index entries of deleted nodes on the way.
+         */
+        private Node findPredecessor(long key)
+        {
+            while (true)
+            {
+                Index q = this.head;
+                Index r = q.right;
+                while (true)
+                {
+                    if (r != null)
+                    {
+                        Node n = r.node;
+                        if (n.value == null)
+                        {
+                            if (!q.unlink(r))
+                            {
+                                break;
+                            }
+                            r = q.right;
+                            continue;
+                        }
+                        if (key > n.key)
+                        {
+                            q = r;
+                            r = r.right;
+                            continue;
+                        }
+                    }
+                    Index d = q.down;
+                    if (d == null)
+                    {
+                        return q.node;
+                    }
+                    q = d;
+                    r = d.right;
+                }
+            }
+        }
+
+        private Node findNode(long key)
+        {
+            outer:
+            while (true)
+            {
+                Node b = this.findPredecessor(key);
+                Node n = b.next;
+                while (true)
+                {
+                    if (n == null)
+                    {
+                        break outer;
+                    }
+                    Node f = n.next;
+                    if (n != b.next)
+                    {
+                        break;
+                    }
+                    Object v = n.value;
+                    if (v == null)
+                    {
+                        n.helpDelete(b, f);
+                        break;
+                    }
+                    if (b.value == null || v == n)
+                    {
+                        break;
+                    }
+                    if (key == n.key)
+                    {
+                        return n;
+                    }
+                    if (key < n.key)
+                    {
+                        break outer;
+                    }
+                    b = n;
+                    n = f;
+                }
+            }
+            return null;
+        }
+
+        private Object get(long key)
+        {
+            outer:
+            while (true)
+            {
+                Node b = this.findPredecessor(key);
+                Node n = b.next;
+                while (true)
+                {
+                    if (n == null)
+                    {
+                        break outer;
+                    }
+                    Node f = n.next;
+                    if (n != b.next)
+                    {
+                        break;
+                    }
+                    Object v = n.value;
+                    if (v == null)
+                    {
+                        n.helpDelete(b, f);
+                        break;
+                    }
+                    if (b.value == null || v == n)
+                    {
+                        break;
+                    }
+                    if (key == n.key)
+                    {
+                        return v;
+                    }
+                    if (key < n.key)
+                    {
+                        break outer;
+                    }
+                    b = n;
+                    n = f;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns the previous value, or null if the key was absent. With {@code onlyIfAbsent} an existing value is
+         * left in place.
+         */
+        private Object put(long key, Object value, boolean onlyIfAbsent)
+        {
+            Node z;
+            outer:
+            while (true)
+            {
+                Node b = this.findPredecessor(key);
+                Node n = b.next;
+                while (true)
+                {
+                    if (n != null)
+                    {
+                        Node f = n.next;
+                        if (n != b.next)
+                        {
+                            break;
+                        }
+                        Object v = n.value;
+                        if (v == null)
+                        {
+                            n.helpDelete(b, f);
+                            break;
+                        }
+                        if (b.value == null || v == n)
+                        {
+                            break;
+                        }
+                        if (key > n.key)
+                        {
+                            b = n;
+                            n = f;
+                            continue;
+                        }
+                        if (key == n.key)
+                        {
+                            if (onlyIfAbsent || n.casValue(v, value))
+                            {
+                                return v;
+                            }
+                            break;
+                        }
+                    }
+                    z = new Node(key, value, n);
+                    if (!b.casNext(n, z))
+                    {
+                        break;
+                    }
+                    break outer;
+                }
+            }
+            this.size.increment();
+            this.addIndex(z);
+            return null;
+        }
+
+        /**
+         * Gives the new node a tower of index entries of a random height, one level in four on average, adding a
+         * level to the head when the tower is higher than it.
+         */
+        private void addIndex(Node z)
+        {
+            int rnd = ThreadLocalRandom.current().nextInt();
+            if ((rnd & 0x80000001) != 0)
+            {
+                return;
+            }
+            int level = 1;
+            while (((rnd >>>= 1) & 1) != 0)
+            {
+                level++;
+            }
+            Index idx = null;
+            HeadIndex h = this.head;
+            int max = h.level;
+            if (level <= max)
+            {
+                for (int i = 1; i <= level; i++)
+                {
+                    idx = new Index(z, idx, null);
+                }
+            }
+            else
+            {
+                level = max + 1;
+                Index[] idxs = new Index[level + 1];
+                for (int i = 1; i <= level; i++)
+                {
+                    idx = new Index(z, idx, null);
+                    idxs[i] = idx;
+                }
+                while (true)
+                {
+                    h = this.head;
+                    int oldLevel = h.level;
+                    if (level <= oldLevel)
+                    {
+                        break;
+                    }
+                    HeadIndex newh = h;
+                    Node oldbase = h.node;
+                    for (int j = oldLevel + 1; j <= level; j++)
+                    {
+                        newh = new HeadIndex(oldbase, newh, idxs[j], j);
+                    }
+                    if (this.casHead(h, newh))
+                    {
+                        h = newh;
+                        level = oldLevel;
+                        idx = idxs[level];
+                        break;
+                    }
+                }
+            }
+            long key = z.key;
+            splice:
+            for (int insertionLevel = level; ; )
+            {
+                int j = h.level;
+                Index q = h;
+                Index r = q.right;
+                Index t = idx;
+                while (true)
+                {
+                    if (q == null || t == null)
+                    {
+                        break splice;
+                    }
+                    if (r != null)
+                    {
+                        Node n = r.node;
+                        if (n.value == null)
+                        {
+                            if (!q.unlink(r))
+                            {
+                                break;
+                            }
+                            r = q.right;
+                            continue;
+                        }
+                        if (key > n.key)
+                        {
+                            q = r;
+                            r = r.right;
+                            continue;
+                        }
+                    }
+                    if (j == insertionLevel)
+                    {
+                        if (!q.link(r, t))
+                        {
+                            break;
+                        }
+                        if (t.node.value == null)
+                        {
+                            this.findNode(key);
+                            break splice;
+                        }
+                        if (--insertionLevel == 0)
+                        {
+                            break splice;
+                        }
+                    }
+                    if (--j >= insertionLevel && j < level)
+                    {
+                        t = t.down;
+                    }
+                    q = q.down;
+                    r = q.right;
+                }
+            }
+        }
+
+        /**
+         * Removes the key and returns its value, or null if it was absent. With an expected value the key is removed
+         * only if it is mapped to that very object.
+         */
+        private Object remove(long key, Object expected)
+        {
+            outer:
+            while (true)
+            {
+                Node b = this.findPredecessor(key);
+                Node n = b.next;
+                while (true)
+                {
+                    if (n == null)
+                    {
+                        break outer;
+                    }
+                    Node f = n.next;
+                    if (n != b.next)
+                    {
+                        break;
+                    }
+                    Object v = n.value;
+                    if (v == null)
+                    {
+                        n.helpDelete(b, f);
+                        break;
+                    }
+                    if (b.value == null || v == n)
+                    {
+                        break;
+                    }
+                    if (key < n.key)
+                    {
+                        break outer;
+                    }
+                    if (key > n.key)
+                    {
+                        b = n;
+                        n = f;
+                        continue;
+                    }
+                    if (expected != null && v != expected)
+                    {
+                        break outer;
+                    }
+                    if (!n.casValue(v, null))
+                    {
+                        break;
+                    }
+                    this.size.decrement();
+                    if (!n.appendMarker(f) || !b.casNext(n, f))
+                    {
+                        this.findNode(key);
+                    }
+                    else
+                    {
+                        this.findPredecessor(key);
+                        if (this.head.right == null)
+                        {
+                            this.tryReduceLevel();
+                        }
+                    }
+                    return v;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Replaces the value of the key only if it is mapped to that very object.
+         */
+        private boolean replace(long key, Object expected, Object value)
+        {
+            while (true)
+            {
+                Node n = this.findNode(key);
+                if (n == null)
+                {
+                    return false;
+                }
+                Object v = n.value;
+                if (v != null)
+                {
+                    if (v != expected)
+                    {
+                        return false;
+                    }
+                    if (n.casValue(v, value))
+                    {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Drops the top level when the three top levels look empty, and puts it back if an insert raced in.
+         */
+        private void tryReduceLevel()
+        {
+            HeadIndex h = this.head;
+            if (h.level > 3)
+            {
+                HeadIndex d = (HeadIndex) h.down;
+                HeadIndex e = d == null ? null : (HeadIndex) d.down;
+                if (e != null
+                        && e.right == null
+                        && d.right == null
+                        && h.right == null
+                        && this.casHead(h, d)
+                        && h.right != null)
+                {
+                    this.casHead(d, h);
+                }
+            }
+        }
+
+        private Node findFirst()
+        {
+            while (true)
+            {
+                Node b = this.head.node;
+                Node n = b.next;
+                if (n == null)
+                {
+                    return null;
+                }
+                if (n.value != null)
+                {
+                    return n;
+                }
+                n.helpDelete(b, n.next);
+            }
+        }
+
+        private Node findLast()
+        {
+            Index q = this.head;
+            while (true)
+            {
+                Index r = q.right;
+                if (r != null)
+                {
+                    if (r.indexesDeletedNode())
+                    {
+                        q.unlink(r);
+                        q = this.head;
+                    }
+                    else
+                    {
+                        q = r;
+                    }
+                }
+                else if (q.down != null)
+                {
+                    q = q.down;
+                }
+                else
+                {
+                    Node b = q.node;
+                    Node n = b.next;
+                    while (true)
+                    {
+                        if (n == null)
+                        {
+                            return b.isBaseHeader() ? null : b;
+                        }
+                        Node f = n.next;
+                        if (n != b.next)
+                        {
+                            break;
+                        }
+                        Object v = n.value;
+                        if (v == null)
+                        {
+                            n.helpDelete(b, f);
+                            break;
+                        }
+                        if (b.value == null || v == n)
+                        {
+                            break;
+                        }
+                        b = n;
+                        n = f;
+                    }
+                    q = this.head;
+                }
+            }
+        }
+
+        /**
+         * Returns the node nearest to the key in the direction given by {@code relation}, a combination of
+         * {@link #LT} or {@link #GT} with {@link #EQ}, or null if there is none.
+         */
+        private Node findNear(long key, int relation)
+        {
+            while (true)
+            {
+                Node b = this.findPredecessor(key);
+                Node n = b.next;
+                while (true)
+                {
+                    if (n == null)
+                    {
+                        return (relation & LT) == 0 || b.isBaseHeader() ? null : b;
+                    }
+                    Node f = n.next;
+                    if (n != b.next)
+                    {
+                        break;
+                    }
+                    Object v = n.value;
+                    if (v == null)
+                    {
+                        n.helpDelete(b, f);
+                        break;
+                    }
+                    if (b.value == null || v == n)
+                    {
+                        break;
+                    }
+                    if (key == n.key && (relation & EQ) != 0 || key < n.key && (relation & LT) == 0)
+                    {
+                        return n;
+                    }
+                    if (key <= n.key && (relation & LT) != 0)
+                    {
+                        return b.isBaseHeader() ? null : b;
+                    }
+                    b = n;
+                    n = f;
+                }
+            }
+        }
+    }
+
+    /**
+     * Visits the live entries of the map or view in key order. The iterator holds on to the value it read with the
+     * node, so an entry removed after {@link #hasNext()} is still returned.
+     */
+    private class EntryIterator
+    {
+        private Node next;
+        private Object nextValue;
+        protected Node lastReturned;
+        protected Object lastValue;
+
+        private EntryIterator()
+        {
+            this.findLive(ConcurrentLongObjectSkipListMap.this.firstNode());
+        }
+
+        private void findLive(Node node)
+        {
+            for (Node each = node; each != null; each = each.next)
+            {
+                Object value = each.getValidValue();
+                if (value != null)
+                {
+                    if (ConcurrentLongObjectSkipListMap.this.tooHigh(each.key))
+                    {
+                        break;
+                    }
+                    this.next = each;
+                    this.nextValue = value;
+                    return;
+                }
+            }
+            this.next = null;
+            this.nextValue = null;
+        }
+
+        public boolean hasNext()
+        {
+            return this.next != null;
+        }
+
+        protected void advance()
+        {
+            if (this.next == null)
+            {
+                throw new NoSuchElementException();
+            }
+            this.lastReturned = this.next;
+            this.lastValue = this.nextValue;
+            this.findLive(this.next.next);
+        }
+
+        public void remove()
+        {
+            if (this.lastReturned == null)
+            {
+                throw new IllegalStateException();
+            }
+            ConcurrentLongObjectSkipListMap.this.skipList.remove(this.lastReturned.key, null);
+            this.lastReturned = null;
+        }
+    }
+
+    private class KeyIterator extends EntryIterator implements MutableLongIterator
+    {
+        @Override
+        public long next()
+        {
+            this.advance();
+            return this.lastReturned.key;
+        }
+    }
+
+    private class KeysView extends AbstractLazyLongIterable
+    {
+        @Override
+        public LongIterator longIterator()
+        {
+            return new UnmodifiableLongIterator(new KeyIterator());
+        }
+
+        @Override
+        public void each(LongProcedure procedure)
+        {
+            ConcurrentLongObjectSkipListMap.this.forEachKey(procedure);
+        }
+    }
+
+    /**
+     * The keys of the map or view, in ascending order. Removing a key removes its mapping; adding is not supported.
+     * A key set is serialized as a copy of its keys.
+     */
+    private class KeySet extends AbstractLongSet implements MutableLongSet, Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private Object writeReplace()
+        {
+            return ConcurrentLongSkipListSet.newSet(this);
+        }
+
+        private Node detectKeyNode(LongPredicate predicate)
+        {
+            return ConcurrentLongObjectSkipListMap.this.detectNode((key, value) -> predicate.accept(key));
+        }
+
+        @Override
+        public MutableLongIterator longIterator()
+        {
+            return new KeyIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return ConcurrentLongObjectSkipListMap.this.size();
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return ConcurrentLongObjectSkipListMap.this.isEmpty();
+        }
+
+        @Override
+        public boolean contains(long value)
+        {
+            return ConcurrentLongObjectSkipListMap.this.containsKey(value);
+        }
+
+        @Override
+        public void each(LongProcedure procedure)
+        {
+            ConcurrentLongObjectSkipListMap.this.forEachKey(procedure);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            int[] result = {0};
+            this.each(key -> result[0] += (int) (key ^ key >>> 32));
+            return result[0];
+        }
+
+        @Override
+        public void appendString(Appendable appendable, String start, String separator, String end)
+        {
+            try
+            {
+                appendable.append(start);
+                LongIterator iterator = this.longIterator();
+                if (iterator.hasNext())
+                {
+                    appendable.append(String.valueOf(iterator.next()));
+                    while (iterator.hasNext())
+                    {
+                        appendable.append(separator);
+                        appendable.append(String.valueOf(iterator.next()));
+                    }
+                }
+                appendable.append(end);
+            }
+            catch (IOException e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public long[] toArray()
+        {
+            LongArrayList keys = new LongArrayList();
+            this.each(keys::add);
+            return keys.toArray();
+        }
+
+        @Override
+        public boolean add(long element)
+        {
+            throw new UnsupportedOperationException("Cannot call add() on " + this.getClass().getSimpleName());
+        }
+
+        @Override
+        public boolean addAll(long... source)
+        {
+            throw new UnsupportedOperationException("Cannot call addAll() on " + this.getClass().getSimpleName());
+        }
+
+        @Override
+        public boolean addAll(LongIterable source)
+        {
+            throw new UnsupportedOperationException("Cannot call addAll() on " + this.getClass().getSimpleName());
+        }
+
+        @Override
+        public boolean remove(long value)
+        {
+            return ConcurrentLongObjectSkipListMap.this.inRange(value)
+                    && ConcurrentLongObjectSkipListMap.this.skipList.remove(value, null) != null;
+        }
+
+        @Override
+        public boolean removeAll(LongIterable source)
+        {
+            boolean[] changed = {false};
+            source.forEach(value -> changed[0] |= this.remove(value));
+            return changed[0];
+        }
+
+        @Override
+        public boolean removeAll(long... source)
+        {
+            boolean changed = false;
+            for (long value : source)
+            {
+                changed |= this.remove(value);
+            }
+            return changed;
+        }
+
+        @Override
+        public boolean retainAll(LongIterable source)
+        {
+            LongSet sourceSet = source instanceof LongSet ? (LongSet) source : source.toSet();
+            return ConcurrentLongObjectSkipListMap.this.removeIf((key, value) -> !sourceSet.contains(key));
+        }
+
+        @Override
+        public boolean retainAll(long... source)
+        {
+            return this.retainAll(LongHashSet.newSetWith(source));
+        }
+
+        @Override
+        public void clear()
+        {
+            ConcurrentLongObjectSkipListMap.this.clear();
+        }
+
+        @Override
+        public MutableLongSet with(long element)
+        {
+            throw new UnsupportedOperationException("Cannot call with() on " + this.getClass().getSimpleName());
+        }
+
+        @Override
+        public MutableLongSet without(long element)
+        {
+            this.remove(element);
+            return this;
+        }
+
+        @Override
+        public MutableLongSet withAll(LongIterable elements)
+        {
+            throw new UnsupportedOperationException("Cannot call withAll() on " + this.getClass().getSimpleName());
+        }
+
+        @Override
+        public MutableLongSet withoutAll(LongIterable elements)
+        {
+            this.removeAll(elements);
+            return this;
+        }
+
+        @Override
+        public MutableLongSet select(LongPredicate predicate)
+        {
+            return this.select(predicate, new ConcurrentLongSkipListSet());
+        }
+
+        @Override
+        public MutableLongSet reject(LongPredicate predicate)
+        {
+            return this.reject(predicate, new ConcurrentLongSkipListSet());
+        }
+
+        @Override
+        public <V> MutableSet<V> collect(LongToObjectFunction<? extends V> function)
+        {
+            return this.collect(function, UnifiedSet.newSet());
+        }
+
+        @Override
+        public long detectIfNone(LongPredicate predicate, long ifNone)
+        {
+            Node node = this.detectKeyNode(predicate);
+            return node == null ? ifNone : node.key;
+        }
+
+        @Override
+        public int count(LongPredicate predicate)
+        {
+            int[] count = {0};
+            this.each(key ->
+            {
+                if (predicate.accept(key))
+                {
+                    count[0]++;
+                }
+            });
+            return count[0];
+        }
+
+        @Override
+        public boolean anySatisfy(LongPredicate predicate)
+        {
+            return this.detectKeyNode(predicate) != null;
+        }
+
+        @Override
+        public boolean allSatisfy(LongPredicate predicate)
+        {
+            return this.detectKeyNode(key -> !predicate.accept(key)) == null;
+        }
+
+        @Override
+        public boolean noneSatisfy(LongPredicate predicate)
+        {
+            return this.detectKeyNode(predicate) == null;
+        }
+
+        @Override
+        public long sum()
+        {
+            long[] result = {0L};
+            this.each(key -> result[0] += key);
+            return result[0];
+        }
+
+        @Override
+        public long max()
+        {
+            return ConcurrentLongObjectSkipListMap.this.lastKey();
+        }
+
+        @Override
+        public long min()
+        {
+            return ConcurrentLongObjectSkipListMap.this.firstKey();
+        }
+
+        @Override
+        public <T> T injectInto(T injectedValue, ObjectLongToObjectFunction<? super T, ? extends T> function)
+        {
+            Object[] result = {injectedValue};
+            this.each(key -> result[0] = function.valueOf((T) result[0], key));
+            return (T) result[0];
+        }
+
+        @Override
+        public RichIterable<LongIterable> chunk(int size)
+        {
+            if (size <= 0)
+            {
+                throw new IllegalArgumentException("Size for groups must be positive but was: " + size);
+            }
+            MutableList<LongIterable> result = Lists.mutable.empty();
+            MutableLongSet[] batch = new MutableLongSet[1];
+            this.each(key ->
+            {
+                if (batch[0] == null || batch[0].size() == size)
+                {
+                    batch[0] = new ConcurrentLongSkipListSet();
+                    result.add(batch[0]);
+                }
+                batch[0].add(key);
+            });
+            return result;
+        }
+
+        @Override
+        public MutableSet<Long> boxed()
+        {
+            return new BoxedMutableLongSet(this);
+        }
+
+        @Override
+        public MutableLongSet asUnmodifiable()
+        {
+            return new UnmodifiableLongSet(this);
+        }
+
+        @Override
+        public MutableLongSet asSynchronized()
+        {
+            return new SynchronizedLongSet(this);
+        }
+
+        @Override
+        public ImmutableLongSet toImmutable()
+        {
+            return LongSets.immutable.withAll(this);
+        }
+
+        @Override
+        public LongSet freeze()
+        {
+            return this.toImmutable();
+        }
+
+        @Override
+        public MutableLongSet newEmpty()
+        {
+            return new ConcurrentLongSkipListSet();
+        }
+    }
+
+    private class ValueIterator extends EntryIterator implements Iterator<V>
+    {
+        @Override
+        public V next()
+        {
+            this.advance();
+            return ConcurrentLongObjectSkipListMap.unmask(this.lastValue);
+        }
+    }
+
+    private class PairIterator extends EntryIterator implements Iterator<LongObjectPair<V>>
+    {
+        @Override
+        public LongObjectPair<V> next()
+        {
+            this.advance();
+            return PrimitiveTuples.pair(this.lastReturned.key, ConcurrentLongObjectSkipListMap.unmask(this.lastValue));
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+
+    private class KeyValuesView extends AbstractLazyIterable<LongObjectPair<V>>
+    {
+        @Override
+        public void each(Procedure<? super LongObjectPair<V>> procedure)
+        {
+            ConcurrentLongObjectSkipListMap.this.forEachKeyValue((key, value) -> procedure.value(PrimitiveTuples.pair(key, value)));
+        }
+
+        @Override
+        public void forEachWithIndex(ObjectIntProcedure<? super LongObjectPair<V>> objectIntProcedure)
+        {
+            int[] index = {0};
+            ConcurrentLongObjectSkipListMap.this.forEachKeyValue((key, value) -> objectIntProcedure.value(PrimitiveTuples.pair(key, value), index[0]++));
+        }
+
+        @Override
+        public <P> void forEachWith(Procedure2<? super LongObjectPair<V>, ? super P> procedure, P parameter)
+        {
+            ConcurrentLongObjectSkipListMap.this.forEachKeyValue((key, value) -> procedure.value(PrimitiveTuples.pair(key, value), parameter));
+        }
+
+        @Override
+        public Iterator<LongObjectPair<V>> iterator()
+        {
+            return new PairIterator();
+        }
+    }
+
+    /**
+     * The values of the map or view, in the order of their keys. Removing a value removes its mapping.
+     */
+    private class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return ConcurrentLongObjectSkipListMap.this.iterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return ConcurrentLongObjectSkipListMap.this.size();
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return ConcurrentLongObjectSkipListMap.this.isEmpty();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return ConcurrentLongObjectSkipListMap.this.containsValue(o);
+        }
+
+        @Override
+        public void clear()
+        {
+            ConcurrentLongObjectSkipListMap.this.clear();
+        }
+    }
+}
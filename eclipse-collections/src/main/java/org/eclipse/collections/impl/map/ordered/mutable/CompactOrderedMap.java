@@ -0,0 +1,510 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.ordered.mutable;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.map.MutableOrderedMap;
+import org.eclipse.collections.impl.utility.internal.CompactHashTable;
+
+/**
+ * CompactOrderedMap is an insertion-ordered MutableOrderedMap laid out like a CPython compact dict, as a lighter
+ * alternative to adapting a {@link java.util.LinkedHashMap}. Keys and values are appended to dense {@code Object[]}s
+ * in insertion order, next to an {@code int[]} of their hash codes. A separate open-addressed {@code int[]} index maps
+ * each hash to a position in the dense arrays. There are no per-entry objects and no links, so a mapping costs roughly
+ * half the memory of a LinkedHashMap entry and iteration is a linear scan of the dense arrays. The table is shared
+ * with {@link org.eclipse.collections.impl.set.mutable.CompactOrderedSet} as {@link CompactHashTable}.
+ * <p>
+ * Removing a key leaves a tombstone in the dense arrays so that the order of the other entries is kept. The dense
+ * arrays are compacted once more than half of their used positions are tombstones, and when they are full but at
+ * least half of them are tombstones, instead of growing.
+ * <p>
+ * Null keys and values are supported. Putting a key which is already present keeps its position.
+ *
+ * @since 12.0
+ */
+public class CompactOrderedMap<K, V>
+        extends OrderedMapAdapter<K, V>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final CompactTable<K, V> table;
+
+    public CompactOrderedMap()
+    {
+        this(new CompactTable<>(0));
+    }
+
+    public CompactOrderedMap(int initialCapacity)
+    {
+        this(new CompactTable<>(initialCapacity));
+    }
+
+    public CompactOrderedMap(Map<? extends K, ? extends V> map)
+    {
+        this(new CompactTable<>(map.size()));
+        this.putAll(map);
+    }
+
+    private CompactOrderedMap(CompactTable<K, V> table)
+    {
+        super(table);
+        this.table = table;
+    }
+
+    public static <K, V> CompactOrderedMap<K, V> newMap()
+    {
+        return new CompactOrderedMap<>();
+    }
+
+    public static <K, V> CompactOrderedMap<K, V> newMap(int initialCapacity)
+    {
+        return new CompactOrderedMap<>(initialCapacity);
+    }
+
+    public static <K, V> CompactOrderedMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        return new CompactOrderedMap<>(map);
+    }
+
+    public static <K, V> CompactOrderedMap<K, V> newWithKeysValues(K key, V value)
+    {
+        CompactOrderedMap<K, V> map = new CompactOrderedMap<>(1);
+        map.put(key, value);
+        return map;
+    }
+
+    public static <K, V> CompactOrderedMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        CompactOrderedMap<K, V> map = new CompactOrderedMap<>(2);
+        map.put(key1, value1);
+        map.put(key2, value2);
+        return map;
+    }
+
+    public static <K, V> CompactOrderedMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        CompactOrderedMap<K, V> map = new CompactOrderedMap<>(3);
+        map.put(key1, value1);
+        map.put(key2, value2);
+        map.put(key3, value3);
+        return map;
+    }
+
+    @Override
+    protected <KK, VV> MutableOrderedMap<KK, VV> newOrderedMap(int capacity)
+    {
+        return new CompactOrderedMap<>(capacity);
+    }
+
+    @Override
+    public CompactOrderedMap<K, V> clone()
+    {
+        return new CompactOrderedMap<>(this.table.copy());
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        this.table.forEachKeyValue(procedure);
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        this.table.forEachKeyValue((key, value) -> procedure.value(key));
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        this.table.forEachKeyValue((key, value) -> procedure.value(value));
+    }
+
+    /**
+     * Adapts a {@link CompactHashTable} with values to {@link Map}.
+     */
+    private static final class CompactTable<K, V>
+            extends AbstractMap<K, V>
+            implements Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private transient CompactHashTable table;
+
+        private CompactTable(int initialCapacity)
+        {
+            this.table = new CompactHashTable(initialCapacity, true);
+        }
+
+        private CompactTable(CompactHashTable table)
+        {
+            this.table = table;
+        }
+
+        private V valueAt(int slot)
+        {
+            return (V) this.table.valueAt(this.table.positionOf(slot));
+        }
+
+        @Override
+        public int size()
+        {
+            return this.table.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key)
+        {
+            return this.table.find(key, CompactHashTable.hash(key)) >= 0;
+        }
+
+        @Override
+        public boolean containsValue(Object value)
+        {
+            for (int position = 0; position < this.table.used(); position++)
+            {
+                if (this.table.isLive(position) && Objects.equals(this.table.valueAt(position), value))
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public V get(Object key)
+        {
+            int slot = this.table.find(key, CompactHashTable.hash(key));
+            return slot < 0 ? null : this.valueAt(slot);
+        }
+
+        @Override
+        public V put(K key, V value)
+        {
+            int hash = CompactHashTable.hash(key);
+            int slot = this.table.find(key, hash);
+            if (slot >= 0)
+            {
+                int position = this.table.positionOf(slot);
+                V oldValue = (V) this.table.valueAt(position);
+                this.table.setValueAt(position, value);
+                return oldValue;
+            }
+            this.table.setValueAt(this.table.add(key, hash), value);
+            return null;
+        }
+
+        @Override
+        public V remove(Object key)
+        {
+            int slot = this.table.find(key, CompactHashTable.hash(key));
+            if (slot < 0)
+            {
+                return null;
+            }
+            V oldValue = this.valueAt(slot);
+            this.table.removeSlot(slot);
+            this.table.compactIfSparse();
+            return oldValue;
+        }
+
+        @Override
+        public void clear()
+        {
+            this.table.clear();
+        }
+
+        private void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+        {
+            for (int position = 0; position < this.table.used(); position++)
+            {
+                if (this.table.isLive(position))
+                {
+                    procedure.value((K) this.table.keyAt(position), (V) this.table.valueAt(position));
+                }
+            }
+        }
+
+        private CompactTable<K, V> copy()
+        {
+            return new CompactTable<>(this.table.copy());
+        }
+
+        @Override
+        public Set<K> keySet()
+        {
+            return new KeySet();
+        }
+
+        @Override
+        public Collection<V> values()
+        {
+            return new ValuesCollection();
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet()
+        {
+            return new EntrySet();
+        }
+
+        private void writeObject(ObjectOutputStream out) throws IOException
+        {
+            out.defaultWriteObject();
+            out.writeInt(this.table.size());
+            for (int position = 0; position < this.table.used(); position++)
+            {
+                if (this.table.isLive(position))
+                {
+                    out.writeObject(this.table.keyAt(position));
+                    out.writeObject(this.table.valueAt(position));
+                }
+            }
+        }
+
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+        {
+            in.defaultReadObject();
+            int size = in.readInt();
+            this.table = new CompactHashTable(size, true);
+            for (int i = 0; i < size; i++)
+            {
+                this.put((K) in.readObject(), (V) in.readObject());
+            }
+        }
+
+        private abstract class PositionIterator<E> implements Iterator<E>
+        {
+            protected final CompactHashTable table = CompactTable.this.table;
+            private int nextPosition = this.table.nextPosition(0);
+            private int currentPosition = -1;
+            private int expectedModCount = this.table.modCount();
+
+            protected abstract E element(int position);
+
+            @Override
+            public boolean hasNext()
+            {
+                return this.nextPosition < this.table.used();
+            }
+
+            @Override
+            public E next()
+            {
+                if (this.table.modCount() != this.expectedModCount)
+                {
+                    throw new ConcurrentModificationException();
+                }
+                if (this.nextPosition >= this.table.used())
+                {
+                    throw new NoSuchElementException();
+                }
+                this.currentPosition = this.nextPosition;
+                this.nextPosition = this.table.nextPosition(this.currentPosition + 1);
+                return this.element(this.currentPosition);
+            }
+
+            @Override
+            public void remove()
+            {
+                if (this.currentPosition < 0)
+                {
+                    throw new IllegalStateException();
+                }
+                if (this.table.modCount() != this.expectedModCount)
+                {
+                    throw new ConcurrentModificationException();
+                }
+                // no compaction here, so the positions this iterator has yet to visit stay where they are
+                this.table.removeSlot(this.table.slotOfPosition(this.currentPosition));
+                this.currentPosition = -1;
+                this.expectedModCount = this.table.modCount();
+            }
+        }
+
+        private final class KeyIterator extends PositionIterator<K>
+        {
+            @Override
+            protected K element(int position)
+            {
+                return (K) this.table.keyAt(position);
+            }
+        }
+
+        private final class ValueIterator extends PositionIterator<V>
+        {
+            @Override
+            protected V element(int position)
+            {
+                return (V) this.table.valueAt(position);
+            }
+        }
+
+        private final class EntryIterator extends PositionIterator<Entry<K, V>>
+        {
+            @Override
+            protected Entry<K, V> element(int position)
+            {
+                return new WriteThroughEntry((K) this.table.keyAt(position), (V) this.table.valueAt(position));
+            }
+        }
+
+        private final class WriteThroughEntry extends SimpleEntry<K, V>
+        {
+            private static final long serialVersionUID = 1L;
+
+            private WriteThroughEntry(K key, V value)
+            {
+                super(key, value);
+            }
+
+            @Override
+            public V setValue(V value)
+            {
+                super.setValue(value);
+                return CompactTable.this.put(this.getKey(), value);
+            }
+        }
+
+        private final class KeySet extends AbstractSet<K>
+        {
+            @Override
+            public Iterator<K> iterator()
+            {
+                return new KeyIterator();
+            }
+
+            @Override
+            public int size()
+            {
+                return CompactTable.this.table.size();
+            }
+
+            @Override
+            public boolean contains(Object key)
+            {
+                return CompactTable.this.containsKey(key);
+            }
+
+            @Override
+            public boolean remove(Object key)
+            {
+                int slot = CompactTable.this.table.find(key, CompactHashTable.hash(key));
+                if (slot < 0)
+                {
+                    return false;
+                }
+                CompactTable.this.table.removeSlot(slot);
+                return true;
+            }
+
+            @Override
+            public void clear()
+            {
+                CompactTable.this.clear();
+            }
+        }
+
+        private final class ValuesCollection extends AbstractCollection<V>
+        {
+            @Override
+            public Iterator<V> iterator()
+            {
+                return new ValueIterator();
+            }
+
+            @Override
+            public int size()
+            {
+                return CompactTable.this.table.size();
+            }
+
+            @Override
+            public boolean contains(Object value)
+            {
+                return CompactTable.this.containsValue(value);
+            }
+
+            @Override
+            public void clear()
+            {
+                CompactTable.this.clear();
+            }
+        }
+
+        private final class EntrySet extends AbstractSet<Entry<K, V>>
+        {
+            @Override
+            public Iterator<Entry<K, V>> iterator()
+            {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size()
+            {
+                return CompactTable.this.table.size();
+            }
+
+            @Override
+            public boolean contains(Object object)
+            {
+                return this.slotOf(object) >= 0;
+            }
+
+            @Override
+            public boolean remove(Object object)
+            {
+                int slot = this.slotOf(object);
+                if (slot < 0)
+                {
+                    return false;
+                }
+                CompactTable.this.table.removeSlot(slot);
+                return true;
+            }
+
+            @Override
+            public void clear()
+            {
+                CompactTable.this.clear();
+            }
+
+            private int slotOf(Object object)
+            {
+                if (!(object instanceof Entry))
+                {
+                    return -1;
+                }
+                Entry<?, ?> entry = (Entry<?, ?>) object;
+                Object key = entry.getKey();
+                int slot = CompactTable.this.table.find(key, CompactHashTable.hash(key));
+                return slot >= 0 && Objects.equals(CompactTable.this.valueAt(slot), entry.getValue()) ? slot : -1;
+            }
+        }
+    }
+}
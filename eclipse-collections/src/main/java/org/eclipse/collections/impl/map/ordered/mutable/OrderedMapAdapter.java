@@ -124,7 +124,18 @@ public class OrderedMapAdapter<K, V>
     @Override
     public MutableOrderedMap<K, V> newEmpty()
     {
-        return OrderedMapAdapter.adapt(new LinkedHashMap<>());
+        return this.newOrderedMap(0);
+    }
+
+    /**
+     * Creates the empty ordered map which derived maps such as {@link #take(int)} and {@link #collectValues(Function2)}
+     * are built in.
+     *
+     * @since 12.0
+     */
+    protected <KK, VV> MutableOrderedMap<KK, VV> newOrderedMap(int capacity)
+    {
+        return capacity == 0 ? OrderedMapAdapter.adapt(new LinkedHashMap<>()) : OrderedMapAdapter.adapt(new LinkedHashMap<>(capacity));
     }
 
     @Override
@@ -251,7 +262,7 @@ public class OrderedMapAdapter<K, V>
             throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
         }
 
-        MutableOrderedMap<K, V> output = OrderedMapAdapter.adapt(new LinkedHashMap<>(Math.min(this.size(), count)));
+        MutableOrderedMap<K, V> output = this.newOrderedMap(Math.min(this.size(), count));
         Iterator<Entry<K, V>> iterator = this.delegate.entrySet().iterator();
         int countCopy = count;
         while (iterator.hasNext() && countCopy-- > 0)
@@ -276,7 +287,7 @@ public class OrderedMapAdapter<K, V>
             throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
         }
 
-        MutableOrderedMap<K, V> output = OrderedMapAdapter.adapt(new LinkedHashMap<>(this.size() - Math.min(this.size(), count)));
+        MutableOrderedMap<K, V> output = this.newOrderedMap(this.size() - Math.min(this.size(), count));
         Iterator<Entry<K, V>> iterator = this.delegate.entrySet().iterator();
         int start = Math.min(count, this.size());
         if (start == this.size())
@@ -450,7 +461,7 @@ public class OrderedMapAdapter<K, V>
         return MapIterate.collectValues(
                 this,
                 function,
-                OrderedMapAdapter.adapt(new LinkedHashMap<>(this.size())));
+                this.newOrderedMap(this.size()));
     }
 
     @Override
@@ -693,7 +704,7 @@ public class OrderedMapAdapter<K, V>
     @Override
     public <K2, V2> MutableOrderedMap<K2, V2> collect(Function2<? super K, ? super V, Pair<K2, V2>> function)
     {
-        return MapIterate.collect(this, function, OrderedMapAdapter.adapt(new LinkedHashMap<>(this.size())));
+        return MapIterate.collect(this, function, this.newOrderedMap(this.size()));
     }
 
     @Override
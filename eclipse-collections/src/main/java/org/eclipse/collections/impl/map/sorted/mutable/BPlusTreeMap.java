@@ -0,0 +1,1322 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.sorted.mutable;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
+import org.eclipse.collections.api.block.procedure.Procedure2;
+
+/**
+ * BPlusTreeMap is a {@link SortedMap} stored in a B+-tree with wide nodes, as a cache-friendly alternative to
+ * {@link java.util.TreeMap}. Each leaf holds up to 64 keys and their values in two arrays and is linked to the next
+ * leaf, so a lookup touches a handful of nodes instead of one red-black node per comparison, and iteration walks
+ * arrays rather than chasing parent pointers.
+ * <p>
+ * Every branch also records how many entries are under each of its children. That makes rank and select,
+ * {@link #indexOfKey(Object)} and {@link #keyAt(int)}, logarithmic, and lets {@link #subMap(Object, Object)},
+ * {@link #headMap(Object)} and {@link #tailMap(Object)} views report their size and iterate their range without
+ * comparing keys on every step.
+ * <p>
+ * Like TreeMap, null keys are only permitted when the comparator accepts them, and the map is not synchronized.
+ *
+ * @since 12.0
+ */
+public class BPlusTreeMap<K, V>
+        extends AbstractMap<K, V>
+        implements SortedMap<K, V>, Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int NODE_CAPACITY = 64;
+    private static final int MINIMUM_NODE_SIZE = NODE_CAPACITY / 2;
+
+    private final Comparator<? super K> comparator;
+
+    private transient Node root;
+    private transient int size;
+    private transient int modCount;
+
+    // results of the last insert or delete, set at the leaf and read on the way back up
+    private transient Object splitKey;
+    private transient Object oldValue;
+    private transient boolean sizeChanged;
+
+    public BPlusTreeMap()
+    {
+        this.comparator = null;
+    }
+
+    public BPlusTreeMap(Comparator<? super K> comparator)
+    {
+        this.comparator = comparator;
+    }
+
+    public BPlusTreeMap(Map<? extends K, ? extends V> map)
+    {
+        this.comparator = map instanceof SortedMap ? ((SortedMap<K, ? extends V>) map).comparator() : null;
+        this.putAll(map);
+    }
+
+    @Override
+    public Comparator<? super K> comparator()
+    {
+        return this.comparator;
+    }
+
+    private int compare(Object key1, Object key2)
+    {
+        return this.comparator == null
+                ? ((Comparable<Object>) key1).compareTo(key2)
+                : ((Comparator<Object>) this.comparator).compare(key1, key2);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Returns the position of the key, or -1 if the leaf does not contain it, as
+     * {@link Arrays#binarySearch(Object[], Object)} would.
+     */
+    private int search(Leaf leaf, Object key)
+    {
+        int low = 0;
+        int high = leaf.size - 1;
+        while (low <= high)
+        {
+            int middle = (low + high) >>> 1;
+            int comparison = this.compare(leaf.keys[middle], key);
+            if (comparison < 0)
+            {
+                low = middle + 1;
+            }
+            else if (comparison > 0)
+            {
+                high = middle - 1;
+            }
+            else
+            {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the child of the branch which may hold the key, which is the number of separators less than or equal to
+     * it.
+     */
+    private int childIndex(Branch branch, Object key)
+    {
+        int low = 0;
+        int high = branch.size - 1;
+        while (low < high)
+        {
+            int middle = (low + high) >>> 1;
+            if (this.compare(branch.keys[middle], key) <= 0)
+            {
+                low = middle + 1;
+            }
+            else
+            {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private Leaf leafFor(Object key)
+    {
+        Node node = this.root;
+        while (node instanceof Branch)
+        {
+            Branch branch = (Branch) node;
+            node = branch.children[this.childIndex(branch, key)];
+        }
+        return (Leaf) node;
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        if (this.root == null)
+        {
+            return null;
+        }
+        Leaf leaf = this.leafFor(key);
+        int index = this.search(leaf, key);
+        return index < 0 ? null : (V) leaf.values[index];
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.root != null && this.search(this.leafFor(key), key) >= 0;
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        if (this.root == null)
+        {
+            // fails fast on a key the comparator cannot handle, like TreeMap
+            this.compare(key, key);
+            Leaf leaf = new Leaf();
+            leaf.keys[0] = key;
+            leaf.values[0] = value;
+            leaf.size = 1;
+            this.root = leaf;
+            this.size = 1;
+            this.modCount++;
+            return null;
+        }
+        Node split = this.insert(this.root, key, value);
+        if (split != null)
+        {
+            Branch branch = new Branch();
+            branch.children[0] = this.root;
+            branch.counts[0] = this.root.count();
+            branch.children[1] = split;
+            branch.counts[1] = split.count();
+            branch.keys[0] = this.splitKey;
+            branch.size = 2;
+            this.root = branch;
+        }
+        if (this.sizeChanged)
+        {
+            this.size++;
+            this.modCount++;
+        }
+        V result = (V) this.oldValue;
+        this.oldValue = null;
+        this.splitKey = null;
+        return result;
+    }
+
+    /**
+     * Inserts below {@code node} and returns the new right sibling if {@code node} had to split, with its separator
+     * in {@link #splitKey}.
+     */
+    private Node insert(Node node, K key, V value)
+    {
+        if (node instanceof Leaf)
+        {
+            Leaf leaf = (Leaf) node;
+            int index = this.search(leaf, key);
+            if (index >= 0)
+            {
+                this.oldValue = leaf.values[index];
+                leaf.values[index] = value;
+                this.sizeChanged = false;
+                return null;
+            }
+            index = -index - 1;
+            System.arraycopy(leaf.keys, index, leaf.keys, index + 1, leaf.size - index);
+            System.arraycopy(leaf.values, index, leaf.values, index + 1, leaf.size - index);
+            leaf.keys[index] = key;
+            leaf.values[index] = value;
+            leaf.size++;
+            this.oldValue = null;
+            this.sizeChanged = true;
+            return leaf.size > NODE_CAPACITY ? this.splitLeaf(leaf) : null;
+        }
+        Branch branch = (Branch) node;
+        int index = this.childIndex(branch, key);
+        Node split = this.insert(branch.children[index], key, value);
+        if (this.sizeChanged)
+        {
+            branch.counts[index]++;
+        }
+        if (split == null)
+        {
+            return null;
+        }
+        int splitCount = split.count();
+        branch.counts[index] -= splitCount;
+        int moved = branch.size - index - 1;
+        System.arraycopy(branch.children, index + 1, branch.children, index + 2, moved);
+        System.arraycopy(branch.counts, index + 1, branch.counts, index + 2, moved);
+        System.arraycopy(branch.keys, index, branch.keys, index + 1, moved);
+        branch.children[index + 1] = split;
+        branch.counts[index + 1] = splitCount;
+        branch.keys[index] = this.splitKey;
+        branch.size++;
+        return branch.size > NODE_CAPACITY ? this.splitBranch(branch) : null;
+    }
+
+    private Leaf splitLeaf(Leaf leaf)
+    {
+        int half = leaf.size / 2;
+        int moved = leaf.size - half;
+        Leaf right = new Leaf();
+        System.arraycopy(leaf.keys, half, right.keys, 0, moved);
+        System.arraycopy(leaf.values, half, right.values, 0, moved);
+        Arrays.fill(leaf.keys, half, leaf.size, null);
+        Arrays.fill(leaf.values, half, leaf.size, null);
+        right.size = moved;
+        leaf.size = half;
+        right.next = leaf.next;
+        leaf.next = right;
+        this.splitKey = right.keys[0];
+        return right;
+    }
+
+    private Branch splitBranch(Branch branch)
+    {
+        int half = branch.size / 2;
+        int moved = branch.size - half;
+        Branch right = new Branch();
+        System.arraycopy(branch.children, half, right.children, 0, moved);
+        System.arraycopy(branch.counts, half, right.counts, 0, moved);
+        System.arraycopy(branch.keys, half, right.keys, 0, moved - 1);
+        this.splitKey = branch.keys[half - 1];
+        Arrays.fill(branch.children, half, branch.size, null);
+        Arrays.fill(branch.keys, half - 1, branch.size - 1, null);
+        right.size = moved;
+        branch.size = half;
+        return right;
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        if (this.root == null)
+        {
+            return null;
+        }
+        this.sizeChanged = false;
+        this.delete(this.root, key);
+        if (!this.sizeChanged)
+        {
+            return null;
+        }
+        this.size--;
+        this.modCount++;
+        if (this.size == 0)
+        {
+            this.root = null;
+        }
+        else if (this.root instanceof Branch && this.root.size == 1)
+        {
+            this.root = ((Branch) this.root).children[0];
+        }
+        V result = (V) this.oldValue;
+        this.oldValue = null;
+        return result;
+    }
+
+    private void delete(Node node, Object key)
+    {
+        if (node instanceof Leaf)
+        {
+            Leaf leaf = (Leaf) node;
+            int index = this.search(leaf, key);
+            if (index >= 0)
+            {
+                this.oldValue = leaf.values[index];
+                this.sizeChanged = true;
+                int moved = leaf.size - index - 1;
+                System.arraycopy(leaf.keys, index + 1, leaf.keys, index, moved);
+                System.arraycopy(leaf.values, index + 1, leaf.values, index, moved);
+                leaf.size--;
+                leaf.keys[leaf.size] = null;
+                leaf.values[leaf.size] = null;
+            }
+            return;
+        }
+        Branch branch = (Branch) node;
+        int index = this.childIndex(branch, key);
+        Node child = branch.children[index];
+        this.delete(child, key);
+        if (this.sizeChanged)
+        {
+            branch.counts[index]--;
+            if (child.size < MINIMUM_NODE_SIZE)
+            {
+                this.rebalance(branch, index);
+            }
+        }
+    }
+
+    private void rebalance(Branch parent, int index)
+    {
+        if (index > 0 && parent.children[index - 1].size > MINIMUM_NODE_SIZE)
+        {
+            this.borrowFromLeft(parent, index);
+        }
+        else if (index < parent.size - 1 && parent.children[index + 1].size > MINIMUM_NODE_SIZE)
+        {
+            this.borrowFromRight(parent, index);
+        }
+        else if (index > 0)
+        {
+            this.merge(parent, index - 1);
+        }
+        else if (parent.size > 1)
+        {
+            this.merge(parent, index);
+        }
+    }
+
+    private void borrowFromLeft(Branch parent, int index)
+    {
+        Node node = parent.children[index];
+        if (node instanceof Leaf)
+        {
+            Leaf left = (Leaf) parent.children[index - 1];
+            Leaf leaf = (Leaf) node;
+            System.arraycopy(leaf.keys, 0, leaf.keys, 1, leaf.size);
+            System.arraycopy(leaf.values, 0, leaf.values, 1, leaf.size);
+            left.size--;
+            leaf.keys[0] = left.keys[left.size];
+            leaf.values[0] = left.values[left.size];
+            left.keys[left.size] = null;
+            left.values[left.size] = null;
+            leaf.size++;
+            parent.keys[index - 1] = leaf.keys[0];
+            parent.counts[index - 1]--;
+            parent.counts[index]++;
+            return;
+        }
+        Branch left = (Branch) parent.children[index - 1];
+        Branch branch = (Branch) node;
+        int moved = left.counts[left.size - 1];
+        System.arraycopy(branch.children, 0, branch.children, 1, branch.size);
+        System.arraycopy(branch.counts, 0, branch.counts, 1, branch.size);
+        System.arraycopy(branch.keys, 0, branch.keys, 1, branch.size - 1);
+        branch.children[0] = left.children[left.size - 1];
+        branch.counts[0] = moved;
+        branch.keys[0] = parent.keys[index - 1];
+        branch.size++;
+        parent.keys[index - 1] = left.keys[left.size - 2];
+        left.children[left.size - 1] = null;
+        left.keys[left.size - 2] = null;
+        left.size--;
+        parent.counts[index - 1] -= moved;
+        parent.counts[index] += moved;
+    }
+
+    private void borrowFromRight(Branch parent, int index)
+    {
+        Node node = parent.children[index];
+        if (node instanceof Leaf)
+        {
+            Leaf leaf = (Leaf) node;
+            Leaf right = (Leaf) parent.children[index + 1];
+            leaf.keys[leaf.size] = right.keys[0];
+            leaf.values[leaf.size] = right.values[0];
+            leaf.size++;
+            right.size--;
+            System.arraycopy(right.keys, 1, right.keys, 0, right.size);
+            System.arraycopy(right.values, 1, right.values, 0, right.size);
+            right.keys[right.size] = null;
+            right.values[right.size] = null;
+            parent.keys[index] = right.keys[0];
+            parent.counts[index]++;
+            parent.counts[index + 1]--;
+            return;
+        }
+        Branch branch = (Branch) node;
+        Branch right = (Branch) parent.children[index + 1];
+        int moved = right.counts[0];
+        branch.children[branch.size] = right.children[0];
+        branch.counts[branch.size] = moved;
+        branch.keys[branch.size - 1] = parent.keys[index];
+        branch.size++;
+        parent.keys[index] = right.keys[0];
+        right.size--;
+        System.arraycopy(right.children, 1, right.children, 0, right.size);
+        System.arraycopy(right.counts, 1, right.counts, 0, right.size);
+        System.arraycopy(right.keys, 1, right.keys, 0, right.size - 1);
+        right.children[right.size] = null;
+        right.keys[right.size - 1] = null;
+        parent.counts[index] += moved;
+        parent.counts[index + 1] -= moved;
+    }
+
+    /**
+     * Moves everything from the child at {@code index + 1} into the child at {@code index} and drops the emptied
+     * child from the parent.
+     */
+    private void merge(Branch parent, int index)
+    {
+        Node left = parent.children[index];
+        Node right = parent.children[index + 1];
+        if (left instanceof Leaf)
+        {
+            Leaf leftLeaf = (Leaf) left;
+            Leaf rightLeaf = (Leaf) right;
+            System.arraycopy(rightLeaf.keys, 0, leftLeaf.keys, leftLeaf.size, rightLeaf.size);
+            System.arraycopy(rightLeaf.values, 0, leftLeaf.values, leftLeaf.size, rightLeaf.size);
+            leftLeaf.size += rightLeaf.size;
+            leftLeaf.next = rightLeaf.next;
+        }
+        else
+        {
+            Branch leftBranch = (Branch) left;
+            Branch rightBranch = (Branch) right;
+            leftBranch.keys[leftBranch.size - 1] = parent.keys[index];
+            System.arraycopy(rightBranch.keys, 0, leftBranch.keys, leftBranch.size, rightBranch.size - 1);
+            System.arraycopy(rightBranch.children, 0, leftBranch.children, leftBranch.size, rightBranch.size);
+            System.arraycopy(rightBranch.counts, 0, leftBranch.counts, leftBranch.size, rightBranch.size);
+            leftBranch.size += rightBranch.size;
+        }
+        parent.counts[index] += parent.counts[index + 1];
+        int moved = parent.size - index - 2;
+        System.arraycopy(parent.children, index + 2, parent.children, index + 1, moved);
+        System.arraycopy(parent.counts, index + 2, parent.counts, index + 1, moved);
+        System.arraycopy(parent.keys, index + 1, parent.keys, index, moved);
+        parent.size--;
+        parent.children[parent.size] = null;
+        parent.keys[parent.size - 1] = null;
+    }
+
+    @Override
+    public void clear()
+    {
+        this.root = null;
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /**
+     * Returns the number of keys less than {@code key}.
+     */
+    private int rank(Object key)
+    {
+        Node node = this.root;
+        if (node == null)
+        {
+            return 0;
+        }
+        int rank = 0;
+        while (node instanceof Branch)
+        {
+            Branch branch = (Branch) node;
+            int index = this.childIndex(branch, key);
+            for (int i = 0; i < index; i++)
+            {
+                rank += branch.counts[i];
+            }
+            node = branch.children[index];
+        }
+        int index = this.search((Leaf) node, key);
+        return rank + (index >= 0 ? index : -index - 1);
+    }
+
+    /**
+     * Returns the position of {@code key} in the sorted order of the keys, or -1 if it is not in the map.
+     */
+    public int indexOfKey(Object key)
+    {
+        return this.containsKey(key) ? this.rank(key) : -1;
+    }
+
+    /**
+     * Returns the key at {@code index} in the sorted order of the keys.
+     */
+    public K keyAt(int index)
+    {
+        this.checkIndex(index);
+        Cursor cursor = this.seek(index);
+        return (K) cursor.leaf.keys[cursor.index];
+    }
+
+    /**
+     * Returns the value of the key at {@code index} in the sorted order of the keys.
+     */
+    public V valueAt(int index)
+    {
+        this.checkIndex(index);
+        Cursor cursor = this.seek(index);
+        return (V) cursor.leaf.values[cursor.index];
+    }
+
+    private void checkIndex(int index)
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size);
+        }
+    }
+
+    private Cursor seek(int rank)
+    {
+        Node node = this.root;
+        int remaining = rank;
+        while (node instanceof Branch)
+        {
+            Branch branch = (Branch) node;
+            int index = 0;
+            while (remaining >= branch.counts[index])
+            {
+                remaining -= branch.counts[index];
+                index++;
+            }
+            node = branch.children[index];
+        }
+        return new Cursor((Leaf) node, remaining);
+    }
+
+    @Override
+    public K firstKey()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        return this.keyAt(0);
+    }
+
+    @Override
+    public K lastKey()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        return this.keyAt(this.size - 1);
+    }
+
+    @Override
+    public SortedMap<K, V> subMap(K fromKey, K toKey)
+    {
+        return new RangeMap(Range.UNBOUNDED.sub(this, fromKey, true, toKey, true));
+    }
+
+    @Override
+    public SortedMap<K, V> headMap(K toKey)
+    {
+        return new RangeMap(Range.UNBOUNDED.sub(this, null, false, toKey, true));
+    }
+
+    @Override
+    public SortedMap<K, V> tailMap(K fromKey)
+    {
+        return new RangeMap(Range.UNBOUNDED.sub(this, fromKey, true, null, false));
+    }
+
+    @Override
+    public SortedSet<K> keySet()
+    {
+        return new KeySet(Range.UNBOUNDED, null);
+    }
+
+    /**
+     * Returns a view of the keys which, unlike {@link #keySet()}, supports {@code add}, by mapping each added key to
+     * {@code mappedValue}, in the manner of {@link java.util.concurrent.ConcurrentHashMap#keySet(Object)}.
+     */
+    public SortedSet<K> keySet(V mappedValue)
+    {
+        return new KeySet(Range.UNBOUNDED, Objects.requireNonNull(mappedValue));
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return new Values(Range.UNBOUNDED);
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new EntrySet(Range.UNBOUNDED);
+    }
+
+    /**
+     * Calls the procedure on each mapping in key order, walking the linked leaves.
+     */
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        Node node = this.root;
+        if (node == null)
+        {
+            return;
+        }
+        while (node instanceof Branch)
+        {
+            node = ((Branch) node).children[0];
+        }
+        for (Leaf leaf = (Leaf) node; leaf != null; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.size; i++)
+            {
+                procedure.value((K) leaf.keys[i], (V) leaf.values[i]);
+            }
+        }
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException
+    {
+        out.defaultWriteObject();
+        out.writeInt(this.size);
+        try
+        {
+            this.forEachKeyValue((key, value) -> {
+                try
+                {
+                    out.writeObject(key);
+                    out.writeObject(value);
+                }
+                catch (IOException e)
+                {
+                    throw new RuntimeException(e);
+                }
+            });
+        }
+        catch (RuntimeException e)
+        {
+            if (e.getCause() instanceof IOException)
+            {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+        int size = in.readInt();
+        for (int i = 0; i < size; i++)
+        {
+            this.put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+
+    private abstract static class Node
+    {
+        protected final Object[] keys;
+        protected int size;
+
+        protected Node(int keyCapacity)
+        {
+            this.keys = new Object[keyCapacity];
+        }
+
+        protected abstract int count();
+    }
+
+    /**
+     * Holds {@code size} keys and values. A leaf may briefly hold one more than the capacity before it splits.
+     */
+    private static final class Leaf extends Node
+    {
+        private final Object[] values = new Object[NODE_CAPACITY + 1];
+        private Leaf next;
+
+        private Leaf()
+        {
+            super(NODE_CAPACITY + 1);
+        }
+
+        @Override
+        protected int count()
+        {
+            return this.size;
+        }
+    }
+
+    /**
+     * Holds {@code size} children, the number of entries under each child, and {@code size - 1} separators. Every key
+     * under {@code children[i]} is less than {@code keys[i]}, and every key under {@code children[i + 1]} is greater
+     * than or equal to it.
+     */
+    private static final class Branch extends Node
+    {
+        private final Node[] children = new Node[NODE_CAPACITY + 1];
+        private final int[] counts = new int[NODE_CAPACITY + 1];
+
+        private Branch()
+        {
+            super(NODE_CAPACITY);
+        }
+
+        @Override
+        protected int count()
+        {
+            int count = 0;
+            for (int i = 0; i < this.size; i++)
+            {
+                count += this.counts[i];
+            }
+            return count;
+        }
+    }
+
+    private static final class Cursor
+    {
+        private Leaf leaf;
+        private int index;
+
+        private Cursor(Leaf leaf, int index)
+        {
+            this.leaf = leaf;
+            this.index = index;
+        }
+    }
+
+    /**
+     * The keys from {@code low} inclusive to {@code high} exclusive, where either bound may be absent.
+     */
+    private static final class Range implements Serializable
+    {
+        private static final long serialVersionUID = 1L;
+        private static final Range UNBOUNDED = new Range(null, false, null, false);
+
+        private final Object low;
+        private final boolean hasLow;
+        private final Object high;
+        private final boolean hasHigh;
+
+        private Range(Object low, boolean hasLow, Object high, boolean hasHigh)
+        {
+            this.low = low;
+            this.hasLow = hasLow;
+            this.high = high;
+            this.hasHigh = hasHigh;
+        }
+
+        private boolean contains(BPlusTreeMap<?, ?> map, Object key)
+        {
+            return (!this.hasLow || map.compare(key, this.low) >= 0) && (!this.hasHigh || map.compare(key, this.high) < 0);
+        }
+
+        private boolean containsBound(BPlusTreeMap<?, ?> map, Object key)
+        {
+            return (!this.hasLow || map.compare(key, this.low) >= 0) && (!this.hasHigh || map.compare(key, this.high) <= 0);
+        }
+
+        private int fromRank(BPlusTreeMap<?, ?> map)
+        {
+            return this.hasLow ? map.rank(this.low) : 0;
+        }
+
+        private int toRank(BPlusTreeMap<?, ?> map)
+        {
+            return this.hasHigh ? map.rank(this.high) : map.size;
+        }
+
+        private int size(BPlusTreeMap<?, ?> map)
+        {
+            return Math.max(0, this.toRank(map) - this.fromRank(map));
+        }
+
+        private Range sub(BPlusTreeMap<?, ?> map, Object from, boolean hasFrom, Object to, boolean hasTo)
+        {
+            if (hasFrom && hasTo && map.compare(from, to) > 0)
+            {
+                throw new IllegalArgumentException("fromKey > toKey");
+            }
+            if (hasFrom && !this.containsBound(map, from))
+            {
+                throw new IllegalArgumentException("fromKey out of range");
+            }
+            if (hasTo && !this.containsBound(map, to))
+            {
+                throw new IllegalArgumentException("toKey out of range");
+            }
+            if (hasFrom)
+            {
+                map.compare(from, from);
+            }
+            if (hasTo)
+            {
+                map.compare(to, to);
+            }
+            return new Range(
+                    hasFrom ? from : this.low,
+                    hasFrom || this.hasLow,
+                    hasTo ? to : this.high,
+                    hasTo || this.hasHigh);
+        }
+    }
+
+    /**
+     * Visits the entries with ranks in {@code [fromRank, toRank)}, walking the linked leaves.
+     */
+    private abstract class RankIterator<E> implements Iterator<E>
+    {
+        private Cursor cursor;
+        private int nextRank;
+        private int remaining;
+        private Object lastKey;
+        private boolean canRemove;
+        private int expectedModCount = BPlusTreeMap.this.modCount;
+
+        protected RankIterator(Range range)
+        {
+            this.nextRank = range.fromRank(BPlusTreeMap.this);
+            this.remaining = Math.max(0, range.toRank(BPlusTreeMap.this) - this.nextRank);
+            if (this.remaining > 0)
+            {
+                this.cursor = BPlusTreeMap.this.seek(this.nextRank);
+            }
+        }
+
+        protected abstract E element(Leaf leaf, int index);
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.remaining > 0;
+        }
+
+        @Override
+        public E next()
+        {
+            if (BPlusTreeMap.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if (this.remaining <= 0)
+            {
+                throw new NoSuchElementException();
+            }
+            Cursor cursor = this.cursor;
+            if (cursor.index == cursor.leaf.size)
+            {
+                cursor.leaf = cursor.leaf.next;
+                cursor.index = 0;
+            }
+            int index = cursor.index++;
+            this.lastKey = cursor.leaf.keys[index];
+            this.canRemove = true;
+            this.nextRank++;
+            this.remaining--;
+            return this.element(cursor.leaf, index);
+        }
+
+        @Override
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            if (BPlusTreeMap.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            BPlusTreeMap.this.remove(this.lastKey);
+            this.canRemove = false;
+            this.nextRank--;
+            this.expectedModCount = BPlusTreeMap.this.modCount;
+            if (this.remaining > 0)
+            {
+                // removal may have merged or rebalanced leaves, so find the next entry again by its rank
+                this.cursor = BPlusTreeMap.this.seek(this.nextRank);
+            }
+        }
+    }
+
+    private final class KeyIterator extends RankIterator<K>
+    {
+        private KeyIterator(Range range)
+        {
+            super(range);
+        }
+
+        @Override
+        protected K element(Leaf leaf, int index)
+        {
+            return (K) leaf.keys[index];
+        }
+    }
+
+    private final class ValueIterator extends RankIterator<V>
+    {
+        private ValueIterator(Range range)
+        {
+            super(range);
+        }
+
+        @Override
+        protected V element(Leaf leaf, int index)
+        {
+            return (V) leaf.values[index];
+        }
+    }
+
+    private final class EntryIterator extends RankIterator<Entry<K, V>>
+    {
+        private EntryIterator(Range range)
+        {
+            super(range);
+        }
+
+        @Override
+        protected Entry<K, V> element(Leaf leaf, int index)
+        {
+            return new WriteThroughEntry((K) leaf.keys[index], (V) leaf.values[index]);
+        }
+    }
+
+    private final class WriteThroughEntry extends SimpleEntry<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private WriteThroughEntry(K key, V value)
+        {
+            super(key, value);
+        }
+
+        @Override
+        public V setValue(V value)
+        {
+            super.setValue(value);
+            return BPlusTreeMap.this.put(this.getKey(), value);
+        }
+    }
+
+    private final class RangeMap extends AbstractMap<K, V> implements SortedMap<K, V>, Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Range range;
+
+        private RangeMap(Range range)
+        {
+            this.range = range;
+        }
+
+        @Override
+        public Comparator<? super K> comparator()
+        {
+            return BPlusTreeMap.this.comparator;
+        }
+
+        @Override
+        public int size()
+        {
+            return this.range.size(BPlusTreeMap.this);
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return this.size() == 0;
+        }
+
+        @Override
+        public boolean containsKey(Object key)
+        {
+            return this.range.contains(BPlusTreeMap.this, key) && BPlusTreeMap.this.containsKey(key);
+        }
+
+        @Override
+        public V get(Object key)
+        {
+            return this.range.contains(BPlusTreeMap.this, key) ? BPlusTreeMap.this.get(key) : null;
+        }
+
+        @Override
+        public V put(K key, V value)
+        {
+            if (!this.range.contains(BPlusTreeMap.this, key))
+            {
+                throw new IllegalArgumentException("key out of range");
+            }
+            return BPlusTreeMap.this.put(key, value);
+        }
+
+        @Override
+        public V remove(Object key)
+        {
+            return this.range.contains(BPlusTreeMap.this, key) ? BPlusTreeMap.this.remove(key) : null;
+        }
+
+        @Override
+        public void clear()
+        {
+            BPlusTreeMap.clearRange(BPlusTreeMap.this, this.range);
+        }
+
+        @Override
+        public K firstKey()
+        {
+            int fromRank = this.range.fromRank(BPlusTreeMap.this);
+            if (fromRank >= this.range.toRank(BPlusTreeMap.this))
+            {
+                throw new NoSuchElementException();
+            }
+            return BPlusTreeMap.this.keyAt(fromRank);
+        }
+
+        @Override
+        public K lastKey()
+        {
+            int toRank = this.range.toRank(BPlusTreeMap.this);
+            if (toRank <= this.range.fromRank(BPlusTreeMap.this))
+            {
+                throw new NoSuchElementException();
+            }
+            return BPlusTreeMap.this.keyAt(toRank - 1);
+        }
+
+        @Override
+        public SortedMap<K, V> subMap(K fromKey, K toKey)
+        {
+            return new RangeMap(this.range.sub(BPlusTreeMap.this, fromKey, true, toKey, true));
+        }
+
+        @Override
+        public SortedMap<K, V> headMap(K toKey)
+        {
+            return new RangeMap(this.range.sub(BPlusTreeMap.this, null, false, toKey, true));
+        }
+
+        @Override
+        public SortedMap<K, V> tailMap(K fromKey)
+        {
+            return new RangeMap(this.range.sub(BPlusTreeMap.this, fromKey, true, null, false));
+        }
+
+        @Override
+        public SortedSet<K> keySet()
+        {
+            return new KeySet(this.range, null);
+        }
+
+        @Override
+        public Collection<V> values()
+        {
+            return new Values(this.range);
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet()
+        {
+            return new EntrySet(this.range);
+        }
+    }
+
+    private static void clearRange(BPlusTreeMap<?, ?> map, Range range)
+    {
+        if (range == Range.UNBOUNDED)
+        {
+            map.clear();
+            return;
+        }
+        int fromRank = range.fromRank(map);
+        for (int count = range.toRank(map) - fromRank; count > 0; count--)
+        {
+            map.remove(map.keyAt(fromRank));
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K> implements SortedSet<K>, Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Range range;
+        private final V mappedValue;
+
+        private KeySet(Range range, V mappedValue)
+        {
+            this.range = range;
+            this.mappedValue = mappedValue;
+        }
+
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeyIterator(this.range);
+        }
+
+        @Override
+        public int size()
+        {
+            return this.range.size(BPlusTreeMap.this);
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return this.size() == 0;
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return this.range.contains(BPlusTreeMap.this, key) && BPlusTreeMap.this.containsKey(key);
+        }
+
+        @Override
+        public boolean add(K key)
+        {
+            if (this.mappedValue == null)
+            {
+                throw new UnsupportedOperationException("Cannot call add() on " + this.getClass().getSimpleName());
+            }
+            if (!this.range.contains(BPlusTreeMap.this, key))
+            {
+                throw new IllegalArgumentException("key out of range");
+            }
+            int size = BPlusTreeMap.this.size;
+            BPlusTreeMap.this.put(key, this.mappedValue);
+            return BPlusTreeMap.this.size != size;
+        }
+
+        @Override
+        public boolean remove(Object key)
+        {
+            if (!this.contains(key))
+            {
+                return false;
+            }
+            BPlusTreeMap.this.remove(key);
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            BPlusTreeMap.clearRange(BPlusTreeMap.this, this.range);
+        }
+
+        @Override
+        public Comparator<? super K> comparator()
+        {
+            return BPlusTreeMap.this.comparator;
+        }
+
+        @Override
+        public K first()
+        {
+            return new RangeMap(this.range).firstKey();
+        }
+
+        @Override
+        public K last()
+        {
+            return new RangeMap(this.range).lastKey();
+        }
+
+        @Override
+        public SortedSet<K> subSet(K fromElement, K toElement)
+        {
+            return new KeySet(this.range.sub(BPlusTreeMap.this, fromElement, true, toElement, true), this.mappedValue);
+        }
+
+        @Override
+        public SortedSet<K> headSet(K toElement)
+        {
+            return new KeySet(this.range.sub(BPlusTreeMap.this, null, false, toElement, true), this.mappedValue);
+        }
+
+        @Override
+        public SortedSet<K> tailSet(K fromElement)
+        {
+            return new KeySet(this.range.sub(BPlusTreeMap.this, fromElement, true, null, false), this.mappedValue);
+        }
+    }
+
+    private final class Values extends AbstractCollection<V>
+    {
+        private final Range range;
+
+        private Values(Range range)
+        {
+            this.range = range;
+        }
+
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValueIterator(this.range);
+        }
+
+        @Override
+        public int size()
+        {
+            return this.range.size(BPlusTreeMap.this);
+        }
+
+        @Override
+        public void clear()
+        {
+            BPlusTreeMap.clearRange(BPlusTreeMap.this, this.range);
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        private final Range range;
+
+        private EntrySet(Range range)
+        {
+            this.range = range;
+        }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new EntryIterator(this.range);
+        }
+
+        @Override
+        public int size()
+        {
+            return this.range.size(BPlusTreeMap.this);
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            if (!(object instanceof Entry))
+            {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) object;
+            Object key = entry.getKey();
+            return this.range.contains(BPlusTreeMap.this, key)
+                    && BPlusTreeMap.this.containsKey(key)
+                    && Objects.equals(BPlusTreeMap.this.get(key), entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object object)
+        {
+            if (!this.contains(object))
+            {
+                return false;
+            }
+            BPlusTreeMap.this.remove(((Entry<?, ?>) object).getKey());
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            BPlusTreeMap.clearRange(BPlusTreeMap.this, this.range);
+        }
+    }
+}
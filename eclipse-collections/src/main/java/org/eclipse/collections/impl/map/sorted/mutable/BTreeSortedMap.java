@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.sorted.mutable;
+
+import java.util.Comparator;
+import java.util.Map;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+
+/**
+ * BTreeSortedMap is a MutableSortedMap backed by a {@link BPlusTreeMap} rather than a {@link java.util.TreeMap}. The
+ * wide nodes of the B+-tree keep lookups and iteration cache-friendly, range views such as {@link #subMap(Object, Object)}
+ * know their size without iterating, and keys can be looked up by position with {@link #indexOfKey(Object)} and
+ * {@link #keyAt(int)}.
+ *
+ * @since 12.0
+ */
+public class BTreeSortedMap<K, V>
+        extends SortedMapAdapter<K, V>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final BPlusTreeMap<K, V> tree;
+
+    public BTreeSortedMap()
+    {
+        this(new BPlusTreeMap<>());
+    }
+
+    public BTreeSortedMap(Comparator<? super K> comparator)
+    {
+        this(new BPlusTreeMap<>(comparator));
+    }
+
+    public BTreeSortedMap(Map<? extends K, ? extends V> map)
+    {
+        this(new BPlusTreeMap<>(map));
+    }
+
+    private BTreeSortedMap(BPlusTreeMap<K, V> tree)
+    {
+        super(tree);
+        this.tree = tree;
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMap()
+    {
+        return new BTreeSortedMap<>();
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMap(Comparator<? super K> comparator)
+    {
+        return new BTreeSortedMap<>(comparator);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        return new BTreeSortedMap<>(map);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(K key, V value)
+    {
+        BTreeSortedMap<K, V> map = new BTreeSortedMap<>();
+        map.put(key, value);
+        return map;
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(K key1, V value1, K key2, V value2)
+    {
+        BTreeSortedMap<K, V> map = new BTreeSortedMap<>();
+        map.put(key1, value1);
+        map.put(key2, value2);
+        return map;
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        BTreeSortedMap<K, V> map = new BTreeSortedMap<>();
+        map.put(key1, value1);
+        map.put(key2, value2);
+        map.put(key3, value3);
+        return map;
+    }
+
+    @Override
+    public MutableSortedMap<K, V> newEmpty()
+    {
+        return new BTreeSortedMap<>(this.comparator());
+    }
+
+    @Override
+    public BTreeSortedMap<K, V> clone()
+    {
+        BTreeSortedMap<K, V> clone = new BTreeSortedMap<>(this.comparator());
+        this.tree.forEachKeyValue(clone::put);
+        return clone;
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        this.tree.forEachKeyValue(procedure);
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        this.tree.forEachKeyValue((key, value) -> procedure.value(key));
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        this.tree.forEachKeyValue((key, value) -> procedure.value(value));
+    }
+
+    /**
+     * Returns the position of {@code key} in the sorted order of the keys, or -1 if it is not in the map.
+     */
+    public int indexOfKey(Object key)
+    {
+        return this.tree.indexOfKey(key);
+    }
+
+    /**
+     * Returns the key at {@code index} in the sorted order of the keys.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is negative or not less than the size of the map
+     */
+    public K keyAt(int index)
+    {
+        return this.tree.keyAt(index);
+    }
+
+    /**
+     * Returns the value of the key at {@code index} in the sorted order of the keys.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is negative or not less than the size of the map
+     */
+    public V valueAt(int index)
+    {
+        return this.tree.valueAt(index);
+    }
+}
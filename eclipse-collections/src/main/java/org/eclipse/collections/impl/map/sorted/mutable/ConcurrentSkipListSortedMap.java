@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.sorted.mutable;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+
+/**
+ * ConcurrentSkipListSortedMap is a MutableSortedMap backed by a {@link ConcurrentSkipListMap}, so it may be read and
+ * written by many threads at once without locking. The iteration methods such as {@link #forEachKeyValue(Procedure2)}
+ * walk the skip list directly, and like its iterators they are weakly consistent: they never throw a
+ * {@link java.util.ConcurrentModificationException} and see each key at most once. The get-or-create and update
+ * methods such as {@link #getIfAbsentPut(Object, Function0)} and {@link #updateValue(Object, Function0, Function)} are
+ * atomic, although a factory or function may be evaluated more than once when threads race on the same key.
+ * <p>
+ * Like {@link ConcurrentSkipListMap}, this map does not permit null keys or values.
+ *
+ * @since 12.0
+ */
+public class ConcurrentSkipListSortedMap<K, V>
+        extends SortedMapAdapter<K, V>
+        implements ConcurrentMap<K, V>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final ConcurrentNavigableMap<K, V> delegate;
+
+    public ConcurrentSkipListSortedMap()
+    {
+        this(new ConcurrentSkipListMap<>());
+    }
+
+    public ConcurrentSkipListSortedMap(Comparator<? super K> comparator)
+    {
+        this(new ConcurrentSkipListMap<>(comparator));
+    }
+
+    public ConcurrentSkipListSortedMap(Map<? extends K, ? extends V> map)
+    {
+        this(new ConcurrentSkipListMap<>(map));
+    }
+
+    private ConcurrentSkipListSortedMap(ConcurrentNavigableMap<K, V> delegate)
+    {
+        super(delegate);
+        this.delegate = delegate;
+    }
+
+    public static <K, V> ConcurrentSkipListSortedMap<K, V> newMap()
+    {
+        return new ConcurrentSkipListSortedMap<>();
+    }
+
+    public static <K, V> ConcurrentSkipListSortedMap<K, V> newMap(Comparator<? super K> comparator)
+    {
+        return new ConcurrentSkipListSortedMap<>(comparator);
+    }
+
+    public static <K, V> ConcurrentSkipListSortedMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        return new ConcurrentSkipListSortedMap<>(map);
+    }
+
+    public static <K, V> ConcurrentSkipListSortedMap<K, V> newMapWith(K key, V value)
+    {
+        ConcurrentSkipListSortedMap<K, V> map = new ConcurrentSkipListSortedMap<>();
+        map.put(key, value);
+        return map;
+    }
+
+    public static <K, V> ConcurrentSkipListSortedMap<K, V> newMapWith(K key1, V value1, K key2, V value2)
+    {
+        ConcurrentSkipListSortedMap<K, V> map = new ConcurrentSkipListSortedMap<>();
+        map.put(key1, value1);
+        map.put(key2, value2);
+        return map;
+    }
+
+    public static <K, V> ConcurrentSkipListSortedMap<K, V> newMapWith(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        ConcurrentSkipListSortedMap<K, V> map = new ConcurrentSkipListSortedMap<>();
+        map.put(key1, value1);
+        map.put(key2, value2);
+        map.put(key3, value3);
+        return map;
+    }
+
+    @Override
+    public MutableSortedMap<K, V> newEmpty()
+    {
+        return new ConcurrentSkipListSortedMap<>(this.comparator());
+    }
+
+    @Override
+    public ConcurrentSkipListSortedMap<K, V> clone()
+    {
+        ConcurrentSkipListSortedMap<K, V> clone = new ConcurrentSkipListSortedMap<>(this.comparator());
+        this.delegate.forEach(clone.delegate::put);
+        return clone;
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        this.delegate.forEach(procedure::value);
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action)
+    {
+        this.delegate.forEach(action);
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        this.delegate.forEach((key, value) -> procedure.value(key));
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        this.delegate.forEach((key, value) -> procedure.value(value));
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super V, ? super P> procedure, P parameter)
+    {
+        this.delegate.forEach((key, value) -> procedure.value(value, parameter));
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super V> objectIntProcedure)
+    {
+        int[] index = {0};
+        this.delegate.forEach((key, value) -> objectIntProcedure.value(value, index[0]++));
+    }
+
+    @Override
+    public MutableSortedMap<K, V> headMap(K toKey)
+    {
+        return new ConcurrentSkipListSortedMap<>(this.delegate.headMap(toKey));
+    }
+
+    @Override
+    public MutableSortedMap<K, V> tailMap(K fromKey)
+    {
+        return new ConcurrentSkipListSortedMap<>(this.delegate.tailMap(fromKey));
+    }
+
+    @Override
+    public MutableSortedMap<K, V> subMap(K fromKey, K toKey)
+    {
+        return new ConcurrentSkipListSortedMap<>(this.delegate.subMap(fromKey, toKey));
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value)
+    {
+        return this.delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value)
+    {
+        return this.delegate.remove(key, value);
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue)
+    {
+        return this.delegate.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public V replace(K key, V value)
+    {
+        return this.delegate.replace(key, value);
+    }
+
+    @Override
+    public V computeIfAbsent(K key, java.util.function.Function<? super K, ? extends V> mappingFunction)
+    {
+        return this.delegate.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction)
+    {
+        return this.delegate.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction)
+    {
+        return this.delegate.compute(key, remappingFunction);
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction)
+    {
+        return this.delegate.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, Function0<? extends V> function)
+    {
+        V result = this.delegate.get(key);
+        if (result == null)
+        {
+            V blockValue = function.value();
+            V putResult = this.delegate.putIfAbsent(key, blockValue);
+            return putResult == null ? blockValue : putResult;
+        }
+        return result;
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, V value)
+    {
+        V result = this.delegate.get(key);
+        if (result == null)
+        {
+            V putResult = this.delegate.putIfAbsent(key, value);
+            return putResult == null ? value : putResult;
+        }
+        return result;
+    }
+
+    @Override
+    public <P> V getIfAbsentPutWith(K key, Function<? super P, ? extends V> function, P parameter)
+    {
+        V result = this.delegate.get(key);
+        if (result == null)
+        {
+            V functionValue = function.valueOf(parameter);
+            V putResult = this.delegate.putIfAbsent(key, functionValue);
+            return putResult == null ? functionValue : putResult;
+        }
+        return result;
+    }
+
+    @Override
+    public V updateValue(K key, Function0<? extends V> factory, Function<? super V, ? extends V> function)
+    {
+        while (true)
+        {
+            V originalValue = this.delegate.get(key);
+            if (originalValue == null)
+            {
+                V zero = factory.value();
+                V newValue = function.valueOf(zero);
+                if (this.delegate.putIfAbsent(key, newValue) == null)
+                {
+                    return newValue;
+                }
+            }
+            else
+            {
+                V newValue = function.valueOf(originalValue);
+                if (this.delegate.replace(key, originalValue, newValue))
+                {
+                    return newValue;
+                }
+            }
+        }
+    }
+
+    @Override
+    public <P> V updateValueWith(K key, Function0<? extends V> factory, Function2<? super V, ? super P, ? extends V> function, P parameter)
+    {
+        while (true)
+        {
+            V originalValue = this.delegate.get(key);
+            if (originalValue == null)
+            {
+                V zero = factory.value();
+                V newValue = function.value(zero, parameter);
+                if (this.delegate.putIfAbsent(key, newValue) == null)
+                {
+                    return newValue;
+                }
+            }
+            else
+            {
+                V newValue = function.value(originalValue, parameter);
+                if (this.delegate.replace(key, originalValue, newValue))
+                {
+                    return newValue;
+                }
+            }
+        }
+    }
+}
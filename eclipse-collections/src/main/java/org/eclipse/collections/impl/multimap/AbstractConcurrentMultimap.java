@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.collection.MutableCollection;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.MutableMultimap;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A Multimap which supports concurrent reads and writes without a global lock. Keys live in a
+ * {@link org.eclipse.collections.impl.map.mutable.ConcurrentHashMap}, and each key's values live in a collection
+ * which is its own lock, so writers on different keys never contend.
+ * <p>
+ * A value collection which is unlinked from the map by {@link #removeAll(Object)}, {@link #replaceValues} or the
+ * removal of its last value is never written to again: every writer checks, while holding the collection's lock,
+ * that the collection is still the one mapped to its key, and retries against the map if it is not.
+ * <p>
+ * {@link #get(Object)} and {@link #forEachKeyMultiValues(Procedure2)} hand out copies taken under the per-key lock.
+ * Internal iteration over the multimap is weakly consistent. External iterators over the views still need
+ * external synchronization.
+ *
+ * @since 12.0
+ */
+public abstract class AbstractConcurrentMultimap<K, V, C extends MutableCollection<V>>
+        extends AbstractSynchronizedPutMultimap<K, V, C>
+{
+    protected AbstractConcurrentMultimap()
+    {
+    }
+
+    protected AbstractConcurrentMultimap(MutableMap<K, C> newMap)
+    {
+        super(newMap);
+    }
+
+    /**
+     * Returns a mutable copy of {@code values}. Called while holding the lock of {@code values}.
+     */
+    protected abstract C copyCollection(C values);
+
+    @Override
+    public boolean put(K key, V value)
+    {
+        while (true)
+        {
+            C collection = this.getIfAbsentPutCollection(key);
+            synchronized (collection)
+            {
+                if (this.isLinked(key, collection))
+                {
+                    if (collection.add(value))
+                    {
+                        this.incrementTotalSize();
+                        return true;
+                    }
+                    return false;
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean putAll(K key, Iterable<? extends V> values)
+    {
+        if (Iterate.isEmpty(values))
+        {
+            return false;
+        }
+        while (true)
+        {
+            C collection = this.getIfAbsentPutCollection(key);
+            synchronized (collection)
+            {
+                if (this.isLinked(key, collection))
+                {
+                    int oldSize = collection.size();
+                    int newSize = Iterate.addAllTo(values, collection).size();
+                    this.addToTotalSize(newSize - oldSize);
+                    return newSize > oldSize;
+                }
+            }
+        }
+    }
+
+    @Override
+    public MutableMultimap<K, V> withKeyMultiValues(K key, V... values)
+    {
+        Objects.requireNonNull(values);
+        if (values.length > 0)
+        {
+            this.putAll(key, Arrays.asList(values));
+        }
+        return this;
+    }
+
+    @Override
+    public boolean remove(Object key, Object value)
+    {
+        C collection = this.map.get(key);
+        if (collection == null)
+        {
+            return false;
+        }
+        synchronized (collection)
+        {
+            if (!this.isLinked(key, collection) || !collection.remove(value))
+            {
+                return false;
+            }
+            this.decrementTotalSize();
+            if (collection.isEmpty())
+            {
+                this.map.remove(key, collection);
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public C removeAll(Object key)
+    {
+        C collection = this.map.remove(key);
+        if (collection == null)
+        {
+            return (C) this.createCollection().asUnmodifiable();
+        }
+        synchronized (collection)
+        {
+            this.subtractFromTotalSize(collection.size());
+            return (C) this.copyCollection(collection).asUnmodifiable();
+        }
+    }
+
+    @Override
+    public C replaceValues(K key, Iterable<? extends V> values)
+    {
+        if (Iterate.isEmpty(values))
+        {
+            return this.removeAll(key);
+        }
+
+        C newValues = Iterate.addAllTo(values, this.createCollection());
+        this.addToTotalSize(newValues.size());
+        C oldValues = this.map.put(key, newValues);
+        if (oldValues == null)
+        {
+            return (C) this.createCollection().asUnmodifiable();
+        }
+        synchronized (oldValues)
+        {
+            this.subtractFromTotalSize(oldValues.size());
+            return (C) this.copyCollection(oldValues).asUnmodifiable();
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        for (K key : this.map.keySet())
+        {
+            this.removeAll(key);
+        }
+    }
+
+    @Override
+    public C get(K key)
+    {
+        C collection = this.map.get(key);
+        if (collection == null)
+        {
+            return (C) this.createCollection().asUnmodifiable();
+        }
+        synchronized (collection)
+        {
+            return (C) this.copyCollection(collection).asUnmodifiable();
+        }
+    }
+
+    @Override
+    public C getIfAbsentPutAll(K key, Iterable<? extends V> values)
+    {
+        if (Iterate.isEmpty(values))
+        {
+            return this.get(key);
+        }
+        while (true)
+        {
+            C collection = this.getIfAbsentPutCollection(key);
+            synchronized (collection)
+            {
+                if (this.isLinked(key, collection))
+                {
+                    if (collection.isEmpty())
+                    {
+                        int newSize = Iterate.addAllTo(values, collection).size();
+                        this.addToTotalSize(newSize);
+                    }
+                    return (C) this.copyCollection(collection).asUnmodifiable();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void forEachKeyMultiValues(Procedure2<? super K, ? super RichIterable<V>> procedure)
+    {
+        this.forEachKeyCollectionCopy(procedure);
+    }
+
+    /**
+     * Passes each key with an unmodifiable copy of its values, skipping keys whose values were removed concurrently.
+     */
+    protected void forEachKeyCollectionCopy(Procedure2<? super K, ? super C> procedure)
+    {
+        this.map.forEachKeyValue((key, collection) ->
+        {
+            C copy;
+            synchronized (collection)
+            {
+                copy = this.copyCollection(collection);
+            }
+            if (copy.notEmpty())
+            {
+                procedure.value(key, (C) copy.asUnmodifiable());
+            }
+        });
+    }
+
+    private C getIfAbsentPutCollection(K key)
+    {
+        return this.map.getIfAbsentPutWith(key, this.createCollectionBlock(), this);
+    }
+
+    private boolean isLinked(Object key, C collection)
+    {
+        return this.map.get(key) == collection;
+    }
+}
@@ -66,6 +66,17 @@ public abstract class AbstractMutableListMultimap<K, V> extends AbstractMutableM
         return new ImmutableListMultimapImpl<>(map);
     }
 
+    /**
+     * Returns an immutable copy which stores all values in one contiguous array rather than one list per key.
+     *
+     * @see CompactImmutableListMultimap
+     * @since 12.0
+     */
+    public ImmutableListMultimap<K, V> toCompactImmutable()
+    {
+        return CompactImmutableListMultimap.newMultimap(this);
+    }
+
     @Override
     public <K2, V2> HashBagMultimap<K2, V2> collectKeysValues(Function2<? super K, ? super V, Pair<K2, V2>> function)
     {
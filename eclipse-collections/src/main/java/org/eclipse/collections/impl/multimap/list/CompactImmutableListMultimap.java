@@ -0,0 +1,386 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.list;
+
+import java.io.Serializable;
+import java.util.Collection;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.api.multimap.bag.ImmutableBagMultimap;
+import org.eclipse.collections.api.multimap.bag.MutableBagMultimap;
+import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
+import org.eclipse.collections.api.set.SetIterable;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.multimap.AbstractMultimap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+import org.eclipse.collections.impl.set.mutable.UnmodifiableMutableSet;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * An ImmutableListMultimap laid out for a small footprint. The keys live in one open-addressed table, and all the
+ * values live in one array in which each key's values are contiguous. {@link #get(Object)} returns a zero-copy
+ * {@link ImmutableList} view of that key's range, so there is no map entry or list object per key.
+ * <p>
+ * Operations which need a map of key to values, such as {@code equals}, {@code hashCode} and {@code toString},
+ * build one lazily from the views. The multimap is serialized as, and deserializes to, an
+ * {@link ImmutableListMultimapImpl}.
+ *
+ * @since 12.0
+ */
+public final class CompactImmutableListMultimap<K, V>
+        extends AbstractMultimap<K, V, ImmutableList<V>>
+        implements ImmutableListMultimap<K, V>, Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final Object NULL_KEY = new Object();
+
+    private final Object[] table;
+    private final int[] ordinals;
+    private final int[] offsets;
+    private final ImmutableList<V> values;
+
+    private transient volatile ImmutableMap<K, ImmutableList<V>> mapView;
+
+    private CompactImmutableListMultimap(Object[] table, int[] ordinals, int[] offsets, ImmutableList<V> values)
+    {
+        this.table = table;
+        this.ordinals = ordinals;
+        this.offsets = offsets;
+        this.values = values;
+    }
+
+    /**
+     * Copies {@code multimap} in a single pass over its keys.
+     */
+    public static <K, V> CompactImmutableListMultimap<K, V> newMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        int distinct = multimap.sizeDistinct();
+        Object[] table = new Object[CompactImmutableListMultimap.tableSizeFor(distinct)];
+        int[] ordinals = new int[table.length];
+        int[] offsets = new int[distinct + 1];
+        Object[] valuesArray = new Object[multimap.size()];
+        int[] counters = new int[2];
+        multimap.forEachKeyMultiValues((key, keyValues) ->
+        {
+            int ordinal = counters[0];
+            int slot = CompactImmutableListMultimap.probe(table, key);
+            table[slot] = CompactImmutableListMultimap.toSentinelIfNull(key);
+            ordinals[slot] = ordinal;
+            offsets[ordinal] = counters[1];
+            keyValues.forEach(value -> valuesArray[counters[1]++] = value);
+            counters[0]++;
+        });
+        offsets[distinct] = counters[1];
+        return new CompactImmutableListMultimap<>(table, ordinals, offsets, Lists.immutable.with((V[]) valuesArray));
+    }
+
+    private static int tableSizeFor(int distinct)
+    {
+        int capacity = 1;
+        while (capacity < distinct << 1)
+        {
+            capacity <<= 1;
+        }
+        return Math.max(capacity, 2);
+    }
+
+    private static int probe(Object[] table, Object key)
+    {
+        Object sentinel = CompactImmutableListMultimap.toSentinelIfNull(key);
+        int mask = table.length - 1;
+        int slot = CompactImmutableListMultimap.spread(key == null ? 0 : key.hashCode()) & mask;
+        while (table[slot] != null && !table[slot].equals(sentinel))
+        {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int spread(int hashCode)
+    {
+        int h = hashCode;
+        h ^= h >>> 20 ^ h >>> 12;
+        h ^= h >>> 7 ^ h >>> 4;
+        return h;
+    }
+
+    private static Object toSentinelIfNull(Object key)
+    {
+        return key == null ? NULL_KEY : key;
+    }
+
+    private static <K> K toKey(Object sentinel)
+    {
+        return sentinel == NULL_KEY ? null : (K) sentinel;
+    }
+
+    private ImmutableList<V> valuesAt(int slot)
+    {
+        int ordinal = this.ordinals[slot];
+        return this.values.subList(this.offsets[ordinal], this.offsets[ordinal + 1]);
+    }
+
+    @Override
+    protected ImmutableMap<K, ImmutableList<V>> getMap()
+    {
+        ImmutableMap<K, ImmutableList<V>> result = this.mapView;
+        if (result == null)
+        {
+            MutableMap<K, ImmutableList<V>> map = Maps.mutable.withInitialCapacity(this.sizeDistinct());
+            this.forEachKeyImmutableList(map::put);
+            result = map.toImmutable();
+            this.mapView = result;
+        }
+        return result;
+    }
+
+    @Override
+    protected ImmutableList<V> createCollection()
+    {
+        return Lists.immutable.empty();
+    }
+
+    @Override
+    public ImmutableList<V> get(K key)
+    {
+        int slot = CompactImmutableListMultimap.probe(this.table, key);
+        return this.table[slot] == null ? this.createCollection() : this.valuesAt(slot);
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.table[CompactImmutableListMultimap.probe(this.table, key)] != null;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        return this.values.contains(value);
+    }
+
+    @Override
+    public boolean containsKeyAndValue(Object key, Object value)
+    {
+        return this.get((K) key).contains(value);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.values.size();
+    }
+
+    @Override
+    public int sizeDistinct()
+    {
+        return this.offsets.length - 1;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.values.isEmpty();
+    }
+
+    @Override
+    public void forEachKeyImmutableList(Procedure2<? super K, ? super ImmutableList<V>> procedure)
+    {
+        for (int slot = 0; slot < this.table.length; slot++)
+        {
+            if (this.table[slot] != null)
+            {
+                procedure.value(CompactImmutableListMultimap.toKey(this.table[slot]), this.valuesAt(slot));
+            }
+        }
+    }
+
+    @Override
+    public void forEachKeyMultiValues(Procedure2<? super K, ? super RichIterable<V>> procedure)
+    {
+        this.forEachKeyImmutableList(procedure);
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        for (Object each : this.table)
+        {
+            if (each != null)
+            {
+                procedure.value(CompactImmutableListMultimap.toKey(each));
+            }
+        }
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        this.values.forEach(procedure);
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        for (int slot = 0; slot < this.table.length; slot++)
+        {
+            if (this.table[slot] != null)
+            {
+                K key = CompactImmutableListMultimap.toKey(this.table[slot]);
+                int ordinal = this.ordinals[slot];
+                for (int i = this.offsets[ordinal]; i < this.offsets[ordinal + 1]; i++)
+                {
+                    procedure.value(key, this.values.get(i));
+                }
+            }
+        }
+    }
+
+    @Override
+    public SetIterable<K> keySet()
+    {
+        return UnmodifiableMutableSet.of(this.getMap().castToMap().keySet());
+    }
+
+    @Override
+    public MutableMap<K, RichIterable<V>> toMap()
+    {
+        MutableMap<K, RichIterable<V>> result = Maps.mutable.withInitialCapacity(this.sizeDistinct());
+        this.forEachKeyImmutableList(result::put);
+        return result;
+    }
+
+    @Override
+    public <R extends Collection<V>> MutableMap<K, R> toMap(Function0<R> collectionFactory)
+    {
+        MutableMap<K, R> result = Maps.mutable.withInitialCapacity(this.sizeDistinct());
+        this.forEachKeyImmutableList((key, list) -> result.put(key, Iterate.addAllTo(list, collectionFactory.value())));
+        return result;
+    }
+
+    @Override
+    public ImmutableListMultimap<K, V> newEmpty()
+    {
+        return CompactImmutableListMultimap.newMultimap(FastListMultimap.newMultimap());
+    }
+
+    @Override
+    public MutableListMultimap<K, V> toMutable()
+    {
+        return new FastListMultimap<>(this);
+    }
+
+    @Override
+    public ImmutableListMultimap<K, V> toImmutable()
+    {
+        return this;
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableListMultimapImpl.ImmutableListMultimapSerializationProxy<>(this.getMap());
+    }
+
+    @Override
+    public ImmutableListMultimap<K, V> newWith(K key, V value)
+    {
+        MutableListMultimap<K, V> mutableMultimap = this.toMutable();
+        mutableMultimap.put(key, value);
+        return CompactImmutableListMultimap.newMultimap(mutableMultimap);
+    }
+
+    @Override
+    public ImmutableListMultimap<K, V> newWithout(Object key, Object value)
+    {
+        MutableListMultimap<K, V> mutableMultimap = this.toMutable();
+        mutableMultimap.remove(key, value);
+        return CompactImmutableListMultimap.newMultimap(mutableMultimap);
+    }
+
+    @Override
+    public ImmutableListMultimap<K, V> newWithAll(K key, Iterable<? extends V> values)
+    {
+        MutableListMultimap<K, V> mutableMultimap = this.toMutable();
+        mutableMultimap.putAll(key, values);
+        return CompactImmutableListMultimap.newMultimap(mutableMultimap);
+    }
+
+    @Override
+    public ImmutableListMultimap<K, V> newWithoutAll(Object key)
+    {
+        MutableListMultimap<K, V> mutableMultimap = this.toMutable();
+        mutableMultimap.removeAll(key);
+        return CompactImmutableListMultimap.newMultimap(mutableMultimap);
+    }
+
+    @Override
+    public ImmutableBagMultimap<V, K> flip()
+    {
+        return Iterate.flip(this).toImmutable();
+    }
+
+    @Override
+    public ImmutableListMultimap<K, V> selectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.selectKeysValues(predicate, FastListMultimap.newMultimap()).toImmutable();
+    }
+
+    @Override
+    public ImmutableListMultimap<K, V> rejectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.rejectKeysValues(predicate, FastListMultimap.newMultimap()).toImmutable();
+    }
+
+    @Override
+    public ImmutableListMultimap<K, V> selectKeysMultiValues(Predicate2<? super K, ? super RichIterable<V>> predicate)
+    {
+        return this.selectKeysMultiValues(predicate, FastListMultimap.newMultimap()).toImmutable();
+    }
+
+    @Override
+    public ImmutableListMultimap<K, V> rejectKeysMultiValues(Predicate2<? super K, ? super RichIterable<V>> predicate)
+    {
+        return this.rejectKeysMultiValues(predicate, FastListMultimap.newMultimap()).toImmutable();
+    }
+
+    @Override
+    public <K2, V2> ImmutableBagMultimap<K2, V2> collectKeysValues(Function2<? super K, ? super V, Pair<K2, V2>> function)
+    {
+        return this.collectKeysValues(function, HashBagMultimap.newMultimap()).toImmutable();
+    }
+
+    @Override
+    public <K2, V2> ImmutableBagMultimap<K2, V2> collectKeyMultiValues(Function<? super K, ? extends K2> keyFunction, Function<? super V, ? extends V2> valueFunction)
+    {
+        MutableBagMultimap<K2, V2> mutableMultimap = this.collectKeyMultiValues(keyFunction, valueFunction, HashBagMultimap.newMultimap());
+        return mutableMultimap.toImmutable();
+    }
+
+    @Override
+    public <V2> ImmutableListMultimap<K, V2> collectValues(Function<? super V, ? extends V2> function)
+    {
+        return this.collectValues(function, FastListMultimap.<K, V2>newMultimap()).toImmutable();
+    }
+}
@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+/**
+ * This package contains implementations of the primitive-object and primitive-primitive multimap interfaces.
+ * <p>
+ *     The mutable implementations keep one collection per key. The immutable implementations store all values in a single array, with each key's values in a contiguous range.
+ */
+package org.eclipse.collections.impl.multimap.primitive;
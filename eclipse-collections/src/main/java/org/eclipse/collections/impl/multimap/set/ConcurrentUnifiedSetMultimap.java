@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.set;
+
+import java.io.Externalizable;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.api.multimap.bag.MutableBagMultimap;
+import org.eclipse.collections.api.multimap.set.ImmutableSetMultimap;
+import org.eclipse.collections.api.multimap.set.MutableSetMultimap;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.multimap.AbstractConcurrentMultimap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+import org.eclipse.collections.impl.set.mutable.SynchronizedMutableSet;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A Multimap that supports concurrent reads and writes, using a per-key lock instead of a global one.
+ *
+ * @see AbstractConcurrentMultimap
+ * @since 12.0
+ */
+public final class ConcurrentUnifiedSetMultimap<K, V>
+        extends AbstractConcurrentMultimap<K, V, MutableSet<V>> implements MutableSetMultimap<K, V>, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    public ConcurrentUnifiedSetMultimap()
+    {
+    }
+
+    public ConcurrentUnifiedSetMultimap(int initialCapacity)
+    {
+        super(ConcurrentHashMap.newMap(initialCapacity));
+    }
+
+    public ConcurrentUnifiedSetMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        this.putAll(multimap);
+    }
+
+    public ConcurrentUnifiedSetMultimap(Pair<K, V>... pairs)
+    {
+        this();
+        ArrayIterate.forEach(pairs, pair -> this.put(pair.getOne(), pair.getTwo()));
+    }
+
+    public ConcurrentUnifiedSetMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        this();
+        Iterate.forEach(inputIterable, this::add);
+    }
+
+    @Override
+    public ConcurrentUnifiedSetMultimap<K, V> withKeyMultiValues(K key, V... values)
+    {
+        return (ConcurrentUnifiedSetMultimap<K, V>) super.withKeyMultiValues(key, values);
+    }
+
+    public static <K, V> ConcurrentUnifiedSetMultimap<K, V> newMultimap()
+    {
+        return new ConcurrentUnifiedSetMultimap<>();
+    }
+
+    public static <K, V> ConcurrentUnifiedSetMultimap<K, V> newMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        return new ConcurrentUnifiedSetMultimap<>(multimap);
+    }
+
+    public static <K, V> ConcurrentUnifiedSetMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return new ConcurrentUnifiedSetMultimap<>(pairs);
+    }
+
+    public static <K, V> ConcurrentUnifiedSetMultimap<K, V> newMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        return new ConcurrentUnifiedSetMultimap<>(inputIterable);
+    }
+
+    @Override
+    protected MutableSet<V> createCollection()
+    {
+        return SynchronizedMutableSet.of(Sets.mutable.<V>withInitialCapacity(1));
+    }
+
+    @Override
+    protected MutableSet<V> copyCollection(MutableSet<V> values)
+    {
+        return Sets.mutable.withAll(values);
+    }
+
+    @Override
+    public void forEachKeyMutableSet(Procedure2<? super K, ? super MutableSet<V>> procedure)
+    {
+        this.forEachKeyCollectionCopy(procedure);
+    }
+
+    @Override
+    public ConcurrentUnifiedSetMultimap<K, V> newEmpty()
+    {
+        return new ConcurrentUnifiedSetMultimap<>();
+    }
+
+    @Override
+    public MutableSetMultimap<K, V> toMutable()
+    {
+        return new ConcurrentUnifiedSetMultimap<>(this);
+    }
+
+    @Override
+    public ImmutableSetMultimap<K, V> toImmutable()
+    {
+        MutableMap<K, ImmutableSet<V>> map = Maps.mutable.empty();
+
+        this.forEachKeyCollectionCopy((key, set) -> map.put(key, set.toImmutable()));
+
+        return new ImmutableSetMultimapImpl<>(map);
+    }
+
+    @Override
+    public UnifiedSetMultimap<K, V> selectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.selectKeysValues(predicate, UnifiedSetMultimap.newMultimap());
+    }
+
+    @Override
+    public UnifiedSetMultimap<K, V> rejectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.rejectKeysValues(predicate, UnifiedSetMultimap.newMultimap());
+    }
+
+    @Override
+    public UnifiedSetMultimap<K, V> selectKeysMultiValues(Predicate2<? super K, ? super RichIterable<V>> predicate)
+    {
+        return this.selectKeysMultiValues(predicate, UnifiedSetMultimap.newMultimap());
+    }
+
+    @Override
+    public UnifiedSetMultimap<K, V> rejectKeysMultiValues(Predicate2<? super K, ? super RichIterable<V>> predicate)
+    {
+        return this.rejectKeysMultiValues(predicate, UnifiedSetMultimap.newMultimap());
+    }
+
+    @Override
+    public <K2, V2> MutableBagMultimap<K2, V2> collectKeysValues(Function2<? super K, ? super V, Pair<K2, V2>> function)
+    {
+        return this.collectKeysValues(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public <K2, V2> MutableBagMultimap<K2, V2> collectKeyMultiValues(Function<? super K, ? extends K2> keyFunction, Function<? super V, ? extends V2> valueFunction)
+    {
+        return this.collectKeyMultiValues(keyFunction, valueFunction, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public <V2> MutableBagMultimap<K, V2> collectValues(Function<? super V, ? extends V2> function)
+    {
+        return this.collectValues(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public MutableSetMultimap<V, K> flip()
+    {
+        return Iterate.flip(this);
+    }
+
+    @Override
+    public MutableSetMultimap<K, V> asSynchronized()
+    {
+        throw new UnsupportedOperationException("Cannot call asSynchronized() on " + this.getClass().getSimpleName());
+    }
+}
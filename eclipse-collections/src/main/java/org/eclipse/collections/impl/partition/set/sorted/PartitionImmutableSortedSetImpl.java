@@ -11,6 +11,7 @@
 package org.eclipse.collections.impl.partition.set.sorted;
 
 import org.eclipse.collections.api.partition.set.sorted.PartitionImmutableSortedSet;
+import org.eclipse.collections.api.partition.set.sorted.PartitionMutableSortedSet;
 import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
 
 public class PartitionImmutableSortedSetImpl<T> implements PartitionImmutableSortedSet<T>
@@ -24,6 +25,15 @@ public class PartitionImmutableSortedSetImpl<T> implements PartitionImmutableSor
         this.rejected = partitionTreeSortedSet.getRejected().toImmutable();
     }
 
+    /**
+     * @since 12.0
+     */
+    public PartitionImmutableSortedSetImpl(PartitionMutableSortedSet<T> partitionMutableSortedSet)
+    {
+        this.selected = partitionMutableSortedSet.getSelected().toImmutable();
+        this.rejected = partitionMutableSortedSet.getRejected().toImmutable();
+    }
+
     @Override
     public ImmutableSortedSet<T> getSelected()
     {
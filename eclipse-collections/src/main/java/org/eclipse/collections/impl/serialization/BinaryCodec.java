@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.serialization;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+
+/**
+ * A compact, versioned binary format for collections. Every collection is written as a header followed by its
+ * contents:
+ * <pre>
+ * int  magic
+ * byte version
+ * byte kind          (list, set or map)
+ * byte element type  (0 for objects, otherwise the primitive key or element type)
+ * int  size
+ * </pre>
+ * A primitive hash set or primitive-keyed hash map whose backing table is dense enough is written with
+ * {@link Integer#MAX_VALUE} in place of the size, followed by the table as it is laid out in memory, so that it can be
+ * read back without probing. No table can hold that many elements.
+ * Elements are written with an {@link ElementCodec} rather than through Java serialization, so the stream carries no
+ * class descriptors or back references. Collections are read back presized to their final size, so they never grow
+ * while being filled. The generated primitive codecs, such as {@code LongBinaryCodec}, use the same header and write
+ * primitive arrays in bulk.
+ * <p>
+ * Every reader takes a {@link DataInput}, so a collection can be restored straight from a channel through a
+ * {@link ChannelDataInput}, which holds at most one bounded chunk of the stream in memory. The lazy readers go one
+ * step further and decode elements only as they are iterated, without building the collection at all.
+ *
+ * @since 12.0
+ */
+public final class BinaryCodec
+{
+    public static final int MAGIC = 0x45434243;
+    public static final byte VERSION = 1;
+
+    static final byte KIND_LIST = 1;
+    static final byte KIND_SET = 2;
+    static final byte KIND_MAP = 3;
+
+    static final byte ELEMENT_OBJECT = 0;
+
+    /**
+     * Written in place of the size when a hash table follows in its raw form.
+     */
+    static final int TABLE = Integer.MAX_VALUE;
+
+    /**
+     * The size of the scratch buffers used for bulk primitive reads and writes.
+     */
+    static final int BUFFER_SIZE = 1 << 16;
+
+    private BinaryCodec()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    public static <T> void writeList(DataOutput out, List<? extends T> list, ElementCodec<? super T> codec) throws IOException
+    {
+        BinaryCodec.writeCollection(out, KIND_LIST, list, codec);
+    }
+
+    public static <T> FastList<T> readFastList(DataInput in, ElementCodec<? extends T> codec) throws IOException
+    {
+        int size = BinaryCodec.readHeader(in, KIND_LIST, ELEMENT_OBJECT);
+        Object[] items = new Object[size];
+        for (int i = 0; i < size; i++)
+        {
+            items[i] = codec.read(in);
+        }
+        return FastList.newListWith((T[]) items);
+    }
+
+    /**
+     * Returns a view which decodes the elements of a list written by {@link #writeList(DataOutput, List, ElementCodec)}
+     * one at a time as it is iterated. The view consumes {@code in}, so it can only be iterated once, and an
+     * {@link IOException} is rethrown as an {@link java.io.UncheckedIOException}.
+     */
+    public static <T> LazyIterable<T> readListLazily(DataInput in, ElementCodec<? extends T> codec)
+    {
+        return new DecodingIterable<>(in, KIND_LIST, codec);
+    }
+
+    public static <T> void writeSet(DataOutput out, Set<? extends T> set, ElementCodec<? super T> codec) throws IOException
+    {
+        BinaryCodec.writeCollection(out, KIND_SET, set, codec);
+    }
+
+    public static <T> UnifiedSet<T> readUnifiedSet(DataInput in, ElementCodec<? extends T> codec) throws IOException
+    {
+        int size = BinaryCodec.readHeader(in, KIND_SET, ELEMENT_OBJECT);
+        UnifiedSet<T> set = UnifiedSet.newSet(size);
+        for (int i = 0; i < size; i++)
+        {
+            set.add(codec.read(in));
+        }
+        return set;
+    }
+
+    /**
+     * Returns a view which decodes the elements of a set written by {@link #writeSet(DataOutput, Set, ElementCodec)} one
+     * at a time as it is iterated. The view consumes {@code in}, so it can only be iterated once, and an
+     * {@link IOException} is rethrown as an {@link java.io.UncheckedIOException}.
+     */
+    public static <T> LazyIterable<T> readSetLazily(DataInput in, ElementCodec<? extends T> codec)
+    {
+        return new DecodingIterable<>(in, KIND_SET, codec);
+    }
+
+    public static <K, V> void writeMap(
+            DataOutput out,
+            Map<? extends K, ? extends V> map,
+            ElementCodec<? super K> keyCodec,
+            ElementCodec<? super V> valueCodec) throws IOException
+    {
+        BinaryCodec.writeHeader(out, KIND_MAP, ELEMENT_OBJECT, map.size());
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+        {
+            keyCodec.write(out, entry.getKey());
+            valueCodec.write(out, entry.getValue());
+        }
+    }
+
+    public static <K, V> UnifiedMap<K, V> readUnifiedMap(
+            DataInput in,
+            ElementCodec<? extends K> keyCodec,
+            ElementCodec<? extends V> valueCodec) throws IOException
+    {
+        int size = BinaryCodec.readHeader(in, KIND_MAP, ELEMENT_OBJECT);
+        UnifiedMap<K, V> map = UnifiedMap.newMap(size);
+        for (int i = 0; i < size; i++)
+        {
+            K key = keyCodec.read(in);
+            map.put(key, valueCodec.read(in));
+        }
+        return map;
+    }
+
+    private static <T> void writeCollection(
+            DataOutput out,
+            byte kind,
+            Collection<? extends T> collection,
+            ElementCodec<? super T> codec) throws IOException
+    {
+        BinaryCodec.writeHeader(out, kind, ELEMENT_OBJECT, collection.size());
+        for (T each : collection)
+        {
+            codec.write(out, each);
+        }
+    }
+
+    static void writeHeader(DataOutput out, byte kind, byte elementType, int size) throws IOException
+    {
+        BinaryCodec.writeHeaderWithoutSize(out, kind, elementType);
+        out.writeInt(size);
+    }
+
+    /**
+     * Writes a header whose size is left to the caller, which writes either the size or the table form.
+     */
+    static void writeHeaderWithoutSize(DataOutput out, byte kind, byte elementType) throws IOException
+    {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte(kind);
+        out.writeByte(elementType);
+    }
+
+    /**
+     * Reads and checks a header written by {@link #writeHeader(DataOutput, byte, byte, int)}.
+     *
+     * @return the size of the collection which follows
+     */
+    static int readHeader(DataInput in, byte kind, byte elementType) throws IOException
+    {
+        return BinaryCodec.readHeader(in, kind, elementType, false);
+    }
+
+    /**
+     * Reads and checks a header which may also announce the table form.
+     *
+     * @return the size of the collection which follows, or {@link #TABLE} if a raw table follows
+     */
+    static int readHeader(DataInput in, byte kind, byte elementType, boolean allowTable) throws IOException
+    {
+        int magic = in.readInt();
+        if (magic != MAGIC)
+        {
+            throw new StreamCorruptedException("Not an Eclipse Collections binary stream, found magic " + Integer.toHexString(magic));
+        }
+        byte version = in.readByte();
+        if (version != VERSION)
+        {
+            throw new StreamCorruptedException("Unsupported binary format version " + version);
+        }
+        byte actualKind = in.readByte();
+        byte actualElementType = in.readByte();
+        if (actualKind != kind || actualElementType != elementType)
+        {
+            throw new StreamCorruptedException("Expected kind " + kind + " with element type " + elementType
+                    + " but found kind " + actualKind + " with element type " + actualElementType);
+        }
+        int size = in.readInt();
+        if (size < 0)
+        {
+            throw new StreamCorruptedException("Negative size " + size);
+        }
+        if (size == TABLE && !allowTable)
+        {
+            throw new StreamCorruptedException("Unexpected raw table for kind " + kind);
+        }
+        return size;
+    }
+}
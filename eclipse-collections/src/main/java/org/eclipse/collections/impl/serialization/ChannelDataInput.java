@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.serialization;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * A {@link DataInput} which pulls bytes from a {@link ReadableByteChannel} through a single buffer of fixed size, so
+ * that {@link BinaryCodec} and the primitive codecs can fill a collection straight from a file or socket while holding
+ * no more than one chunk of undecoded input. Reads which are larger than the buffer go to the channel directly.
+ * <p>
+ * The channel must be in blocking mode. It is not closed by this class.
+ *
+ * @since 12.0
+ */
+public final class ChannelDataInput implements DataInput
+{
+    private static final int MIN_BUFFER_SIZE = Long.BYTES;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+
+    public ChannelDataInput(ReadableByteChannel channel)
+    {
+        this(channel, BinaryCodec.BUFFER_SIZE);
+    }
+
+    public ChannelDataInput(ReadableByteChannel channel, int bufferSize)
+    {
+        if (bufferSize < MIN_BUFFER_SIZE)
+        {
+            throw new IllegalArgumentException("Buffer size must be at least " + MIN_BUFFER_SIZE + " but was " + bufferSize);
+        }
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.buffer.flip();
+    }
+
+    @Override
+    public void readFully(byte[] bytes) throws IOException
+    {
+        this.readFully(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public void readFully(byte[] bytes, int offset, int length) throws IOException
+    {
+        int buffered = Math.min(length, this.buffer.remaining());
+        this.buffer.get(bytes, offset, buffered);
+        int remaining = length - buffered;
+        if (remaining == 0)
+        {
+            return;
+        }
+        if (remaining >= this.buffer.capacity())
+        {
+            ByteBuffer target = ByteBuffer.wrap(bytes, offset + buffered, remaining);
+            while (target.hasRemaining())
+            {
+                this.fill(target);
+            }
+        }
+        else
+        {
+            this.require(remaining);
+            this.buffer.get(bytes, offset + buffered, remaining);
+        }
+    }
+
+    @Override
+    public int skipBytes(int count) throws IOException
+    {
+        int skipped = 0;
+        while (skipped < count)
+        {
+            if (!this.buffer.hasRemaining())
+            {
+                this.buffer.clear();
+                int read = this.channel.read(this.buffer);
+                this.buffer.flip();
+                if (read < 0)
+                {
+                    break;
+                }
+            }
+            int step = Math.min(count - skipped, this.buffer.remaining());
+            this.buffer.position(this.buffer.position() + step);
+            skipped += step;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException
+    {
+        return this.readByte() != 0;
+    }
+
+    @Override
+    public byte readByte() throws IOException
+    {
+        this.require(Byte.BYTES);
+        return this.buffer.get();
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOException
+    {
+        return this.readByte() & 0xFF;
+    }
+
+    @Override
+    public short readShort() throws IOException
+    {
+        this.require(Short.BYTES);
+        return this.buffer.getShort();
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOException
+    {
+        return this.readShort() & 0xFFFF;
+    }
+
+    @Override
+    public char readChar() throws IOException
+    {
+        this.require(Character.BYTES);
+        return this.buffer.getChar();
+    }
+
+    @Override
+    public int readInt() throws IOException
+    {
+        this.require(Integer.BYTES);
+        return this.buffer.getInt();
+    }
+
+    @Override
+    public long readLong() throws IOException
+    {
+        this.require(Long.BYTES);
+        return this.buffer.getLong();
+    }
+
+    @Override
+    public float readFloat() throws IOException
+    {
+        this.require(Float.BYTES);
+        return this.buffer.getFloat();
+    }
+
+    @Override
+    public double readDouble() throws IOException
+    {
+        this.require(Double.BYTES);
+        return this.buffer.getDouble();
+    }
+
+    @Override
+    public String readLine()
+    {
+        throw new UnsupportedOperationException("Cannot call readLine() on " + this.getClass().getSimpleName());
+    }
+
+    @Override
+    public String readUTF() throws IOException
+    {
+        return DataInputStream.readUTF(this);
+    }
+
+    /**
+     * Makes sure that at least {@code count} bytes, which must fit in the buffer, are buffered.
+     */
+    private void require(int count) throws IOException
+    {
+        if (this.buffer.remaining() >= count)
+        {
+            return;
+        }
+        this.buffer.compact();
+        try
+        {
+            while (this.buffer.position() < count)
+            {
+                this.fill(this.buffer);
+            }
+        }
+        finally
+        {
+            this.buffer.flip();
+        }
+    }
+
+    private void fill(ByteBuffer target) throws IOException
+    {
+        if (this.channel.read(target) < 0)
+        {
+            throw new EOFException();
+        }
+    }
+}
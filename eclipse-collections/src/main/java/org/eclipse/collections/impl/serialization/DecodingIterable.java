@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.serialization;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
+
+/**
+ * A single-pass LazyIterable which decodes the elements of a list or set written by {@link BinaryCodec} as it is
+ * iterated. The header is read when iteration starts.
+ */
+final class DecodingIterable<T>
+        extends AbstractLazyIterable<T>
+{
+    private final DataInput in;
+    private final byte kind;
+    private final ElementCodec<? extends T> codec;
+    private boolean iterated;
+
+    DecodingIterable(DataInput in, byte kind, ElementCodec<? extends T> codec)
+    {
+        this.in = in;
+        this.kind = kind;
+        this.codec = codec;
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        Iterator<T> iterator = this.iterator();
+        while (iterator.hasNext())
+        {
+            procedure.value(iterator.next());
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        if (this.iterated)
+        {
+            throw new IllegalStateException("The elements have already been decoded; " + this.getClass().getSimpleName() + " can only be iterated once");
+        }
+        this.iterated = true;
+        try
+        {
+            return new DecodingIterator(BinaryCodec.readHeader(this.in, this.kind, BinaryCodec.ELEMENT_OBJECT));
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private final class DecodingIterator implements Iterator<T>
+    {
+        private int remaining;
+
+        private DecodingIterator(int size)
+        {
+            this.remaining = size;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.remaining > 0;
+        }
+
+        @Override
+        public T next()
+        {
+            if (this.remaining == 0)
+            {
+                throw new NoSuchElementException();
+            }
+            this.remaining--;
+            try
+            {
+                return DecodingIterable.this.codec.read(DecodingIterable.this.in);
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.serialization;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Writes and reads single elements for {@link BinaryCodec}. See {@link ElementCodecs} for the common types.
+ *
+ * @since 12.0
+ */
+public interface ElementCodec<T>
+{
+    void write(DataOutput out, T element) throws IOException;
+
+    T read(DataInput in) throws IOException;
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.serialization;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Factory methods for the common {@link ElementCodec}s. None of them accept null elements except
+ * {@link #nullable(ElementCodec)} and {@link #objectStream()}.
+ *
+ * @since 12.0
+ */
+public final class ElementCodecs
+{
+    private static final ElementCodec<String> STRING = new StringCodec();
+    private static final ElementCodec<Integer> INTEGER = new IntegerCodec();
+    private static final ElementCodec<Long> LONG = new LongCodec();
+    private static final ElementCodec<Double> DOUBLE = new DoubleCodec();
+    private static final ElementCodec<?> OBJECT_STREAM = new ObjectStreamCodec<>();
+
+    private ElementCodecs()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Writes Strings as a length followed by their UTF-8 bytes, so they are not limited to 64K like
+     * {@link DataOutput#writeUTF(String)}.
+     */
+    public static ElementCodec<String> strings()
+    {
+        return STRING;
+    }
+
+    public static ElementCodec<Integer> integers()
+    {
+        return INTEGER;
+    }
+
+    public static ElementCodec<Long> longs()
+    {
+        return LONG;
+    }
+
+    public static ElementCodec<Double> doubles()
+    {
+        return DOUBLE;
+    }
+
+    /**
+     * Writes a presence flag before each element, so that {@code codec} only sees non-null elements.
+     */
+    public static <T> ElementCodec<T> nullable(ElementCodec<T> codec)
+    {
+        return new NullableCodec<>(codec);
+    }
+
+    /**
+     * Falls back to Java serialization for each element. The stream must be an {@link ObjectOutput} when writing and
+     * an {@link ObjectInput} when reading.
+     */
+    public static <T> ElementCodec<T> objectStream()
+    {
+        return (ElementCodec<T>) OBJECT_STREAM;
+    }
+
+    private static final class StringCodec implements ElementCodec<String>
+    {
+        @Override
+        public void write(DataOutput out, String element) throws IOException
+        {
+            byte[] bytes = element.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException
+        {
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final class IntegerCodec implements ElementCodec<Integer>
+    {
+        @Override
+        public void write(DataOutput out, Integer element) throws IOException
+        {
+            out.writeInt(element);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException
+        {
+            return in.readInt();
+        }
+    }
+
+    private static final class LongCodec implements ElementCodec<Long>
+    {
+        @Override
+        public void write(DataOutput out, Long element) throws IOException
+        {
+            out.writeLong(element);
+        }
+
+        @Override
+        public Long read(DataInput in) throws IOException
+        {
+            return in.readLong();
+        }
+    }
+
+    private static final class DoubleCodec implements ElementCodec<Double>
+    {
+        @Override
+        public void write(DataOutput out, Double element) throws IOException
+        {
+            out.writeDouble(element);
+        }
+
+        @Override
+        public Double read(DataInput in) throws IOException
+        {
+            return in.readDouble();
+        }
+    }
+
+    private static final class NullableCodec<T> implements ElementCodec<T>
+    {
+        private final ElementCodec<T> delegate;
+
+        private NullableCodec(ElementCodec<T> delegate)
+        {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(DataOutput out, T element) throws IOException
+        {
+            out.writeBoolean(element != null);
+            if (element != null)
+            {
+                this.delegate.write(out, element);
+            }
+        }
+
+        @Override
+        public T read(DataInput in) throws IOException
+        {
+            return in.readBoolean() ? this.delegate.read(in) : null;
+        }
+    }
+
+    private static final class ObjectStreamCodec<T> implements ElementCodec<T>
+    {
+        @Override
+        public void write(DataOutput out, T element) throws IOException
+        {
+            if (!(out instanceof ObjectOutput))
+            {
+                throw new IllegalArgumentException("Java serialization of elements requires an ObjectOutput");
+            }
+            ((ObjectOutput) out).writeObject(element);
+        }
+
+        @Override
+        public T read(DataInput in) throws IOException
+        {
+            if (!(in instanceof ObjectInput))
+            {
+                throw new IllegalArgumentException("Java serialization of elements requires an ObjectInput");
+            }
+            try
+            {
+                return (T) ((ObjectInput) in).readObject();
+            }
+            catch (ClassNotFoundException e)
+            {
+                InvalidClassException exception = new InvalidClassException(e.getMessage());
+                exception.initCause(e);
+                throw exception;
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+/**
+ * This package contains a compact, versioned binary format for collections, as an alternative to Java serialization.
+ * <p>
+ *     {@link org.eclipse.collections.impl.serialization.BinaryCodec} reads and writes object collections, with an {@link org.eclipse.collections.impl.serialization.ElementCodec} for the elements.
+ *     The generated primitive codecs, such as {@code LongBinaryCodec}, write primitive arrays in bulk.
+     {@link org.eclipse.collections.impl.serialization.ChannelDataInput} feeds any of them from a channel in bounded chunks.
+ */
+package org.eclipse.collections.impl.serialization;
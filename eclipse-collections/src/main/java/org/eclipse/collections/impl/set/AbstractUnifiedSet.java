@@ -286,7 +286,7 @@ public abstract class AbstractUnifiedSet<T>
     @Override
     public MutableSet<T> union(SetIterable<? extends T> set)
     {
-        return SetIterables.unionInto(this, set, this.newEmpty());
+        return SetIterables.unionInto(this, set, this.newEmpty(this.size() + set.size()));
     }
 
     @Override
@@ -298,7 +298,7 @@ public abstract class AbstractUnifiedSet<T>
     @Override
     public MutableSet<T> intersect(SetIterable<? extends T> set)
     {
-        return SetIterables.intersectInto(this, set, this.newEmpty());
+        return SetIterables.intersectInto(this, set, this.newEmpty(Math.min(this.size(), set.size())));
     }
 
     @Override
@@ -310,7 +310,7 @@ public abstract class AbstractUnifiedSet<T>
     @Override
     public MutableSet<T> difference(SetIterable<? extends T> subtrahendSet)
     {
-        return SetIterables.differenceInto(this, subtrahendSet, this.newEmpty());
+        return SetIterables.differenceInto(this, subtrahendSet, this.newEmpty(this.size()));
     }
 
     @Override
@@ -322,7 +322,7 @@ public abstract class AbstractUnifiedSet<T>
     @Override
     public MutableSet<T> symmetricDifference(SetIterable<? extends T> setB)
     {
-        return SetIterables.symmetricDifferenceInto(this, setB, this.newEmpty());
+        return SetIterables.symmetricDifferenceInto(this, setB, this.newEmpty(this.size() + setB.size()));
     }
 
     @Override
@@ -0,0 +1,591 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
+import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
+import org.eclipse.collections.impl.lazy.parallel.AbstractBatch;
+import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
+import org.eclipse.collections.impl.lazy.parallel.bag.CollectUnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.bag.FlatCollectUnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.bag.UnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.set.AbstractParallelUnsortedSetIterable;
+import org.eclipse.collections.impl.lazy.parallel.set.RootUnsortedSetBatch;
+import org.eclipse.collections.impl.lazy.parallel.set.SelectUnsortedSetBatch;
+import org.eclipse.collections.impl.lazy.parallel.set.UnsortedSetBatch;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.internal.CompactHashTable;
+
+/**
+ * CompactOrderedSet is an insertion-ordered MutableSet laid out like a CPython compact dict, as a lighter alternative
+ * to adapting a {@link java.util.LinkedHashSet}. Elements are appended to one dense {@code Object[]} in insertion
+ * order, next to an {@code int[]} of their hash codes, and a separate open-addressed {@code int[]} index maps each hash
+ * to a position in the dense arrays. There are no per-element nodes, iteration is a linear scan of one array, and
+ * every operation which builds a new set, such as {@link #select(Predicate)} or {@link #collect(Function)}, keeps the
+ * encounter order.
+ * <p>
+ * Removing an element leaves a tombstone so the order of the others is kept; the dense arrays are compacted once more
+ * than half of their used positions are tombstones. {@link #getFirst()} and {@link #getLast()} are constant time, and
+ * {@link #indexOf(Object)} is constant time while the set has no tombstones. {@link #asParallel(ExecutorService, int)}
+ * splits the dense array into contiguous ranges of positions.
+ * <p>
+ * Null is supported as an element.
+ *
+ * @since 12.0
+ */
+public class CompactOrderedSet<T>
+        extends AbstractMutableSet<T>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private CompactHashTable table;
+
+    public CompactOrderedSet()
+    {
+        this.table = new CompactHashTable(0, false);
+    }
+
+    public CompactOrderedSet(int initialCapacity)
+    {
+        this.table = new CompactHashTable(initialCapacity, false);
+    }
+
+    public static <K> CompactOrderedSet<K> newSet()
+    {
+        return new CompactOrderedSet<>();
+    }
+
+    public static <K> CompactOrderedSet<K> newSet(int size)
+    {
+        return new CompactOrderedSet<>(size);
+    }
+
+    public static <K> CompactOrderedSet<K> newSet(Iterable<? extends K> source)
+    {
+        CompactOrderedSet<K> result = new CompactOrderedSet<>(source instanceof Collection ? ((Collection<?>) source).size() : 0);
+        Iterate.forEach(source, result::add);
+        return result;
+    }
+
+    public static <K> CompactOrderedSet<K> newSetWith(K... elements)
+    {
+        CompactOrderedSet<K> result = new CompactOrderedSet<>(elements.length);
+        for (K element : elements)
+        {
+            result.add(element);
+        }
+        return result;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.table.size();
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return this.table.find(object, CompactHashTable.hash(object)) >= 0;
+    }
+
+    @Override
+    public boolean add(T element)
+    {
+        int hash = CompactHashTable.hash(element);
+        if (this.table.find(element, hash) >= 0)
+        {
+            return false;
+        }
+        this.table.add(element, hash);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object object)
+    {
+        int slot = this.table.find(object, CompactHashTable.hash(object));
+        if (slot < 0)
+        {
+            return false;
+        }
+        this.table.removeSlot(slot);
+        this.table.compactIfSparse();
+        return true;
+    }
+
+    @Override
+    public void clear()
+    {
+        this.table.clear();
+    }
+
+    @Override
+    public T getFirst()
+    {
+        return this.table.size() == 0 ? null : (T) this.table.keyAt(this.table.first());
+    }
+
+    @Override
+    public T getLast()
+    {
+        return this.table.size() == 0 ? null : (T) this.table.keyAt(this.table.last());
+    }
+
+    /**
+     * Returns the position of {@code object} in insertion order, or -1 if it is not in the set.
+     */
+    public int indexOf(Object object)
+    {
+        int slot = this.table.find(object, CompactHashTable.hash(object));
+        if (slot < 0)
+        {
+            return -1;
+        }
+        int position = this.table.positionOf(slot);
+        if (this.table.used() == this.table.size())
+        {
+            return position;
+        }
+        int result = 0;
+        for (int i = this.table.first(); i < position; i++)
+        {
+            if (this.table.isLive(i))
+            {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.each(procedure, 0, this.table.used());
+    }
+
+    private void each(Procedure<? super T> procedure, int fromPosition, int toPosition)
+    {
+        for (int position = fromPosition; position < toPosition; position++)
+        {
+            if (this.table.isLive(position))
+            {
+                procedure.value((T) this.table.keyAt(position));
+            }
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        int index = 0;
+        for (int position = 0; position < this.table.used(); position++)
+        {
+            if (this.table.isLive(position))
+            {
+                objectIntProcedure.value((T) this.table.keyAt(position), index++);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new PositionIterator();
+    }
+
+    @Override
+    public CompactOrderedSet<T> newEmpty()
+    {
+        return new CompactOrderedSet<>();
+    }
+
+    @Override
+    protected <K> MutableSet<K> newEmptySameSize()
+    {
+        return new CompactOrderedSet<>(this.table.size());
+    }
+
+    @Override
+    public CompactOrderedSet<T> clone()
+    {
+        CompactOrderedSet<T> clone = (CompactOrderedSet<T>) super.clone();
+        clone.table = this.table.copy();
+        return clone;
+    }
+
+    @Override
+    public CompactOrderedSet<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public CompactOrderedSet<T> with(T element1, T element2)
+    {
+        this.add(element1);
+        this.add(element2);
+        return this;
+    }
+
+    public CompactOrderedSet<T> with(T element1, T element2, T element3)
+    {
+        this.add(element1);
+        this.add(element2);
+        this.add(element3);
+        return this;
+    }
+
+    public CompactOrderedSet<T> with(T... elements)
+    {
+        for (T element : elements)
+        {
+            this.add(element);
+        }
+        return this;
+    }
+
+    @Override
+    public CompactOrderedSet<T> withAll(Iterable<? extends T> elements)
+    {
+        this.addAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public CompactOrderedSet<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public CompactOrderedSet<T> withoutAll(Iterable<? extends T> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof Set))
+        {
+            return false;
+        }
+        Set<?> other = (Set<?>) object;
+        return this.table.size() == other.size() && this.containsAll(other);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int position = 0; position < this.table.used(); position++)
+        {
+            Object element = this.table.keyAt(position);
+            if (this.table.isLive(position) && element != null)
+            {
+                hashCode += element.hashCode();
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public ParallelUnsortedSetIterable<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new CompactOrderedSetParallelIterable(executorService, batchSize);
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.table.size());
+        for (int position = 0; position < this.table.used(); position++)
+        {
+            if (this.table.isLive(position))
+            {
+                out.writeObject(this.table.keyAt(position));
+            }
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.table = new CompactHashTable(size, false);
+        for (int i = 0; i < size; i++)
+        {
+            this.add((T) in.readObject());
+        }
+    }
+
+    private final class PositionIterator implements Iterator<T>
+    {
+        private final CompactHashTable table = CompactOrderedSet.this.table;
+        private int nextPosition = this.table.nextPosition(0);
+        private int currentPosition = -1;
+        private int expectedModCount = this.table.modCount();
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.nextPosition < this.table.used();
+        }
+
+        @Override
+        public T next()
+        {
+            if (this.table.modCount() != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if (this.nextPosition >= this.table.used())
+            {
+                throw new NoSuchElementException();
+            }
+            this.currentPosition = this.nextPosition;
+            this.nextPosition = this.table.nextPosition(this.currentPosition + 1);
+            return (T) this.table.keyAt(this.currentPosition);
+        }
+
+        @Override
+        public void remove()
+        {
+            if (this.currentPosition < 0)
+            {
+                throw new IllegalStateException();
+            }
+            if (this.table.modCount() != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            // no compaction here, so the positions this iterator has yet to visit stay where they are
+            this.table.removeSlot(this.table.slotOfPosition(this.currentPosition));
+            this.currentPosition = -1;
+            this.expectedModCount = this.table.modCount();
+        }
+    }
+
+    private final class CompactOrderedSetBatch extends AbstractBatch<T> implements RootUnsortedSetBatch<T>
+    {
+        private final int fromPosition;
+        private final int toPosition;
+
+        private CompactOrderedSetBatch(int fromPosition, int toPosition)
+        {
+            this.fromPosition = fromPosition;
+            this.toPosition = toPosition;
+        }
+
+        @Override
+        public void forEach(Procedure<? super T> procedure)
+        {
+            CompactOrderedSet.this.each(procedure, this.fromPosition, this.toPosition);
+        }
+
+        @Override
+        public boolean anySatisfy(Predicate<? super T> predicate)
+        {
+            return this.detectPosition(predicate) >= 0;
+        }
+
+        @Override
+        public boolean allSatisfy(Predicate<? super T> predicate)
+        {
+            return this.detectPosition(each -> !predicate.accept(each)) < 0;
+        }
+
+        @Override
+        public T detect(Predicate<? super T> predicate)
+        {
+            int position = this.detectPosition(predicate);
+            return position < 0 ? null : (T) CompactOrderedSet.this.table.keyAt(position);
+        }
+
+        private int detectPosition(Predicate<? super T> predicate)
+        {
+            for (int position = this.fromPosition; position < this.toPosition; position++)
+            {
+                if (CompactOrderedSet.this.table.isLive(position) && predicate.accept((T) CompactOrderedSet.this.table.keyAt(position)))
+                {
+                    return position;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public UnsortedSetBatch<T> select(Predicate<? super T> predicate)
+        {
+            return new SelectUnsortedSetBatch<>(this, predicate);
+        }
+
+        @Override
+        public <V> UnsortedBagBatch<V> collect(Function<? super T, ? extends V> function)
+        {
+            return new CollectUnsortedBagBatch<>(this, function);
+        }
+
+        @Override
+        public <V> UnsortedBagBatch<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+        {
+            return new FlatCollectUnsortedBagBatch<>(this, function);
+        }
+    }
+
+    private final class CompactOrderedSetParallelIterable extends AbstractParallelUnsortedSetIterable<T, RootUnsortedSetBatch<T>>
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private CompactOrderedSetParallelIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public int getBatchSize()
+        {
+            return this.batchSize;
+        }
+
+        @Override
+        public LazyIterable<RootUnsortedSetBatch<T>> split()
+        {
+            return new AbstractLazyIterable<RootUnsortedSetBatch<T>>()
+            {
+                @Override
+                public void each(Procedure<? super RootUnsortedSetBatch<T>> procedure)
+                {
+                    for (RootUnsortedSetBatch<T> batch : this)
+                    {
+                        procedure.value(batch);
+                    }
+                }
+
+                @Override
+                public Iterator<RootUnsortedSetBatch<T>> iterator()
+                {
+                    return new SplitIterator();
+                }
+            };
+        }
+
+        @Override
+        public void forEach(Procedure<? super T> procedure)
+        {
+            AbstractParallelIterable.forEach(this, procedure);
+        }
+
+        @Override
+        public boolean anySatisfy(Predicate<? super T> predicate)
+        {
+            return AbstractParallelIterable.anySatisfy(this, predicate);
+        }
+
+        @Override
+        public boolean allSatisfy(Predicate<? super T> predicate)
+        {
+            return AbstractParallelIterable.allSatisfy(this, predicate);
+        }
+
+        @Override
+        public T detect(Predicate<? super T> predicate)
+        {
+            return AbstractParallelIterable.detect(this, predicate);
+        }
+
+        @Override
+        public Object[] toArray()
+        {
+            return CompactOrderedSet.this.toArray();
+        }
+
+        @Override
+        public <E> E[] toArray(E[] array)
+        {
+            return CompactOrderedSet.this.toArray(array);
+        }
+
+        /**
+         * Hands out contiguous ranges of positions in the dense array, each of {@code batchSize} positions.
+         */
+        private final class SplitIterator implements Iterator<RootUnsortedSetBatch<T>>
+        {
+            private int fromPosition;
+
+            @Override
+            public boolean hasNext()
+            {
+                return this.fromPosition < CompactOrderedSet.this.table.used();
+            }
+
+            @Override
+            public RootUnsortedSetBatch<T> next()
+            {
+                if (!this.hasNext())
+                {
+                    throw new NoSuchElementException();
+                }
+                int toPosition = (int) Math.min((long) this.fromPosition + CompactOrderedSetParallelIterable.this.batchSize, CompactOrderedSet.this.table.used());
+                CompactOrderedSetBatch batch = new CompactOrderedSetBatch(this.fromPosition, toPosition);
+                this.fromPosition = toPosition;
+                return batch;
+            }
+
+            @Override
+            public void remove()
+            {
+                throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+            }
+        }
+    }
+}
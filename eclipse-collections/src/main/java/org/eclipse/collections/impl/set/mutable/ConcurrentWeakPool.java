@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+
+import org.eclipse.collections.api.set.Pool;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+
+/**
+ * A thread-safe {@link Pool} for interning, which holds its instances through weak references so that an instance
+ * which is no longer used anywhere else can be garbage collected.
+ * <p>
+ * The pool is backed by a {@link ConcurrentHashMap} from each instance's reference to itself. {@link #get(Object)},
+ * and {@link #put(Object)} when the instance is already pooled, never lock. Entries whose instance has been collected
+ * are expunged by the next call on the pool. {@link #size()} may still count instances which have been collected but
+ * not yet expunged. Like {@link java.util.concurrent.ConcurrentHashMap}, this pool does not permit null.
+ *
+ * @since 12.0
+ */
+public final class ConcurrentWeakPool<V>
+        implements Pool<V>
+{
+    private final ConcurrentHashMap<Object, PooledReference<V>> references;
+    private final ReferenceQueue<V> queue = new ReferenceQueue<>();
+
+    public ConcurrentWeakPool()
+    {
+        this.references = ConcurrentHashMap.newMap();
+    }
+
+    public ConcurrentWeakPool(int initialCapacity)
+    {
+        this.references = ConcurrentHashMap.newMap(initialCapacity);
+    }
+
+    public static <E> ConcurrentWeakPool<E> newPool()
+    {
+        return new ConcurrentWeakPool<>();
+    }
+
+    public static <E> ConcurrentWeakPool<E> newPool(int initialCapacity)
+    {
+        return new ConcurrentWeakPool<>(initialCapacity);
+    }
+
+    @Override
+    public V get(V key)
+    {
+        this.expungeStaleEntries();
+        return this.lookup(key);
+    }
+
+    @Override
+    public V put(V key)
+    {
+        this.expungeStaleEntries();
+        V pooled = this.lookup(key);
+        if (pooled != null)
+        {
+            return pooled;
+        }
+        PooledReference<V> candidate = new PooledReference<>(key, this.queue);
+        while (true)
+        {
+            PooledReference<V> existing = this.references.putIfAbsent(candidate, candidate);
+            if (existing == null)
+            {
+                return key;
+            }
+            pooled = existing.get();
+            if (pooled != null)
+            {
+                return pooled;
+            }
+            // the existing instance was collected after it matched, so it can no longer match and the next attempt wins
+            this.references.remove(existing, existing);
+        }
+    }
+
+    @Override
+    public V removeFromPool(V key)
+    {
+        this.expungeStaleEntries();
+        PooledReference<V> removed = this.references.remove(new Probe(Objects.requireNonNull(key)));
+        return removed == null ? null : removed.get();
+    }
+
+    @Override
+    public int size()
+    {
+        this.expungeStaleEntries();
+        return this.references.size();
+    }
+
+    @Override
+    public void clear()
+    {
+        this.references.clear();
+        this.expungeStaleEntries();
+    }
+
+    private V lookup(V key)
+    {
+        PooledReference<V> reference = this.references.get(new Probe(Objects.requireNonNull(key)));
+        return reference == null ? null : reference.get();
+    }
+
+    private void expungeStaleEntries()
+    {
+        Reference<? extends V> reference;
+        while ((reference = this.queue.poll()) != null)
+        {
+            this.references.remove(reference, reference);
+        }
+    }
+
+    /**
+     * Compares equal to a {@link Probe} or another PooledReference with an equal instance. Once its instance has been
+     * collected it is only equal to itself, which is how it is expunged.
+     */
+    private static final class PooledReference<V> extends WeakReference<V>
+    {
+        private final int hashCode;
+
+        private PooledReference(V referent, ReferenceQueue<? super V> queue)
+        {
+            super(referent, queue);
+            this.hashCode = referent.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+            if (other instanceof Probe)
+            {
+                return ((Probe) other).matches(this);
+            }
+            if (!(other instanceof PooledReference))
+            {
+                return false;
+            }
+            Object referent = this.get();
+            return referent != null && referent.equals(((PooledReference<?>) other).get());
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+    }
+
+    /**
+     * A strongly held key used for lookups, so that a lookup allocates no reference object.
+     */
+    private static final class Probe
+    {
+        private final Object key;
+
+        private Probe(Object key)
+        {
+            this.key = key;
+        }
+
+        private boolean matches(PooledReference<?> reference)
+        {
+            Object referent = reference.get();
+            return referent != null && this.key.equals(referent);
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            return other instanceof PooledReference && this.matches((PooledReference<?>) other);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.key.hashCode();
+        }
+    }
+}
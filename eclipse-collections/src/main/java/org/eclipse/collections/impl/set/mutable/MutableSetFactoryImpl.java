@@ -33,6 +33,12 @@ public class MutableSetFactoryImpl implements MutableSetFactory
         return UnifiedSet.newSet(capacity);
     }
 
+    @Override
+    public <T> MutableSet<T> small()
+    {
+        return SmallSet.newSet();
+    }
+
     @Override
     public <T> MutableSet<T> with(T... items)
     {
@@ -0,0 +1,451 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
+import org.eclipse.collections.impl.lazy.parallel.set.NonParallelUnsortedSetIterable;
+
+/**
+ * SmallSet is a MutableSet for the many sets which only ever hold a handful of elements. Up to eight elements are kept
+ * in insertion order in one {@code Object[]} which is searched linearly, so a set of three elements costs one object
+ * and a small array instead of a hashed table. The array starts empty and grows two elements at a time.
+ * <p>
+ * Adding one more element than the array holds promotes the set to a {@link UnifiedSet}, to which every operation is
+ * then forwarded. {@link #clear()} drops the UnifiedSet and returns the set to its array form.
+ * <p>
+ * Null is supported as an element.
+ *
+ * @see org.eclipse.collections.api.factory.set.MutableSetFactory#small()
+ * @since 12.0
+ */
+public class SmallSet<T>
+        extends AbstractMutableSet<T>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int MAX_ARRAY_SIZE = 8;
+    private static final Object[] EMPTY_ELEMENTS = {};
+
+    // used while promoted is null
+    private Object[] elements = EMPTY_ELEMENTS;
+    private int size;
+    private UnifiedSet<T> promoted;
+
+    public SmallSet()
+    {
+    }
+
+    public SmallSet(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        if (initialCapacity > MAX_ARRAY_SIZE)
+        {
+            this.elements = null;
+            this.promoted = UnifiedSet.newSet(initialCapacity);
+        }
+        else if (initialCapacity > 0)
+        {
+            this.elements = new Object[initialCapacity];
+        }
+    }
+
+    public static <K> SmallSet<K> newSet()
+    {
+        return new SmallSet<>();
+    }
+
+    public static <K> SmallSet<K> newSet(int size)
+    {
+        return new SmallSet<>(size);
+    }
+
+    public static <K> SmallSet<K> newSet(Iterable<? extends K> source)
+    {
+        SmallSet<K> set = new SmallSet<>();
+        set.addAllIterable(source);
+        return set;
+    }
+
+    public static <K> SmallSet<K> newSetWith(K... elements)
+    {
+        return new SmallSet<K>(elements.length).with(elements);
+    }
+
+    /**
+     * Returns true if this set has outgrown its array and forwards to a {@link UnifiedSet}.
+     */
+    public boolean isPromoted()
+    {
+        return this.promoted != null;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.promoted != null ? this.promoted.size() : this.size;
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        if (this.promoted != null)
+        {
+            return this.promoted.contains(object);
+        }
+        return this.indexOf(object) >= 0;
+    }
+
+    @Override
+    public boolean add(T element)
+    {
+        if (this.promoted != null)
+        {
+            return this.promoted.add(element);
+        }
+        if (this.indexOf(element) >= 0)
+        {
+            return false;
+        }
+        if (this.size == MAX_ARRAY_SIZE)
+        {
+            this.promote();
+            return this.promoted.add(element);
+        }
+        if (this.size == this.elements.length)
+        {
+            this.elements = Arrays.copyOf(this.elements, Math.min(this.size + 2, MAX_ARRAY_SIZE));
+        }
+        this.elements[this.size++] = element;
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object object)
+    {
+        if (this.promoted != null)
+        {
+            return this.promoted.remove(object);
+        }
+        int index = this.indexOf(object);
+        if (index < 0)
+        {
+            return false;
+        }
+        this.removeAt(index);
+        return true;
+    }
+
+    @Override
+    public void clear()
+    {
+        this.promoted = null;
+        this.elements = EMPTY_ELEMENTS;
+        this.size = 0;
+    }
+
+    @Override
+    public T getFirst()
+    {
+        if (this.promoted != null)
+        {
+            return this.promoted.getFirst();
+        }
+        return this.size == 0 ? null : (T) this.elements[0];
+    }
+
+    @Override
+    public T getLast()
+    {
+        if (this.promoted != null)
+        {
+            return this.promoted.getLast();
+        }
+        return this.size == 0 ? null : (T) this.elements[this.size - 1];
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        if (this.promoted != null)
+        {
+            this.promoted.each(procedure);
+            return;
+        }
+        Object[] elements = this.elements;
+        for (int i = 0; i < this.size; i++)
+        {
+            procedure.value((T) elements[i]);
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        if (this.promoted != null)
+        {
+            this.promoted.forEachWithIndex(objectIntProcedure);
+            return;
+        }
+        Object[] elements = this.elements;
+        for (int i = 0; i < this.size; i++)
+        {
+            objectIntProcedure.value((T) elements[i], i);
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return this.promoted != null ? this.promoted.iterator() : new ArrayIterator();
+    }
+
+    @Override
+    public SmallSet<T> newEmpty()
+    {
+        return new SmallSet<>();
+    }
+
+    @Override
+    protected <K> MutableSet<K> newEmptySameSize()
+    {
+        return new SmallSet<>(this.size());
+    }
+
+    @Override
+    public SmallSet<T> clone()
+    {
+        SmallSet<T> clone = new SmallSet<>();
+        if (this.promoted != null)
+        {
+            clone.elements = null;
+            clone.promoted = this.promoted.clone();
+        }
+        else if (this.size > 0)
+        {
+            clone.elements = Arrays.copyOf(this.elements, this.size);
+            clone.size = this.size;
+        }
+        return clone;
+    }
+
+    @Override
+    public SmallSet<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public SmallSet<T> with(T element1, T element2)
+    {
+        this.add(element1);
+        this.add(element2);
+        return this;
+    }
+
+    public SmallSet<T> with(T element1, T element2, T element3)
+    {
+        this.add(element1);
+        this.add(element2);
+        this.add(element3);
+        return this;
+    }
+
+    public SmallSet<T> with(T... elements)
+    {
+        for (T element : elements)
+        {
+            this.add(element);
+        }
+        return this;
+    }
+
+    @Override
+    public SmallSet<T> withAll(Iterable<? extends T> elements)
+    {
+        this.addAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public SmallSet<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public SmallSet<T> withoutAll(Iterable<? extends T> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (this.promoted != null)
+        {
+            return this.promoted.equals(object);
+        }
+        if (!(object instanceof Set))
+        {
+            return false;
+        }
+        Set<?> other = (Set<?>) object;
+        return this.size == other.size() && this.containsAll(other);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        if (this.promoted != null)
+        {
+            return this.promoted.hashCode();
+        }
+        int hashCode = 0;
+        for (int i = 0; i < this.size; i++)
+        {
+            Object element = this.elements[i];
+            if (element != null)
+            {
+                hashCode += element.hashCode();
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public ParallelUnsortedSetIterable<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (this.promoted != null)
+        {
+            return this.promoted.asParallel(executorService, batchSize);
+        }
+        return new NonParallelUnsortedSetIterable<>(this);
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size());
+        for (T element : this)
+        {
+            out.writeObject(element);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        if (size > MAX_ARRAY_SIZE)
+        {
+            this.elements = null;
+            this.promoted = UnifiedSet.newSet(size);
+        }
+        else
+        {
+            this.elements = size == 0 ? EMPTY_ELEMENTS : new Object[size];
+        }
+        for (int i = 0; i < size; i++)
+        {
+            this.add((T) in.readObject());
+        }
+    }
+
+    private int indexOf(Object object)
+    {
+        Object[] elements = this.elements;
+        for (int i = 0; i < this.size; i++)
+        {
+            Object each = elements[i];
+            if (each == object || each != null && each.equals(object))
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(int index)
+    {
+        System.arraycopy(this.elements, index + 1, this.elements, index, this.size - index - 1);
+        this.elements[--this.size] = null;
+    }
+
+    private void promote()
+    {
+        UnifiedSet<T> set = UnifiedSet.newSet(MAX_ARRAY_SIZE << 1);
+        for (int i = 0; i < this.size; i++)
+        {
+            set.add((T) this.elements[i]);
+        }
+        this.promoted = set;
+        this.elements = null;
+        this.size = 0;
+    }
+
+    private final class ArrayIterator implements Iterator<T>
+    {
+        private int nextIndex;
+        private int currentIndex = -1;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.nextIndex < SmallSet.this.size;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.currentIndex = this.nextIndex++;
+            return (T) SmallSet.this.elements[this.currentIndex];
+        }
+
+        @Override
+        public void remove()
+        {
+            if (this.currentIndex < 0)
+            {
+                throw new IllegalStateException();
+            }
+            SmallSet.this.removeAt(this.currentIndex);
+            this.nextIndex = this.currentIndex;
+            this.currentIndex = -1;
+        }
+    }
+}
@@ -23,7 +23,10 @@ import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.RandomAccess;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.RichIterable;
@@ -41,6 +44,7 @@ import org.eclipse.collections.api.partition.set.PartitionMutableSet;
 import org.eclipse.collections.api.set.ImmutableSet;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
+import org.eclipse.collections.api.set.SetIterable;
 import org.eclipse.collections.api.tuple.Twin;
 import org.eclipse.collections.impl.block.factory.Procedures2;
 import org.eclipse.collections.impl.block.procedure.PartitionPredicate2Procedure;
@@ -61,6 +65,7 @@ import org.eclipse.collections.impl.partition.set.PartitionUnifiedSet;
 import org.eclipse.collections.impl.set.AbstractUnifiedSet;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.internal.SetIterables;
 
 public class UnifiedSet<T>
         extends AbstractUnifiedSet<T>
@@ -89,10 +94,24 @@ public class UnifiedSet<T>
 
     private static final long serialVersionUID = 1L;
 
+    private static final int PARALLEL_MIN_SECTION_SIZE = 1 << 14;
+
+    // shared by every set which has released its table; index() always lands on its only bucket, which stays empty
+    private static final Object[] EMPTY_TABLE = new Object[1];
+
+    // written after the elements only by shrinking sets, followed by the shrink load factor, so ordinary sets keep
+    // their serialized form and older readers skip it
+    private static final int SHRINKING = 1;
+
     protected transient Object[] table;
 
     protected transient int occupied;
 
+    protected float shrinkLoadFactor;
+
+    // removals which take occupied below minSize downsize the table; zero unless a shrink load factor has been set
+    protected int minSize;
+
     protected UnifiedSetModifierMethods<T> modifierMethods;
 
     protected UnifiedSetForEachMethods<T> forEachMethods;
@@ -155,14 +174,21 @@ public class UnifiedSet<T>
     {
         this.maxSize = set.maxSize;
         this.loadFactor = set.loadFactor;
+        this.shrinkLoadFactor = set.shrinkLoadFactor;
+        this.minSize = set.minSize;
         this.occupied = set.occupied;
+        this.modifierMethods = new UnifiedSetModifierMethods<>(this);
+        this.forEachMethods = new UnifiedSetForEachMethods<>(this);
+        this.filterMethods = new UnifiedSetFilterMethods<>(this);
+        this.converterMethods = new UnifiedSetConverterMethods<>(this);
+        this.predicateMethods = new UnifiedSetPredicateMethods<>(this);
+        this.miscellaneousMethods = new UnifiedSetMiscellaneousMethods<>(this);
+        if (set.table == EMPTY_TABLE)
+        {
+            this.table = EMPTY_TABLE;
+            return;
+        }
         this.allocateTable(set.table.length);
-        this.modifierMethods = set.modifierMethods;
-        this.forEachMethods = set.forEachMethods;
-        this.filterMethods = set.filterMethods;
-        this.converterMethods = set.converterMethods;
-        this.predicateMethods = set.predicateMethods;
-        this.miscellaneousMethods = set.miscellaneousMethods;
 
         for (int i = 0; i < set.table.length; i++)
         {
@@ -214,6 +240,30 @@ public class UnifiedSet<T>
         return new UnifiedSet<>(size, loadFactor);
     }
 
+    /**
+     * Creates an empty set which allocates no table until its first add, and which downsizes its table when removals
+     * leave fewer than {@code shrinkLoadFactor} of its buckets occupied.
+     *
+     * @see #setShrinkLoadFactor(float)
+     * @since 12.0
+     */
+    public static <K> UnifiedSet<K> newShrinkingSet(float shrinkLoadFactor)
+    {
+        return UnifiedSet.newShrinkingSet(DEFAULT_LOAD_FACTOR, shrinkLoadFactor);
+    }
+
+    /**
+     * @see #newShrinkingSet(float)
+     * @since 12.0
+     */
+    public static <K> UnifiedSet<K> newShrinkingSet(float loadFactor, float shrinkLoadFactor)
+    {
+        UnifiedSet<K> set = new UnifiedSet<>(0, loadFactor);
+        set.setShrinkLoadFactor(shrinkLoadFactor);
+        set.releaseTable();
+        return set;
+    }
+
     public static <K> UnifiedSet<K> newSetWith(K... elements)
     {
         return UnifiedSet.<K>newSet(elements.length).with(elements);
@@ -233,6 +283,66 @@ public class UnifiedSet<T>
         return this.loadFactor;
     }
 
+    /**
+     * Makes {@link #remove(Object)}, {@link #removeIf(Predicate)} and the bulk removals downsize the table once fewer
+     * than {@code shrinkLoadFactor} of its buckets are occupied, and makes {@link #clear()} release the table until the
+     * next add. The table is never downsized below its default capacity, and the shrink load factor may be at most half
+     * the load factor, so a table which has just grown or shrunk is never immediately due to resize again. Removing
+     * through an iterator never downsizes the table. A shrink load factor of zero turns the policy off. The shrink load
+     * factor is serialized with the set.
+     *
+     * @since 12.0
+     */
+    public void setShrinkLoadFactor(float shrinkLoadFactor)
+    {
+        if (shrinkLoadFactor < 0.0f)
+        {
+            throw new IllegalArgumentException("shrink load factor cannot be less than 0");
+        }
+        if (shrinkLoadFactor > this.loadFactor / 2.0f)
+        {
+            throw new IllegalArgumentException("shrink load factor cannot be greater than half the load factor");
+        }
+        this.shrinkLoadFactor = shrinkLoadFactor;
+        this.computeMinSize(this.table.length);
+    }
+
+    @Override
+    protected int allocate(int capacity)
+    {
+        this.computeMinSize(capacity);
+        return super.allocate(capacity);
+    }
+
+    private void computeMinSize(int capacity)
+    {
+        this.minSize = capacity > DEFAULT_INITIAL_CAPACITY << 1 ? (int) (capacity * this.shrinkLoadFactor) : 0;
+    }
+
+    private void releaseTable()
+    {
+        this.table = EMPTY_TABLE;
+        this.occupied = 0;
+        this.maxSize = 0;
+        this.minSize = 0;
+    }
+
+    private void allocateIfReleased()
+    {
+        if (this.table == EMPTY_TABLE)
+        {
+            this.allocate(DEFAULT_INITIAL_CAPACITY << 1);
+        }
+    }
+
+    private void shrinkIfSparse()
+    {
+        if (this.occupied < this.minSize)
+        {
+            this.resize(Math.max(this.fastCeil(this.occupied / this.loadFactor), DEFAULT_INITIAL_CAPACITY << 1));
+        }
+    }
+
     @Override
     protected Object[] getTable()
     {
@@ -253,12 +363,18 @@ public class UnifiedSet<T>
     @Override
     public void clear()
     {
+        if (this.shrinkLoadFactor > 0.0f)
+        {
+            this.releaseTable();
+            return;
+        }
         this.modifierMethods.clear();
     }
 
     @Override
     public boolean add(T key)
     {
+        this.allocateIfReleased();
         int index = this.index(key);
         Object cur = this.table[index];
         if (cur == null)
@@ -699,7 +815,25 @@ public class UnifiedSet<T>
     @Override
     public boolean remove(Object key)
     {
-        return this.modifierMethods.remove(key);
+        boolean removed = this.modifierMethods.remove(key);
+        this.shrinkIfSparse();
+        return removed;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> predicate)
+    {
+        boolean changed = super.removeIf(predicate);
+        this.shrinkIfSparse();
+        return changed;
+    }
+
+    @Override
+    public <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        boolean changed = super.removeIfWith(predicate, parameter);
+        this.shrinkIfSparse();
+        return changed;
     }
 
 
@@ -730,16 +864,22 @@ public class UnifiedSet<T>
 
     public boolean trimToSize()
     {
-        if (this.table.length <= (this.fastCeil(this.occupied / this.loadFactor) << 1))
+        if (this.table == EMPTY_TABLE || this.table.length <= (this.fastCeil(this.occupied / this.loadFactor) << 1))
         {
             return false;
         }
 
+        this.resize(this.fastCeil(this.occupied / this.loadFactor));
+        return true;
+    }
+
+    private void resize(int minimumCapacity)
+    {
         Object[] temp = this.table;
-        this.init(this.fastCeil(this.occupied / this.loadFactor));
+        this.init(minimumCapacity);
         if (this.isEmpty())
         {
-            return true;
+            return;
         }
 
         int mask = this.table.length - 1;
@@ -756,7 +896,6 @@ public class UnifiedSet<T>
                 this.addForTrim(cur, j, mask);
             }
         }
-        return true;
     }
 
     private void chainedTrimToSize(ChainedBucket bucket, int oldIndex, int mask)
@@ -847,12 +986,23 @@ public class UnifiedSet<T>
         {
             this.add((T) in.readObject());
         }
+        // streams written before 12.0, or by sets with no options, end here and read() returns -1
+        int options = in.read();
+        if (options > 0 && (options & SHRINKING) != 0)
+        {
+            this.setShrinkLoadFactor(in.readFloat());
+        }
     }
 
     @Override
     public void writeExternal(ObjectOutput out) throws IOException
     {
         this.miscellaneousMethods.writeExternal(out);
+        if (this.shrinkLoadFactor > 0.0f)
+        {
+            out.writeByte(SHRINKING);
+            out.writeFloat(this.shrinkLoadFactor);
+        }
     }
 
 
@@ -927,11 +1077,26 @@ public class UnifiedSet<T>
     {
         if (iterable instanceof Set)
         {
-            return this.retainAllFromSet((Set<?>) iterable);
+            Set<?> set = (Set<?>) iterable;
+            if (set instanceof UnifiedSet && set.size() < this.occupied >> 2)
+            {
+                return this.retainAllFromNonSet(set);
+            }
+            return this.retainAllOf(set);
         }
         return this.retainAllFromNonSet(iterable);
     }
 
+    @Override
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        if (iterable instanceof UnifiedSet && ((UnifiedSet<?>) iterable).size() > this.occupied)
+        {
+            return this.removeAllOf((UnifiedSet<?>) iterable);
+        }
+        return super.removeAllIterable(iterable);
+    }
+
     private boolean retainAllFromNonSet(Iterable<?> iterable)
     {
         int retainedSize = Iterate.sizeOf(iterable);
@@ -945,27 +1110,267 @@ public class UnifiedSet<T>
             this.maxSize = retainedCopy.maxSize;
             this.occupied = retainedCopy.occupied;
             this.table = retainedCopy.table;
+            this.computeMinSize(retainedCopy.table.length);
             return true;
         }
         return false;
     }
 
-    private boolean retainAllFromSet(Set<?> collection)
+    private boolean retainAllOf(Set<?> set)
+    {
+        return this.removeIfContained(set, false);
+    }
+
+    private boolean removeAllOf(UnifiedSet<?> set)
+    {
+        return this.removeIfContained(set, true);
+    }
+
+    /**
+     * Walks the table in place, removing every element for which {@code set.contains(element) == contained}.
+     */
+    private boolean removeIfContained(Set<?> set, boolean contained)
+    {
+        int oldSize = this.occupied;
+        Object[] table = this.table;
+        for (int i = 0; i < table.length && this.occupied > 0; i++)
+        {
+            Object cur = table[i];
+            if (cur instanceof ChainedBucket)
+            {
+                this.chainedRemoveIfContained(i, set, contained);
+            }
+            else if (cur != null && set.contains(this.nonSentinel(cur)) == contained)
+            {
+                table[i] = null;
+                this.occupied--;
+            }
+        }
+        this.shrinkIfSparse();
+        return this.occupied != oldSize;
+    }
+
+    private void chainedRemoveIfContained(int index, Set<?> set, boolean contained)
     {
-        // TODO: turn iterator into a loop
-        boolean result = false;
-        Iterator<T> e = this.iterator();
-        while (e.hasNext())
+        // remove() moves the last element of the chain into the freed position, so only advance past retained elements
+        int position = 0;
+        while (this.table[index] != null)
         {
-            if (!collection.contains(e.next()))
+            Object cur = ((ChainedBucket) this.table[index]).get(position);
+            if (cur == null)
             {
-                e.remove();
-                result = true;
+                return;
             }
+            T key = this.nonSentinel(cur);
+            if (set.contains(key) == contained)
+            {
+                this.modifierMethods.remove(key);
+            }
+            else
+            {
+                position++;
+            }
+        }
+    }
+
+    @Override
+    public MutableSet<T> difference(SetIterable<? extends T> subtrahendSet)
+    {
+        return SetIterables.difference(this, subtrahendSet);
+    }
+
+    /**
+     * Parallel variant of {@link #union(SetIterable)}. When {@code set} is also a UnifiedSet, the sections of the
+     * smaller set's table are probed against the larger set on {@code executorService}, and the missing elements are
+     * merged with the elements of the larger set as described in {@link #intersectParallel(SetIterable, ExecutorService)}.
+     *
+     * @since 12.0
+     */
+    public UnifiedSet<T> unionParallel(SetIterable<? extends T> set, ExecutorService executorService)
+    {
+        if (!(set instanceof UnifiedSet))
+        {
+            UnifiedSet<T> result = this.clone();
+            result.addAllIterable(set);
+            return result;
+        }
+        UnifiedSet<T> other = (UnifiedSet<T>) set;
+        UnifiedSet<T> larger = other.occupied > this.occupied ? other : this;
+        UnifiedSet<T> smaller = larger == this ? other : this;
+        MutableList<Future<MutableList<T>>> futures = UnifiedSet.selectSections(larger, each -> true, executorService);
+        futures.addAll(UnifiedSet.selectSections(smaller, each -> !larger.contains(each), executorService));
+        return UnifiedSet.mergeInParallel(this, futures.collect(UnifiedSet::await), executorService);
+    }
+
+    /**
+     * Parallel variant of {@link #intersect(SetIterable)}. The table of the smaller set (or of this set when
+     * {@code set} is not a UnifiedSet) is split into sections which are probed against the other set on
+     * {@code executorService}. The matches are then merged in parallel: the result table is split into slot ranges,
+     * each section's matches are bucketed by the range they hash to, and each range is filled by its own task. Since
+     * collisions are chained within their slot, the tasks never touch the same slot and need no locking.
+     *
+     * @since 12.0
+     */
+    public UnifiedSet<T> intersectParallel(SetIterable<? extends T> set, ExecutorService executorService)
+    {
+        if (set instanceof UnifiedSet && set.size() < this.occupied)
+        {
+            return UnifiedSet.selectInParallel((UnifiedSet<T>) set, this::contains, executorService);
+        }
+        return UnifiedSet.selectInParallel(this, set::contains, executorService);
+    }
+
+    /**
+     * Parallel variant of {@link #difference(SetIterable)}.
+     *
+     * @see #intersectParallel(SetIterable, ExecutorService)
+     * @since 12.0
+     */
+    public UnifiedSet<T> differenceParallel(SetIterable<? extends T> subtrahendSet, ExecutorService executorService)
+    {
+        return UnifiedSet.selectInParallel(this, each -> !subtrahendSet.contains(each), executorService);
+    }
+
+    /**
+     * Parallel variant of {@link #containsAll(Collection)}. When {@code source} is a UnifiedSet its table is probed
+     * against this set in sections on {@code executorService}; any other source is checked serially.
+     *
+     * @since 12.0
+     */
+    public boolean containsAllParallel(Collection<?> source, ExecutorService executorService)
+    {
+        if (!(source instanceof UnifiedSet))
+        {
+            return this.containsAll(source);
+        }
+        UnifiedSet<Object> other = (UnifiedSet<Object>) source;
+        if (other.occupied > this.occupied)
+        {
+            return false;
+        }
+        AtomicBoolean missing = new AtomicBoolean();
+        int sectionCount = UnifiedSet.parallelSectionCount(other.table.length);
+        MutableList<Future<?>> futures = Lists.mutable.withInitialCapacity(sectionCount);
+        for (int i = 0; i < sectionCount; i++)
+        {
+            int sectionIndex = i;
+            futures.add(executorService.submit(() -> other.batchForEach(each ->
+            {
+                if (!missing.get() && !this.contains(each))
+                {
+                    missing.set(true);
+                }
+            }, sectionIndex, sectionCount)));
         }
+        futures.each(UnifiedSet::await);
+        return !missing.get();
+    }
+
+    private static <E> UnifiedSet<E> selectInParallel(UnifiedSet<E> source, Predicate<? super E> predicate, ExecutorService executorService)
+    {
+        MutableList<Future<MutableList<E>>> futures = UnifiedSet.selectSections(source, predicate, executorService);
+        return UnifiedSet.mergeInParallel(source, futures.collect(UnifiedSet::await), executorService);
+    }
+
+    private static <E> MutableList<Future<MutableList<E>>> selectSections(UnifiedSet<E> source, Predicate<? super E> predicate, ExecutorService executorService)
+    {
+        int sectionCount = UnifiedSet.parallelSectionCount(source.table.length);
+        MutableList<Future<MutableList<E>>> futures = Lists.mutable.withInitialCapacity(sectionCount);
+        for (int i = 0; i < sectionCount; i++)
+        {
+            int sectionIndex = i;
+            futures.add(executorService.submit(() ->
+            {
+                MutableList<E> section = Lists.mutable.empty();
+                source.batchForEach(each ->
+                {
+                    if (predicate.accept(each))
+                    {
+                        section.add(each);
+                    }
+                }, sectionIndex, sectionCount);
+                return section;
+            }));
+        }
+        return futures;
+    }
+
+    /**
+     * Merges sections of distinct elements into a new set. Each section is bucketed by the slot range of the new table
+     * that its elements hash to, and then each slot range is filled by its own task.
+     */
+    private static <E> UnifiedSet<E> mergeInParallel(UnifiedSet<E> prototype, MutableList<MutableList<E>> sections, ExecutorService executorService)
+    {
+        int size = (int) sections.sumOfInt(MutableList::size);
+        UnifiedSet<E> result = prototype.newEmpty(size);
+        int rangeCount = UnifiedSet.parallelSectionCount(result.table.length);
+        int rangeSize = (result.table.length + rangeCount - 1) / rangeCount;
+
+        MutableList<Future<MutableList<MutableList<E>>>> bucketFutures = Lists.mutable.withInitialCapacity(sections.size());
+        for (MutableList<E> section : sections)
+        {
+            bucketFutures.add(executorService.submit(() ->
+            {
+                MutableList<MutableList<E>> buckets = Lists.mutable.withInitialCapacity(rangeCount);
+                for (int i = 0; i < rangeCount; i++)
+                {
+                    buckets.add(Lists.mutable.empty());
+                }
+                section.each(each -> buckets.get(result.index(each) / rangeSize).add(each));
+                return buckets;
+            }));
+        }
+        MutableList<MutableList<MutableList<E>>> bucketedSections = bucketFutures.collect(UnifiedSet::await);
+
+        MutableList<Future<?>> futures = Lists.mutable.withInitialCapacity(rangeCount);
+        for (int i = 0; i < rangeCount; i++)
+        {
+            int rangeIndex = i;
+            futures.add(executorService.submit(() ->
+                    bucketedSections.each(buckets -> buckets.get(rangeIndex).each(result::addDistinctWithoutRehash))));
+        }
+        futures.each(UnifiedSet::await);
+        result.occupied = size;
         return result;
     }
 
+    /**
+     * Places a key that is known to be absent into the table without updating the size or rehashing.
+     */
+    private void addDistinctWithoutRehash(T key)
+    {
+        int index = this.index(key);
+        Object realKey = UnifiedSet.toSentinelIfNull(key);
+        if (this.table[index] == null)
+        {
+            this.table[index] = realKey;
+            return;
+        }
+        this.chainedAddForTrim(realKey, index);
+    }
+
+    private static int parallelSectionCount(int tableLength)
+    {
+        return Math.max(1, Math.min(tableLength / PARALLEL_MIN_SECTION_SIZE, Runtime.getRuntime().availableProcessors() << 2));
+    }
+
+    private static <V> V await(Future<V> future)
+    {
+        try
+        {
+            return future.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
     @Override
     public UnifiedSet<T> clone()
     {
@@ -1324,6 +1729,7 @@ public class UnifiedSet<T>
     @Override
     public T put(T key)
     {
+        this.allocateIfReleased();
         int index = this.index(key);
         Object cur = this.table[index];
 
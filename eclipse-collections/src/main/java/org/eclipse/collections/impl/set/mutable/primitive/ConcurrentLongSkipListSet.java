@@ -0,0 +1,485 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable.primitive;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collection;
+
+import org.eclipse.collections.api.LongIterable;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.primitive.LongToObjectFunction;
+import org.eclipse.collections.api.block.function.primitive.ObjectLongToObjectFunction;
+import org.eclipse.collections.api.block.predicate.primitive.LongPredicate;
+import org.eclipse.collections.api.block.procedure.primitive.LongProcedure;
+import org.eclipse.collections.api.collection.primitive.MutableLongCollection;
+import org.eclipse.collections.api.factory.primitive.LongSets;
+import org.eclipse.collections.api.iterator.MutableLongIterator;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.primitive.ImmutableLongSet;
+import org.eclipse.collections.api.set.primitive.LongSet;
+import org.eclipse.collections.api.set.primitive.MutableLongSet;
+import org.eclipse.collections.api.set.primitive.MutableLongSortedSet;
+import org.eclipse.collections.impl.map.mutable.primitive.ConcurrentLongObjectSkipListMap;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.set.primitive.AbstractLongSet;
+
+/**
+ * ConcurrentLongSkipListSet is a {@link MutableLongSortedSet} that may be read and written by many threads at once
+ * without locking. It is the key set of a {@link ConcurrentLongObjectSkipListMap}, in the same way as
+ * {@link java.util.concurrent.ConcurrentSkipListSet} is backed by a {@link java.util.concurrent.ConcurrentSkipListMap},
+ * so its elements are never boxed and {@link #add(long)} and {@link #remove(long)} are single atomic operations.
+ * <p>
+ * Iteration walks the skip list in ascending order and is weakly consistent. The size of a range view such as
+ * {@link #subSet(long, long)} is counted, so it takes time proportional to the view.
+ *
+ * @since 12.0
+ */
+public class ConcurrentLongSkipListSet extends AbstractLongSet implements MutableLongSortedSet, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private ConcurrentLongObjectSkipListMap<Boolean> map;
+
+    public ConcurrentLongSkipListSet()
+    {
+        this.map = new ConcurrentLongObjectSkipListMap<>();
+    }
+
+    public ConcurrentLongSkipListSet(long... elements)
+    {
+        this();
+        this.addAll(elements);
+    }
+
+    public ConcurrentLongSkipListSet(LongIterable elements)
+    {
+        this();
+        this.addAll(elements);
+    }
+
+    private ConcurrentLongSkipListSet(ConcurrentLongObjectSkipListMap<Boolean> map)
+    {
+        this.map = map;
+    }
+
+    public static ConcurrentLongSkipListSet newSet(LongIterable source)
+    {
+        return new ConcurrentLongSkipListSet(source);
+    }
+
+    public static ConcurrentLongSkipListSet newSetWith(long... source)
+    {
+        return new ConcurrentLongSkipListSet(source);
+    }
+
+    @Override
+    public MutableSet<Long> boxed()
+    {
+        return new BoxedMutableLongSet(this);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int[] result = {0};
+        this.each(value -> result[0] += (int) (value ^ value >>> 32));
+        return result[0];
+    }
+
+    @Override
+    public int size()
+    {
+        return this.map.size();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.map.isEmpty();
+    }
+
+    @Override
+    public void appendString(Appendable appendable, String start, String separator, String end)
+    {
+        this.map.keySet().appendString(appendable, start, separator, end);
+    }
+
+    @Override
+    public boolean add(long element)
+    {
+        return this.map.putIfAbsent(element, Boolean.TRUE) == null;
+    }
+
+    @Override
+    public boolean addAll(long... source)
+    {
+        boolean changed = false;
+        for (long element : source)
+        {
+            changed |= this.add(element);
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean addAll(LongIterable source)
+    {
+        boolean[] changed = {false};
+        source.forEach(element -> changed[0] |= this.add(element));
+        return changed[0];
+    }
+
+    @Override
+    public boolean remove(long value)
+    {
+        return this.map.removeKey(value) != null;
+    }
+
+    @Override
+    public boolean removeAll(LongIterable source)
+    {
+        return this.map.keySet().removeAll(source);
+    }
+
+    @Override
+    public boolean removeAll(long... source)
+    {
+        return this.map.keySet().removeAll(source);
+    }
+
+    @Override
+    public boolean retainAll(LongIterable source)
+    {
+        return this.map.keySet().retainAll(source);
+    }
+
+    @Override
+    public boolean retainAll(long... source)
+    {
+        return this.map.keySet().retainAll(source);
+    }
+
+    @Override
+    public boolean removeIf(LongPredicate predicate)
+    {
+        return this.map.removeIf((key, value) -> predicate.accept(key));
+    }
+
+    @Override
+    public void clear()
+    {
+        this.map.clear();
+    }
+
+    @Override
+    public ConcurrentLongSkipListSet with(long element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    @Override
+    public ConcurrentLongSkipListSet without(long element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public ConcurrentLongSkipListSet withAll(LongIterable elements)
+    {
+        this.addAll(elements);
+        return this;
+    }
+
+    @Override
+    public ConcurrentLongSkipListSet withoutAll(LongIterable elements)
+    {
+        this.removeAll(elements);
+        return this;
+    }
+
+    @Override
+    public MutableLongSet asUnmodifiable()
+    {
+        return new UnmodifiableLongSet(this);
+    }
+
+    @Override
+    public MutableLongSet asSynchronized()
+    {
+        return new SynchronizedLongSet(this);
+    }
+
+    @Override
+    public ImmutableLongSet toImmutable()
+    {
+        return LongSets.immutable.withAll(this);
+    }
+
+    @Override
+    public LongSet freeze()
+    {
+        return this.toImmutable();
+    }
+
+    @Override
+    public MutableLongIterator longIterator()
+    {
+        return this.map.keySet().longIterator();
+    }
+
+    @Override
+    public long[] toArray()
+    {
+        return this.map.keySet().toArray();
+    }
+
+    @Override
+    public long[] toArray(long[] array)
+    {
+        long[] elements = this.toArray();
+        if (array.length < elements.length)
+        {
+            return elements;
+        }
+        System.arraycopy(elements, 0, array, 0, elements.length);
+        return array;
+    }
+
+    /**
+     * The elements of a ConcurrentLongSkipListSet are always kept in ascending order, so no sort is needed.
+     */
+    @Override
+    public long[] toSortedArray()
+    {
+        return this.toArray();
+    }
+
+    @Override
+    public boolean contains(long value)
+    {
+        return this.map.containsKey(value);
+    }
+
+    @Override
+    public void each(LongProcedure procedure)
+    {
+        this.map.forEachKey(procedure);
+    }
+
+    @Override
+    public ConcurrentLongSkipListSet select(LongPredicate predicate)
+    {
+        return this.select(predicate, new ConcurrentLongSkipListSet());
+    }
+
+    @Override
+    public <R extends MutableLongCollection> R select(LongPredicate predicate, R target)
+    {
+        this.each(value ->
+        {
+            if (predicate.accept(value))
+            {
+                target.add(value);
+            }
+        });
+        return target;
+    }
+
+    @Override
+    public ConcurrentLongSkipListSet reject(LongPredicate predicate)
+    {
+        return this.reject(predicate, new ConcurrentLongSkipListSet());
+    }
+
+    @Override
+    public <R extends MutableLongCollection> R reject(LongPredicate predicate, R target)
+    {
+        this.each(value ->
+        {
+            if (!predicate.accept(value))
+            {
+                target.add(value);
+            }
+        });
+        return target;
+    }
+
+    @Override
+    public <V> MutableSet<V> collect(LongToObjectFunction<? extends V> function)
+    {
+        return this.collect(function, UnifiedSet.newSet());
+    }
+
+    @Override
+    public <V, R extends Collection<V>> R collect(LongToObjectFunction<? extends V> function, R target)
+    {
+        this.each(value -> target.add(function.valueOf(value)));
+        return target;
+    }
+
+    @Override
+    public long detectIfNone(LongPredicate predicate, long ifNone)
+    {
+        return this.map.keySet().detectIfNone(predicate, ifNone);
+    }
+
+    @Override
+    public int count(LongPredicate predicate)
+    {
+        return this.map.keySet().count(predicate);
+    }
+
+    @Override
+    public boolean anySatisfy(LongPredicate predicate)
+    {
+        return this.map.keySet().anySatisfy(predicate);
+    }
+
+    @Override
+    public boolean allSatisfy(LongPredicate predicate)
+    {
+        return this.map.keySet().allSatisfy(predicate);
+    }
+
+    @Override
+    public boolean noneSatisfy(LongPredicate predicate)
+    {
+        return this.map.keySet().noneSatisfy(predicate);
+    }
+
+    @Override
+    public long sum()
+    {
+        return this.map.keySet().sum();
+    }
+
+    @Override
+    public long max()
+    {
+        return this.last();
+    }
+
+    @Override
+    public long min()
+    {
+        return this.first();
+    }
+
+    @Override
+    public <T> T injectInto(T injectedValue, ObjectLongToObjectFunction<? super T, ? extends T> function)
+    {
+        return this.map.keySet().injectInto(injectedValue, function);
+    }
+
+    @Override
+    public RichIterable<LongIterable> chunk(int size)
+    {
+        return this.map.keySet().chunk(size);
+    }
+
+    @Override
+    public long first()
+    {
+        return this.map.firstKey();
+    }
+
+    @Override
+    public long last()
+    {
+        return this.map.lastKey();
+    }
+
+    @Override
+    public long floor(long value, long ifNone)
+    {
+        return this.map.floorKey(value, ifNone);
+    }
+
+    @Override
+    public long ceiling(long value, long ifNone)
+    {
+        return this.map.ceilingKey(value, ifNone);
+    }
+
+    @Override
+    public long lower(long value, long ifNone)
+    {
+        return this.map.lowerKey(value, ifNone);
+    }
+
+    @Override
+    public long higher(long value, long ifNone)
+    {
+        return this.map.higherKey(value, ifNone);
+    }
+
+    @Override
+    public ConcurrentLongSkipListSet subSet(long fromElement, long toElement)
+    {
+        if (fromElement > toElement)
+        {
+            throw new IllegalArgumentException("fromElement > toElement");
+        }
+        return new ConcurrentLongSkipListSet(this.map.subMap(fromElement, toElement));
+    }
+
+    @Override
+    public ConcurrentLongSkipListSet headSet(long toElement)
+    {
+        return new ConcurrentLongSkipListSet(this.map.headMap(toElement));
+    }
+
+    @Override
+    public ConcurrentLongSkipListSet tailSet(long fromElement)
+    {
+        return new ConcurrentLongSkipListSet(this.map.tailMap(fromElement));
+    }
+
+    /**
+     * Creates a new empty ConcurrentLongSkipListSet.
+     */
+    @Override
+    public ConcurrentLongSkipListSet newEmpty()
+    {
+        return new ConcurrentLongSkipListSet();
+    }
+
+    /**
+     * Writes a snapshot of the elements in ascending order. A range view is written as a set of its own, without its
+     * bounds.
+     */
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        long[] elements = this.toArray();
+        out.writeInt(elements.length);
+        for (long element : elements)
+        {
+            out.writeLong(element);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException
+    {
+        this.map = new ConcurrentLongObjectSkipListMap<>();
+        int size = in.readInt();
+        for (int i = 0; i < size; i++)
+        {
+            this.map.put(in.readLong(), Boolean.TRUE);
+        }
+    }
+}
@@ -0,0 +1,1867 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable.primitive;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+
+import org.eclipse.collections.api.IntIterable;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.primitive.IntToObjectFunction;
+import org.eclipse.collections.api.block.function.primitive.ObjectIntToObjectFunction;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.procedure.primitive.IntProcedure;
+import org.eclipse.collections.api.collection.primitive.MutableIntCollection;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.primitive.IntSets;
+import org.eclipse.collections.api.iterator.IntIterator;
+import org.eclipse.collections.api.iterator.MutableIntIterator;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.primitive.ImmutableIntSet;
+import org.eclipse.collections.api.set.primitive.IntSet;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.impl.iterator.UnmodifiableIntIterator;
+import org.eclipse.collections.impl.set.immutable.primitive.AbstractImmutableIntSet;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.set.primitive.AbstractIntSet;
+
+/**
+ * IntBitmapSet is a {@link MutableIntSet} backed by a compressed bitmap in the style of Roaring bitmaps. The int range
+ * is split into chunks of 65536 values which share their high 16 bits, and every non-empty chunk is stored in one of
+ * three containers: a sorted array of the low 16 bits (up to 4096 values), a 65536-bit bitmap, or a list of runs of
+ * consecutive values (see {@link #runOptimize()}).
+ * <p>
+ * For dense or clustered sets such as row or user ids this takes a fraction of the memory of an {@link IntHashSet}.
+ * Set algebra with another IntBitmapSet ({@link #union(IntSet)}, {@link #intersect(IntSet)},
+ * {@link #difference(IntSet)}, {@link #symmetricDifference(IntSet)} and the bulk {@code addAll}, {@code removeAll}
+ * and {@code retainAll}) works chunk by chunk on whole words instead of hashing every element. Iteration is in
+ * ascending order.
+ *
+ * @since 12.0
+ */
+public class IntBitmapSet extends AbstractIntSet implements MutableIntSet, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int ARRAY_MAX_CARDINALITY = 4096;
+    private static final int CHUNK_SIZE = 1 << 16;
+    private static final int BITMAP_WORDS = CHUNK_SIZE / Long.SIZE;
+    private static final int DEFAULT_INITIAL_CAPACITY = 4;
+
+    private static final int OR = 0;
+    private static final int AND = 1;
+    private static final int AND_NOT = 2;
+    private static final int XOR = 3;
+
+    private static final byte ARRAY_CONTAINER = 0;
+    private static final byte BITMAP_CONTAINER = 1;
+    private static final byte RUN_CONTAINER = 2;
+
+    private char[] keys;
+    private Container[] containers;
+    private int containerCount;
+    private int size;
+
+    public IntBitmapSet()
+    {
+        this.keys = new char[DEFAULT_INITIAL_CAPACITY];
+        this.containers = new Container[DEFAULT_INITIAL_CAPACITY];
+    }
+
+    public IntBitmapSet(int... elements)
+    {
+        this();
+        this.addAll(elements);
+    }
+
+    public IntBitmapSet(IntIterable elements)
+    {
+        this();
+        this.addAll(elements);
+    }
+
+    public IntBitmapSet(IntBitmapSet set)
+    {
+        this.keys = Arrays.copyOf(set.keys, Math.max(set.containerCount, DEFAULT_INITIAL_CAPACITY));
+        this.containers = new Container[this.keys.length];
+        for (int i = 0; i < set.containerCount; i++)
+        {
+            this.containers[i] = set.containers[i].copy();
+        }
+        this.containerCount = set.containerCount;
+        this.size = set.size;
+    }
+
+    public static IntBitmapSet newSet(IntIterable source)
+    {
+        if (source instanceof IntBitmapSet)
+        {
+            return new IntBitmapSet((IntBitmapSet) source);
+        }
+        return new IntBitmapSet(source);
+    }
+
+    public static IntBitmapSet newSetWith(int... source)
+    {
+        return new IntBitmapSet(source);
+    }
+
+    private static char highBits(int value)
+    {
+        return (char) ((value ^ Integer.MIN_VALUE) >>> 16);
+    }
+
+    private static int lowBits(int value)
+    {
+        return value & 0xFFFF;
+    }
+
+    private static int base(char key)
+    {
+        return (key << 16) ^ Integer.MIN_VALUE;
+    }
+
+    private static IntBitmapSet asBitmapSet(IntIterable iterable)
+    {
+        if (iterable instanceof IntBitmapSet)
+        {
+            return (IntBitmapSet) iterable;
+        }
+        if (iterable instanceof ImmutableIntBitmapSet)
+        {
+            return ((ImmutableIntBitmapSet) iterable).delegate;
+        }
+        return null;
+    }
+
+    @Override
+    public MutableSet<Integer> boxed()
+    {
+        return new BoxedMutableIntSet(this);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return (int) this.sum();
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public void appendString(Appendable appendable, String start, String separator, String end)
+    {
+        try
+        {
+            appendable.append(start);
+            IntIterator iterator = this.intIterator();
+            if (iterator.hasNext())
+            {
+                appendable.append(String.valueOf(iterator.next()));
+                while (iterator.hasNext())
+                {
+                    appendable.append(separator);
+                    appendable.append(String.valueOf(iterator.next()));
+                }
+            }
+            appendable.append(end);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public boolean add(int element)
+    {
+        char key = IntBitmapSet.highBits(element);
+        int low = IntBitmapSet.lowBits(element);
+        int index = this.indexOf(key);
+        if (index >= 0)
+        {
+            Container container = this.containers[index];
+            if (container.contains(low))
+            {
+                return false;
+            }
+            this.containers[index] = container.add(low);
+        }
+        else
+        {
+            this.insertContainer(-index - 1, key, ArrayContainer.singleton(low));
+        }
+        this.size++;
+        return true;
+    }
+
+    @Override
+    public boolean addAll(int... source)
+    {
+        int oldSize = this.size;
+        for (int item : source)
+        {
+            this.add(item);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean addAll(IntIterable source)
+    {
+        int oldSize = this.size;
+        IntBitmapSet other = IntBitmapSet.asBitmapSet(source);
+        if (other != null)
+        {
+            this.assign(IntBitmapSet.combine(this, other, OR, false));
+        }
+        else
+        {
+            source.forEach(this::add);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean remove(int value)
+    {
+        int index = this.indexOf(IntBitmapSet.highBits(value));
+        if (index < 0)
+        {
+            return false;
+        }
+        Container container = this.containers[index];
+        int low = IntBitmapSet.lowBits(value);
+        if (!container.contains(low))
+        {
+            return false;
+        }
+        if (container.cardinality() == 1)
+        {
+            this.removeContainer(index);
+        }
+        else
+        {
+            this.containers[index] = container.remove(low);
+        }
+        this.size--;
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(IntIterable source)
+    {
+        int oldSize = this.size;
+        IntBitmapSet other = IntBitmapSet.asBitmapSet(source);
+        if (other != null)
+        {
+            this.assign(IntBitmapSet.combine(this, other, AND_NOT, false));
+        }
+        else
+        {
+            source.forEach(this::remove);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean removeAll(int... source)
+    {
+        int oldSize = this.size;
+        for (int item : source)
+        {
+            this.remove(item);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean retainAll(IntIterable source)
+    {
+        int oldSize = this.size;
+        IntBitmapSet other = IntBitmapSet.asBitmapSet(source);
+        if (other == null)
+        {
+            other = new IntBitmapSet(source);
+        }
+        this.assign(IntBitmapSet.combine(this, other, AND, false));
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean retainAll(int... source)
+    {
+        return this.retainAll(IntBitmapSet.newSetWith(source));
+    }
+
+    @Override
+    public void clear()
+    {
+        Arrays.fill(this.containers, 0, this.containerCount, null);
+        this.containerCount = 0;
+        this.size = 0;
+    }
+
+    @Override
+    public IntBitmapSet with(int element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    @Override
+    public IntBitmapSet without(int element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public IntBitmapSet withAll(IntIterable elements)
+    {
+        this.addAll(elements);
+        return this;
+    }
+
+    @Override
+    public IntBitmapSet withoutAll(IntIterable elements)
+    {
+        this.removeAll(elements);
+        return this;
+    }
+
+    @Override
+    public MutableIntSet asUnmodifiable()
+    {
+        return new UnmodifiableIntSet(this);
+    }
+
+    @Override
+    public MutableIntSet asSynchronized()
+    {
+        return new SynchronizedIntSet(this);
+    }
+
+    /**
+     * Returns an immutable copy of this set which keeps the bitmap representation. Every chunk of the copy is
+     * converted to runs where that is smaller, see {@link #runOptimize()}.
+     */
+    @Override
+    public ImmutableIntSet toImmutable()
+    {
+        if (this.size == 0)
+        {
+            return IntSets.immutable.with();
+        }
+        if (this.size == 1)
+        {
+            return IntSets.immutable.with(this.min());
+        }
+        IntBitmapSet copy = new IntBitmapSet(this);
+        copy.runOptimize();
+        return new ImmutableIntBitmapSet(copy);
+    }
+
+    @Override
+    public IntSet freeze()
+    {
+        return this.toImmutable();
+    }
+
+    @Override
+    public MutableIntIterator intIterator()
+    {
+        return new InternalIntIterator();
+    }
+
+    @Override
+    public int[] toArray()
+    {
+        return this.toArray(new int[this.size]);
+    }
+
+    @Override
+    public int[] toArray(int[] array)
+    {
+        if (array.length < this.size)
+        {
+            array = new int[this.size];
+        }
+        int offset = 0;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            offset = this.containers[i].copyTo(IntBitmapSet.base(this.keys[i]), array, offset);
+        }
+        return array;
+    }
+
+    /**
+     * The elements of an IntBitmapSet are always kept in ascending order, so no sort is needed.
+     */
+    @Override
+    public int[] toSortedArray()
+    {
+        return this.toArray();
+    }
+
+    @Override
+    public boolean contains(int value)
+    {
+        int index = this.indexOf(IntBitmapSet.highBits(value));
+        return index >= 0 && this.containers[index].contains(IntBitmapSet.lowBits(value));
+    }
+
+    @Override
+    public void each(IntProcedure procedure)
+    {
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            this.containers[i].each(IntBitmapSet.base(this.keys[i]), procedure);
+        }
+    }
+
+    @Override
+    public IntBitmapSet select(IntPredicate predicate)
+    {
+        return this.select(predicate, new IntBitmapSet());
+    }
+
+    @Override
+    public <R extends MutableIntCollection> R select(IntPredicate predicate, R target)
+    {
+        this.each(value -> {
+            if (predicate.accept(value))
+            {
+                target.add(value);
+            }
+        });
+        return target;
+    }
+
+    @Override
+    public IntBitmapSet reject(IntPredicate predicate)
+    {
+        return this.reject(predicate, new IntBitmapSet());
+    }
+
+    @Override
+    public <R extends MutableIntCollection> R reject(IntPredicate predicate, R target)
+    {
+        this.each(value -> {
+            if (!predicate.accept(value))
+            {
+                target.add(value);
+            }
+        });
+        return target;
+    }
+
+    @Override
+    public <V> MutableSet<V> collect(IntToObjectFunction<? extends V> function)
+    {
+        return this.collect(function, UnifiedSet.newSet(this.size()));
+    }
+
+    @Override
+    public <V, R extends Collection<V>> R collect(IntToObjectFunction<? extends V> function, R target)
+    {
+        this.each(value -> target.add(function.valueOf(value)));
+        return target;
+    }
+
+    @Override
+    public int detectIfNone(IntPredicate predicate, int ifNone)
+    {
+        IntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            int value = iterator.next();
+            if (predicate.accept(value))
+            {
+                return value;
+            }
+        }
+        return ifNone;
+    }
+
+    @Override
+    public int count(IntPredicate predicate)
+    {
+        int count = 0;
+        IntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            if (predicate.accept(iterator.next()))
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public boolean anySatisfy(IntPredicate predicate)
+    {
+        IntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            if (predicate.accept(iterator.next()))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean allSatisfy(IntPredicate predicate)
+    {
+        IntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            if (!predicate.accept(iterator.next()))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public long sum()
+    {
+        long result = 0L;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            result += this.containers[i].sum(IntBitmapSet.base(this.keys[i]));
+        }
+        return result;
+    }
+
+    @Override
+    public int max()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        int last = this.containerCount - 1;
+        return IntBitmapSet.base(this.keys[last]) | this.containers[last].last();
+    }
+
+    @Override
+    public int min()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return IntBitmapSet.base(this.keys[0]) | this.containers[0].first();
+    }
+
+    @Override
+    public <T> T injectInto(T injectedValue, ObjectIntToObjectFunction<? super T, ? extends T> function)
+    {
+        T result = injectedValue;
+        IntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            result = function.valueOf(result, iterator.next());
+        }
+        return result;
+    }
+
+    @Override
+    public RichIterable<IntIterable> chunk(int size)
+    {
+        if (size <= 0)
+        {
+            throw new IllegalArgumentException("Size for groups must be positive but was: " + size);
+        }
+        MutableList<IntIterable> result = Lists.mutable.empty();
+        if (this.notEmpty())
+        {
+            if (this.size() <= size)
+            {
+                result.add(IntBitmapSet.newSet(this));
+            }
+            else
+            {
+                IntIterator iterator = this.intIterator();
+                while (iterator.hasNext())
+                {
+                    MutableIntSet batch = new IntBitmapSet();
+                    for (int i = 0; i < size && iterator.hasNext(); i++)
+                    {
+                        batch.add(iterator.next());
+                    }
+                    result.add(batch);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public IntBitmapSet union(IntSet set)
+    {
+        IntBitmapSet other = IntBitmapSet.asBitmapSet(set);
+        if (other != null)
+        {
+            return IntBitmapSet.combine(this, other, OR, true);
+        }
+        return IntBitmapSet.newSet(this).withAll(set);
+    }
+
+    @Override
+    public IntBitmapSet intersect(IntSet set)
+    {
+        IntBitmapSet other = IntBitmapSet.asBitmapSet(set);
+        if (other != null)
+        {
+            return IntBitmapSet.combine(this, other, AND, true);
+        }
+        if (this.size() < set.size())
+        {
+            return this.select(set::contains);
+        }
+        return set.select(this::contains, new IntBitmapSet());
+    }
+
+    @Override
+    public IntBitmapSet difference(IntSet set)
+    {
+        IntBitmapSet other = IntBitmapSet.asBitmapSet(set);
+        if (other != null)
+        {
+            return IntBitmapSet.combine(this, other, AND_NOT, true);
+        }
+        return this.reject(set::contains);
+    }
+
+    @Override
+    public IntBitmapSet symmetricDifference(IntSet set)
+    {
+        IntBitmapSet other = IntBitmapSet.asBitmapSet(set);
+        if (other == null)
+        {
+            other = new IntBitmapSet(set);
+        }
+        return IntBitmapSet.combine(this, other, XOR, true);
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        IntBitmapSet other = obj instanceof IntIterable ? IntBitmapSet.asBitmapSet((IntIterable) obj) : null;
+        if (other == null)
+        {
+            return super.equals(obj);
+        }
+        if (this.size != other.size || this.containerCount != other.containerCount)
+        {
+            return false;
+        }
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            if (this.keys[i] != other.keys[i] || !this.containers[i].sameValues(other.containers[i]))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Converts every chunk which is cheaper to store as runs of consecutive values into a run container. Run
+     * containers are read-optimized; the next modification of a chunk converts it back to an array or a bitmap.
+     *
+     * @return true if any chunk was converted
+     */
+    public boolean runOptimize()
+    {
+        boolean changed = false;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            Container container = this.containers[i];
+            this.containers[i] = container.runOptimize();
+            changed |= this.containers[i] != container;
+        }
+        return changed;
+    }
+
+    /**
+     * Creates a new empty IntBitmapSet.
+     */
+    @Override
+    public IntBitmapSet newEmpty()
+    {
+        return new IntBitmapSet();
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.containerCount);
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            out.writeChar(this.keys[i]);
+            this.containers[i].write(out);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException
+    {
+        int containerCount = in.readInt();
+        this.keys = new char[Math.max(containerCount, DEFAULT_INITIAL_CAPACITY)];
+        this.containers = new Container[this.keys.length];
+        this.size = 0;
+        for (int i = 0; i < containerCount; i++)
+        {
+            this.keys[i] = in.readChar();
+            this.containers[i] = Container.read(in);
+            this.size += this.containers[i].cardinality();
+        }
+        this.containerCount = containerCount;
+    }
+
+    private int indexOf(char key)
+    {
+        return Arrays.binarySearch(this.keys, 0, this.containerCount, key);
+    }
+
+    private void insertContainer(int index, char key, Container container)
+    {
+        if (this.containerCount == this.keys.length)
+        {
+            int newCapacity = this.keys.length << 1;
+            this.keys = Arrays.copyOf(this.keys, newCapacity);
+            this.containers = Arrays.copyOf(this.containers, newCapacity);
+        }
+        System.arraycopy(this.keys, index, this.keys, index + 1, this.containerCount - index);
+        System.arraycopy(this.containers, index, this.containers, index + 1, this.containerCount - index);
+        this.keys[index] = key;
+        this.containers[index] = container;
+        this.containerCount++;
+    }
+
+    private void removeContainer(int index)
+    {
+        int numMoved = this.containerCount - index - 1;
+        System.arraycopy(this.keys, index + 1, this.keys, index, numMoved);
+        System.arraycopy(this.containers, index + 1, this.containers, index, numMoved);
+        this.containerCount--;
+        this.containers[this.containerCount] = null;
+    }
+
+    private void appendContainer(char key, Container container)
+    {
+        this.insertContainer(this.containerCount, key, container);
+        this.size += container.cardinality();
+    }
+
+    private void assign(IntBitmapSet set)
+    {
+        this.keys = set.keys;
+        this.containers = set.containers;
+        this.containerCount = set.containerCount;
+        this.size = set.size;
+    }
+
+    /**
+     * Merges the chunks of both sets by key. Chunks present on only one side are copied or dropped depending on the
+     * operation, and chunks present on both sides are combined container by container. The containers of
+     * {@code left} are reused rather than copied when {@code copyLeft} is false, which is the case for the in-place
+     * bulk operations where {@code left} is replaced by the result.
+     */
+    private static IntBitmapSet combine(IntBitmapSet left, IntBitmapSet right, int operation, boolean copyLeft)
+    {
+        IntBitmapSet result = new IntBitmapSet();
+        int i = 0;
+        int j = 0;
+        while (i < left.containerCount || j < right.containerCount)
+        {
+            if (j == right.containerCount || i < left.containerCount && left.keys[i] < right.keys[j])
+            {
+                if (operation != AND)
+                {
+                    Container container = left.containers[i];
+                    result.appendContainer(left.keys[i], copyLeft ? container.copy() : container);
+                }
+                i++;
+            }
+            else if (i == left.containerCount || right.keys[j] < left.keys[i])
+            {
+                if (operation == OR || operation == XOR)
+                {
+                    result.appendContainer(right.keys[j], right.containers[j].copy());
+                }
+                j++;
+            }
+            else
+            {
+                Container container = left.containers[i].combine(right.containers[j], operation);
+                if (container.cardinality() > 0)
+                {
+                    result.appendContainer(left.keys[i], container);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    private static int nextSetBit(long[] words, int fromIndex)
+    {
+        if (fromIndex >= CHUNK_SIZE)
+        {
+            return -1;
+        }
+        int wordIndex = fromIndex >>> 6;
+        long word = words[wordIndex] & -1L << fromIndex;
+        while (word == 0L)
+        {
+            wordIndex++;
+            if (wordIndex == BITMAP_WORDS)
+            {
+                return -1;
+            }
+            word = words[wordIndex];
+        }
+        return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    private static int nextClearBit(long[] words, int fromIndex)
+    {
+        int wordIndex = fromIndex >>> 6;
+        long word = ~words[wordIndex] & -1L << fromIndex;
+        while (word == 0L)
+        {
+            wordIndex++;
+            if (wordIndex == BITMAP_WORDS)
+            {
+                return CHUNK_SIZE;
+            }
+            word = ~words[wordIndex];
+        }
+        return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    private static int countRuns(long[] words)
+    {
+        int runs = 0;
+        long previousTopBit = 0L;
+        for (long word : words)
+        {
+            runs += Long.bitCount(word & ~(word << 1 | previousTopBit));
+            previousTopBit = word >>> 63;
+        }
+        return runs;
+    }
+
+    /**
+     * The low 16 bits of the values of one chunk. Array and bitmap containers are mutated in place by
+     * {@link #add(int)} and {@link #remove(int)}, which return the container to keep when the representation has to
+     * change. Run containers are never mutated.
+     */
+    private abstract static class Container
+    {
+        abstract int cardinality();
+
+        abstract boolean contains(int low);
+
+        /**
+         * Adds a value which is not yet contained.
+         */
+        abstract Container add(int low);
+
+        /**
+         * Removes a value which is contained, leaving at least one value.
+         */
+        abstract Container remove(int low);
+
+        abstract int first();
+
+        abstract int last();
+
+        /**
+         * Returns the smallest value greater than or equal to {@code fromLow}, or -1 if there is none.
+         */
+        abstract int nextValue(int fromLow);
+
+        abstract void each(int base, IntProcedure procedure);
+
+        abstract int copyTo(int base, int[] target, int offset);
+
+        abstract long sum(int base);
+
+        abstract long[] toWords();
+
+        abstract Container copy();
+
+        abstract int sizeInBytes();
+
+        abstract void write(ObjectOutput out) throws IOException;
+
+        static Container read(ObjectInput in) throws IOException
+        {
+            byte type = in.readByte();
+            if (type == ARRAY_CONTAINER)
+            {
+                return ArrayContainer.read(in);
+            }
+            if (type == BITMAP_CONTAINER)
+            {
+                return BitmapContainer.read(in);
+            }
+            if (type == RUN_CONTAINER)
+            {
+                return RunContainer.read(in);
+            }
+            throw new IOException("Unknown container type: " + type);
+        }
+
+        static Container fromWords(long[] words)
+        {
+            int cardinality = 0;
+            for (long word : words)
+            {
+                cardinality += Long.bitCount(word);
+            }
+            if (cardinality <= ARRAY_MAX_CARDINALITY)
+            {
+                return ArrayContainer.fromWords(words, cardinality);
+            }
+            return new BitmapContainer(words, cardinality);
+        }
+
+        Container combine(Container other, int operation)
+        {
+            if (operation == AND && other instanceof ArrayContainer)
+            {
+                return other.combine(this, AND);
+            }
+            long[] words = this.toWords();
+            long[] otherWords = other.toWords();
+            if (operation == OR)
+            {
+                for (int i = 0; i < BITMAP_WORDS; i++)
+                {
+                    words[i] |= otherWords[i];
+                }
+            }
+            else if (operation == AND)
+            {
+                for (int i = 0; i < BITMAP_WORDS; i++)
+                {
+                    words[i] &= otherWords[i];
+                }
+            }
+            else if (operation == AND_NOT)
+            {
+                for (int i = 0; i < BITMAP_WORDS; i++)
+                {
+                    words[i] &= ~otherWords[i];
+                }
+            }
+            else
+            {
+                for (int i = 0; i < BITMAP_WORDS; i++)
+                {
+                    words[i] ^= otherWords[i];
+                }
+            }
+            return Container.fromWords(words);
+        }
+
+        Container runOptimize()
+        {
+            long[] words = this.toWords();
+            int runs = IntBitmapSet.countRuns(words);
+            if (RunContainer.sizeInBytes(runs) < this.sizeInBytes())
+            {
+                return RunContainer.fromWords(words, runs, this.cardinality());
+            }
+            return this;
+        }
+
+        boolean sameValues(Container other)
+        {
+            return this.cardinality() == other.cardinality() && Arrays.equals(this.toWords(), other.toWords());
+        }
+    }
+
+    private static final class ArrayContainer extends Container
+    {
+        private char[] values;
+        private int cardinality;
+
+        private ArrayContainer(char[] values, int cardinality)
+        {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        static ArrayContainer singleton(int low)
+        {
+            return new ArrayContainer(new char[]{(char) low}, 1);
+        }
+
+        static ArrayContainer fromWords(long[] words, int cardinality)
+        {
+            char[] values = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                long word = words[i];
+                while (word != 0L)
+                {
+                    values[count++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1L;
+                }
+            }
+            return new ArrayContainer(values, cardinality);
+        }
+
+        static ArrayContainer read(ObjectInput in) throws IOException
+        {
+            int cardinality = in.readInt();
+            char[] values = new char[cardinality];
+            for (int i = 0; i < cardinality; i++)
+            {
+                values[i] = in.readChar();
+            }
+            return new ArrayContainer(values, cardinality);
+        }
+
+        @Override
+        int cardinality()
+        {
+            return this.cardinality;
+        }
+
+        @Override
+        boolean contains(int low)
+        {
+            return Arrays.binarySearch(this.values, 0, this.cardinality, (char) low) >= 0;
+        }
+
+        @Override
+        Container add(int low)
+        {
+            if (this.cardinality == ARRAY_MAX_CARDINALITY)
+            {
+                return new BitmapContainer(this.toWords(), this.cardinality).add(low);
+            }
+            int index = -Arrays.binarySearch(this.values, 0, this.cardinality, (char) low) - 1;
+            if (this.cardinality == this.values.length)
+            {
+                this.values = Arrays.copyOf(this.values, Math.min(ARRAY_MAX_CARDINALITY, this.cardinality << 1));
+            }
+            System.arraycopy(this.values, index, this.values, index + 1, this.cardinality - index);
+            this.values[index] = (char) low;
+            this.cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(int low)
+        {
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, (char) low);
+            System.arraycopy(this.values, index + 1, this.values, index, this.cardinality - index - 1);
+            this.cardinality--;
+            return this;
+        }
+
+        @Override
+        int first()
+        {
+            return this.values[0];
+        }
+
+        @Override
+        int last()
+        {
+            return this.values[this.cardinality - 1];
+        }
+
+        @Override
+        int nextValue(int fromLow)
+        {
+            if (fromLow >= CHUNK_SIZE)
+            {
+                return -1;
+            }
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, (char) fromLow);
+            if (index < 0)
+            {
+                index = -index - 1;
+            }
+            return index < this.cardinality ? this.values[index] : -1;
+        }
+
+        @Override
+        void each(int base, IntProcedure procedure)
+        {
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                procedure.value(base | this.values[i]);
+            }
+        }
+
+        @Override
+        int copyTo(int base, int[] target, int offset)
+        {
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                target[offset++] = base | this.values[i];
+            }
+            return offset;
+        }
+
+        @Override
+        long sum(int base)
+        {
+            long result = 0L;
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                result += base | this.values[i];
+            }
+            return result;
+        }
+
+        @Override
+        long[] toWords()
+        {
+            long[] words = new long[BITMAP_WORDS];
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                char value = this.values[i];
+                words[value >>> 6] |= 1L << value;
+            }
+            return words;
+        }
+
+        @Override
+        Container copy()
+        {
+            return new ArrayContainer(Arrays.copyOf(this.values, this.cardinality), this.cardinality);
+        }
+
+        @Override
+        int sizeInBytes()
+        {
+            return this.cardinality * Character.BYTES;
+        }
+
+        @Override
+        void write(ObjectOutput out) throws IOException
+        {
+            out.writeByte(ARRAY_CONTAINER);
+            out.writeInt(this.cardinality);
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                out.writeChar(this.values[i]);
+            }
+        }
+
+        @Override
+        Container combine(Container other, int operation)
+        {
+            if (operation == AND || operation == AND_NOT)
+            {
+                boolean keepContained = operation == AND;
+                char[] result = new char[this.cardinality];
+                int count = 0;
+                for (int i = 0; i < this.cardinality; i++)
+                {
+                    char value = this.values[i];
+                    if (other.contains(value) == keepContained)
+                    {
+                        result[count++] = value;
+                    }
+                }
+                return new ArrayContainer(result, count);
+            }
+            if (other instanceof ArrayContainer)
+            {
+                ArrayContainer that = (ArrayContainer) other;
+                if (this.cardinality + that.cardinality <= ARRAY_MAX_CARDINALITY)
+                {
+                    return this.merge(that, operation == XOR);
+                }
+            }
+            return super.combine(other, operation);
+        }
+
+        private ArrayContainer merge(ArrayContainer that, boolean dropCommon)
+        {
+            char[] result = new char[this.cardinality + that.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < this.cardinality && j < that.cardinality)
+            {
+                char left = this.values[i];
+                char right = that.values[j];
+                if (left < right)
+                {
+                    result[count++] = left;
+                    i++;
+                }
+                else if (right < left)
+                {
+                    result[count++] = right;
+                    j++;
+                }
+                else
+                {
+                    if (!dropCommon)
+                    {
+                        result[count++] = left;
+                    }
+                    i++;
+                    j++;
+                }
+            }
+            while (i < this.cardinality)
+            {
+                result[count++] = this.values[i++];
+            }
+            while (j < that.cardinality)
+            {
+                result[count++] = that.values[j++];
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        boolean sameValues(Container other)
+        {
+            if (other instanceof ArrayContainer)
+            {
+                ArrayContainer that = (ArrayContainer) other;
+                return Arrays.equals(this.values, 0, this.cardinality, that.values, 0, that.cardinality);
+            }
+            return super.sameValues(other);
+        }
+    }
+
+    private static final class BitmapContainer extends Container
+    {
+        private final long[] words;
+        private int cardinality;
+
+        private BitmapContainer(long[] words, int cardinality)
+        {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        static BitmapContainer read(ObjectInput in) throws IOException
+        {
+            long[] words = new long[BITMAP_WORDS];
+            int cardinality = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                words[i] = in.readLong();
+                cardinality += Long.bitCount(words[i]);
+            }
+            return new BitmapContainer(words, cardinality);
+        }
+
+        @Override
+        int cardinality()
+        {
+            return this.cardinality;
+        }
+
+        @Override
+        boolean contains(int low)
+        {
+            return (this.words[low >>> 6] & 1L << low) != 0L;
+        }
+
+        @Override
+        Container add(int low)
+        {
+            this.words[low >>> 6] |= 1L << low;
+            this.cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(int low)
+        {
+            this.words[low >>> 6] &= ~(1L << low);
+            this.cardinality--;
+            if (this.cardinality <= ARRAY_MAX_CARDINALITY)
+            {
+                return ArrayContainer.fromWords(this.words, this.cardinality);
+            }
+            return this;
+        }
+
+        @Override
+        int first()
+        {
+            return IntBitmapSet.nextSetBit(this.words, 0);
+        }
+
+        @Override
+        int last()
+        {
+            int wordIndex = BITMAP_WORDS - 1;
+            while (this.words[wordIndex] == 0L)
+            {
+                wordIndex--;
+            }
+            return (wordIndex << 6) + Long.SIZE - 1 - Long.numberOfLeadingZeros(this.words[wordIndex]);
+        }
+
+        @Override
+        int nextValue(int fromLow)
+        {
+            return IntBitmapSet.nextSetBit(this.words, fromLow);
+        }
+
+        @Override
+        void each(int base, IntProcedure procedure)
+        {
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                long word = this.words[i];
+                while (word != 0L)
+                {
+                    procedure.value(base | (i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1L;
+                }
+            }
+        }
+
+        @Override
+        int copyTo(int base, int[] target, int offset)
+        {
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                long word = this.words[i];
+                while (word != 0L)
+                {
+                    target[offset++] = base | (i << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1L;
+                }
+            }
+            return offset;
+        }
+
+        @Override
+        long sum(int base)
+        {
+            long result = 0L;
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                long word = this.words[i];
+                while (word != 0L)
+                {
+                    result += base | (i << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1L;
+                }
+            }
+            return result;
+        }
+
+        @Override
+        long[] toWords()
+        {
+            return this.words.clone();
+        }
+
+        @Override
+        Container copy()
+        {
+            return new BitmapContainer(this.words.clone(), this.cardinality);
+        }
+
+        @Override
+        int sizeInBytes()
+        {
+            return BITMAP_WORDS * Long.BYTES;
+        }
+
+        @Override
+        void write(ObjectOutput out) throws IOException
+        {
+            out.writeByte(BITMAP_CONTAINER);
+            for (long word : this.words)
+            {
+                out.writeLong(word);
+            }
+        }
+    }
+
+    private static final class RunContainer extends Container
+    {
+        private final char[] starts;
+        private final char[] lengths;
+        private final int cardinality;
+
+        private RunContainer(char[] starts, char[] lengths, int cardinality)
+        {
+            this.starts = starts;
+            this.lengths = lengths;
+            this.cardinality = cardinality;
+        }
+
+        static int sizeInBytes(int runs)
+        {
+            return runs * 2 * Character.BYTES;
+        }
+
+        static RunContainer fromWords(long[] words, int runs, int cardinality)
+        {
+            char[] starts = new char[runs];
+            char[] lengths = new char[runs];
+            int run = 0;
+            int start = IntBitmapSet.nextSetBit(words, 0);
+            while (start >= 0)
+            {
+                int end = IntBitmapSet.nextClearBit(words, start);
+                starts[run] = (char) start;
+                lengths[run] = (char) (end - start - 1);
+                run++;
+                start = IntBitmapSet.nextSetBit(words, end);
+            }
+            return new RunContainer(starts, lengths, cardinality);
+        }
+
+        static RunContainer read(ObjectInput in) throws IOException
+        {
+            int runs = in.readInt();
+            char[] starts = new char[runs];
+            char[] lengths = new char[runs];
+            int cardinality = 0;
+            for (int i = 0; i < runs; i++)
+            {
+                starts[i] = in.readChar();
+                lengths[i] = in.readChar();
+                cardinality += lengths[i] + 1;
+            }
+            return new RunContainer(starts, lengths, cardinality);
+        }
+
+        @Override
+        int cardinality()
+        {
+            return this.cardinality;
+        }
+
+        @Override
+        boolean contains(int low)
+        {
+            int index = Arrays.binarySearch(this.starts, (char) low);
+            if (index >= 0)
+            {
+                return true;
+            }
+            index = -index - 2;
+            return index >= 0 && low - this.starts[index] <= this.lengths[index];
+        }
+
+        @Override
+        Container add(int low)
+        {
+            return Container.fromWords(this.toWords()).add(low);
+        }
+
+        @Override
+        Container remove(int low)
+        {
+            return Container.fromWords(this.toWords()).remove(low);
+        }
+
+        @Override
+        int first()
+        {
+            return this.starts[0];
+        }
+
+        @Override
+        int last()
+        {
+            int last = this.starts.length - 1;
+            return this.starts[last] + this.lengths[last];
+        }
+
+        @Override
+        int nextValue(int fromLow)
+        {
+            if (fromLow >= CHUNK_SIZE)
+            {
+                return -1;
+            }
+            int index = Arrays.binarySearch(this.starts, (char) fromLow);
+            if (index >= 0)
+            {
+                return fromLow;
+            }
+            index = -index - 2;
+            if (index >= 0 && fromLow - this.starts[index] <= this.lengths[index])
+            {
+                return fromLow;
+            }
+            index++;
+            return index < this.starts.length ? this.starts[index] : -1;
+        }
+
+        @Override
+        void each(int base, IntProcedure procedure)
+        {
+            for (int i = 0; i < this.starts.length; i++)
+            {
+                int end = this.starts[i] + this.lengths[i];
+                for (int low = this.starts[i]; low <= end; low++)
+                {
+                    procedure.value(base | low);
+                }
+            }
+        }
+
+        @Override
+        int copyTo(int base, int[] target, int offset)
+        {
+            for (int i = 0; i < this.starts.length; i++)
+            {
+                int end = this.starts[i] + this.lengths[i];
+                for (int low = this.starts[i]; low <= end; low++)
+                {
+                    target[offset++] = base | low;
+                }
+            }
+            return offset;
+        }
+
+        @Override
+        long sum(int base)
+        {
+            long result = 0L;
+            for (int i = 0; i < this.starts.length; i++)
+            {
+                long first = base | this.starts[i];
+                long count = this.lengths[i] + 1L;
+                result += first * count + count * (count - 1L) / 2L;
+            }
+            return result;
+        }
+
+        @Override
+        long[] toWords()
+        {
+            long[] words = new long[BITMAP_WORDS];
+            for (int i = 0; i < this.starts.length; i++)
+            {
+                int end = this.starts[i] + this.lengths[i];
+                for (int low = this.starts[i]; low <= end; low++)
+                {
+                    words[low >>> 6] |= 1L << low;
+                }
+            }
+            return words;
+        }
+
+        @Override
+        Container copy()
+        {
+            return this;
+        }
+
+        @Override
+        int sizeInBytes()
+        {
+            return RunContainer.sizeInBytes(this.starts.length);
+        }
+
+        @Override
+        Container runOptimize()
+        {
+            return this;
+        }
+
+        @Override
+        void write(ObjectOutput out) throws IOException
+        {
+            out.writeByte(RUN_CONTAINER);
+            out.writeInt(this.starts.length);
+            for (int i = 0; i < this.starts.length; i++)
+            {
+                out.writeChar(this.starts[i]);
+                out.writeChar(this.lengths[i]);
+            }
+        }
+    }
+
+    private static final class ImmutableIntBitmapSet extends AbstractImmutableIntSet implements Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final IntBitmapSet delegate;
+
+        private ImmutableIntBitmapSet(IntBitmapSet delegate)
+        {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.delegate.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            return this.delegate.equals(obj);
+        }
+
+        @Override
+        public int size()
+        {
+            return this.delegate.size();
+        }
+
+        @Override
+        public void appendString(Appendable appendable, String start, String separator, String end)
+        {
+            this.delegate.appendString(appendable, start, separator, end);
+        }
+
+        @Override
+        public IntIterator intIterator()
+        {
+            return new UnmodifiableIntIterator(this.delegate.intIterator());
+        }
+
+        @Override
+        public int[] toArray()
+        {
+            return this.delegate.toArray();
+        }
+
+        @Override
+        public int[] toArray(int[] array)
+        {
+            return this.delegate.toArray(array);
+        }
+
+        @Override
+        public int[] toSortedArray()
+        {
+            return this.delegate.toArray();
+        }
+
+        @Override
+        public boolean contains(int value)
+        {
+            return this.delegate.contains(value);
+        }
+
+        @Override
+        public void each(IntProcedure procedure)
+        {
+            this.delegate.each(procedure);
+        }
+
+        @Override
+        public ImmutableIntSet select(IntPredicate predicate)
+        {
+            return this.delegate.select(predicate).toImmutable();
+        }
+
+        @Override
+        public ImmutableIntSet reject(IntPredicate predicate)
+        {
+            return this.delegate.reject(predicate).toImmutable();
+        }
+
+        @Override
+        public <V> ImmutableSet<V> collect(IntToObjectFunction<? extends V> function)
+        {
+            return this.delegate.<V>collect(function).toImmutable();
+        }
+
+        @Override
+        public int detectIfNone(IntPredicate predicate, int ifNone)
+        {
+            return this.delegate.detectIfNone(predicate, ifNone);
+        }
+
+        @Override
+        public int count(IntPredicate predicate)
+        {
+            return this.delegate.count(predicate);
+        }
+
+        @Override
+        public boolean anySatisfy(IntPredicate predicate)
+        {
+            return this.delegate.anySatisfy(predicate);
+        }
+
+        @Override
+        public boolean allSatisfy(IntPredicate predicate)
+        {
+            return this.delegate.allSatisfy(predicate);
+        }
+
+        @Override
+        public boolean noneSatisfy(IntPredicate predicate)
+        {
+            return !this.delegate.anySatisfy(predicate);
+        }
+
+        @Override
+        public long sum()
+        {
+            return this.delegate.sum();
+        }
+
+        @Override
+        public int max()
+        {
+            return this.delegate.max();
+        }
+
+        @Override
+        public int min()
+        {
+            return this.delegate.min();
+        }
+
+        @Override
+        public <T> T injectInto(T injectedValue, ObjectIntToObjectFunction<? super T, ? extends T> function)
+        {
+            return this.delegate.injectInto(injectedValue, function);
+        }
+
+        @Override
+        public ImmutableIntSet newWith(int element)
+        {
+            return IntBitmapSet.newSet(this.delegate).with(element).toImmutable();
+        }
+
+        @Override
+        public ImmutableIntSet newWithout(int element)
+        {
+            return IntBitmapSet.newSet(this.delegate).without(element).toImmutable();
+        }
+
+        @Override
+        public ImmutableIntSet newWithAll(IntIterable elements)
+        {
+            return IntBitmapSet.newSet(this.delegate).withAll(elements).toImmutable();
+        }
+
+        @Override
+        public ImmutableIntSet newWithoutAll(IntIterable elements)
+        {
+            return IntBitmapSet.newSet(this.delegate).withoutAll(elements).toImmutable();
+        }
+
+        @Override
+        public ImmutableIntSet union(IntSet set)
+        {
+            return this.delegate.union(set).toImmutable();
+        }
+
+        @Override
+        public ImmutableIntSet intersect(IntSet set)
+        {
+            return this.delegate.intersect(set).toImmutable();
+        }
+
+        @Override
+        public ImmutableIntSet difference(IntSet set)
+        {
+            return this.delegate.difference(set).toImmutable();
+        }
+
+        @Override
+        public ImmutableIntSet symmetricDifference(IntSet set)
+        {
+            return this.delegate.symmetricDifference(set).toImmutable();
+        }
+    }
+
+    private class InternalIntIterator implements MutableIntIterator
+    {
+        private int count;
+        private int containerIndex;
+        private int nextLow;
+        private int lastReturned;
+        private boolean canRemove;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.count < IntBitmapSet.this.size;
+        }
+
+        @Override
+        public int next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException("next() called, but the iterator is exhausted");
+            }
+            int low = IntBitmapSet.this.containers[this.containerIndex].nextValue(this.nextLow);
+            while (low < 0)
+            {
+                this.containerIndex++;
+                low = IntBitmapSet.this.containers[this.containerIndex].first();
+            }
+            this.nextLow = low + 1;
+            this.count++;
+            this.canRemove = true;
+            this.lastReturned = IntBitmapSet.base(IntBitmapSet.this.keys[this.containerIndex]) | low;
+            return this.lastReturned;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            boolean removesContainer = IntBitmapSet.this.containers[this.containerIndex].cardinality() == 1;
+            IntBitmapSet.this.remove(this.lastReturned);
+            if (removesContainer)
+            {
+                this.nextLow = 0;
+            }
+            this.count--;
+            this.canRemove = false;
+        }
+    }
+}
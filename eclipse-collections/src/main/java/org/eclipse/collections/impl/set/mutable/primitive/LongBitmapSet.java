@@ -0,0 +1,1121 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable.primitive;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+
+import org.eclipse.collections.api.LongIterable;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.primitive.LongToObjectFunction;
+import org.eclipse.collections.api.block.function.primitive.ObjectLongToObjectFunction;
+import org.eclipse.collections.api.block.predicate.primitive.LongPredicate;
+import org.eclipse.collections.api.block.procedure.primitive.LongProcedure;
+import org.eclipse.collections.api.collection.primitive.MutableLongCollection;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.primitive.LongSets;
+import org.eclipse.collections.api.iterator.LongIterator;
+import org.eclipse.collections.api.iterator.MutableIntIterator;
+import org.eclipse.collections.api.iterator.MutableLongIterator;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.primitive.ImmutableLongSet;
+import org.eclipse.collections.api.set.primitive.LongSet;
+import org.eclipse.collections.api.set.primitive.MutableLongSet;
+import org.eclipse.collections.impl.iterator.UnmodifiableLongIterator;
+import org.eclipse.collections.impl.set.immutable.primitive.AbstractImmutableLongSet;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.set.primitive.AbstractLongSet;
+
+/**
+ * LongBitmapSet is a {@link MutableLongSet} backed by compressed bitmaps. Values are partitioned by their high 32 bits
+ * and the low 32 bits of every partition are kept in an {@link IntBitmapSet}, so the memory use and the speed of set
+ * algebra with another LongBitmapSet are those of IntBitmapSet for every partition. Iteration is in ascending order.
+ *
+ * @since 12.0
+ */
+public class LongBitmapSet extends AbstractLongSet implements MutableLongSet, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 2;
+
+    private static final int OR = 0;
+    private static final int AND = 1;
+    private static final int AND_NOT = 2;
+    private static final int XOR = 3;
+
+    private int[] highs;
+    private IntBitmapSet[] partitions;
+    private int partitionCount;
+    private int size;
+
+    public LongBitmapSet()
+    {
+        this.highs = new int[DEFAULT_INITIAL_CAPACITY];
+        this.partitions = new IntBitmapSet[DEFAULT_INITIAL_CAPACITY];
+    }
+
+    public LongBitmapSet(long... elements)
+    {
+        this();
+        this.addAll(elements);
+    }
+
+    public LongBitmapSet(LongIterable elements)
+    {
+        this();
+        this.addAll(elements);
+    }
+
+    public LongBitmapSet(LongBitmapSet set)
+    {
+        this.highs = Arrays.copyOf(set.highs, Math.max(set.partitionCount, DEFAULT_INITIAL_CAPACITY));
+        this.partitions = new IntBitmapSet[this.highs.length];
+        for (int i = 0; i < set.partitionCount; i++)
+        {
+            this.partitions[i] = IntBitmapSet.newSet(set.partitions[i]);
+        }
+        this.partitionCount = set.partitionCount;
+        this.size = set.size;
+    }
+
+    public static LongBitmapSet newSet(LongIterable source)
+    {
+        if (source instanceof LongBitmapSet)
+        {
+            return new LongBitmapSet((LongBitmapSet) source);
+        }
+        return new LongBitmapSet(source);
+    }
+
+    public static LongBitmapSet newSetWith(long... source)
+    {
+        return new LongBitmapSet(source);
+    }
+
+    private static int highBits(long value)
+    {
+        return (int) (value >>> 32);
+    }
+
+    /**
+     * The low 32 bits are stored with the sign bit flipped, so that the signed order of the IntBitmapSet is the
+     * unsigned order of the low bits.
+     */
+    private static int lowBits(long value)
+    {
+        return (int) value ^ Integer.MIN_VALUE;
+    }
+
+    private static long toLong(int high, int low)
+    {
+        return (long) high << 32 | (low ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+    }
+
+    private static LongBitmapSet asBitmapSet(LongIterable iterable)
+    {
+        if (iterable instanceof LongBitmapSet)
+        {
+            return (LongBitmapSet) iterable;
+        }
+        if (iterable instanceof ImmutableLongBitmapSet)
+        {
+            return ((ImmutableLongBitmapSet) iterable).delegate;
+        }
+        return null;
+    }
+
+    @Override
+    public MutableSet<Long> boxed()
+    {
+        return new BoxedMutableLongSet(this);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int result = 0;
+        LongIterator iterator = this.longIterator();
+        while (iterator.hasNext())
+        {
+            long value = iterator.next();
+            result += (int) (value ^ value >>> 32);
+        }
+        return result;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public void appendString(Appendable appendable, String start, String separator, String end)
+    {
+        try
+        {
+            appendable.append(start);
+            LongIterator iterator = this.longIterator();
+            if (iterator.hasNext())
+            {
+                appendable.append(String.valueOf(iterator.next()));
+                while (iterator.hasNext())
+                {
+                    appendable.append(separator);
+                    appendable.append(String.valueOf(iterator.next()));
+                }
+            }
+            appendable.append(end);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public boolean add(long element)
+    {
+        int high = LongBitmapSet.highBits(element);
+        int index = this.indexOf(high);
+        if (index >= 0)
+        {
+            if (!this.partitions[index].add(LongBitmapSet.lowBits(element)))
+            {
+                return false;
+            }
+        }
+        else
+        {
+            this.insertPartition(-index - 1, high, IntBitmapSet.newSetWith(LongBitmapSet.lowBits(element)));
+        }
+        this.size++;
+        return true;
+    }
+
+    @Override
+    public boolean addAll(long... source)
+    {
+        int oldSize = this.size;
+        for (long item : source)
+        {
+            this.add(item);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean addAll(LongIterable source)
+    {
+        int oldSize = this.size;
+        LongBitmapSet other = LongBitmapSet.asBitmapSet(source);
+        if (other != null)
+        {
+            for (int i = 0; i < other.partitionCount; i++)
+            {
+                int index = this.indexOf(other.highs[i]);
+                if (index >= 0)
+                {
+                    this.partitions[index].addAll(other.partitions[i]);
+                }
+                else
+                {
+                    this.insertPartition(-index - 1, other.highs[i], IntBitmapSet.newSet(other.partitions[i]));
+                }
+            }
+            this.recomputeSize();
+        }
+        else
+        {
+            source.forEach(this::add);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean remove(long value)
+    {
+        int index = this.indexOf(LongBitmapSet.highBits(value));
+        if (index < 0 || !this.partitions[index].remove(LongBitmapSet.lowBits(value)))
+        {
+            return false;
+        }
+        if (this.partitions[index].isEmpty())
+        {
+            this.removePartition(index);
+        }
+        this.size--;
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(LongIterable source)
+    {
+        int oldSize = this.size;
+        LongBitmapSet other = LongBitmapSet.asBitmapSet(source);
+        if (other == this)
+        {
+            this.clear();
+        }
+        else if (other != null)
+        {
+            for (int i = 0; i < other.partitionCount; i++)
+            {
+                int index = this.indexOf(other.highs[i]);
+                if (index >= 0)
+                {
+                    this.partitions[index].removeAll(other.partitions[i]);
+                    if (this.partitions[index].isEmpty())
+                    {
+                        this.removePartition(index);
+                    }
+                }
+            }
+            this.recomputeSize();
+        }
+        else
+        {
+            source.forEach(this::remove);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean removeAll(long... source)
+    {
+        int oldSize = this.size;
+        for (long item : source)
+        {
+            this.remove(item);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean retainAll(LongIterable source)
+    {
+        int oldSize = this.size;
+        LongBitmapSet other = LongBitmapSet.asBitmapSet(source);
+        if (other == null)
+        {
+            other = new LongBitmapSet(source);
+        }
+        this.assign(LongBitmapSet.combine(this, other, AND));
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean retainAll(long... source)
+    {
+        return this.retainAll(LongBitmapSet.newSetWith(source));
+    }
+
+    @Override
+    public void clear()
+    {
+        Arrays.fill(this.partitions, 0, this.partitionCount, null);
+        this.partitionCount = 0;
+        this.size = 0;
+    }
+
+    @Override
+    public LongBitmapSet with(long element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    @Override
+    public LongBitmapSet without(long element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public LongBitmapSet withAll(LongIterable elements)
+    {
+        this.addAll(elements);
+        return this;
+    }
+
+    @Override
+    public LongBitmapSet withoutAll(LongIterable elements)
+    {
+        this.removeAll(elements);
+        return this;
+    }
+
+    @Override
+    public MutableLongSet asUnmodifiable()
+    {
+        return new UnmodifiableLongSet(this);
+    }
+
+    @Override
+    public MutableLongSet asSynchronized()
+    {
+        return new SynchronizedLongSet(this);
+    }
+
+    /**
+     * Returns an immutable copy of this set which keeps the bitmap representation, see
+     * {@link IntBitmapSet#toImmutable()}.
+     */
+    @Override
+    public ImmutableLongSet toImmutable()
+    {
+        if (this.size == 0)
+        {
+            return LongSets.immutable.with();
+        }
+        if (this.size == 1)
+        {
+            return LongSets.immutable.with(this.min());
+        }
+        LongBitmapSet copy = new LongBitmapSet(this);
+        copy.runOptimize();
+        return new ImmutableLongBitmapSet(copy);
+    }
+
+    @Override
+    public LongSet freeze()
+    {
+        return this.toImmutable();
+    }
+
+    @Override
+    public MutableLongIterator longIterator()
+    {
+        return new InternalLongIterator();
+    }
+
+    @Override
+    public long[] toArray()
+    {
+        return this.toArray(new long[this.size]);
+    }
+
+    @Override
+    public long[] toArray(long[] array)
+    {
+        if (array.length < this.size)
+        {
+            array = new long[this.size];
+        }
+        int offset = 0;
+        for (int i = 0; i < this.partitionCount; i++)
+        {
+            long high = (long) this.highs[i] << 32;
+            MutableIntIterator iterator = this.partitions[i].intIterator();
+            while (iterator.hasNext())
+            {
+                array[offset++] = high | (iterator.next() ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+            }
+        }
+        return array;
+    }
+
+    /**
+     * The elements of a LongBitmapSet are always kept in ascending order, so no sort is needed.
+     */
+    @Override
+    public long[] toSortedArray()
+    {
+        return this.toArray();
+    }
+
+    @Override
+    public boolean contains(long value)
+    {
+        int index = this.indexOf(LongBitmapSet.highBits(value));
+        return index >= 0 && this.partitions[index].contains(LongBitmapSet.lowBits(value));
+    }
+
+    @Override
+    public void each(LongProcedure procedure)
+    {
+        for (int i = 0; i < this.partitionCount; i++)
+        {
+            int high = this.highs[i];
+            this.partitions[i].each(low -> procedure.value(LongBitmapSet.toLong(high, low)));
+        }
+    }
+
+    @Override
+    public LongBitmapSet select(LongPredicate predicate)
+    {
+        return this.select(predicate, new LongBitmapSet());
+    }
+
+    @Override
+    public <R extends MutableLongCollection> R select(LongPredicate predicate, R target)
+    {
+        this.each(value -> {
+            if (predicate.accept(value))
+            {
+                target.add(value);
+            }
+        });
+        return target;
+    }
+
+    @Override
+    public LongBitmapSet reject(LongPredicate predicate)
+    {
+        return this.reject(predicate, new LongBitmapSet());
+    }
+
+    @Override
+    public <R extends MutableLongCollection> R reject(LongPredicate predicate, R target)
+    {
+        this.each(value -> {
+            if (!predicate.accept(value))
+            {
+                target.add(value);
+            }
+        });
+        return target;
+    }
+
+    @Override
+    public <V> MutableSet<V> collect(LongToObjectFunction<? extends V> function)
+    {
+        return this.collect(function, UnifiedSet.newSet(this.size()));
+    }
+
+    @Override
+    public <V, R extends Collection<V>> R collect(LongToObjectFunction<? extends V> function, R target)
+    {
+        this.each(value -> target.add(function.valueOf(value)));
+        return target;
+    }
+
+    @Override
+    public long detectIfNone(LongPredicate predicate, long ifNone)
+    {
+        LongIterator iterator = this.longIterator();
+        while (iterator.hasNext())
+        {
+            long value = iterator.next();
+            if (predicate.accept(value))
+            {
+                return value;
+            }
+        }
+        return ifNone;
+    }
+
+    @Override
+    public int count(LongPredicate predicate)
+    {
+        int count = 0;
+        LongIterator iterator = this.longIterator();
+        while (iterator.hasNext())
+        {
+            if (predicate.accept(iterator.next()))
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public boolean anySatisfy(LongPredicate predicate)
+    {
+        LongIterator iterator = this.longIterator();
+        while (iterator.hasNext())
+        {
+            if (predicate.accept(iterator.next()))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean allSatisfy(LongPredicate predicate)
+    {
+        LongIterator iterator = this.longIterator();
+        while (iterator.hasNext())
+        {
+            if (!predicate.accept(iterator.next()))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Every stored low value is the unsigned low 32 bits minus 2^31, so the sum of a partition follows from the sum
+     * of its IntBitmapSet without visiting the elements again.
+     */
+    @Override
+    public long sum()
+    {
+        long result = 0L;
+        for (int i = 0; i < this.partitionCount; i++)
+        {
+            long count = this.partitions[i].size();
+            result += count * ((long) this.highs[i] << 32) + this.partitions[i].sum() + count * (1L << 31);
+        }
+        return result;
+    }
+
+    @Override
+    public long max()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        int last = this.partitionCount - 1;
+        return LongBitmapSet.toLong(this.highs[last], this.partitions[last].max());
+    }
+
+    @Override
+    public long min()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        return LongBitmapSet.toLong(this.highs[0], this.partitions[0].min());
+    }
+
+    @Override
+    public <T> T injectInto(T injectedValue, ObjectLongToObjectFunction<? super T, ? extends T> function)
+    {
+        T result = injectedValue;
+        LongIterator iterator = this.longIterator();
+        while (iterator.hasNext())
+        {
+            result = function.valueOf(result, iterator.next());
+        }
+        return result;
+    }
+
+    @Override
+    public RichIterable<LongIterable> chunk(int size)
+    {
+        if (size <= 0)
+        {
+            throw new IllegalArgumentException("Size for groups must be positive but was: " + size);
+        }
+        MutableList<LongIterable> result = Lists.mutable.empty();
+        if (this.notEmpty())
+        {
+            if (this.size() <= size)
+            {
+                result.add(LongBitmapSet.newSet(this));
+            }
+            else
+            {
+                LongIterator iterator = this.longIterator();
+                while (iterator.hasNext())
+                {
+                    MutableLongSet batch = new LongBitmapSet();
+                    for (int i = 0; i < size && iterator.hasNext(); i++)
+                    {
+                        batch.add(iterator.next());
+                    }
+                    result.add(batch);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public LongBitmapSet union(LongSet set)
+    {
+        LongBitmapSet other = LongBitmapSet.asBitmapSet(set);
+        if (other != null)
+        {
+            return LongBitmapSet.combine(this, other, OR);
+        }
+        return LongBitmapSet.newSet(this).withAll(set);
+    }
+
+    @Override
+    public LongBitmapSet intersect(LongSet set)
+    {
+        LongBitmapSet other = LongBitmapSet.asBitmapSet(set);
+        if (other != null)
+        {
+            return LongBitmapSet.combine(this, other, AND);
+        }
+        if (this.size() < set.size())
+        {
+            return this.select(set::contains);
+        }
+        return set.select(this::contains, new LongBitmapSet());
+    }
+
+    @Override
+    public LongBitmapSet difference(LongSet set)
+    {
+        LongBitmapSet other = LongBitmapSet.asBitmapSet(set);
+        if (other != null)
+        {
+            return LongBitmapSet.combine(this, other, AND_NOT);
+        }
+        return this.reject(set::contains);
+    }
+
+    @Override
+    public LongBitmapSet symmetricDifference(LongSet set)
+    {
+        LongBitmapSet other = LongBitmapSet.asBitmapSet(set);
+        if (other == null)
+        {
+            other = new LongBitmapSet(set);
+        }
+        return LongBitmapSet.combine(this, other, XOR);
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        LongBitmapSet other = obj instanceof LongIterable ? LongBitmapSet.asBitmapSet((LongIterable) obj) : null;
+        if (other == null)
+        {
+            return super.equals(obj);
+        }
+        if (this.size != other.size || this.partitionCount != other.partitionCount)
+        {
+            return false;
+        }
+        for (int i = 0; i < this.partitionCount; i++)
+        {
+            if (this.highs[i] != other.highs[i] || !this.partitions[i].equals(other.partitions[i]))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * See {@link IntBitmapSet#runOptimize()}.
+     *
+     * @return true if any chunk was converted
+     */
+    public boolean runOptimize()
+    {
+        boolean changed = false;
+        for (int i = 0; i < this.partitionCount; i++)
+        {
+            changed |= this.partitions[i].runOptimize();
+        }
+        return changed;
+    }
+
+    /**
+     * Creates a new empty LongBitmapSet.
+     */
+    @Override
+    public LongBitmapSet newEmpty()
+    {
+        return new LongBitmapSet();
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.partitionCount);
+        for (int i = 0; i < this.partitionCount; i++)
+        {
+            out.writeInt(this.highs[i]);
+            this.partitions[i].writeExternal(out);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException
+    {
+        int partitionCount = in.readInt();
+        this.highs = new int[Math.max(partitionCount, DEFAULT_INITIAL_CAPACITY)];
+        this.partitions = new IntBitmapSet[this.highs.length];
+        for (int i = 0; i < partitionCount; i++)
+        {
+            this.highs[i] = in.readInt();
+            this.partitions[i] = new IntBitmapSet();
+            this.partitions[i].readExternal(in);
+        }
+        this.partitionCount = partitionCount;
+        this.recomputeSize();
+    }
+
+    private int indexOf(int high)
+    {
+        return Arrays.binarySearch(this.highs, 0, this.partitionCount, high);
+    }
+
+    private void insertPartition(int index, int high, IntBitmapSet partition)
+    {
+        if (this.partitionCount == this.highs.length)
+        {
+            int newCapacity = this.highs.length << 1;
+            this.highs = Arrays.copyOf(this.highs, newCapacity);
+            this.partitions = Arrays.copyOf(this.partitions, newCapacity);
+        }
+        System.arraycopy(this.highs, index, this.highs, index + 1, this.partitionCount - index);
+        System.arraycopy(this.partitions, index, this.partitions, index + 1, this.partitionCount - index);
+        this.highs[index] = high;
+        this.partitions[index] = partition;
+        this.partitionCount++;
+    }
+
+    private void removePartition(int index)
+    {
+        int numMoved = this.partitionCount - index - 1;
+        System.arraycopy(this.highs, index + 1, this.highs, index, numMoved);
+        System.arraycopy(this.partitions, index + 1, this.partitions, index, numMoved);
+        this.partitionCount--;
+        this.partitions[this.partitionCount] = null;
+    }
+
+    private void appendPartition(int high, IntBitmapSet partition)
+    {
+        if (partition.notEmpty())
+        {
+            this.insertPartition(this.partitionCount, high, partition);
+            this.size += partition.size();
+        }
+    }
+
+    private void recomputeSize()
+    {
+        int size = 0;
+        for (int i = 0; i < this.partitionCount; i++)
+        {
+            size += this.partitions[i].size();
+        }
+        this.size = size;
+    }
+
+    private void assign(LongBitmapSet set)
+    {
+        this.highs = set.highs;
+        this.partitions = set.partitions;
+        this.partitionCount = set.partitionCount;
+        this.size = set.size;
+    }
+
+    private static LongBitmapSet combine(LongBitmapSet left, LongBitmapSet right, int operation)
+    {
+        LongBitmapSet result = new LongBitmapSet();
+        int i = 0;
+        int j = 0;
+        while (i < left.partitionCount || j < right.partitionCount)
+        {
+            if (j == right.partitionCount || i < left.partitionCount && left.highs[i] < right.highs[j])
+            {
+                if (operation != AND)
+                {
+                    result.appendPartition(left.highs[i], IntBitmapSet.newSet(left.partitions[i]));
+                }
+                i++;
+            }
+            else if (i == left.partitionCount || right.highs[j] < left.highs[i])
+            {
+                if (operation == OR || operation == XOR)
+                {
+                    result.appendPartition(right.highs[j], IntBitmapSet.newSet(right.partitions[j]));
+                }
+                j++;
+            }
+            else
+            {
+                IntBitmapSet leftPartition = left.partitions[i];
+                IntBitmapSet rightPartition = right.partitions[j];
+                IntBitmapSet partition;
+                if (operation == OR)
+                {
+                    partition = leftPartition.union(rightPartition);
+                }
+                else if (operation == AND)
+                {
+                    partition = leftPartition.intersect(rightPartition);
+                }
+                else if (operation == AND_NOT)
+                {
+                    partition = leftPartition.difference(rightPartition);
+                }
+                else
+                {
+                    partition = leftPartition.symmetricDifference(rightPartition);
+                }
+                result.appendPartition(left.highs[i], partition);
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    private static final class ImmutableLongBitmapSet extends AbstractImmutableLongSet implements Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final LongBitmapSet delegate;
+
+        private ImmutableLongBitmapSet(LongBitmapSet delegate)
+        {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.delegate.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            return this.delegate.equals(obj);
+        }
+
+        @Override
+        public int size()
+        {
+            return this.delegate.size();
+        }
+
+        @Override
+        public void appendString(Appendable appendable, String start, String separator, String end)
+        {
+            this.delegate.appendString(appendable, start, separator, end);
+        }
+
+        @Override
+        public LongIterator longIterator()
+        {
+            return new UnmodifiableLongIterator(this.delegate.longIterator());
+        }
+
+        @Override
+        public long[] toArray()
+        {
+            return this.delegate.toArray();
+        }
+
+        @Override
+        public long[] toArray(long[] array)
+        {
+            return this.delegate.toArray(array);
+        }
+
+        @Override
+        public long[] toSortedArray()
+        {
+            return this.delegate.toArray();
+        }
+
+        @Override
+        public boolean contains(long value)
+        {
+            return this.delegate.contains(value);
+        }
+
+        @Override
+        public void each(LongProcedure procedure)
+        {
+            this.delegate.each(procedure);
+        }
+
+        @Override
+        public ImmutableLongSet select(LongPredicate predicate)
+        {
+            return this.delegate.select(predicate).toImmutable();
+        }
+
+        @Override
+        public ImmutableLongSet reject(LongPredicate predicate)
+        {
+            return this.delegate.reject(predicate).toImmutable();
+        }
+
+        @Override
+        public <V> ImmutableSet<V> collect(LongToObjectFunction<? extends V> function)
+        {
+            return this.delegate.<V>collect(function).toImmutable();
+        }
+
+        @Override
+        public long detectIfNone(LongPredicate predicate, long ifNone)
+        {
+            return this.delegate.detectIfNone(predicate, ifNone);
+        }
+
+        @Override
+        public int count(LongPredicate predicate)
+        {
+            return this.delegate.count(predicate);
+        }
+
+        @Override
+        public boolean anySatisfy(LongPredicate predicate)
+        {
+            return this.delegate.anySatisfy(predicate);
+        }
+
+        @Override
+        public boolean allSatisfy(LongPredicate predicate)
+        {
+            return this.delegate.allSatisfy(predicate);
+        }
+
+        @Override
+        public boolean noneSatisfy(LongPredicate predicate)
+        {
+            return !this.delegate.anySatisfy(predicate);
+        }
+
+        @Override
+        public long sum()
+        {
+            return this.delegate.sum();
+        }
+
+        @Override
+        public long max()
+        {
+            return this.delegate.max();
+        }
+
+        @Override
+        public long min()
+        {
+            return this.delegate.min();
+        }
+
+        @Override
+        public <T> T injectInto(T injectedValue, ObjectLongToObjectFunction<? super T, ? extends T> function)
+        {
+            return this.delegate.injectInto(injectedValue, function);
+        }
+
+        @Override
+        public ImmutableLongSet newWith(long element)
+        {
+            return LongBitmapSet.newSet(this.delegate).with(element).toImmutable();
+        }
+
+        @Override
+        public ImmutableLongSet newWithout(long element)
+        {
+            return LongBitmapSet.newSet(this.delegate).without(element).toImmutable();
+        }
+
+        @Override
+        public ImmutableLongSet newWithAll(LongIterable elements)
+        {
+            return LongBitmapSet.newSet(this.delegate).withAll(elements).toImmutable();
+        }
+
+        @Override
+        public ImmutableLongSet newWithoutAll(LongIterable elements)
+        {
+            return LongBitmapSet.newSet(this.delegate).withoutAll(elements).toImmutable();
+        }
+
+        @Override
+        public ImmutableLongSet union(LongSet set)
+        {
+            return this.delegate.union(set).toImmutable();
+        }
+
+        @Override
+        public ImmutableLongSet intersect(LongSet set)
+        {
+            return this.delegate.intersect(set).toImmutable();
+        }
+
+        @Override
+        public ImmutableLongSet difference(LongSet set)
+        {
+            return this.delegate.difference(set).toImmutable();
+        }
+
+        @Override
+        public ImmutableLongSet symmetricDifference(LongSet set)
+        {
+            return this.delegate.symmetricDifference(set).toImmutable();
+        }
+    }
+
+    private class InternalLongIterator implements MutableLongIterator
+    {
+        private int count;
+        private int partitionIndex;
+        private int currentHigh;
+        private MutableIntIterator partitionIterator;
+        private boolean canRemove;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.count < LongBitmapSet.this.size;
+        }
+
+        @Override
+        public long next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException("next() called, but the iterator is exhausted");
+            }
+            while (this.partitionIterator == null || !this.partitionIterator.hasNext())
+            {
+                this.currentHigh = LongBitmapSet.this.highs[this.partitionIndex];
+                this.partitionIterator = LongBitmapSet.this.partitions[this.partitionIndex].intIterator();
+                this.partitionIndex++;
+            }
+            this.count++;
+            this.canRemove = true;
+            return LongBitmapSet.toLong(this.currentHigh, this.partitionIterator.next());
+        }
+
+        @Override
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            this.partitionIterator.remove();
+            int currentIndex = this.partitionIndex - 1;
+            if (LongBitmapSet.this.partitions[currentIndex].isEmpty())
+            {
+                LongBitmapSet.this.removePartition(currentIndex);
+                this.partitionIndex--;
+            }
+            LongBitmapSet.this.size--;
+            this.count--;
+            this.canRemove = false;
+        }
+    }
+}
@@ -344,6 +344,12 @@ final class ImmutableTreeSet<T>
             return AbstractParallelIterable.detect(this, predicate);
         }
 
+        @Override
+        public T detectFirst(Predicate<? super T> predicate)
+        {
+            return AbstractParallelIterable.detectFirst(this, predicate);
+        }
+
         @Override
         public Object[] toArray()
         {
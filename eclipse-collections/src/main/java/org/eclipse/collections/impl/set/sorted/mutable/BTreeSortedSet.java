@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.sorted.mutable;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.SortedSet;
+
+import org.eclipse.collections.api.set.sorted.MutableSortedSet;
+import org.eclipse.collections.impl.map.sorted.mutable.BPlusTreeMap;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * BTreeSortedSet is a MutableSortedSet backed by the keys of a {@link BPlusTreeMap} rather than a
+ * {@link java.util.TreeSet}. Besides cache-friendly lookups and iteration, {@link #indexOf(Object)} and
+ * {@link #get(int)} run in logarithmic time, as do the sizes of {@link #subSet(Object, Object)},
+ * {@link #headSet(Object)} and {@link #tailSet(Object)}.
+ *
+ * @since 12.0
+ */
+public class BTreeSortedSet<T>
+        extends AbstractSortedSetAdapter<T>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final BPlusTreeMap<T, Object> tree;
+    private final SortedSet<T> keys;
+
+    public BTreeSortedSet()
+    {
+        this(new BPlusTreeMap<>());
+    }
+
+    public BTreeSortedSet(Comparator<? super T> comparator)
+    {
+        this(new BPlusTreeMap<>(comparator));
+    }
+
+    private BTreeSortedSet(BPlusTreeMap<T, Object> tree)
+    {
+        this.tree = tree;
+        this.keys = tree.keySet(Boolean.TRUE);
+    }
+
+    public static <T> BTreeSortedSet<T> newSet()
+    {
+        return new BTreeSortedSet<>();
+    }
+
+    public static <T> BTreeSortedSet<T> newSet(Comparator<? super T> comparator)
+    {
+        return new BTreeSortedSet<>(comparator);
+    }
+
+    public static <T> BTreeSortedSet<T> newSet(Iterable<? extends T> source)
+    {
+        BTreeSortedSet<T> set = new BTreeSortedSet<>();
+        Iterate.addAllTo(source, set);
+        return set;
+    }
+
+    public static <T> BTreeSortedSet<T> newSet(Comparator<? super T> comparator, Iterable<? extends T> source)
+    {
+        BTreeSortedSet<T> set = new BTreeSortedSet<>(comparator);
+        Iterate.addAllTo(source, set);
+        return set;
+    }
+
+    public static <T> BTreeSortedSet<T> newSetWith(T... elements)
+    {
+        BTreeSortedSet<T> set = new BTreeSortedSet<>();
+        for (T element : elements)
+        {
+            set.add(element);
+        }
+        return set;
+    }
+
+    public static <T> BTreeSortedSet<T> newSetWith(Comparator<? super T> comparator, T... elements)
+    {
+        BTreeSortedSet<T> set = new BTreeSortedSet<>(comparator);
+        for (T element : elements)
+        {
+            set.add(element);
+        }
+        return set;
+    }
+
+    @Override
+    protected SortedSet<T> getDelegate()
+    {
+        return this.keys;
+    }
+
+    @Override
+    protected <S> MutableSortedSet<S> newSortedSet(Comparator<? super S> comparator)
+    {
+        return new BTreeSortedSet<>(comparator);
+    }
+
+    @Override
+    protected MutableSortedSet<T> adaptView(SortedSet<T> view)
+    {
+        return new RangeView<>(view);
+    }
+
+    @Override
+    public BTreeSortedSet<T> clone()
+    {
+        return BTreeSortedSet.newSet(this.comparator(), this);
+    }
+
+    @Override
+    public int indexOf(Object object)
+    {
+        return this.tree.indexOfKey(object);
+    }
+
+    /**
+     * Returns the element at {@code index} in the sorted order of the set.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is negative or not less than the size of the set
+     */
+    public T get(int index)
+    {
+        return this.tree.keyAt(index);
+    }
+
+    /**
+     * A subSet, headSet or tailSet of a BTreeSortedSet, which builds BTreeSortedSets.
+     */
+    private static final class RangeView<T>
+            extends AbstractSortedSetAdapter<T>
+            implements Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final SortedSet<T> view;
+
+        private RangeView(SortedSet<T> view)
+        {
+            this.view = view;
+        }
+
+        @Override
+        protected SortedSet<T> getDelegate()
+        {
+            return this.view;
+        }
+
+        @Override
+        protected <S> MutableSortedSet<S> newSortedSet(Comparator<? super S> comparator)
+        {
+            return new BTreeSortedSet<>(comparator);
+        }
+
+        @Override
+        protected MutableSortedSet<T> adaptView(SortedSet<T> view)
+        {
+            return new RangeView<>(view);
+        }
+    }
+}
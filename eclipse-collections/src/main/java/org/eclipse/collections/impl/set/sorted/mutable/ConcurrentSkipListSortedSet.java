@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.sorted.mutable;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.NavigableSet;
+import java.util.SortedSet;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
+
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.set.sorted.MutableSortedSet;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * ConcurrentSkipListSortedSet is a MutableSortedSet backed by a {@link ConcurrentSkipListSet}, so it may be read and
+ * written by many threads at once without locking. The internal iteration methods such as {@link #each(Procedure)}
+ * and {@link #anySatisfy(Predicate)} walk the skip list through its spliterator instead of allocating an iterator, and
+ * are weakly consistent in the same way as the iterators of {@link ConcurrentSkipListSet}.
+ * <p>
+ * Like {@link ConcurrentSkipListSet}, this set does not permit null elements.
+ *
+ * @since 12.0
+ */
+public class ConcurrentSkipListSortedSet<T>
+        extends AbstractSortedSetAdapter<T>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final NavigableSet<T> delegate;
+
+    public ConcurrentSkipListSortedSet()
+    {
+        this(new ConcurrentSkipListSet<>());
+    }
+
+    public ConcurrentSkipListSortedSet(Comparator<? super T> comparator)
+    {
+        this(new ConcurrentSkipListSet<>(comparator));
+    }
+
+    private ConcurrentSkipListSortedSet(NavigableSet<T> delegate)
+    {
+        this.delegate = delegate;
+    }
+
+    public static <T> ConcurrentSkipListSortedSet<T> newSet()
+    {
+        return new ConcurrentSkipListSortedSet<>();
+    }
+
+    public static <T> ConcurrentSkipListSortedSet<T> newSet(Comparator<? super T> comparator)
+    {
+        return new ConcurrentSkipListSortedSet<>(comparator);
+    }
+
+    public static <T> ConcurrentSkipListSortedSet<T> newSet(Iterable<? extends T> source)
+    {
+        ConcurrentSkipListSortedSet<T> set = new ConcurrentSkipListSortedSet<>();
+        Iterate.addAllTo(source, set);
+        return set;
+    }
+
+    public static <T> ConcurrentSkipListSortedSet<T> newSet(Comparator<? super T> comparator, Iterable<? extends T> source)
+    {
+        ConcurrentSkipListSortedSet<T> set = new ConcurrentSkipListSortedSet<>(comparator);
+        Iterate.addAllTo(source, set);
+        return set;
+    }
+
+    public static <T> ConcurrentSkipListSortedSet<T> newSetWith(T... elements)
+    {
+        ConcurrentSkipListSortedSet<T> set = new ConcurrentSkipListSortedSet<>();
+        for (T element : elements)
+        {
+            set.add(element);
+        }
+        return set;
+    }
+
+    public static <T> ConcurrentSkipListSortedSet<T> newSetWith(Comparator<? super T> comparator, T... elements)
+    {
+        ConcurrentSkipListSortedSet<T> set = new ConcurrentSkipListSortedSet<>(comparator);
+        for (T element : elements)
+        {
+            set.add(element);
+        }
+        return set;
+    }
+
+    @Override
+    protected NavigableSet<T> getDelegate()
+    {
+        return this.delegate;
+    }
+
+    @Override
+    protected <S> MutableSortedSet<S> newSortedSet(Comparator<? super S> comparator)
+    {
+        return new ConcurrentSkipListSortedSet<>(comparator);
+    }
+
+    /**
+     * Wraps a range view of the skip list, which is itself a concurrent navigable set.
+     */
+    @Override
+    protected MutableSortedSet<T> adaptView(SortedSet<T> view)
+    {
+        return new ConcurrentSkipListSortedSet<>((NavigableSet<T>) view);
+    }
+
+    @Override
+    public ConcurrentSkipListSortedSet<T> clone()
+    {
+        return ConcurrentSkipListSortedSet.newSet(this.comparator(), this);
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.delegate.spliterator().forEachRemaining(procedure::value);
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
+    {
+        this.delegate.spliterator().forEachRemaining(each -> procedure.value(each, parameter));
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        int[] index = {0};
+        this.delegate.spliterator().forEachRemaining(each -> objectIntProcedure.value(each, index[0]++));
+    }
+
+    @Override
+    public T detect(Predicate<? super T> predicate)
+    {
+        Spliterator<T> spliterator = this.delegate.spliterator();
+        Object[] result = new Object[1];
+        Consumer<T> visitor = each -> {
+            if (predicate.accept(each))
+            {
+                result[0] = each;
+            }
+        };
+        boolean advanced = true;
+        while (advanced && result[0] == null)
+        {
+            advanced = spliterator.tryAdvance(visitor);
+        }
+        return (T) result[0];
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        return this.detect(predicate) != null;
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        return this.detect(each -> !predicate.accept(each)) == null;
+    }
+
+    @Override
+    public boolean noneSatisfy(Predicate<? super T> predicate)
+    {
+        return this.detect(predicate) == null;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal;
+
+/**
+ * A binary max-heap of fixed capacity which retains the {@code capacity} smallest ints offered to it. Once full, the
+ * root is the n-th smallest value seen so far, so selecting the top n of m values costs O(m log n) instead of the
+ * O(m log m) of a full sort.
+ *
+ * @since 12.0
+ */
+public final class BoundedIntMaxHeap
+{
+    private final int[] heap;
+    private int size;
+
+    public BoundedIntMaxHeap(int capacity)
+    {
+        if (capacity <= 0)
+        {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.heap = new int[capacity];
+    }
+
+    public void offer(int value)
+    {
+        if (this.size < this.heap.length)
+        {
+            this.siftUp(this.size, value);
+            this.size++;
+        }
+        else if (value < this.heap[0])
+        {
+            this.siftDown(value);
+        }
+    }
+
+    /**
+     * Returns the largest retained value, which is the n-th smallest value offered once the heap is full.
+     */
+    public int max()
+    {
+        if (this.size == 0)
+        {
+            throw new IllegalStateException("Heap is empty");
+        }
+        return this.heap[0];
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    private void siftUp(int index, int value)
+    {
+        int child = index;
+        while (child > 0)
+        {
+            int parent = (child - 1) >>> 1;
+            if (this.heap[parent] >= value)
+            {
+                break;
+            }
+            this.heap[child] = this.heap[parent];
+            child = parent;
+        }
+        this.heap[child] = value;
+    }
+
+    private void siftDown(int value)
+    {
+        int parent = 0;
+        int half = this.size >>> 1;
+        while (parent < half)
+        {
+            int child = (parent << 1) + 1;
+            int right = child + 1;
+            if (right < this.size && this.heap[right] > this.heap[child])
+            {
+                child = right;
+            }
+            if (value >= this.heap[child])
+            {
+                break;
+            }
+            this.heap[parent] = this.heap[child];
+            parent = child;
+        }
+        this.heap[parent] = value;
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal;
+
+import java.util.Arrays;
+
+/**
+ * The hash table behind {@code CompactOrderedSet} and {@code CompactOrderedMap}, laid out like a CPython compact dict.
+ * Keys, and values if the table has them, are appended to dense arrays in insertion order, next to an {@code int[]} of
+ * their hash codes. A separate open-addressed {@code int[]} index maps each hash to a position in the dense arrays.
+ * <p>
+ * Lookups return a slot of the index, and {@link #positionOf(int)} turns a slot into a position in the dense arrays.
+ * Removing a key leaves a tombstone at its position and a dummy in its slot, so the positions of the other keys and
+ * the probe sequences through the slot are unchanged. The dense arrays are compacted by {@link #compactIfSparse()},
+ * and when they are full but at least half of them are tombstones, instead of growing.
+ *
+ * @since 12.0
+ */
+public final class CompactHashTable
+{
+    private static final int MINIMUM_CAPACITY = 8;
+
+    private static final int EMPTY = 0;
+    private static final int DUMMY = -1;
+    private static final Object REMOVED = new Object();
+
+    // positions in the index are stored plus one, so that zero means empty
+    private Object[] keys;
+    private Object[] values;
+    private int[] hashes;
+    private int[] index;
+    private final boolean withValues;
+    private int used;
+    private int size;
+    private int first;
+    private int last = -1;
+    private int modCount;
+
+    public CompactHashTable(int initialCapacity, boolean withValues)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        this.withValues = withValues;
+        this.allocate(Math.max(MINIMUM_CAPACITY, initialCapacity));
+    }
+
+    private void allocate(int capacity)
+    {
+        this.keys = new Object[capacity];
+        if (this.withValues)
+        {
+            this.values = new Object[capacity];
+        }
+        this.hashes = new int[capacity];
+        // at most two thirds of the index is ever in use, so a probe always reaches an empty slot
+        int indexCapacity = capacity + (capacity >> 1);
+        this.index = new int[Integer.highestOneBit(indexCapacity - 1) << 1];
+    }
+
+    public static int hash(Object key)
+    {
+        int h = key == null ? 0 : key.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        return h;
+    }
+
+    /**
+     * Returns the index slot which refers to {@code key}, or -1.
+     */
+    public int find(Object key, int hash)
+    {
+        int mask = this.index.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask)
+        {
+            int entry = this.index[slot];
+            if (entry == EMPTY)
+            {
+                return -1;
+            }
+            if (entry != DUMMY && this.hashes[entry - 1] == hash)
+            {
+                Object candidate = this.keys[entry - 1];
+                if (candidate == key || candidate != null && candidate.equals(key))
+                {
+                    return slot;
+                }
+            }
+        }
+    }
+
+    public int positionOf(int slot)
+    {
+        return this.index[slot] - 1;
+    }
+
+    /**
+     * Appends {@code key}, which must not be in the table, and returns its position. The dense arrays are compacted or
+     * grown first if they are full, which moves the other keys to new positions.
+     */
+    public int add(Object key, int hash)
+    {
+        if (this.used == this.hashes.length)
+        {
+            int capacity = this.hashes.length;
+            this.rebuild(this.size < capacity >> 1 ? capacity : capacity << 1);
+        }
+        int position = this.used++;
+        this.keys[position] = key;
+        this.hashes[position] = hash;
+        this.insertIntoIndex(hash, position);
+        if (this.size++ == 0)
+        {
+            this.first = position;
+        }
+        this.last = position;
+        this.modCount++;
+        return position;
+    }
+
+    private void insertIntoIndex(int hash, int position)
+    {
+        int mask = this.index.length - 1;
+        int slot = hash & mask;
+        while (this.index[slot] > EMPTY)
+        {
+            slot = (slot + 1) & mask;
+        }
+        this.index[slot] = position + 1;
+    }
+
+    public int slotOfPosition(int position)
+    {
+        int mask = this.index.length - 1;
+        int slot = this.hashes[position] & mask;
+        while (this.index[slot] != position + 1)
+        {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Leaves a tombstone in the dense arrays and a dummy in the index, so the probe sequences which pass through the
+     * slot stay intact and the positions of the other keys are unchanged.
+     */
+    public void removeSlot(int slot)
+    {
+        int position = this.index[slot] - 1;
+        this.index[slot] = DUMMY;
+        this.keys[position] = REMOVED;
+        if (this.withValues)
+        {
+            this.values[position] = null;
+        }
+        this.size--;
+        this.modCount++;
+        if (this.size == 0)
+        {
+            this.first = this.used;
+            this.last = -1;
+            return;
+        }
+        if (position == this.first)
+        {
+            this.first = this.nextPosition(position + 1);
+        }
+        if (position == this.last)
+        {
+            int previous = position - 1;
+            while (this.keys[previous] == REMOVED)
+            {
+                previous--;
+            }
+            this.last = previous;
+        }
+    }
+
+    /**
+     * Compacts the dense arrays once more than half of their used positions are tombstones. Iterators must not call
+     * this, since it moves the positions they have yet to visit.
+     */
+    public void compactIfSparse()
+    {
+        if (this.used - this.size > this.used >> 1 && this.used > MINIMUM_CAPACITY)
+        {
+            this.rebuild(this.hashes.length);
+        }
+    }
+
+    /**
+     * Copies the live entries, in order, into fresh dense arrays and rebuilds the index, dropping every tombstone
+     * and dummy.
+     */
+    private void rebuild(int capacity)
+    {
+        Object[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+        int[] oldHashes = this.hashes;
+        int oldUsed = this.used;
+        this.allocate(capacity);
+        int position = 0;
+        for (int i = 0; i < oldUsed; i++)
+        {
+            Object key = oldKeys[i];
+            if (key != REMOVED)
+            {
+                this.keys[position] = key;
+                if (this.withValues)
+                {
+                    this.values[position] = oldValues[i];
+                }
+                this.hashes[position] = oldHashes[i];
+                this.insertIntoIndex(oldHashes[i], position);
+                position++;
+            }
+        }
+        this.used = position;
+        this.first = 0;
+        this.last = position - 1;
+        this.modCount++;
+    }
+
+    /**
+     * Returns the first live position at or after {@code position}, or {@link #used()} if there is none.
+     */
+    public int nextPosition(int position)
+    {
+        int next = position;
+        while (next < this.used && this.keys[next] == REMOVED)
+        {
+            next++;
+        }
+        return next;
+    }
+
+    public void clear()
+    {
+        if (this.used == 0)
+        {
+            return;
+        }
+        Arrays.fill(this.keys, 0, this.used, null);
+        if (this.withValues)
+        {
+            Arrays.fill(this.values, 0, this.used, null);
+        }
+        Arrays.fill(this.index, EMPTY);
+        this.used = 0;
+        this.size = 0;
+        this.first = 0;
+        this.last = -1;
+        this.modCount++;
+    }
+
+    public CompactHashTable copy()
+    {
+        CompactHashTable copy = new CompactHashTable(0, this.withValues);
+        copy.keys = this.keys.clone();
+        copy.values = this.withValues ? this.values.clone() : null;
+        copy.hashes = this.hashes.clone();
+        copy.index = this.index.clone();
+        copy.used = this.used;
+        copy.size = this.size;
+        copy.first = this.first;
+        copy.last = this.last;
+        return copy;
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of positions in use, live or removed. Every live position is below it.
+     */
+    public int used()
+    {
+        return this.used;
+    }
+
+    public int first()
+    {
+        return this.first;
+    }
+
+    public int last()
+    {
+        return this.last;
+    }
+
+    public int modCount()
+    {
+        return this.modCount;
+    }
+
+    public boolean isLive(int position)
+    {
+        return this.keys[position] != REMOVED;
+    }
+
+    public Object keyAt(int position)
+    {
+        return this.keys[position];
+    }
+
+    public Object valueAt(int position)
+    {
+        return this.values[position];
+    }
+
+    public void setValueAt(int position, Object value)
+    {
+        this.values[position] = value;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
+import org.eclipse.collections.api.block.function.primitive.IntFunction;
+import org.eclipse.collections.api.block.function.primitive.LongFunction;
+
+/**
+ * Key-extracting ("decorate-sort-undecorate") sorts by a primitive key for the prefix of an object array. The sort
+ * key of every element is computed exactly once into a primitive array, the primitive keys are sorted, and the object
+ * array is permuted at the end. Compared to sorting with a comparator built from the same function, this avoids calling
+ * the function O(n log n) times and chasing object pointers on every comparison.
+ * <p>
+ * All sorts are stable, so they are drop-in replacements for {@link Arrays#sort(Object[], int, int, Comparator)}
+ * with the equivalent comparator. Sorting by a {@link Comparable} key is left to that method, whose merge sort is
+ * adaptive to runs already in order.
+ */
+public final class InternalArraySort
+{
+    private static final int RADIX = 1 << Byte.SIZE;
+
+    private InternalArraySort()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Each int key is packed with its original index into a long, so a single primitive sort orders by key and
+     * breaks ties by position.
+     */
+    public static <T> void sortByInt(T[] items, int size, IntFunction<? super T> function)
+    {
+        if (size < 2)
+        {
+            return;
+        }
+        long[] keysAndIndices = new long[size];
+        for (int i = 0; i < size; i++)
+        {
+            keysAndIndices[i] = (long) function.intValueOf(items[i]) << 32 | i;
+        }
+        Arrays.sort(keysAndIndices);
+        int[] indices = new int[size];
+        for (int i = 0; i < size; i++)
+        {
+            indices[i] = (int) keysAndIndices[i];
+        }
+        InternalArraySort.permute(items, indices);
+    }
+
+    public static <T> void sortByLong(T[] items, int size, LongFunction<? super T> function)
+    {
+        if (size < 2)
+        {
+            return;
+        }
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++)
+        {
+            keys[i] = function.longValueOf(items[i]) ^ Long.MIN_VALUE;
+        }
+        InternalArraySort.permute(items, InternalArraySort.radixSort(keys));
+    }
+
+    /**
+     * Each double is mapped to a long whose unsigned order is the order of {@link Double#compare(double, double)}:
+     * the sign bit is flipped for positive values and every bit is flipped for negative ones.
+     */
+    public static <T> void sortByDouble(T[] items, int size, DoubleFunction<? super T> function)
+    {
+        if (size < 2)
+        {
+            return;
+        }
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++)
+        {
+            long bits = Double.doubleToLongBits(function.doubleValueOf(items[i]));
+            keys[i] = bits ^ (bits >> 63 | Long.MIN_VALUE);
+        }
+        InternalArraySort.permute(items, InternalArraySort.radixSort(keys));
+    }
+
+    /**
+     * Returns the indices of {@code keys} in unsigned key order, sorted with a least significant digit radix sort one
+     * byte at a time. Each pass is a stable counting sort that starts from index order, so equal keys keep their
+     * original order, and a pass is skipped when every key has the same byte at that position. The cost is linear in
+     * the number of keys, with no comparisons and no worst case input.
+     */
+    private static int[] radixSort(long[] keys)
+    {
+        int size = keys.length;
+        int[][] counts = new int[Long.BYTES][RADIX];
+        for (long key : keys)
+        {
+            for (int digit = 0; digit < Long.BYTES; digit++)
+            {
+                counts[digit][(int) (key >>> (digit * Byte.SIZE)) & RADIX - 1]++;
+            }
+        }
+
+        long[] sortedKeys = keys.clone();
+        int[] indices = new int[size];
+        for (int i = 0; i < size; i++)
+        {
+            indices[i] = i;
+        }
+        long[] keyBuffer = new long[size];
+        int[] indexBuffer = new int[size];
+        for (int digit = 0; digit < Long.BYTES; digit++)
+        {
+            int[] count = counts[digit];
+            int shift = digit * Byte.SIZE;
+            if (count[(int) (sortedKeys[0] >>> shift) & RADIX - 1] == size)
+            {
+                continue;
+            }
+            int offset = 0;
+            for (int bucket = 0; bucket < RADIX; bucket++)
+            {
+                int bucketSize = count[bucket];
+                count[bucket] = offset;
+                offset += bucketSize;
+            }
+            for (int i = 0; i < size; i++)
+            {
+                long key = sortedKeys[i];
+                int position = count[(int) (key >>> shift) & RADIX - 1]++;
+                keyBuffer[position] = key;
+                indexBuffer[position] = indices[i];
+            }
+            long[] swapKeys = sortedKeys;
+            sortedKeys = keyBuffer;
+            keyBuffer = swapKeys;
+            int[] swapIndices = indices;
+            indices = indexBuffer;
+            indexBuffer = swapIndices;
+        }
+        return indices;
+    }
+
+    private static <T> void permute(T[] items, int[] sortedIndices)
+    {
+        Object[] sorted = new Object[sortedIndices.length];
+        for (int i = 0; i < sortedIndices.length; i++)
+        {
+            sorted[i] = items[sortedIndices[i]];
+        }
+        System.arraycopy(sorted, 0, items, 0, sorted.length);
+    }
+}
@@ -19,6 +19,8 @@ import org.eclipse.collections.api.set.ImmutableSet;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.SetIterable;
 import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.lazy.IntersectSetIterable;
+import org.eclipse.collections.impl.lazy.UnionSetIterable;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
 import org.eclipse.collections.impl.set.strategy.mutable.UnifiedSetWithHashingStrategy;
 import org.eclipse.collections.impl.tuple.Tuples;
@@ -49,7 +51,10 @@ public final class SetIterables
             setA = setB;
             setB = tmp;
         }
-        return UnifiedSet.<E>newSet(setA).withAll(setB);
+        UnifiedSet<E> result = UnifiedSet.newSet(setA.size() + setB.size());
+        result.addAllIterable(setA);
+        result.addAllIterable(setB);
+        return result;
     }
 
     public static <E, R extends Set<E>> R unionInto(
@@ -66,9 +71,12 @@ public final class SetIterables
             SetIterable<? extends E> setA,
             SetIterable<? extends E> setB)
     {
-        return SetIterables.intersectInto(setA, setB, Sets.mutable.empty());
+        return SetIterables.intersectInto(setA, setB, UnifiedSet.newSet(Math.min(setA.size(), setB.size())));
     }
 
+    /**
+     * Iterates the smaller of the two sets and probes the larger one.
+     */
     public static <E, R extends Set<E>> R intersectInto(
             SetIterable<? extends E> setA,
             SetIterable<? extends E> setB,
@@ -84,11 +92,25 @@ public final class SetIterables
         return one.select(setB::contains, targetSet);
     }
 
+    /**
+     * When the subtrahend is much smaller than the minuend, the minuend is copied and the subtrahend removed from the
+     * copy, which costs one lookup per subtrahend element instead of one per minuend element. The subtrahend must also
+     * be a UnifiedSet, since removing its elements only matches rejecting on {@code contains()} when membership is
+     * defined by {@code equals()}.
+     */
     public static <E> MutableSet<E> difference(
             SetIterable<? extends E> minuendSet,
             SetIterable<? extends E> subtrahendSet)
     {
-        return SetIterables.differenceInto(minuendSet, subtrahendSet, Sets.mutable.empty());
+        if (minuendSet instanceof UnifiedSet
+                && subtrahendSet instanceof UnifiedSet
+                && subtrahendSet.size() < minuendSet.size() >> 1)
+        {
+            UnifiedSet<E> result = UnifiedSet.newSet((UnifiedSet<E>) minuendSet);
+            result.removeAllIterable(subtrahendSet);
+            return result;
+        }
+        return SetIterables.differenceInto(minuendSet, subtrahendSet, UnifiedSet.newSet(minuendSet.size()));
     }
 
     public static <E, R extends Set<E>> R differenceInto(
@@ -104,18 +126,41 @@ public final class SetIterables
             SetIterable<? extends E> setA,
             SetIterable<? extends E> setB)
     {
-        return SetIterables.symmetricDifferenceInto(setA, setB, Sets.mutable.empty());
+        return SetIterables.symmetricDifferenceInto(setA, setB, UnifiedSet.newSet(setA.size() + setB.size()));
     }
 
+    /**
+     * Writes both one-sided differences straight into the target without materializing either of them.
+     */
     public static <E, R extends Set<E>> R symmetricDifferenceInto(
             SetIterable<? extends E> setA,
             SetIterable<? extends E> setB,
             R targetSet)
     {
-        return SetIterables.unionInto(
-                SetIterables.difference(setA, setB),
-                SetIterables.difference(setB, setA),
-                targetSet);
+        SetIterables.differenceInto(setA, setB, targetSet);
+        return SetIterables.differenceInto(setB, setA, targetSet);
+    }
+
+    /**
+     * Returns a live, unmaterialized view of the union of the two sets. The larger set is iterated first, followed by
+     * the elements of the smaller set that are not in the larger one. {@code contains} probes both sets directly.
+     */
+    public static <E> LazyIterable<E> unionView(
+            SetIterable<? extends E> setA,
+            SetIterable<? extends E> setB)
+    {
+        return new UnionSetIterable<>(setA, setB);
+    }
+
+    /**
+     * Returns a live, unmaterialized view of the intersection of the two sets. The smaller set is iterated and the
+     * larger one probed. {@code contains} probes both sets directly.
+     */
+    public static <E> LazyIterable<E> intersectView(
+            SetIterable<? extends E> setA,
+            SetIterable<? extends E> setB)
+    {
+        return new IntersectSetIterable<>(setA, setB);
     }
 
     public static <E> boolean isSubsetOf(
@@ -16,6 +16,9 @@
  *     This package contains 10 Iteration implementations:
  * <ul>
  *     <li>
+ *          {@link org.eclipse.collections.impl.utility.internal.BoundedIntMaxHeap} - a fixed capacity heap used to select the n smallest int keys.
+ *     </li>
+ *     <li>
  *          {@link org.eclipse.collections.impl.utility.internal.DefaultSpeciesNewStrategy} - creates a new instance of a collection based on the class type of collection.
  *     </li>
  *     <li>
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.III_Result;
+
+/**
+ * Removing the last occurrence of an item races with adding it again. Whichever wins, the add must not be lost into
+ * the counter which the remove is unlinking from the map.
+ */
+@JCStressTest
+@Outcome(id = "1, 1, 1", expect = Expect.ACCEPTABLE)
+@Outcome(expect = Expect.FORBIDDEN)
+@State
+public class ConcurrentHashBagRemoveLastOccurrenceTest
+{
+    private final ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBagWith(1);
+
+    @Actor
+    public void remove()
+    {
+        this.bag.remove(1);
+    }
+
+    @Actor
+    public void add()
+    {
+        this.bag.add(1);
+    }
+
+    @Arbiter
+    public void after(III_Result r)
+    {
+        r.r1 = this.bag.occurrencesOf(1);
+        r.r2 = this.bag.size();
+        r.r3 = this.bag.sizeDistinct();
+    }
+}
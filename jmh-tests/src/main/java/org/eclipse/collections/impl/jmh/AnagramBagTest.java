@@ -84,6 +84,16 @@ public class AnagramBagTest extends AbstractJMHTestRunner
                 .forEach(Procedures.cast(e -> Assert.assertFalse(e.isEmpty())));
     }
 
+    @Benchmark
+    public void serial_eager_topOccurrences_ec()
+    {
+        HashBag<Alphagram> counts = HashBag.newBag(this.ecWords.sizeDistinct());
+        this.ecWords.forEachWithOccurrences((word, occurrences) -> counts.addOccurrences(new Alphagram(word), occurrences));
+        counts.topOccurrences(SIZE_THRESHOLD)
+                .collect(pair -> pair.getTwo() + ": " + pair.getOne())
+                .forEach(Procedures.cast(e -> Assert.assertFalse(e.isEmpty())));
+    }
+
     @Benchmark
     public void parallel_eager_ec()
     {
@@ -33,6 +33,7 @@ public class BagAddAllTest extends AbstractJMHTestRunner
     private static final int SIZE = 1000;
     private final Multiset<Integer> integersGuava = HashMultiset.create(Interval.oneTo(SIZE));
     private final MutableBag<Integer> integersEC = Interval.oneTo(SIZE).toBag();
+    private final Integer[] integersArray = Interval.oneTo(SIZE).toArray(new Integer[SIZE]);
 
     @Benchmark
     public void guava()
@@ -53,4 +54,14 @@ public class BagAddAllTest extends AbstractJMHTestRunner
             result.addAll(this.integersEC);
         }
     }
+
+    @Benchmark
+    public void ecAddAllOccurrences()
+    {
+        HashBag<Integer> result = HashBag.newBag();
+        for (int i = 0; i < 1000; i++)
+        {
+            result.addAllOccurrences(this.integersArray);
+        }
+    }
 }
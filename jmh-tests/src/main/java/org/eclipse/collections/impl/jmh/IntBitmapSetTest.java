@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.set.mutable.primitive.IntBitmapSet;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares {@link IntBitmapSet} with {@link IntHashSet} on clustered ids, e.g. row ids of a table where a fraction of
+ * the rows match some filter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IntBitmapSetTest extends AbstractJMHTestRunner
+{
+    private static final int RANGE = 4_000_000;
+
+    @Param({"0.01", "0.1", "0.5"})
+    public double density;
+
+    private int[] probes;
+    private IntHashSet hashSet1;
+    private IntHashSet hashSet2;
+    private IntBitmapSet bitmapSet1;
+    private IntBitmapSet bitmapSet2;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(42L);
+        this.hashSet1 = new IntHashSet();
+        this.hashSet2 = new IntHashSet();
+        for (int i = 0; i < RANGE; i++)
+        {
+            if (random.nextDouble() < this.density)
+            {
+                this.hashSet1.add(i);
+            }
+            if (random.nextDouble() < this.density)
+            {
+                this.hashSet2.add(i + RANGE / 4);
+            }
+        }
+        this.bitmapSet1 = IntBitmapSet.newSet(this.hashSet1);
+        this.bitmapSet2 = IntBitmapSet.newSet(this.hashSet2);
+        this.probes = random.ints(100_000, 0, RANGE).toArray();
+    }
+
+    @Benchmark
+    public int containsHashSet()
+    {
+        return this.countContained(this.hashSet1);
+    }
+
+    @Benchmark
+    public int containsBitmapSet()
+    {
+        return this.countContained(this.bitmapSet1);
+    }
+
+    @Benchmark
+    public MutableIntSet unionHashSet()
+    {
+        return this.hashSet1.union(this.hashSet2);
+    }
+
+    @Benchmark
+    public MutableIntSet unionBitmapSet()
+    {
+        return this.bitmapSet1.union(this.bitmapSet2);
+    }
+
+    @Benchmark
+    public MutableIntSet intersectHashSet()
+    {
+        return this.hashSet1.intersect(this.hashSet2);
+    }
+
+    @Benchmark
+    public MutableIntSet intersectBitmapSet()
+    {
+        return this.bitmapSet1.intersect(this.bitmapSet2);
+    }
+
+    @Benchmark
+    public MutableIntSet differenceHashSet()
+    {
+        return this.hashSet1.difference(this.hashSet2);
+    }
+
+    @Benchmark
+    public MutableIntSet differenceBitmapSet()
+    {
+        return this.bitmapSet1.difference(this.bitmapSet2);
+    }
+
+    @Benchmark
+    public long sumHashSet()
+    {
+        return this.hashSet1.sum();
+    }
+
+    @Benchmark
+    public long sumBitmapSet()
+    {
+        return this.bitmapSet1.sum();
+    }
+
+    private int countContained(MutableIntSet set)
+    {
+        int count = 0;
+        for (int probe : this.probes)
+        {
+            if (set.contains(probe))
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -21,6 +21,7 @@ import com.carrotsearch.hppc.ObjectObjectMap;
 import org.apache.commons.lang.RandomStringUtils;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.map.mutable.OpenAddressMap;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -84,6 +85,30 @@ public class ChainMapPutTest extends AbstractJMHTestRunner
         return ec;
     }
 
+    @Benchmark
+    public MutableMap<String, String> ecOpenAddress()
+    {
+        int localSize = this.size;
+        if (Float.compare(this.loadFactor, 0.80f) != 0)
+        {
+            // OpenAddressMap has a fixed maximum load of 7/8
+            throw new IllegalArgumentException();
+        }
+        String[] localElements = this.elements;
+        /**
+         * @see OpenAddressMap#DEFAULT_INITIAL_CAPACITY
+         */
+        int defaultInitialCapacity = 16;
+        MutableMap<String, String> ec = this.isPresized
+                ? OpenAddressMap.newMap(localSize)
+                : OpenAddressMap.newMap(defaultInitialCapacity);
+        for (int i = 0; i < localSize; i++)
+        {
+            ec.put(localElements[i], "dummy");
+        }
+        return ec;
+    }
+
     @Benchmark
     public ObjectObjectMap<String, String> hppc()
     {
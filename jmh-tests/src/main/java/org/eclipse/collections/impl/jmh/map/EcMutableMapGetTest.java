@@ -16,6 +16,7 @@ import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang.RandomStringUtils;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.map.mutable.OpenAddressMap;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -40,12 +41,14 @@ public class EcMutableMapGetTest extends AbstractJMHTestRunner
     public int size;
     private String[] elements;
     private MutableMap<String, String> ecMap;
+    private MutableMap<String, String> openAddressMap;
 
     @Setup
     public void setUp()
     {
         this.elements = new String[this.size];
         this.ecMap = UnifiedMap.newMap(this.size);
+        this.openAddressMap = OpenAddressMap.newMap(this.size);
 
         Random random = new Random(123456789012345L);
         for (int i = 0; i < this.size; i++)
@@ -53,6 +56,7 @@ public class EcMutableMapGetTest extends AbstractJMHTestRunner
             String element = RandomStringUtils.random(RANDOM_COUNT, 0, 0, false, true, null, random);
             this.elements[i] = element;
             this.ecMap.put(element, "dummy");
+            this.openAddressMap.put(element, "dummy");
         }
     }
 
@@ -71,4 +75,20 @@ public class EcMutableMapGetTest extends AbstractJMHTestRunner
             }
         }
     }
+
+    @Benchmark
+    public void getOpenAddress()
+    {
+        int localSize = this.size;
+        String[] localElements = this.elements;
+        MutableMap<String, String> localOpenAddressMap = this.openAddressMap;
+
+        for (int i = 0; i < localSize; i++)
+        {
+            if (localOpenAddressMap.get(localElements[i]) == null)
+            {
+                throw new AssertionError(i);
+            }
+        }
+    }
 }
@@ -16,6 +16,7 @@ import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang.RandomStringUtils;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.map.mutable.OpenAddressMap;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -73,6 +74,21 @@ public class MapGrowthTest extends AbstractJMHTestRunner
         return map;
     }
 
+    @Benchmark
+    public MutableMap<String, String> mutableEcOpenAddressPut()
+    {
+        int localSize = this.size;
+        String[] localElements = this.elements;
+
+        MutableMap<String, String> map = OpenAddressMap.newMap(localSize);
+
+        for (int i = 0; i < localSize; i++)
+        {
+            map.put(localElements[i], "dummy");
+        }
+        return map;
+    }
+
     @Benchmark
     public scala.collection.mutable.HashMap<String, String> mutableScalaPut()
     {
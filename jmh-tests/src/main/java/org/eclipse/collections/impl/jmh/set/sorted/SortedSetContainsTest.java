@@ -16,6 +16,7 @@ import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
 import org.eclipse.collections.api.set.sorted.MutableSortedSet;
 import org.eclipse.collections.impl.factory.SortedSets;
 import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.set.sorted.mutable.BTreeSortedSet;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
@@ -32,6 +33,7 @@ public class SortedSetContainsTest
 
     private final MutableSortedSet<Integer> ecMutable = SortedSets.mutable.withAll(Interval.zeroToBy(SIZE, 2));
     private final ImmutableSortedSet<Integer> ecImmutable = SortedSets.immutable.withAll(Interval.zeroToBy(SIZE, 2));
+    private final BTreeSortedSet<Integer> ecBTree = BTreeSortedSet.newSet(Interval.zeroToBy(SIZE, 2));
 
     @Benchmark
     public void contains_mutable_ec()
@@ -79,6 +81,57 @@ public class SortedSetContainsTest
         }
     }
 
+    @Benchmark
+    public void contains_mutable_btree()
+    {
+        int size = SIZE;
+        BTreeSortedSet<Integer> localEcBTree = this.ecBTree;
+
+        for (int i = 0; i < size; i += 2)
+        {
+            if (!localEcBTree.contains(i))
+            {
+                throw new AssertionError(i);
+            }
+        }
+
+        for (int i = 1; i < size; i += 2)
+        {
+            if (localEcBTree.contains(i))
+            {
+                throw new AssertionError(i);
+            }
+        }
+    }
+
+    @Benchmark
+    public void indexOf_mutable_ec()
+    {
+        MutableSortedSet<Integer> localEcMutable = this.ecMutable;
+
+        for (int i = 0; i < SIZE; i += 20_000)
+        {
+            if (localEcMutable.indexOf(i) != i / 2)
+            {
+                throw new AssertionError(i);
+            }
+        }
+    }
+
+    @Benchmark
+    public void indexOf_mutable_btree()
+    {
+        BTreeSortedSet<Integer> localEcBTree = this.ecBTree;
+
+        for (int i = 0; i < SIZE; i += 20_000)
+        {
+            if (localEcBTree.indexOf(i) != i / 2 || localEcBTree.get(i / 2) != i)
+            {
+                throw new AssertionError(i);
+            }
+        }
+    }
+
     @Benchmark
     public void contains_mutable_scala()
     {
@@ -18,6 +18,7 @@ import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
 import org.eclipse.collections.api.set.sorted.MutableSortedSet;
 import org.eclipse.collections.impl.factory.SortedSets;
 import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.set.sorted.mutable.BTreeSortedSet;
 import org.junit.After;
 import org.junit.Before;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -39,6 +40,7 @@ public class SortedSetIterationTest
 
     private final MutableSortedSet<Integer> ecMutable = SortedSets.mutable.withAll(Interval.zeroTo(SIZE));
     private final ImmutableSortedSet<Integer> ecImmutable = SortedSets.immutable.withAll(Interval.zeroTo(SIZE));
+    private final MutableSortedSet<Integer> ecBTree = BTreeSortedSet.newSet(Interval.zeroTo(SIZE));
 
     private ExecutorService executorService;
 
@@ -117,6 +119,64 @@ public class SortedSetIterationTest
         }
     }
 
+    @Benchmark
+    public void serial_mutable_btree()
+    {
+        int count = this.ecBTree
+                .asLazy()
+                .select(each -> each % 10_000 != 0)
+                .collect(String::valueOf)
+                .collect(Integer::valueOf)
+                .count(each -> (each + 1) % 10_000 != 0);
+        if (count != 999_800)
+        {
+            throw new AssertionError();
+        }
+    }
+
+    @Benchmark
+    public void parallel_mutable_btree()
+    {
+        int count = this.ecBTree
+                .asParallel(this.executorService, BATCH_SIZE)
+                .select(each -> each % 10_000 != 0)
+                .collect(String::valueOf)
+                .collect(Integer::valueOf)
+                .count(each -> (each + 1) % 10_000 != 0);
+        if (count != 999_800)
+        {
+            throw new AssertionError();
+        }
+    }
+
+    @Benchmark
+    public void subSet_mutable_ec()
+    {
+        int count = 0;
+        for (Integer each : this.ecMutable.subSet(SIZE / 4, SIZE / 4 * 3))
+        {
+            count += each & 1;
+        }
+        if (count != SIZE / 4)
+        {
+            throw new AssertionError();
+        }
+    }
+
+    @Benchmark
+    public void subSet_mutable_btree()
+    {
+        int count = 0;
+        for (Integer each : this.ecBTree.subSet(SIZE / 4, SIZE / 4 * 3))
+        {
+            count += each & 1;
+        }
+        if (count != SIZE / 4)
+        {
+            throw new AssertionError();
+        }
+    }
+
     @Benchmark
     public void serial_mutable_scala()
     {
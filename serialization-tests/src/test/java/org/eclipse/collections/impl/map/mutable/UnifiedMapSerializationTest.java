@@ -37,6 +37,16 @@ public class UnifiedMapSerializationTest
                 UnifiedMap.newMap());
     }
 
+    @Test
+    public void seededMap()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyADNvcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLm1hcC5tdXRhYmxlLlVuaWZpZWRN\n"
+                        + "YXAAAAAAAAAAAQwAAHhwdw1/////AQAAAAA/QAAAeA==",
+                UnifiedMap.newSeededMap());
+    }
+
     @Test
     public void keySet()
     {
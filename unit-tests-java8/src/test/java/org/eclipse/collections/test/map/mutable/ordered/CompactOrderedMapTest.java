@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.test.map.mutable.ordered;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.map.MutableOrderedMap;
+import org.eclipse.collections.impl.map.ordered.mutable.CompactOrderedMap;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.test.junit.Java8Runner;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+@RunWith(Java8Runner.class)
+public class CompactOrderedMapTest implements MutableOrderedMapTestCase
+{
+    @Override
+    public <T> MutableOrderedMap<Object, T> newWith(T... elements)
+    {
+        int i = elements.length;
+        MutableOrderedMap<Object, T> result = CompactOrderedMap.newMap();
+        for (T each : elements)
+        {
+            assertNull(result.put(i, each));
+            i--;
+        }
+        return result;
+    }
+
+    @Override
+    public <K, V> MutableOrderedMap<K, V> newWithKeysValues(Object... elements)
+    {
+        if (elements.length % 2 != 0)
+        {
+            fail(String.valueOf(elements.length));
+        }
+
+        MutableOrderedMap<K, V> result = CompactOrderedMap.newMap();
+        for (int i = 0; i < elements.length; i += 2)
+        {
+            assertNull(result.put((K) elements[i], (V) elements[i + 1]));
+        }
+        return result;
+    }
+
+    @Test
+    public void CompactOrderedMap_againstLinkedHashMap()
+    {
+        CompactOrderedMap<Integer, Integer> map = CompactOrderedMap.newMap();
+        Map<Integer, Integer> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 20_000; i++)
+        {
+            int key = (i * 7919) % 5000;
+            if (i % 3 == 0)
+            {
+                Assert.assertEquals(expected.remove(key), map.remove(key));
+            }
+            else
+            {
+                Assert.assertEquals(expected.put(key, i), map.put(key, i));
+            }
+        }
+        Assert.assertEquals(expected, map);
+        Assert.assertEquals(Lists.mutable.withAll(expected.keySet()), Lists.mutable.withAll(map.keySet()));
+        Assert.assertEquals(Lists.mutable.withAll(expected.values()), map.toList());
+    }
+
+    @Test
+    public void CompactOrderedMap_keepsOrderThroughCompaction()
+    {
+        CompactOrderedMap<Integer, String> map = CompactOrderedMap.newMap();
+        for (int i = 0; i < 100; i++)
+        {
+            map.put(i, String.valueOf(i));
+        }
+        for (int i = 0; i < 90; i++)
+        {
+            map.remove(i);
+        }
+        map.put(5, "5");
+        map.put(95, "x");
+        Assert.assertEquals(Lists.mutable.with(90, 91, 92, 93, 94, 95, 96, 97, 98, 99, 5), Lists.mutable.withAll(map.keySet()));
+        Assert.assertEquals("x", map.get(95));
+    }
+
+    @Test
+    public void CompactOrderedMap_iteratorRemoveAndClone()
+    {
+        CompactOrderedMap<String, Integer> map = CompactOrderedMap.newWithKeysValues(null, 0, "a", 1, "b", null);
+        map.put("c", 3);
+        for (Iterator<String> iterator = map.keySet().iterator(); iterator.hasNext(); )
+        {
+            if ("a".equals(iterator.next()))
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(Lists.mutable.with(null, "b", "c"), Lists.mutable.withAll(map.keySet()));
+        Assert.assertEquals(Integer.valueOf(0), map.get(null));
+        Assert.assertTrue(map.containsKey("b"));
+
+        CompactOrderedMap<String, Integer> clone = map.clone();
+        map.entrySet().iterator().next().setValue(10);
+        Assert.assertEquals(Integer.valueOf(10), map.get(null));
+        Assert.assertEquals(Integer.valueOf(0), clone.get(null));
+        Verify.assertInstanceOf(CompactOrderedMap.class, clone.take(2));
+        Verify.assertPostSerializedEqualsAndHashCode(clone);
+    }
+}
@@ -84,4 +84,20 @@ public class SpreadFunctionsTest
         Assert.assertEquals(-474242978L, SpreadFunctions.shortSpreadTwo((short) 123));
         Assert.assertEquals(-1572485272L, SpreadFunctions.shortSpreadTwo((short) 234));
     }
+
+    @Test
+    public void stringSipHash()
+    {
+        Assert.assertEquals(8117571324417478120L, SpreadFunctions.stringSipHash("Aa", 1L, 2L));
+        Assert.assertEquals(2483970887933493861L, SpreadFunctions.stringSipHash("BB", 1L, 2L));
+        Assert.assertEquals("Aa".hashCode(), "BB".hashCode());
+        Assert.assertNotEquals(SpreadFunctions.stringSipHash("Aa", 1L, 2L), SpreadFunctions.stringSipHash("Aa", 1L, 3L));
+    }
+
+    @Test
+    public void longSipHash()
+    {
+        Assert.assertEquals(-506708066897983437L, SpreadFunctions.longSipHash(100L, 1L, 2L));
+        Assert.assertNotEquals(SpreadFunctions.longSipHash(100L, 1L, 2L), SpreadFunctions.longSipHash(100L, 2L, 2L));
+    }
 }
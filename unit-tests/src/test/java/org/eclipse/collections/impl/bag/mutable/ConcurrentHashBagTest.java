@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.bag.ImmutableBag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrentHashBagTest
+{
+    @Test
+    public void addAndRemoveOccurrences()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBagWith("a", "b", "b");
+        Assert.assertEquals(4, bag.addOccurrences("a", 3));
+        Assert.assertEquals(4, bag.addOccurrences("a", 0));
+        Assert.assertEquals(2, bag.occurrencesOf("b"));
+        Assert.assertEquals(0, bag.occurrencesOf("c"));
+        Verify.assertSize(6, bag);
+        Assert.assertEquals(2, bag.sizeDistinct());
+
+        Assert.assertTrue(bag.removeOccurrences("a", 10));
+        Assert.assertFalse(bag.contains("a"));
+        Assert.assertFalse(bag.removeOccurrences("a", 1));
+        Assert.assertFalse(bag.removeOccurrences("b", 0));
+        Assert.assertTrue(bag.remove("b"));
+        Assert.assertEquals(1, bag.sizeDistinct());
+        Verify.assertSize(1, bag);
+
+        Assert.assertEquals(2, bag.addOccurrences("a", 2));
+        Assert.assertEquals(HashBag.newBagWith("a", "a", "b"), bag);
+        Assert.assertThrows(IllegalArgumentException.class, () -> bag.addOccurrences("a", -1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> bag.removeOccurrences("a", -1));
+    }
+
+    @Test
+    public void setOccurrences()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBag();
+        Assert.assertFalse(bag.setOccurrences("a", 0));
+        Assert.assertTrue(bag.setOccurrences("a", 3));
+        Assert.assertFalse(bag.setOccurrences("a", 3));
+        Assert.assertFalse(bag.setOccurrences("a", 2, 5));
+        Assert.assertTrue(bag.setOccurrences("a", 3, 5));
+        Assert.assertTrue(bag.setOccurrences("b", 0, 1));
+        Verify.assertSize(6, bag);
+        Assert.assertTrue(bag.setOccurrences("a", 5, 0));
+        Assert.assertTrue(bag.setOccurrences("b", 0));
+        Verify.assertEmpty(bag);
+        Assert.assertEquals(0, bag.sizeDistinct());
+    }
+
+    @Test
+    public void iterationAndRemoval()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBagWith(1, 2, 2, 3, 3, 3);
+        MutableBag<Integer> seen = HashBag.newBag();
+        for (Iterator<Integer> iterator = bag.iterator(); iterator.hasNext(); )
+        {
+            Integer each = iterator.next();
+            seen.add(each);
+            if (each == 3)
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(HashBag.newBagWith(1, 2, 2, 3, 3, 3), seen);
+        Assert.assertEquals(HashBag.newBagWith(1, 2, 2), bag);
+        Iterator<Integer> iterator = bag.iterator();
+        Assert.assertThrows(IllegalStateException.class, iterator::remove);
+        iterator.next();
+        iterator.next();
+        iterator.next();
+        Assert.assertThrows(NoSuchElementException.class, iterator::next);
+
+        Assert.assertTrue(bag.removeIf(each -> each == 2));
+        Assert.assertEquals(HashBag.newBagWith(1), bag);
+        bag.clear();
+        Verify.assertEmpty(bag);
+    }
+
+    @Test
+    public void snapshotsAndViews()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag(Interval.oneTo(3).toBag().withAll(Interval.oneTo(2)));
+        ImmutableBag<Integer> snapshot = bag.toImmutable();
+        bag.add(4);
+        Assert.assertEquals(HashBag.newBagWith(1, 1, 2, 2, 3), snapshot);
+        Assert.assertEquals(HashBag.newBagWith(1, 1, 2, 2, 3, 4), bag);
+        Assert.assertEquals(HashBag.newBagWith(1, 1, 2, 2, 3, 4).hashCode(), bag.hashCode());
+        Assert.assertEquals(HashBag.newBagWith(1, 1, 2, 2), bag.selectByOccurrences(each -> each > 1));
+        Assert.assertEquals(HashBag.newBagWith(3, 4), bag.withoutAll(HashBag.newBagWith(1, 2)));
+        Assert.assertEquals(HashBag.newBagWith(4), bag.without(3));
+        Verify.assertPostSerializedEqualsAndHashCode(bag);
+    }
+
+    @Test
+    public void concurrentAddAndRemove() throws InterruptedException
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++)
+        {
+            executor.execute(() ->
+            {
+                for (int i = 0; i < 10_000; i++)
+                {
+                    bag.add(i % 10);
+                    bag.addOccurrences(i % 10, 2);
+                    bag.removeOccurrences(i % 10, 2);
+                }
+            });
+        }
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(1L, TimeUnit.MINUTES));
+        Verify.assertSize(40_000, bag);
+        Interval.zeroTo(9).each(each -> Assert.assertEquals(4_000, bag.occurrencesOf(each)));
+    }
+}
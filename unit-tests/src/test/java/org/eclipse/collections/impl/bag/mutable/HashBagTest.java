@@ -98,4 +98,32 @@ public class HashBagTest extends MutableBagTestCase
                 HashBag.newBagWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4),
                 HashBag.newBag(HashBag.newBagWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4)));
     }
+
+    @Test
+    public void addAllOccurrences()
+    {
+        HashBag<Integer> bag = HashBag.newBagWith(1, 2, 2);
+        Assert.assertFalse(bag.addAllOccurrences(new Integer[0]));
+        Assert.assertTrue(bag.addAllOccurrences(new Integer[]{1, 3, 3, 3, null}));
+        Verify.assertBagsEqual(HashBag.newBagWith(1, 1, 2, 2, 3, 3, 3, null), bag);
+        Assert.assertTrue(bag.addAll(bag));
+        Verify.assertSize(16, bag);
+        Assert.assertEquals(6, bag.occurrencesOf(3));
+    }
+
+    @Test
+    public void topAndBottomOccurrencesKeepTies()
+    {
+        HashBag<Integer> bag = HashBag.newBag();
+        for (int i = 1; i <= 100; i++)
+        {
+            bag.addOccurrences(i, i % 10);
+        }
+        Assert.assertEquals(10, bag.topOccurrences(5).size());
+        Assert.assertTrue(bag.topOccurrences(5).allSatisfy(each -> each.getTwo() >= 8));
+        Assert.assertEquals(9, bag.topOccurrences(5).getFirst().getTwo());
+        Assert.assertEquals(10, bag.bottomOccurrences(3).size());
+        Assert.assertTrue(bag.bottomOccurrences(3).allSatisfy(each -> each.getTwo() == 1));
+        Assert.assertEquals(bag.sizeDistinct(), bag.topOccurrences(1_000).size());
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.sorted.mutable;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Set;
+
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.factory.Bags;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.Sets;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link BTreeBag}.
+ */
+public class BTreeBagTest extends AbstractMutableSortedBagTestCase
+{
+    @Override
+    protected <T> MutableSortedBag<T> newWith(T... littleElements)
+    {
+        return BTreeBag.newBagWith(littleElements);
+    }
+
+    @Override
+    protected <T> MutableSortedBag<T> newWith(Comparator<? super T> comparator, T... elements)
+    {
+        return BTreeBag.newBagWith(comparator, elements);
+    }
+
+    @Override
+    @Test
+    public void asSynchronized()
+    {
+        Verify.assertInstanceOf(SynchronizedSortedBag.class, this.newWith().asSynchronized());
+    }
+
+    @Override
+    @Test
+    public void collectWithOccurrences()
+    {
+        Bag<Integer> bag1 = this.newWith(3, 3, 3, 2, 2, 1);
+        Bag<ObjectIntPair<Integer>> actual1 =
+                bag1.collectWithOccurrences(PrimitiveTuples::pair, Bags.mutable.empty());
+        Assert.assertEquals(
+                Bags.immutable.with(
+                        PrimitiveTuples.pair(Integer.valueOf(3), 3),
+                        PrimitiveTuples.pair(Integer.valueOf(2), 2),
+                        PrimitiveTuples.pair(Integer.valueOf(1), 1)),
+                actual1);
+        Assert.assertEquals(
+                Lists.mutable.with(
+                        PrimitiveTuples.pair(Integer.valueOf(1), 1),
+                        PrimitiveTuples.pair(Integer.valueOf(2), 2),
+                        PrimitiveTuples.pair(Integer.valueOf(3), 3)),
+                bag1.collectWithOccurrences(PrimitiveTuples::pair));
+
+        Set<ObjectIntPair<Integer>> actual2 =
+                bag1.collectWithOccurrences(PrimitiveTuples::pair, Sets.mutable.empty());
+        Assert.assertEquals(
+                Sets.immutable.with(
+                        PrimitiveTuples.pair(Integer.valueOf(3), 3),
+                        PrimitiveTuples.pair(Integer.valueOf(2), 2),
+                        PrimitiveTuples.pair(Integer.valueOf(1), 1)),
+                actual2);
+
+        Bag<Integer> bag2 = this.newWith(Comparator.reverseOrder(), 3, 3, 3, 2, 2, 1);
+        Assert.assertEquals(
+                Lists.mutable.with(
+                        PrimitiveTuples.pair(Integer.valueOf(3), 3),
+                        PrimitiveTuples.pair(Integer.valueOf(2), 2),
+                        PrimitiveTuples.pair(Integer.valueOf(1), 1)),
+                bag2.collectWithOccurrences(PrimitiveTuples::pair));
+
+        Bag<Integer> bag3 = this.newWith(3, 3, 3, 3, 3, 2, 2, 2, 1, 1, 1, 1, 1, 4, 5, 7);
+        Assert.assertEquals(
+                Lists.mutable.with(6, 5, 8, 5, 6, 8),
+                bag3.collectWithOccurrences((each, index) -> each + index));
+    }
+
+    @Test
+    public void manyDistinctItems()
+    {
+        BTreeBag<Integer> bag = BTreeBag.newBag(Collections.reverseOrder());
+        Interval.oneTo(1000).each(each -> bag.addOccurrences(each, each % 3 + 1));
+        Verify.assertSize(2000, bag);
+        Assert.assertEquals(1000, bag.sizeDistinct());
+        Assert.assertEquals(Integer.valueOf(1000), bag.getFirst());
+        Assert.assertEquals(3, bag.occurrencesOf(998));
+
+        MutableSortedBag<Integer> deserialized = SerializeTestHelper.serializeDeserialize(bag);
+        Verify.assertInstanceOf(BTreeBag.class, deserialized);
+        Verify.assertSortedBagsEqual(bag, deserialized);
+        Verify.assertInstanceOf(BTreeBag.class, bag.clone());
+    }
+}
@@ -14,7 +14,11 @@ import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.list.ParallelListIterable;
 import org.eclipse.collections.impl.lazy.parallel.ParallelIterableTestCase;
+import org.eclipse.collections.impl.block.factory.Predicates;
+import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.FastList;
+import org.junit.Assert;
+import org.junit.Test;
 
 public abstract class ParallelListIterableTestCase extends ParallelIterableTestCase
 {
@@ -47,4 +51,41 @@ public abstract class ParallelListIterableTestCase extends ParallelIterableTestC
     {
         return false;
     }
+
+    @Test
+    public void detectFirst()
+    {
+        Assert.assertEquals(
+                this.getExpected().detect(Predicates.greaterThan(1)),
+                this.classUnderTest().detectFirst(Predicates.greaterThan(1)));
+        Assert.assertEquals(
+                this.getExpected().detect(Predicates.greaterThan(3)),
+                this.classUnderTest().detectFirst(Predicates.greaterThan(3)));
+        Assert.assertNull(this.classUnderTest().detectFirst(Predicates.greaterThan(100)));
+    }
+
+    @Test
+    public void detectFirst_returnsEarliestMatchAcrossBatches()
+    {
+        ParallelListIterable<Integer> parallelIterable = Interval.oneTo(100_000).toList().asParallel(this.executorService, 100);
+        Assert.assertEquals(Integer.valueOf(1_000), parallelIterable.detectFirst(each -> each % 1_000 == 0));
+        Assert.assertEquals(Integer.valueOf(99_999), parallelIterable.detectFirst(each -> each > 99_998));
+        Assert.assertNull(parallelIterable.detectFirst(each -> each > 100_000));
+        Assert.assertTrue(parallelIterable.anySatisfy(each -> each % 1_000 == 0));
+        Assert.assertFalse(parallelIterable.allSatisfy(each -> each < 100_000));
+        Assert.assertEquals(0, parallelIterable.detect(each -> each % 1_000 == 0).intValue() % 1_000);
+    }
+
+    @Test
+    public void detectFirst_flatCollectWithNullAndDuplicateElements()
+    {
+        ParallelListIterable<Integer> parallelIterable = FastList.newListWith(null, 1, null, 1, 2).asParallel(this.executorService, 1);
+        ParallelListIterable<Integer> flattened = parallelIterable.flatCollect(each -> each == null
+                ? FastList.newListWith(0)
+                : FastList.newListWith(each, each * 10));
+        Assert.assertEquals(Integer.valueOf(0), flattened.detectFirst(each -> each >= 0));
+        Assert.assertEquals(Integer.valueOf(10), flattened.detectFirst(each -> each > 5));
+        Assert.assertEquals(Integer.valueOf(2), flattened.detectFirst(each -> each == 2));
+        Assert.assertNull(flattened.detectFirst(each -> each > 20));
+    }
 }
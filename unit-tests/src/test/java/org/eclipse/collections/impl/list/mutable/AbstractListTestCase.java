@@ -654,6 +654,28 @@ public abstract class AbstractListTestCase
         Assert.assertEquals(FastList.newListWith(1, 10, 2, 3, 4, 5, 6, 7, 8, 9), actual);
     }
 
+    @Test
+    public void sortThisParallel()
+    {
+        MutableList<Integer> actual = this.newWith(1, 2, 3, 4, 5, 6, 7, 8, 9, 10).shuffleThis();
+        MutableList<Integer> sorted = actual.sortThisParallel(Collections.reverseOrder());
+        Assert.assertSame(actual, sorted);
+        Assert.assertEquals(FastList.newListWith(10, 9, 8, 7, 6, 5, 4, 3, 2, 1), actual);
+
+        MutableList<Integer> large = this.newWith(Interval.oneTo(20_000).toArray()).shuffleThis();
+        Assert.assertSame(large, large.sortThisParallel(null));
+        Assert.assertEquals(Interval.oneTo(20_000).toList(), large);
+    }
+
+    @Test
+    public void sortThisByParallel()
+    {
+        MutableList<Integer> actual = this.newWith(1, 2, 3, 4, 5, 6, 7, 8, 9, 10).shuffleThis();
+        MutableList<Integer> sorted = actual.sortThisByParallel(String::valueOf);
+        Assert.assertSame(actual, sorted);
+        Assert.assertEquals(FastList.newListWith(1, 10, 2, 3, 4, 5, 6, 7, 8, 9), actual);
+    }
+
     @Test
     public void sortThisByBoolean()
     {
@@ -129,6 +129,13 @@ public abstract class UnmodifiableMutableListTestCase extends UnmodifiableMemory
         Assert.assertThrows(UnsupportedOperationException.class, () -> this.getCollection().sortThisBy(String::valueOf));
     }
 
+    @Test
+    public void sortThisParallel()
+    {
+        Assert.assertThrows(UnsupportedOperationException.class, () -> this.getCollection().sortThisParallel(Comparators.naturalOrder()));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> this.getCollection().sortThisByParallel(String::valueOf));
+    }
+
     @Test
     public void sortThisByBoolean()
     {
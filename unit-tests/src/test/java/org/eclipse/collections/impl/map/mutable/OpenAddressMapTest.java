@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link OpenAddressMap}.
+ */
+public class OpenAddressMapTest extends MutableMapTestCase
+{
+    @Override
+    public <K, V> MutableMap<K, V> newMap()
+    {
+        return OpenAddressMap.newMap();
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        return OpenAddressMap.newWithKeysValues(key, value);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return OpenAddressMap.newWithKeysValues(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return OpenAddressMap.newWithKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        return OpenAddressMap.<K, V>newWithKeysValues(key1, value1, key2, value2, key3, value3).withKeyValue(key4, value4);
+    }
+
+    @Test
+    public void growAndRemoveAgainstHashMap()
+    {
+        OpenAddressMap<Integer, Integer> map = OpenAddressMap.newMap();
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 20_000; i++)
+        {
+            int key = (i * 7919) % 5000;
+            if (i % 3 == 0)
+            {
+                Assert.assertEquals(expected.remove(key), map.remove(key));
+            }
+            else
+            {
+                Assert.assertEquals(expected.put(key, i), map.put(key, i));
+            }
+        }
+        Assert.assertEquals(expected, map);
+        Assert.assertEquals(map, expected);
+        Assert.assertEquals(expected.hashCode(), map.hashCode());
+        Verify.assertSize(expected.size(), map);
+    }
+
+    @Test
+    public void collidingHashCodes()
+    {
+        OpenAddressMap<CollidingKey, Integer> map = OpenAddressMap.newMap();
+        Interval.oneTo(100).each(each -> map.put(new CollidingKey(each), each));
+        Verify.assertSize(100, map);
+        Interval.oneTo(100).each(each -> Assert.assertEquals(each, map.get(new CollidingKey(each))));
+        Interval.oneTo(50).each(each -> map.remove(new CollidingKey(each)));
+        Assert.assertNull(map.get(new CollidingKey(1)));
+        Assert.assertEquals(Integer.valueOf(51), map.get(new CollidingKey(51)));
+        Verify.assertSize(50, map);
+    }
+
+    @Test
+    public void iteratorRemove()
+    {
+        OpenAddressMap<Integer, String> map = OpenAddressMap.newMap();
+        Interval.oneTo(100).each(each -> map.put(each, String.valueOf(each)));
+        for (Iterator<Integer> iterator = map.keySet().iterator(); iterator.hasNext(); )
+        {
+            if (iterator.next() % 2 == 0)
+            {
+                iterator.remove();
+            }
+        }
+        Verify.assertSize(50, map);
+        Assert.assertFalse(map.containsKey(2));
+        Assert.assertEquals("3", map.get(3));
+        map.entrySet().iterator().next().setValue("x");
+        Assert.assertTrue(map.containsValue("x"));
+    }
+
+    @Test
+    public void nullKeysAndClone()
+    {
+        OpenAddressMap<String, String> map = OpenAddressMap.newWithKeysValues(null, "a", "b", null);
+        Assert.assertEquals("a", map.get(null));
+        Assert.assertTrue(map.containsKey("b"));
+        OpenAddressMap<String, String> clone = map.clone();
+        map.remove(null);
+        Assert.assertEquals("a", clone.get(null));
+        Verify.assertPostSerializedEqualsAndHashCode(clone);
+    }
+
+    private static final class CollidingKey
+    {
+        private final int value;
+
+        private CollidingKey(int value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            return other instanceof CollidingKey && ((CollidingKey) other).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 42;
+        }
+    }
+}
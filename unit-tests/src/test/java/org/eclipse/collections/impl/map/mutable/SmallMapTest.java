@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link SmallMap}.
+ */
+public class SmallMapTest extends MutableMapTestCase
+{
+    @Override
+    public <K, V> MutableMap<K, V> newMap()
+    {
+        return SmallMap.newMap();
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        return SmallMap.newWithKeysValues(key, value);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return SmallMap.newWithKeysValues(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return SmallMap.newWithKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        return SmallMap.newWithKeysValues(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    @Test
+    public void promotesPastEightEntries()
+    {
+        SmallMap<Integer, String> map = SmallMap.newMap();
+        Set<Integer> keySet = map.keySet();
+        for (int i = 1; i <= 8; i++)
+        {
+            map.put(i, String.valueOf(i));
+        }
+        Assert.assertFalse(map.isPromoted());
+        Assert.assertEquals(Interval.oneTo(8), FastList.newList(keySet));
+
+        map.put(9, "9");
+        Assert.assertTrue(map.isPromoted());
+        Verify.assertSize(9, map);
+        Verify.assertSize(9, keySet);
+        Assert.assertEquals("9", map.get(9));
+        Assert.assertEquals(UnifiedMap.newMap(map), map);
+        Verify.assertPostSerializedEqualsAndHashCode(map);
+
+        Assert.assertTrue(keySet.remove(9));
+        Assert.assertFalse(map.containsKey(9));
+        map.clear();
+        Assert.assertFalse(map.isPromoted());
+        Verify.assertEmpty(keySet);
+        map.put(1, "1");
+        Assert.assertEquals(FastList.newListWith(1), FastList.newList(keySet));
+    }
+
+    @Test
+    public void keepsInsertionOrderWhileSmall()
+    {
+        SmallMap<String, Integer> map = SmallMap.newWithKeysValues("c", 3, "a", 1, "b", 2);
+        Assert.assertEquals(FastList.newListWith("c", "a", "b"), FastList.newList(map.keySet()));
+        map.remove("c");
+        map.put("d", 4);
+        Assert.assertEquals(FastList.newListWith("a", "b", "d"), FastList.newList(map.keySet()));
+        Assert.assertEquals("{a=1, b=2, d=4}", map.toString());
+
+        Iterator<Integer> iterator = map.values().iterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.next() < 3)
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(UnifiedMap.newWithKeysValues("d", 4), map);
+    }
+
+    @Test
+    public void againstHashMap()
+    {
+        SmallMap<Integer, Integer> map = SmallMap.newMap();
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 10_000; i++)
+        {
+            int key = (i * 7919) % 12;
+            if (i % 3 == 0)
+            {
+                Assert.assertEquals(expected.remove(key), map.remove(key));
+            }
+            else
+            {
+                Assert.assertEquals(expected.put(key, i), map.put(key, i));
+            }
+            if (i % 1000 == 999)
+            {
+                Assert.assertEquals(expected, map);
+                map.clear();
+                expected.clear();
+            }
+        }
+        Assert.assertEquals(expected, map);
+        Assert.assertEquals(expected.hashCode(), map.hashCode());
+    }
+
+    @Test
+    public void factory()
+    {
+        Verify.assertInstanceOf(SmallMap.class, Maps.mutable.small());
+        Verify.assertInstanceOf(SmallMap.class, SmallMap.newMap().clone());
+        Verify.assertInstanceOf(SmallMap.class, SmallMap.newMap().newEmpty());
+    }
+}
@@ -10,6 +10,7 @@
 
 package org.eclipse.collections.impl.map.mutable;
 
+import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.util.Collection;
 import java.util.HashMap;
@@ -33,6 +34,7 @@ import org.eclipse.collections.impl.math.SumProcedure;
 import org.eclipse.collections.impl.parallel.BatchIterable;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
 import org.eclipse.collections.impl.test.ClassComparer;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
 import org.eclipse.collections.impl.test.Verify;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.eclipse.collections.impl.utility.ArrayIterate;
@@ -866,6 +868,269 @@ public class UnifiedMapTest extends UnifiedMapTestCase
         Assert.assertEquals(5, map.size());
     }
 
+    @Test
+    public void newShrinkingMap()
+    {
+        UnifiedMap<Integer, Integer> map = UnifiedMap.newShrinkingMap(0.25f);
+        Assert.assertEquals(4, map.getMapMemoryUsedInWords());
+        Assert.assertNull(map.get(1));
+        Assert.assertNull(map.remove(1));
+        Assert.assertFalse(map.trimToSize());
+        Verify.assertEmpty(map);
+
+        map.put(1, 1);
+        Assert.assertEquals(34, map.getMapMemoryUsedInWords());
+
+        Interval.oneTo(1000).each(each -> map.put(each, each));
+        Assert.assertEquals(4098, map.getMapMemoryUsedInWords());
+        Interval.fromTo(11, 1000).each(map::removeKey);
+        Assert.assertEquals(66, map.getMapMemoryUsedInWords());
+        Verify.assertSize(10, map);
+        Interval.oneTo(10).each(each -> Assert.assertEquals(each, map.get(each)));
+
+        Interval.oneTo(1000).each(each -> map.put(each, each));
+        Assert.assertTrue(map.removeIf((key, value) -> key > 10));
+        Assert.assertEquals(34, map.getMapMemoryUsedInWords());
+        Interval.oneTo(10).each(each -> Assert.assertEquals(each, map.get(each)));
+
+        map.clear();
+        Verify.assertEmpty(map);
+        Assert.assertEquals(4, map.getMapMemoryUsedInWords());
+        Assert.assertEquals(Integer.valueOf(2), map.getIfAbsentPut(1, 2));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, 2), map);
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> UnifiedMap.newShrinkingMap(0.5f));
+        Assert.assertThrows(IllegalArgumentException.class, () -> UnifiedMap.newShrinkingMap(-0.1f));
+    }
+
+    @Test
+    public void shrinkingMapReusedAfterClear()
+    {
+        UnifiedMap<Integer, Integer> map = UnifiedMap.newShrinkingMap(0.25f);
+        Interval.oneTo(100).each(each -> map.put(each, each));
+        map.clear();
+        Assert.assertNull(map.put(1, 1));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, 1), map);
+
+        map.clear();
+        Assert.assertEquals(Integer.valueOf(1), map.updateValue(1, () -> 0, each -> each + 1));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, 1), map);
+
+        map.clear();
+        Assert.assertEquals(Integer.valueOf(2), map.updateValueWith(1, () -> 0, Integer::sum, 2));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, 2), map);
+
+        map.clear();
+        Assert.assertEquals(Integer.valueOf(3), map.merge(1, 3, Integer::sum));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, 3), map);
+
+        map.clear();
+        Assert.assertEquals(Integer.valueOf(4), map.getIfAbsentPut(1, () -> 4));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, 4), map);
+
+        map.clear();
+        Assert.assertEquals(Integer.valueOf(5), map.getIfAbsentPut(1, 5));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, 5), map);
+
+        map.clear();
+        Assert.assertEquals(Integer.valueOf(6), map.getIfAbsentPutWith(1, each -> each + 1, 5));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, 6), map);
+
+        map.clear();
+        Assert.assertEquals(Integer.valueOf(2), map.getIfAbsentPutWithKey(1, each -> each + 1));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, 2), map);
+        Assert.assertEquals(34, map.getMapMemoryUsedInWords());
+    }
+
+    @Test
+    public void shrinkingMapSerialization()
+    {
+        UnifiedMap<Integer, Integer> map = UnifiedMap.newShrinkingMap(0.25f);
+        Interval.oneTo(1000).each(each -> map.put(each, each));
+
+        UnifiedMap<Integer, Integer> deserialized = SerializeTestHelper.serializeDeserialize(map);
+        Assert.assertEquals(map, deserialized);
+        Assert.assertEquals(0.25f, deserialized.shrinkLoadFactor, 0.0f);
+        Interval.fromTo(11, 1000).each(deserialized::removeKey);
+        Assert.assertEquals(66, deserialized.getMapMemoryUsedInWords());
+        deserialized.clear();
+        Assert.assertEquals(4, deserialized.getMapMemoryUsedInWords());
+
+        UnifiedMap<Integer, Integer> unshrinking = UnifiedMap.newMap();
+        unshrinking.putAll(map);
+        UnifiedMap<Integer, Integer> plain = SerializeTestHelper.serializeDeserialize(unshrinking);
+        Assert.assertEquals(0.0f, plain.shrinkLoadFactor, 0.0f);
+        Assert.assertEquals(map, plain);
+    }
+
+    @Test
+    public void shrinkingMapCopies()
+    {
+        UnifiedMap<Integer, Integer> map = UnifiedMap.newShrinkingMap(0.25f);
+        Interval.oneTo(1000).each(each -> map.put(each, each));
+
+        UnifiedMap<Integer, Integer> seeded = UnifiedMap.newSeededMap();
+        seeded.setShrinkLoadFactor(0.25f);
+        seeded.putAll(map);
+
+        for (UnifiedMap<Integer, Integer> copy : Lists.mutable.with(map.clone(), UnifiedMap.newMap(map), seeded.clone()))
+        {
+            Assert.assertEquals(map, copy);
+            Assert.assertEquals(0.25f, copy.shrinkLoadFactor, 0.0f);
+            Interval.fromTo(11, 1000).each(copy::removeKey);
+            Assert.assertEquals(64, copy.table.length);
+            copy.clear();
+            Assert.assertEquals(4, copy.getMapMemoryUsedInWords());
+        }
+
+        UnifiedMap<Integer, Integer> loose = UnifiedMap.newMap(16, 0.9f);
+        loose.setShrinkLoadFactor(0.45f);
+        Assert.assertEquals(0.375f, UnifiedMap.newMap(loose).shrinkLoadFactor, 0.0f);
+    }
+
+    @Test
+    public void newSeededMap()
+    {
+        MutableList<String> keys = UnifiedMapTest.stringsWithEqualHashCodes(10);
+        UnifiedMap<String, String> plain = UnifiedMap.newMap();
+        UnifiedMap<String, String> seeded = UnifiedMap.newSeededMap();
+        keys.each(each ->
+        {
+            plain.put(each, each);
+            seeded.put(each, each);
+        });
+        Assert.assertEquals(1, plain.getCollidingBuckets());
+        Assert.assertTrue(seeded.getCollidingBuckets() > 1);
+        Assert.assertEquals(plain, seeded);
+        keys.each(each -> Assert.assertEquals(each, seeded.get(each)));
+
+        Assert.assertEquals(seeded, seeded.clone());
+        MutableMap<String, Integer> lengths = seeded.collectValues((key, value) -> value.length());
+        keys.each(each -> Assert.assertEquals(Integer.valueOf(20), lengths.get(each)));
+
+        seeded.keySet().retainAll(keys.subList(0, 100));
+        Verify.assertSize(100, seeded);
+        keys.subList(0, 100).each(each -> Assert.assertEquals(each, seeded.get(each)));
+
+        UnifiedMap<Integer, Integer> integers = UnifiedMap.newSeededMap();
+        Interval.oneTo(100).each(each -> integers.put(each, each));
+        integers.put(null, 0);
+        Assert.assertEquals(Integer.valueOf(50), integers.remove(50));
+        Assert.assertEquals(Integer.valueOf(0), integers.get(null));
+        Verify.assertSize(100, integers);
+        Interval.oneTo(49).each(each -> Assert.assertEquals(each, integers.get(each)));
+    }
+
+    @Test
+    public void seededMapSerialization()
+    {
+        MutableList<String> keys = UnifiedMapTest.stringsWithEqualHashCodes(8);
+        UnifiedMap<String, String> seeded = UnifiedMap.newSeededMap();
+        keys.each(each -> seeded.put(each, each));
+        seeded.put(null, "null");
+
+        UnifiedMap<String, String> deserialized = SerializeTestHelper.serializeDeserialize(seeded);
+        Assert.assertEquals(seeded, deserialized);
+        Assert.assertTrue(deserialized.seededHashing);
+        Assert.assertNotEquals(seeded.hashSeed0, deserialized.hashSeed0);
+        Assert.assertTrue(deserialized.getCollidingBuckets() > 1);
+        keys.each(each -> Assert.assertEquals(each, deserialized.get(each)));
+        Assert.assertEquals("null", deserialized.get(null));
+
+        UnifiedMap<String, String> plain = SerializeTestHelper.serializeDeserialize(UnifiedMap.newMap(seeded));
+        Assert.assertFalse(plain.seededHashing);
+        Assert.assertEquals(seeded, plain);
+    }
+
+    @Test
+    public void seededMapSpreadsLongKeysWithEqualHashCodes()
+    {
+        // (i << 32 | i) folds to a hash code of 0 for every i
+        UnifiedMap<Long, Long> plain = UnifiedMap.newMap();
+        UnifiedMap<Long, Long> seeded = UnifiedMap.newSeededMap();
+        Interval.oneTo(100).each(each ->
+        {
+            long key = (long) each << 32 | each;
+            plain.put(key, key);
+            seeded.put(key, key);
+        });
+        Assert.assertEquals(1, plain.getCollidingBuckets());
+        Assert.assertTrue(seeded.getCollidingBuckets() > 1);
+        Assert.assertEquals(plain, seeded);
+    }
+
+    @Test
+    public void seededMapSortsCollidingComparableKeys()
+    {
+        UnifiedMap<CollidingKey, Integer> seeded = UnifiedMap.newSeededMap();
+        Interval.oneTo(100).reverseThis().each(each -> seeded.put(new CollidingKey(each), each));
+        Assert.assertEquals(1, seeded.getCollidingBuckets());
+        Object[] chain = UnifiedMapTest.onlyChain(seeded);
+        Assert.assertEquals(2, chain.length % 4);
+        Interval.oneTo(99).each(each -> Assert.assertTrue(((CollidingKey) chain[each * 2 - 2]).compareTo((CollidingKey) chain[each * 2]) < 0));
+
+        Verify.assertSize(100, seeded);
+        Interval.oneTo(100).each(each -> Assert.assertEquals(each, seeded.get(new CollidingKey(each))));
+        Assert.assertNull(seeded.get(new CollidingKey(101)));
+        Assert.assertEquals(Integer.valueOf(50), seeded.remove(new CollidingKey(50)));
+        Assert.assertNull(seeded.remove(new CollidingKey(50)));
+        Assert.assertEquals(Integer.valueOf(1), seeded.getIfAbsentPut(new CollidingKey(1), () -> 0));
+        Assert.assertEquals(Integer.valueOf(50), seeded.getIfAbsentPut(new CollidingKey(50), () -> 50));
+        Assert.assertEquals(Integer.valueOf(102), seeded.updateValue(new CollidingKey(2), () -> 0, each -> each + 100));
+        Assert.assertNull(seeded.merge(new CollidingKey(3), 0, (oldValue, newValue) -> null));
+        Assert.assertTrue(seeded.removeIf((key, value) -> key.value % 10 == 0));
+        seeded.keySet().removeIf(each -> each.value % 10 == 5);
+        Verify.assertSize(79, seeded);
+        Interval.oneTo(100).each(each ->
+        {
+            Integer expected = each == 3 || each % 5 == 0 ? null : each == 2 ? 102 : each;
+            Assert.assertEquals(expected, seeded.get(new CollidingKey(each)));
+        });
+        Assert.assertEquals(seeded, UnifiedMap.newMap(seeded));
+
+        // a key of another class puts the chain back in insertion order
+        UnifiedMap<Object, Integer> mixed = UnifiedMap.newSeededMap();
+        Interval.oneTo(20).each(each -> mixed.put(new CollidingKey(each), each));
+        mixed.put(null, 0);
+        Assert.assertEquals(0, UnifiedMapTest.onlyChain(mixed).length % 4);
+        Verify.assertSize(21, mixed);
+        Interval.oneTo(20).each(each -> Assert.assertEquals(each, mixed.get(new CollidingKey(each))));
+        Assert.assertEquals(Integer.valueOf(0), mixed.get(null));
+
+        UnifiedMap<CollidingKey, Integer> deserialized = SerializeTestHelper.serializeDeserialize(seeded);
+        Assert.assertEquals(seeded, deserialized);
+        Assert.assertEquals(2, UnifiedMapTest.onlyChain(deserialized).length % 4);
+    }
+
+    private static Object[] onlyChain(UnifiedMap<?, ?> map)
+    {
+        for (int i = 0; i < map.table.length; i += 2)
+        {
+            if (map.table[i + 1] instanceof Object[])
+            {
+                return (Object[]) map.table[i + 1];
+            }
+        }
+        throw new AssertionError("no chain");
+    }
+
+    private static MutableList<String> stringsWithEqualHashCodes(int blocks)
+    {
+        // "Aa" and "BB" have the same hashCode, so every string made of the same number of them does too
+        MutableList<String> strings = Lists.mutable.with("");
+        for (int i = 0; i < blocks; i++)
+        {
+            MutableList<String> longer = Lists.mutable.empty();
+            for (String each : strings)
+            {
+                longer.add(each + "Aa");
+                longer.add(each + "BB");
+            }
+            strings = longer;
+        }
+        return strings;
+    }
+
     @Test
     public void merge()
     {
@@ -900,4 +1165,34 @@ public class UnifiedMapTest extends UnifiedMapTestCase
             this.sum.add(each.getValue());
         }
     }
+
+    private static final class CollidingKey implements Comparable<CollidingKey>, Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int value;
+
+        private CollidingKey(int value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof CollidingKey && ((CollidingKey) o).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 0;
+        }
+
+        @Override
+        public int compareTo(CollidingKey other)
+        {
+            return Integer.compare(this.value, other.value);
+        }
+    }
 }
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable.primitive;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.iterator.MutableLongIterator;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.primitive.MutableLongObjectSortedMap;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ConcurrentLongObjectSkipListMap}.
+ */
+public class ConcurrentLongObjectSkipListMapTest extends AbstractMutableLongObjectMapTestCase
+{
+    @Override
+    protected ConcurrentLongObjectSkipListMap<String> classUnderTest()
+    {
+        return ConcurrentLongObjectSkipListMap.newWithKeysValues(0L, "zero", 31L, "thirtyOne", 32L, "thirtyTwo");
+    }
+
+    @Override
+    protected <T> ConcurrentLongObjectSkipListMap<T> newWithKeysValues(long key1, T value1)
+    {
+        return ConcurrentLongObjectSkipListMap.newWithKeysValues(key1, value1);
+    }
+
+    @Override
+    protected <T> ConcurrentLongObjectSkipListMap<T> newWithKeysValues(long key1, T value1, long key2, T value2)
+    {
+        return ConcurrentLongObjectSkipListMap.newWithKeysValues(key1, value1, key2, value2);
+    }
+
+    @Override
+    protected <T> ConcurrentLongObjectSkipListMap<T> newWithKeysValues(long key1, T value1, long key2, T value2, long key3, T value3)
+    {
+        return ConcurrentLongObjectSkipListMap.newWithKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    protected <T> ConcurrentLongObjectSkipListMap<T> getEmptyMap()
+    {
+        return new ConcurrentLongObjectSkipListMap<>();
+    }
+
+    @Test
+    public void keyOrder()
+    {
+        ConcurrentLongObjectSkipListMap<String> map = ConcurrentLongObjectSkipListMap.newWithKeysValues(32L, "thirtyTwo", 0L, "zero", -31L, "minusThirtyOne").withKeyValue(5L, "five");
+        Assert.assertEquals(LongArrayList.newListWith(-31L, 0L, 5L, 32L), map.keySet().toList());
+        Assert.assertEquals(Lists.mutable.with("minusThirtyOne", "zero", "five", "thirtyTwo"), Lists.mutable.withAll(map.values()));
+        Assert.assertEquals(Lists.mutable.with("minusThirtyOne", "zero", "five", "thirtyTwo"), map.toList());
+        Assert.assertEquals("{-31=minusThirtyOne, 0=zero, 5=five, 32=thirtyTwo}", map.toString());
+        Assert.assertEquals("minusThirtyOne", map.getFirst());
+        Assert.assertEquals("thirtyTwo", map.getLast());
+    }
+
+    @Test
+    public void navigation()
+    {
+        MutableLongObjectSortedMap<String> map = ConcurrentLongObjectSkipListMap.newWithKeysValues(10L, "ten", 20L, "twenty", 30L, "thirty");
+        long none = 99L;
+        Assert.assertEquals(10L, map.firstKey());
+        Assert.assertEquals(30L, map.lastKey());
+        Assert.assertEquals(20L, map.floorKey(25L, none));
+        Assert.assertEquals(20L, map.floorKey(20L, none));
+        Assert.assertEquals(none, map.floorKey(5L, none));
+        Assert.assertEquals(10L, map.lowerKey(20L, none));
+        Assert.assertEquals(30L, map.ceilingKey(25L, none));
+        Assert.assertEquals(none, map.higherKey(30L, none));
+        Assert.assertEquals(20L, map.higherKey(10L, none));
+
+        MutableLongObjectSortedMap<String> empty = new ConcurrentLongObjectSkipListMap<>();
+        Assert.assertThrows(NoSuchElementException.class, empty::firstKey);
+        Assert.assertThrows(NoSuchElementException.class, empty::lastKey);
+        Assert.assertEquals(none, empty.ceilingKey(1L, none));
+    }
+
+    @Test
+    public void rangeViews()
+    {
+        ConcurrentLongObjectSkipListMap<Integer> map = new ConcurrentLongObjectSkipListMap<>();
+        for (int i = 0; i < 100; i++)
+        {
+            map.put(i, i);
+        }
+
+        MutableLongObjectSortedMap<Integer> subMap = map.subMap(20L, 40L);
+        Verify.assertSize(20, subMap);
+        Assert.assertEquals(20L, subMap.firstKey());
+        Assert.assertEquals(39L, subMap.lastKey());
+        Assert.assertEquals(39L, subMap.floorKey(70L, 0L));
+        Assert.assertEquals(20L, subMap.ceilingKey(5L, 0L));
+        Assert.assertEquals(0L, subMap.lowerKey(20L, 0L));
+        Assert.assertNull(subMap.get(40L));
+        Assert.assertEquals(590L, subMap.sumOfInt(Integer::intValue));
+        Assert.assertThrows(IllegalArgumentException.class, () -> subMap.put(40L, 40));
+        Assert.assertThrows(IllegalArgumentException.class, () -> subMap.subMap(10L, 30L));
+        Verify.assertSize(10, subMap.headMap(30L));
+        Verify.assertSize(5, subMap.tailMap(35L));
+
+        Assert.assertEquals(Integer.valueOf(25), subMap.put(25L, -25));
+        Assert.assertEquals(Integer.valueOf(-25), map.get(25L));
+
+        subMap.clear();
+        Verify.assertEmpty(subMap);
+        Verify.assertSize(80, map);
+        Assert.assertEquals(19L, map.lowerKey(40L, 0L));
+    }
+
+    @Test
+    public void nullValues()
+    {
+        ConcurrentLongObjectSkipListMap<String> map = ConcurrentLongObjectSkipListMap.newWithKeysValues(1L, null, 2L, "two");
+        Verify.assertSize(2, map);
+        Assert.assertTrue(map.containsKey(1L));
+        Assert.assertTrue(map.containsValue(null));
+        Assert.assertNull(map.getIfAbsentPut(1L, "one"));
+        Assert.assertEquals("one", map.getIfAbsent(3L, () -> "one"));
+        Assert.assertTrue(map.replace(1L, null, "one"));
+        Assert.assertEquals("one", map.get(1L));
+        Assert.assertTrue(map.remove(2L, "two"));
+        Assert.assertEquals(LongArrayList.newListWith(1L), map.keySet().toList());
+    }
+
+    @Test
+    public void valuesIteratorRemove()
+    {
+        ConcurrentLongObjectSkipListMap<Integer> map = new ConcurrentLongObjectSkipListMap<>();
+        for (int i = 0; i < 100; i++)
+        {
+            map.put(i, i);
+        }
+        map.tailMap(50L).values().removeIf(each -> each % 2 == 0);
+        Verify.assertSize(75, map);
+        Assert.assertTrue(map.containsKey(48L));
+        Assert.assertFalse(map.containsKey(50L));
+        Assert.assertTrue(map.containsKey(99L));
+
+        MutableLongIterator iterator = map.keySet().longIterator();
+        while (iterator.hasNext())
+        {
+            iterator.next();
+            iterator.remove();
+        }
+        Verify.assertEmpty(map);
+    }
+
+    @Test
+    public void iterationDuringModification()
+    {
+        ConcurrentLongObjectSkipListMap<Integer> map = new ConcurrentLongObjectSkipListMap<>();
+        Interval.oneTo(100).each(each -> map.put(each, each));
+        MutableList<Long> visited = Lists.mutable.empty();
+        map.forEachKeyValue((key, value) ->
+        {
+            visited.add(key);
+            map.removeKey(key + 1);
+            if (key < 1000)
+            {
+                map.put(key + 1000, value);
+            }
+        });
+        Assert.assertEquals(Interval.fromToBy(1, 99, 2).collect(Integer::longValue).toList().withAll(Interval.fromToBy(1001, 1099, 2).collect(Integer::longValue)), visited);
+        Verify.assertSize(100, map);
+    }
+
+    @Test
+    public void againstTreeMap()
+    {
+        Random random = new Random(42L);
+        ConcurrentLongObjectSkipListMap<Integer> map = new ConcurrentLongObjectSkipListMap<>();
+        TreeMap<Long, Integer> expected = new TreeMap<>();
+        for (int i = 0; i < 50_000; i++)
+        {
+            long key = random.nextInt(2_000) - 1_000L;
+            Integer value = random.nextInt(100);
+            if (random.nextInt(3) == 0)
+            {
+                Assert.assertEquals(expected.remove(key), map.removeKey(key));
+            }
+            else
+            {
+                Assert.assertEquals(expected.put(key, value), map.put(key, value));
+            }
+        }
+        Verify.assertSize(expected.size(), map);
+        MutableLongIterator iterator = map.keySet().longIterator();
+        for (Map.Entry<Long, Integer> entry : expected.entrySet())
+        {
+            long key = iterator.next();
+            Assert.assertEquals(entry.getKey().longValue(), key);
+            Assert.assertEquals(entry.getValue(), map.get(key));
+        }
+        for (long key = -1_001L; key <= 1_001L; key += 7L)
+        {
+            Assert.assertEquals(expected.floorKey(key), this.boxed(map.floorKey(key, Long.MIN_VALUE)));
+            Assert.assertEquals(expected.lowerKey(key), this.boxed(map.lowerKey(key, Long.MIN_VALUE)));
+            Assert.assertEquals(expected.ceilingKey(key), this.boxed(map.ceilingKey(key, Long.MIN_VALUE)));
+            Assert.assertEquals(expected.higherKey(key), this.boxed(map.higherKey(key, Long.MIN_VALUE)));
+        }
+    }
+
+    private Long boxed(long key)
+    {
+        return key == Long.MIN_VALUE ? null : key;
+    }
+
+    @Test
+    public void concurrentGetIfAbsentPutAndUpdateValue()
+    {
+        ConcurrentLongObjectSkipListMap<Integer> counts = ConcurrentLongObjectSkipListMap.newMap();
+        ConcurrentLongObjectSkipListMap<Integer> sums = ConcurrentLongObjectSkipListMap.newMap();
+        ConcurrentLongObjectSkipListMap<Integer> firsts = ConcurrentLongObjectSkipListMap.newMap();
+        ParallelIterate.forEach(Interval.oneTo(10_000), each ->
+        {
+            counts.updateValue(each % 10, () -> 0, value -> value + 1);
+            sums.updateValueWith(each % 10, () -> 0, Integer::sum, each);
+            Assert.assertEquals(firsts.getIfAbsentPut(each % 10, each), firsts.get(each % 10));
+        }, 100);
+        Assert.assertEquals(LongArrayList.newListWith(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L), counts.keySet().toList());
+        counts.forEachValue(each -> Assert.assertEquals(Integer.valueOf(1000), each));
+        Assert.assertEquals(Interval.oneTo(10_000).sumOfInt(each -> each), sums.sumOfInt(each -> each));
+        Verify.assertSize(10, firsts);
+    }
+
+    @Test
+    public void concurrentPutAndRemove()
+    {
+        ConcurrentLongObjectSkipListMap<String> map = ConcurrentLongObjectSkipListMap.newMap();
+        ParallelIterate.forEach(Interval.oneTo(20_000), each ->
+        {
+            long key = (each * 7_919L) % 20_011L;
+            Assert.assertNull(map.putIfAbsent(key, "a"));
+            Assert.assertEquals("a", map.putIfAbsent(key, "b"));
+            Assert.assertTrue(map.replace(key, "a", "c"));
+            Assert.assertFalse(map.remove(key, "a"));
+            if (key % 2L == 0L)
+            {
+                Assert.assertTrue(map.remove(key, "c"));
+            }
+        }, 100);
+        Verify.assertSize(map.keySet().count(key -> true), map);
+        Assert.assertTrue(map.keySet().allSatisfy(key -> key % 2L == 1L));
+        Assert.assertTrue(map.allSatisfy("c"::equals));
+        long[] keys = map.keySet().toArray();
+        for (int i = 1; i < keys.length; i++)
+        {
+            Assert.assertTrue(keys[i - 1] < keys[i]);
+        }
+        map.clear();
+        Verify.assertEmpty(map);
+        Assert.assertEquals(0, map.size());
+    }
+
+    @Test
+    public void serializeRangeView()
+    {
+        ConcurrentLongObjectSkipListMap<String> map = new ConcurrentLongObjectSkipListMap<>();
+        for (int i = 0; i < 100; i++)
+        {
+            map.put(i, String.valueOf(i));
+        }
+        map.put(100L, null);
+        Verify.assertPostSerializedEqualsAndHashCode(map);
+        Verify.assertPostSerializedEqualsAndHashCode(map.subMap(10L, 20L));
+        Verify.assertPostSerializedEqualsAndHashCode(map.keySet());
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.sorted.mutable;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link BTreeSortedMap}.
+ */
+public class BTreeSortedMapTest extends MutableSortedMapTestCase
+{
+    @Override
+    public <K, V> MutableSortedMap<K, V> newMap(Comparator<? super K> comparator)
+    {
+        return BTreeSortedMap.newMap(comparator);
+    }
+
+    @Override
+    public <K, V> MutableSortedMap<K, V> newMapWithKeyValue(Comparator<? super K> comparator, K key, V value)
+    {
+        return BTreeSortedMap.<K, V>newMap(comparator).with(Tuples.pair(key, value));
+    }
+
+    @Override
+    public <K, V> MutableSortedMap<K, V> newMapWithKeysValues(Comparator<? super K> comparator, K key1, V value1, K key2, V value2)
+    {
+        return BTreeSortedMap.<K, V>newMap(comparator).with(Tuples.pair(key1, value1), Tuples.pair(key2, value2));
+    }
+
+    @Override
+    public <K, V> MutableSortedMap<K, V> newMapWithKeysValues(Comparator<? super K> comparator, K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return BTreeSortedMap.<K, V>newMap(comparator).with(Tuples.pair(key1, value1), Tuples.pair(key2, value2), Tuples.pair(key3, value3));
+    }
+
+    @Override
+    public <K, V> MutableSortedMap<K, V> newMapWithKeysValues(Comparator<? super K> comparator, K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        return BTreeSortedMap.<K, V>newMap(comparator).with(Tuples.pair(key1, value1), Tuples.pair(key2, value2), Tuples.pair(key3, value3), Tuples.pair(key4, value4));
+    }
+
+    @Override
+    public <K, V> MutableSortedMap<K, V> newMap()
+    {
+        return BTreeSortedMap.newMap();
+    }
+
+    @Override
+    public <K, V> MutableSortedMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        return BTreeSortedMap.newMapWith(key, value);
+    }
+
+    @Override
+    public <K, V> MutableSortedMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return BTreeSortedMap.newMapWith(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> MutableSortedMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return BTreeSortedMap.newMapWith(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> MutableSortedMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        return BTreeSortedMap.<K, V>newMap().with(Tuples.pair(key1, value1), Tuples.pair(key2, value2), Tuples.pair(key3, value3), Tuples.pair(key4, value4));
+    }
+
+    @Test
+    public void againstTreeMap()
+    {
+        Random random = new Random(42L);
+        BTreeSortedMap<Integer, Integer> map = BTreeSortedMap.newMap();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        for (int i = 0; i < 100_000; i++)
+        {
+            int key = random.nextInt(20_000);
+            if (random.nextInt(3) == 0)
+            {
+                Assert.assertEquals(expected.remove(key), map.remove(key));
+            }
+            else
+            {
+                Assert.assertEquals(expected.put(key, i), map.put(key, i));
+            }
+        }
+        Assert.assertEquals(expected, map);
+        Assert.assertEquals(FastList.newList(expected.keySet()), FastList.newList(map.keySet()));
+
+        int index = 0;
+        for (Integer key : expected.keySet())
+        {
+            Assert.assertEquals(index, map.indexOfKey(key));
+            Assert.assertEquals(key, map.keyAt(index));
+            Assert.assertEquals(expected.get(key), map.valueAt(index));
+            index++;
+        }
+        Assert.assertEquals(-1, map.indexOfKey(-1));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> map.keyAt(expected.size()));
+
+        for (int i = 0; i < 100; i++)
+        {
+            int from = random.nextInt(20_000);
+            int to = from + random.nextInt(20_000 - from);
+            SortedMap<Integer, Integer> expectedRange = expected.subMap(from, to);
+            MutableSortedMap<Integer, Integer> range = map.subMap(from, to);
+            Assert.assertEquals(expectedRange.size(), range.size());
+            Assert.assertEquals(expectedRange, range);
+            Assert.assertEquals(expected.headMap(to), map.headMap(to));
+            Assert.assertEquals(expected.tailMap(from), map.tailMap(from));
+        }
+    }
+
+    @Test
+    public void rangeViews()
+    {
+        BTreeSortedMap<Integer, String> map = BTreeSortedMap.newMap();
+        Interval.oneTo(1000).each(each -> map.put(each, String.valueOf(each)));
+
+        MutableSortedMap<Integer, String> subMap = map.subMap(100, 200);
+        Verify.assertSize(100, subMap);
+        Assert.assertEquals(Integer.valueOf(100), subMap.firstKey());
+        Assert.assertEquals(Integer.valueOf(199), subMap.lastKey());
+        Assert.assertEquals(Integer.valueOf(150), subMap.subMap(150, 160).firstKey());
+        Assert.assertThrows(IllegalArgumentException.class, () -> subMap.put(200, "200"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> subMap.subMap(50, 150));
+
+        subMap.put(100, "x");
+        Assert.assertEquals("x", map.get(100));
+        subMap.clear();
+        Verify.assertSize(900, map);
+        Assert.assertFalse(map.containsKey(150));
+        Assert.assertEquals(Integer.valueOf(200), map.keyAt(99));
+        Verify.assertEmpty(subMap);
+
+        for (Iterator<Integer> iterator = map.tailMap(500).keySet().iterator(); iterator.hasNext(); )
+        {
+            if (iterator.next() % 2 == 0)
+            {
+                iterator.remove();
+            }
+        }
+        Verify.assertSize(649, map);
+        Assert.assertEquals(Interval.fromToBy(501, 999, 2), FastList.newList(map.tailMap(500).keySet()));
+        Verify.assertSize(99, map.headMap(100));
+    }
+
+    @Test
+    public void cloneAndSerialize()
+    {
+        BTreeSortedMap<Integer, String> map = BTreeSortedMap.newMap(Collections.reverseOrder());
+        Interval.oneTo(500).each(each -> map.put(each, String.valueOf(each)));
+        BTreeSortedMap<Integer, String> clone = map.clone();
+        map.clear();
+        Verify.assertSize(500, clone);
+        Assert.assertEquals(Integer.valueOf(500), clone.firstKey());
+        Verify.assertInstanceOf(BTreeSortedMap.class, clone.newEmpty());
+        Verify.assertPostSerializedEqualsAndHashCode(clone);
+
+        Map.Entry<Integer, String> entry = clone.entrySet().iterator().next();
+        entry.setValue("five hundred");
+        Assert.assertEquals("five hundred", clone.get(500));
+    }
+}
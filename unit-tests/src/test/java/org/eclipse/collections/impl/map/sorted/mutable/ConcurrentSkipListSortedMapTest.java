@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.sorted.mutable;
+
+import java.util.Collections;
+import java.util.Comparator;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ConcurrentSkipListSortedMap}.
+ */
+public class ConcurrentSkipListSortedMapTest extends MutableSortedMapTestCase
+{
+    @Override
+    public <K, V> MutableSortedMap<K, V> newMap(Comparator<? super K> comparator)
+    {
+        return ConcurrentSkipListSortedMap.newMap(comparator);
+    }
+
+    @Override
+    public <K, V> MutableSortedMap<K, V> newMapWithKeyValue(Comparator<? super K> comparator, K key, V value)
+    {
+        return ConcurrentSkipListSortedMap.<K, V>newMap(comparator).with(Tuples.pair(key, value));
+    }
+
+    @Override
+    public <K, V> MutableSortedMap<K, V> newMapWithKeysValues(Comparator<? super K> comparator, K key1, V value1, K key2, V value2)
+    {
+        return ConcurrentSkipListSortedMap.<K, V>newMap(comparator).with(Tuples.pair(key1, value1), Tuples.pair(key2, value2));
+    }
+
+    @Override
+    public <K, V> MutableSortedMap<K, V> newMapWithKeysValues(Comparator<? super K> comparator, K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return ConcurrentSkipListSortedMap.<K, V>newMap(comparator).with(Tuples.pair(key1, value1), Tuples.pair(key2, value2), Tuples.pair(key3, value3));
+    }
+
+    @Override
+    public <K, V> MutableSortedMap<K, V> newMapWithKeysValues(Comparator<? super K> comparator, K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        return ConcurrentSkipListSortedMap.<K, V>newMap(comparator).with(Tuples.pair(key1, value1), Tuples.pair(key2, value2), Tuples.pair(key3, value3), Tuples.pair(key4, value4));
+    }
+
+    @Override
+    public <K, V> MutableSortedMap<K, V> newMap()
+    {
+        return ConcurrentSkipListSortedMap.newMap();
+    }
+
+    @Override
+    public <K, V> MutableSortedMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        return ConcurrentSkipListSortedMap.newMapWith(key, value);
+    }
+
+    @Override
+    public <K, V> MutableSortedMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return ConcurrentSkipListSortedMap.newMapWith(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> MutableSortedMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return ConcurrentSkipListSortedMap.newMapWith(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> MutableSortedMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        return ConcurrentSkipListSortedMap.<K, V>newMap().with(Tuples.pair(key1, value1), Tuples.pair(key2, value2), Tuples.pair(key3, value3), Tuples.pair(key4, value4));
+    }
+
+    @Override
+    @Test
+    public void equalsAndHashCode()
+    {
+        // java.util.concurrent.ConcurrentSkipListMap doesn't support null keys OR values
+        MapIterable<Integer, String> map = this.newMapWithKeysValues(Comparators.reverseNaturalOrder(), 1, "1", 2, "2", 3, "3");
+        Verify.assertPostSerializedEqualsAndHashCode(map);
+        Verify.assertEqualsAndHashCode(Maps.mutable.of(1, "1", 2, "2", 3, "3"), map);
+        Verify.assertEqualsAndHashCode(Maps.immutable.of(1, "1", 2, "2", 3, "3"), map);
+        Verify.assertEqualsAndHashCode(Maps.mutable.of(1, "1", 2, "2", 3, "3"), this.newMapWithKeysValues(1, "1", 2, "2", 3, "3"));
+
+        Assert.assertNotEquals(map, this.newMapWithKeysValues(1, "1", 2, "2"));
+        Assert.assertNotEquals(map, this.newMapWithKeysValues(1, "1", 2, "2", 3, "3", 4, "4"));
+        Assert.assertNotEquals(map, this.newMapWithKeysValues(1, "1", 2, "2", 4, "4"));
+    }
+
+    @Test
+    public void concurrentGetIfAbsentPutAndUpdateValue()
+    {
+        ConcurrentSkipListSortedMap<Integer, Integer> counts = ConcurrentSkipListSortedMap.newMap();
+        ConcurrentSkipListSortedMap<Integer, Integer> sums = ConcurrentSkipListSortedMap.newMap();
+        ConcurrentSkipListSortedMap<Integer, Integer> firsts = ConcurrentSkipListSortedMap.newMap();
+        ParallelIterate.forEach(Interval.oneTo(10_000), each ->
+        {
+            counts.updateValue(each % 10, () -> 0, value -> value + 1);
+            sums.updateValueWith(each % 10, () -> 0, Integer::sum, each);
+            Assert.assertEquals(firsts.getIfAbsentPut(each % 10, each), firsts.get(each % 10));
+        }, 100);
+        Assert.assertEquals(Interval.zeroTo(9), FastList.newList(counts.keySet()));
+        counts.forEachValue(each -> Assert.assertEquals(Integer.valueOf(1000), each));
+        Assert.assertEquals(Interval.oneTo(10_000).sumOfInt(each -> each), sums.sumOfInt(each -> each));
+        Verify.assertSize(10, firsts);
+    }
+
+    @Test
+    public void concurrentPutIfAbsentAndRemove()
+    {
+        ConcurrentSkipListSortedMap<Integer, String> map = ConcurrentSkipListSortedMap.newMap();
+        ParallelIterate.forEach(Interval.oneTo(1000), each ->
+        {
+            Assert.assertNull(map.putIfAbsent(each, "a"));
+            Assert.assertEquals("a", map.putIfAbsent(each, "b"));
+            Assert.assertTrue(map.replace(each, "a", "c"));
+            Assert.assertFalse(map.remove(each, "a"));
+            if (each % 2 == 0)
+            {
+                Assert.assertTrue(map.remove(each, "c"));
+            }
+        }, 10);
+        Verify.assertSize(500, map);
+        Assert.assertEquals(Interval.fromToBy(1, 999, 2), FastList.newList(map.keySet()));
+        Assert.assertTrue(map.allSatisfy("c"::equals));
+    }
+
+    @Test
+    public void iterationDuringModification()
+    {
+        ConcurrentSkipListSortedMap<Integer, Integer> map = ConcurrentSkipListSortedMap.newMap();
+        Interval.oneTo(100).each(each -> map.put(each, each));
+        MutableList<Integer> visited = Lists.mutable.empty();
+        map.forEachKeyValue((key, value) ->
+        {
+            visited.add(key);
+            map.remove(key + 1);
+            if (key < 1000)
+            {
+                map.put(key + 1000, value);
+            }
+        });
+        Assert.assertEquals(Interval.fromToBy(1, 99, 2).toList().withAll(Interval.fromToBy(1001, 1099, 2)), visited);
+        Verify.assertSize(100, map);
+    }
+
+    @Test
+    public void rangeViewsAndClone()
+    {
+        ConcurrentSkipListSortedMap<Integer, String> map = ConcurrentSkipListSortedMap.newMap(Collections.reverseOrder());
+        Interval.oneTo(100).each(each -> map.put(each, String.valueOf(each)));
+
+        MutableSortedMap<Integer, String> subMap = map.subMap(60, 40);
+        Verify.assertInstanceOf(ConcurrentSkipListSortedMap.class, subMap);
+        Verify.assertSize(20, subMap);
+        Assert.assertEquals(Integer.valueOf(60), subMap.firstKey());
+        Assert.assertThrows(IllegalArgumentException.class, () -> subMap.put(30, "30"));
+        Verify.assertSize(40, map.headMap(60));
+        Verify.assertSize(60, map.tailMap(60));
+        subMap.clear();
+        Verify.assertSize(80, map);
+
+        ConcurrentSkipListSortedMap<Integer, String> clone = map.clone();
+        map.clear();
+        Verify.assertSize(80, clone);
+        Assert.assertEquals(Integer.valueOf(100), clone.firstKey());
+        Verify.assertInstanceOf(ConcurrentSkipListSortedMap.class, clone.newEmpty());
+        Verify.assertInstanceOf(ConcurrentSkipListSortedMap.class, clone.select((key, value) -> key > 50));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.list;
+
+import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CompactImmutableListMultimapTest extends ImmutableListMultimapTest
+{
+    @Override
+    protected <K, V> ImmutableListMultimap<K, V> classUnderTest()
+    {
+        return FastListMultimap.<K, V>newMultimap().toCompactImmutable();
+    }
+
+    @Test
+    public void copiesMutableMultimap()
+    {
+        FastListMultimap<Integer, Integer> mutable = FastListMultimap.newMultimap();
+        Interval.oneTo(1000).each(each -> mutable.put(each % 97, each));
+        ImmutableListMultimap<Integer, Integer> compact = mutable.toCompactImmutable();
+        Verify.assertInstanceOf(CompactImmutableListMultimap.class, compact);
+        Assert.assertEquals(mutable.toImmutable(), compact);
+        Assert.assertEquals(compact, mutable.toImmutable());
+        Assert.assertEquals(mutable.toImmutable().hashCode(), compact.hashCode());
+        Verify.assertSize(1000, compact);
+        Assert.assertEquals(97, compact.sizeDistinct());
+        Interval.zeroTo(96).each(each -> Assert.assertEquals(mutable.get(each), compact.get(each)));
+        Verify.assertIterableEmpty(compact.get(97));
+        Assert.assertTrue(compact.containsKeyAndValue(5, 102));
+        Assert.assertFalse(compact.containsKeyAndValue(5, 103));
+        Assert.assertFalse(compact.containsKey(-1));
+    }
+
+    @Test
+    public void nullKeysAndValues()
+    {
+        FastListMultimap<String, String> mutable = FastListMultimap.newMultimap();
+        mutable.putAll(null, Lists.mutable.with("a", null));
+        mutable.put("b", null);
+        ImmutableListMultimap<String, String> compact = mutable.toCompactImmutable();
+        Assert.assertEquals(Lists.immutable.with("a", null), compact.get(null));
+        Assert.assertTrue(compact.containsKey(null));
+        Assert.assertTrue(compact.containsKeyAndValue("b", null));
+        Assert.assertEquals(mutable.toImmutable(), compact);
+    }
+
+    @Test
+    public void getPreservesValueOrder()
+    {
+        FastListMultimap<String, Integer> mutable = FastListMultimap.newMultimap();
+        mutable.putAll("A", Lists.mutable.with(3, 1, 2, 1));
+        mutable.put("B", 5);
+        ImmutableListMultimap<String, Integer> compact = mutable.toCompactImmutable();
+        Assert.assertEquals(Lists.immutable.with(3, 1, 2, 1), compact.get("A"));
+        Assert.assertEquals(Lists.immutable.with(5), compact.get("B"));
+        Assert.assertEquals(Lists.immutable.with(3, 1, 2, 1, 4), compact.newWith("A", 4).get("A"));
+    }
+
+    @Test
+    public void serializesAsStandardImmutableMultimap()
+    {
+        FastListMultimap<String, Integer> mutable = FastListMultimap.newMultimap();
+        mutable.putAll("A", Lists.mutable.with(1, 2));
+        ImmutableListMultimap<String, Integer> compact = mutable.toCompactImmutable();
+        ImmutableListMultimap<String, Integer> copy = SerializeTestHelper.serializeDeserialize(compact);
+        Verify.assertInstanceOf(ImmutableListMultimapImpl.class, copy);
+        Verify.assertEqualsAndHashCode(compact, copy);
+    }
+}
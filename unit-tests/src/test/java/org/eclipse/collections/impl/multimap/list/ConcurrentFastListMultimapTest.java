@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.list;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of {@link ConcurrentFastListMultimap}.
+ */
+public class ConcurrentFastListMultimapTest extends AbstractMutableListMultimapTestCase
+{
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimap()
+    {
+        return ConcurrentFastListMultimap.newMultimap();
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeyValue(K key, V value)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key, value);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        mutableMultimap.put(key4, value4);
+        return mutableMultimap;
+    }
+
+    @SafeVarargs
+    @Override
+    public final <K, V> ConcurrentFastListMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return ConcurrentFastListMultimap.newMultimap(pairs);
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapFromPairs(Iterable<Pair<K, V>> inputIterable)
+    {
+        return ConcurrentFastListMultimap.newMultimap(inputIterable);
+    }
+
+    @SafeVarargs
+    @Override
+    protected final <V> FastList<V> createCollection(V... args)
+    {
+        return FastList.newListWith(args);
+    }
+
+    @Test
+    public void getReturnsSnapshot()
+    {
+        ConcurrentFastListMultimap<Integer, String> multimap = this.newMultimapWithKeysValues(1, "1", 1, "2");
+        MutableList<String> values = multimap.get(1);
+        multimap.put(1, "3");
+        Assert.assertEquals(FastList.newListWith("1", "2"), values);
+        Assert.assertEquals(FastList.newListWith("1", "2", "3"), multimap.get(1));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> values.add("4"));
+    }
+
+    @Test
+    public void concurrentPutAndRemoveAll() throws InterruptedException
+    {
+        ConcurrentFastListMultimap<Integer, Integer> multimap = ConcurrentFastListMultimap.newMultimap();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++)
+        {
+            executor.execute(() -> Interval.oneTo(10_000).each(each -> multimap.put(each % 16, each)));
+        }
+        executor.execute(() -> Interval.oneTo(1_000).each(each -> multimap.removeAll(each % 16)));
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(1L, TimeUnit.MINUTES));
+        Assert.assertEquals(multimap.valuesView().size(), multimap.size());
+        multimap.forEachKeyMultiValues((key, values) -> Verify.assertNotEmpty(values));
+        multimap.clear();
+        Verify.assertEmpty(multimap);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.serialization;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+
+import org.eclipse.collections.api.LazyIterable;
+
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BinaryCodecTest
+{
+    @Test
+    public void fastList() throws IOException
+    {
+        FastList<String> list = FastList.newListWith("a", null, "ü", "a");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryCodec.writeList(new DataOutputStream(bytes), list, ElementCodecs.nullable(ElementCodecs.strings()));
+        FastList<String> copy = BinaryCodec.readFastList(BinaryCodecTest.input(bytes), ElementCodecs.nullable(ElementCodecs.strings()));
+        Assert.assertEquals(list, copy);
+    }
+
+    @Test
+    public void unifiedSet() throws IOException
+    {
+        UnifiedSet<Integer> set = UnifiedSet.newSet(Interval.oneTo(1000));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryCodec.writeSet(new DataOutputStream(bytes), set, ElementCodecs.integers());
+        Assert.assertEquals(set, BinaryCodec.readUnifiedSet(BinaryCodecTest.input(bytes), ElementCodecs.integers()));
+    }
+
+    @Test
+    public void unifiedMap() throws IOException
+    {
+        UnifiedMap<Long, Double> map = UnifiedMap.newMap();
+        Interval.oneTo(1000).each(each -> map.put(each.longValue(), each / 2.0));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryCodec.writeMap(new DataOutputStream(bytes), map, ElementCodecs.longs(), ElementCodecs.doubles());
+        Assert.assertEquals(map, BinaryCodec.readUnifiedMap(BinaryCodecTest.input(bytes), ElementCodecs.longs(), ElementCodecs.doubles()));
+    }
+
+    @Test
+    public void readLazily() throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        BinaryCodec.writeList(out, Interval.oneTo(5), ElementCodecs.integers());
+        BinaryCodec.writeSet(out, UnifiedSet.newSetWith("a"), ElementCodecs.strings());
+        DataInputStream in = BinaryCodecTest.input(bytes);
+
+        LazyIterable<Integer> list = BinaryCodec.readListLazily(in, ElementCodecs.integers());
+        Assert.assertEquals(FastList.newListWith(2, 4), list.select(each -> each % 2 == 0).toList());
+        Assert.assertThrows(IllegalStateException.class, list::iterator);
+        Assert.assertEquals(UnifiedSet.newSetWith("a"), BinaryCodec.readSetLazily(in, ElementCodecs.strings()).toSet());
+
+        LazyIterable<Integer> truncated = BinaryCodec.readListLazily(BinaryCodecTest.input(new ByteArrayOutputStream()), ElementCodecs.integers());
+        Assert.assertThrows(UncheckedIOException.class, truncated::toList);
+    }
+
+    @Test
+    public void headerMismatch() throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryCodec.writeSet(new DataOutputStream(bytes), UnifiedSet.newSetWith(1), ElementCodecs.integers());
+        Assert.assertThrows(
+                StreamCorruptedException.class,
+                () -> BinaryCodec.readFastList(BinaryCodecTest.input(bytes), ElementCodecs.integers()));
+        Assert.assertThrows(
+                StreamCorruptedException.class,
+                () -> BinaryCodec.readFastList(new DataInputStream(new ByteArrayInputStream(new byte[16])), ElementCodecs.integers()));
+    }
+
+    private static DataInputStream input(ByteArrayOutputStream bytes)
+    {
+        return new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.serialization;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.list.primitive.IntInterval;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.map.mutable.primitive.IntObjectHashMap;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ChannelDataInputTest
+{
+    @Test
+    public void primitives() throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeBoolean(true);
+        out.writeByte(-1);
+        out.writeShort(-2);
+        out.writeChar('c');
+        out.writeInt(Integer.MIN_VALUE);
+        out.writeLong(Long.MAX_VALUE);
+        out.writeFloat(1.5f);
+        out.writeDouble(-2.5);
+        out.writeUTF("ü");
+        out.write(new byte[100]);
+
+        ChannelDataInput in = new ChannelDataInput(ChannelDataInputTest.trickle(bytes), 8);
+        Assert.assertTrue(in.readBoolean());
+        Assert.assertEquals(255, in.readUnsignedByte());
+        Assert.assertEquals(-2, in.readShort());
+        Assert.assertEquals('c', in.readChar());
+        Assert.assertEquals(Integer.MIN_VALUE, in.readInt());
+        Assert.assertEquals(Long.MAX_VALUE, in.readLong());
+        Assert.assertEquals(1.5f, in.readFloat(), 0.0f);
+        Assert.assertEquals(-2.5, in.readDouble(), 0.0);
+        Assert.assertEquals("ü", in.readUTF());
+        Assert.assertEquals(100, in.skipBytes(150));
+        Assert.assertThrows(EOFException.class, in::readInt);
+    }
+
+    @Test
+    public void readFullyAcrossChunks() throws IOException
+    {
+        byte[] source = new byte[1000];
+        for (int i = 0; i < source.length; i++)
+        {
+            source[i] = (byte) i;
+        }
+        ChannelDataInput in = new ChannelDataInput(Channels.newChannel(new ByteArrayInputStream(source)), 16);
+        byte[] target = new byte[1000];
+        in.readFully(target, 0, 5);
+        in.readFully(target, 5, 10);
+        in.readFully(target, 15, 985);
+        Assert.assertArrayEquals(source, target);
+        Assert.assertThrows(EOFException.class, in::readByte);
+    }
+
+    @Test
+    public void fillsCollectionsInChunks() throws IOException
+    {
+        FastList<String> list = Interval.oneTo(1000).collect(String::valueOf, FastList.newList());
+        UnifiedMap<Integer, String> map = UnifiedMap.newMap();
+        Interval.oneTo(1000).each(each -> map.put(each, String.valueOf(each)));
+        MutableIntList ints = IntInterval.oneTo(10_000).toList();
+        IntHashSet intSet = new IntHashSet(200_000);
+        IntObjectHashMap<String> intMap = new IntObjectHashMap<>(200_000);
+        IntInterval.oneTo(20_000).each(each ->
+        {
+            intSet.add(each);
+            intMap.put(each, String.valueOf(each));
+        });
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        BinaryCodec.writeList(out, list, ElementCodecs.strings());
+        BinaryCodec.writeMap(out, map, ElementCodecs.integers(), ElementCodecs.strings());
+        IntBinaryCodec.writeList(out, ints);
+        IntBinaryCodec.writeSet(out, intSet);
+        IntBinaryCodec.writeObjectMap(out, intMap, ElementCodecs.strings());
+
+        ChannelDataInput in = new ChannelDataInput(ChannelDataInputTest.trickle(bytes), 64);
+        Assert.assertEquals(list, BinaryCodec.readFastList(in, ElementCodecs.strings()));
+        Assert.assertEquals(map, BinaryCodec.readUnifiedMap(in, ElementCodecs.integers(), ElementCodecs.strings()));
+        Assert.assertEquals(ints, IntBinaryCodec.readIntArrayList(in));
+        Assert.assertEquals(intSet, IntBinaryCodec.readIntHashSet(in));
+        Assert.assertEquals(intMap, IntBinaryCodec.readIntObjectHashMap(in, ElementCodecs.strings()));
+    }
+
+    @Test
+    public void bufferSizeTooSmall()
+    {
+        Assert.assertThrows(
+                IllegalArgumentException.class,
+                () -> new ChannelDataInput(Channels.newChannel(new ByteArrayInputStream(new byte[0])), 4));
+    }
+
+    /**
+     * Returns a channel which hands out at most three bytes per read.
+     */
+    private static ReadableByteChannel trickle(ByteArrayOutputStream bytes)
+    {
+        ByteBuffer source = ByteBuffer.wrap(bytes.toByteArray());
+        return new ReadableByteChannel()
+        {
+            @Override
+            public int read(ByteBuffer target)
+            {
+                if (!source.hasRemaining())
+                {
+                    return -1;
+                }
+                int count = Math.min(3, Math.min(source.remaining(), target.remaining()));
+                for (int i = 0; i < count; i++)
+                {
+                    target.put(source.get());
+                }
+                return count;
+            }
+
+            @Override
+            public boolean isOpen()
+            {
+                return true;
+            }
+
+            @Override
+            public void close()
+            {
+            }
+        };
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link CompactOrderedSet}.
+ */
+public class CompactOrderedSetTest extends AbstractMutableSetTestCase
+{
+    @Override
+    protected <T> CompactOrderedSet<T> newWith(T... littleElements)
+    {
+        return CompactOrderedSet.newSetWith(littleElements);
+    }
+
+    @Test
+    public void againstLinkedHashSet()
+    {
+        CompactOrderedSet<Integer> set = CompactOrderedSet.newSet();
+        Set<Integer> expected = new LinkedHashSet<>();
+        for (int i = 0; i < 20_000; i++)
+        {
+            int element = (i * 7919) % 5000;
+            if (i % 3 == 0)
+            {
+                Assert.assertEquals(expected.remove(element), set.remove(element));
+            }
+            else
+            {
+                Assert.assertEquals(expected.add(element), set.add(element));
+            }
+        }
+        Assert.assertEquals(expected, set);
+        Assert.assertEquals(FastList.newList(expected), FastList.newList(set));
+        Assert.assertEquals(expected.iterator().next(), set.getFirst());
+        Assert.assertEquals(FastList.newList(expected).getLast(), set.getLast());
+    }
+
+    @Test
+    public void orderedAccess()
+    {
+        CompactOrderedSet<String> set = CompactOrderedSet.newSetWith("d", "b", null, "a", "c");
+        Assert.assertEquals(FastList.newListWith("d", "b", null, "a", "c"), set.toList());
+        Assert.assertEquals(3, set.indexOf("a"));
+        Assert.assertEquals(-1, set.indexOf("e"));
+
+        set.remove("d");
+        set.remove("c");
+        Assert.assertEquals("b", set.getFirst());
+        Assert.assertEquals("a", set.getLast());
+        Assert.assertEquals(2, set.indexOf("a"));
+
+        Assert.assertEquals(FastList.newListWith("B", null, "A"), FastList.newList(set.collect(each -> each == null ? null : each.toUpperCase())));
+        Verify.assertInstanceOf(CompactOrderedSet.class, set.select(each -> each != null));
+    }
+
+    @Test
+    public void iteratorRemoveAndClone()
+    {
+        CompactOrderedSet<Integer> set = CompactOrderedSet.newSet(Interval.oneTo(100));
+        for (Iterator<Integer> iterator = set.iterator(); iterator.hasNext(); )
+        {
+            if (iterator.next() % 2 == 1)
+            {
+                iterator.remove();
+            }
+        }
+        Verify.assertSize(50, set);
+        Assert.assertEquals(Integer.valueOf(2), set.getFirst());
+        Assert.assertEquals(Integer.valueOf(100), set.getLast());
+
+        CompactOrderedSet<Integer> clone = set.clone();
+        set.clear();
+        Verify.assertSize(50, clone);
+        Assert.assertEquals(Interval.evensFromTo(2, 100), clone.toList());
+        Assert.assertNull(set.getFirst());
+        Verify.assertPostSerializedEqualsAndHashCode(clone);
+    }
+
+    @Test
+    public void asParallelSlicesDenseArray()
+    {
+        CompactOrderedSet<Integer> set = CompactOrderedSet.newSet(Interval.oneTo(1000));
+        Interval.oneTo(1000).select(each -> each % 3 == 0).forEach(set::remove);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try
+        {
+            Assert.assertEquals(set, set.asParallel(executorService, 7).select(each -> true).toSet());
+            Assert.assertEquals(
+                    set.count(each -> each % 2 == 0),
+                    set.asParallel(executorService, 7).count(each -> each % 2 == 0));
+            Assert.assertTrue(set.asParallel(executorService, 7).anySatisfy(each -> each == 1000));
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+}
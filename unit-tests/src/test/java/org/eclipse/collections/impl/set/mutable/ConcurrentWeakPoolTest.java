@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrentWeakPoolTest
+{
+    @Test
+    public void putGetAndRemove()
+    {
+        ConcurrentWeakPool<String> pool = ConcurrentWeakPool.newPool();
+        String first = new String("a");
+        String second = new String("a");
+        Assert.assertNull(pool.get(first));
+        Assert.assertSame(first, pool.put(first));
+        Assert.assertSame(first, pool.put(second));
+        Assert.assertSame(first, pool.get(second));
+        Assert.assertEquals(1, pool.size());
+
+        Assert.assertSame(first, pool.removeFromPool(second));
+        Assert.assertNull(pool.removeFromPool(second));
+        Assert.assertSame(second, pool.put(second));
+
+        pool.put("b");
+        pool.clear();
+        Assert.assertEquals(0, pool.size());
+        Assert.assertNull(pool.get("b"));
+        Assert.assertThrows(NullPointerException.class, () -> pool.put(null));
+    }
+
+    @Test
+    public void releasesCollectedInstances() throws InterruptedException
+    {
+        ConcurrentWeakPool<Object> pool = ConcurrentWeakPool.newPool();
+        Object kept = pool.put(new Key(1));
+        for (int i = 2; i <= 100; i++)
+        {
+            pool.put(new Key(i));
+        }
+        for (int attempt = 0; attempt < 100 && pool.size() > 1; attempt++)
+        {
+            System.gc();
+            Thread.sleep(10L);
+        }
+        Assert.assertEquals(1, pool.size());
+        Assert.assertSame(kept, pool.get(new Key(1)));
+        Assert.assertNull(pool.get(new Key(2)));
+    }
+
+    @Test
+    public void concurrentPut() throws InterruptedException
+    {
+        ConcurrentWeakPool<String> pool = ConcurrentWeakPool.newPool();
+        AtomicReferenceArray<String> interned = new AtomicReferenceArray<>(100);
+        AtomicInteger mismatches = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++)
+        {
+            executor.execute(() ->
+            {
+                for (int i = 0; i < 10_000; i++)
+                {
+                    String pooled = pool.put(String.valueOf(i % 100));
+                    if (!interned.compareAndSet(i % 100, null, pooled) && interned.get(i % 100) != pooled)
+                    {
+                        mismatches.incrementAndGet();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(1L, TimeUnit.MINUTES));
+        Assert.assertEquals(0, mismatches.get());
+        for (int i = 0; i < 100; i++)
+        {
+            Assert.assertSame(interned.get(i), pool.get(String.valueOf(i)));
+        }
+        Assert.assertEquals(100, pool.size());
+    }
+
+    private static final class Key
+    {
+        private final int value;
+
+        private Key(int value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            return other instanceof Key && ((Key) other).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.value;
+        }
+    }
+}
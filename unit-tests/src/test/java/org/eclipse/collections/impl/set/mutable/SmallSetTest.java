@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link SmallSet}.
+ */
+public class SmallSetTest extends AbstractMutableSetTestCase
+{
+    @Override
+    protected <T> SmallSet<T> newWith(T... littleElements)
+    {
+        return SmallSet.newSetWith(littleElements);
+    }
+
+    @Test
+    public void promotesPastEightElements()
+    {
+        SmallSet<Integer> set = SmallSet.newSet(Interval.oneTo(8));
+        Assert.assertFalse(set.isPromoted());
+        Assert.assertEquals(Interval.oneTo(8), FastList.newList(set));
+        Assert.assertEquals(Integer.valueOf(1), set.getFirst());
+        Assert.assertEquals(Integer.valueOf(8), set.getLast());
+
+        Assert.assertTrue(set.add(9));
+        Assert.assertTrue(set.isPromoted());
+        Verify.assertSize(9, set);
+        Assert.assertEquals(UnifiedSet.newSet(Interval.oneTo(9)), set);
+        Verify.assertPostSerializedEqualsAndHashCode(set);
+
+        set.clear();
+        Assert.assertFalse(set.isPromoted());
+        Verify.assertEmpty(set);
+    }
+
+    @Test
+    public void iteratorRemoveKeepsOrder()
+    {
+        SmallSet<Integer> set = SmallSet.newSetWith(5, 1, 4, 2, 3);
+        Iterator<Integer> iterator = set.iterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.next() % 2 == 0)
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(FastList.newListWith(5, 1, 3), FastList.newList(set));
+    }
+
+    @Test
+    public void againstHashSet()
+    {
+        SmallSet<Integer> set = SmallSet.newSet();
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 10_000; i++)
+        {
+            int element = (i * 7919) % 12;
+            if (i % 3 == 0)
+            {
+                Assert.assertEquals(expected.remove(element), set.remove(element));
+            }
+            else
+            {
+                Assert.assertEquals(expected.add(element), set.add(element));
+            }
+            if (i % 1000 == 999)
+            {
+                Assert.assertEquals(expected, set);
+                set.clear();
+                expected.clear();
+            }
+        }
+        Assert.assertEquals(expected, set);
+        Assert.assertEquals(expected.hashCode(), set.hashCode());
+    }
+
+    @Test
+    public void factory()
+    {
+        Verify.assertInstanceOf(SmallSet.class, Sets.mutable.small());
+        Verify.assertInstanceOf(SmallSet.class, SmallSet.newSetWith(1, 2).clone());
+        Verify.assertInstanceOf(SmallSet.class, SmallSet.newSetWith(1, 2).select(each -> each > 1));
+    }
+}
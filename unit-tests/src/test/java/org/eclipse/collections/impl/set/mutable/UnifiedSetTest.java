@@ -13,6 +13,7 @@ package org.eclipse.collections.impl.set.mutable;
 import java.lang.reflect.Field;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import org.eclipse.collections.api.list.MutableList;
@@ -27,7 +28,9 @@ import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.math.IntegerSum;
 import org.eclipse.collections.impl.math.Sum;
 import org.eclipse.collections.impl.math.SumProcedure;
+import org.eclipse.collections.impl.set.sorted.mutable.TreeSortedSet;
 import org.eclipse.collections.impl.test.ClassComparer;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
 import org.eclipse.collections.impl.test.Verify;
 import org.eclipse.collections.impl.test.domain.Key;
 import org.eclipse.collections.impl.utility.ArrayIterate;
@@ -570,6 +573,85 @@ public class UnifiedSetTest extends AbstractMutableSetTestCase
         Assert.assertEquals(UnifiedSet.newSetWith((Object) null), setWithNull);
     }
 
+    @Test
+    public void retainAllAndRemoveAllWalkChainedBuckets()
+    {
+        UnifiedSet<Integer> keep = UnifiedSet.newSetWith(COLLISION_2, COLLISION_4, COLLISION_6, COLLISION_8, COLLISION_10, 100);
+        UnifiedSet<Integer> drop = UnifiedSet.<Integer>newSet().withAll(MORE_COLLISIONS).with((Integer) null);
+        drop.removeAll(keep);
+
+        for (int i = 1; i < MORE_COLLISIONS.size(); i++)
+        {
+            MutableList<Integer> elements = MORE_COLLISIONS.subList(0, i);
+
+            UnifiedSet<Integer> retained = UnifiedSet.<Integer>newSet(1).withAll(elements).with((Integer) null);
+            retained.retainAll(keep);
+            Assert.assertEquals(elements.select(keep::contains).toSet(), retained);
+
+            UnifiedSet<Integer> removed = UnifiedSet.<Integer>newSet(1).withAll(elements).with((Integer) null);
+            removed.removeAll(drop);
+            Assert.assertEquals(elements.select(keep::contains).toSet(), removed);
+            removed.add(COLLISION_1);
+            Verify.assertContains(COLLISION_1, removed);
+        }
+    }
+
+    @Test
+    public void cloneIsIndependentOfOriginal()
+    {
+        UnifiedSet<Integer> original = UnifiedSet.newSetWith(1, 2, 3);
+        UnifiedSet<Integer> copy = original.clone();
+        Assert.assertTrue(copy.remove(1));
+        Assert.assertTrue(copy.add(4));
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3), original);
+        Assert.assertEquals(UnifiedSet.newSetWith(2, 3, 4), copy);
+
+        UnifiedSet<Integer> hundred = UnifiedSet.newSet(Interval.oneTo(100));
+        Assert.assertEquals(Interval.fromTo(3, 100).toSet(), hundred.difference(UnifiedSet.newSetWith(1, 2, 101)));
+        Assert.assertEquals(Interval.oneTo(100).toSet(), hundred);
+    }
+
+    @Test
+    public void differenceWithComparatorBasedSubtrahend()
+    {
+        UnifiedSet<String> minuend = UnifiedSet.newSetWith("a", "b", "c", "d", "e", "F");
+        TreeSortedSet<String> subtrahend = TreeSortedSet.newSetWith(String.CASE_INSENSITIVE_ORDER, "f");
+        Assert.assertEquals(UnifiedSet.newSetWith("a", "b", "c", "d", "e"), minuend.difference(subtrahend));
+    }
+
+    @Test
+    public void parallelSetOperations()
+    {
+        UnifiedSet<Integer> left = UnifiedSet.newSet(Interval.zeroTo(50_000));
+        UnifiedSet<Integer> right = UnifiedSet.newSet(Interval.fromToBy(25_000, 100_000, 3)).with((Integer) null);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try
+        {
+            Assert.assertEquals(left.union(right), left.unionParallel(right, executorService));
+            Assert.assertEquals(left.union(right), right.unionParallel(left, executorService));
+            Assert.assertEquals(left.intersect(right), left.intersectParallel(right, executorService));
+            Assert.assertEquals(left.intersect(right), right.intersectParallel(left, executorService));
+            Assert.assertEquals(left.difference(right), left.differenceParallel(right, executorService));
+            Assert.assertEquals(right.difference(left), right.differenceParallel(left, executorService));
+            Assert.assertEquals(left.union(right), left.unionParallel(right.toImmutable(), executorService));
+
+            UnifiedSet<Integer> union = left.unionParallel(right, executorService);
+            Assert.assertTrue(union.containsAll(left));
+            Assert.assertTrue(union.containsAll(right));
+            Assert.assertFalse(union.add(50_000));
+            Assert.assertTrue(union.add(-1));
+            Assert.assertEquals(left.union(right).with(-1), union);
+
+            Assert.assertTrue(left.containsAllParallel(left.select(each -> each % 7 == 0), executorService));
+            Assert.assertFalse(left.containsAllParallel(right, executorService));
+            Assert.assertFalse(left.containsAllParallel(UnifiedSet.newSetWith(1, 2, -1), executorService));
+        }
+        finally
+        {
+            executorService.shutdown();
+        }
+    }
+
     @Test(expected = NullPointerException.class)
     public void asParallelNullExecutorService()
     {
@@ -690,4 +772,84 @@ public class UnifiedSetTest extends AbstractMutableSetTestCase
         Assert.assertTrue(set.trimToSize());
         Assert.assertEquals(2, set.size());
     }
+
+    @Test
+    public void newShrinkingSet()
+    {
+        // getBatchCount(1) is the length of the table
+        UnifiedSet<Integer> set = UnifiedSet.newShrinkingSet(0.25f);
+        Assert.assertEquals(1, set.getBatchCount(1));
+        Assert.assertFalse(set.contains(1));
+        Assert.assertFalse(set.remove(1));
+        Assert.assertFalse(set.trimToSize());
+        Verify.assertEmpty(set);
+
+        Assert.assertTrue(set.add(1));
+        Assert.assertEquals(16, set.getBatchCount(1));
+
+        set.addAll(Interval.oneTo(1000));
+        Assert.assertEquals(2048, set.getBatchCount(1));
+        Interval.fromTo(11, 1000).each(set::remove);
+        Assert.assertEquals(32, set.getBatchCount(1));
+        Assert.assertEquals(UnifiedSet.newSet(Interval.oneTo(10)), set);
+
+        set.addAll(Interval.oneTo(1000));
+        Assert.assertTrue(set.removeIf(each -> each > 10));
+        Assert.assertEquals(16, set.getBatchCount(1));
+        Assert.assertEquals(UnifiedSet.newSet(Interval.oneTo(10)), set);
+
+        set.clear();
+        Verify.assertEmpty(set);
+        Assert.assertEquals(1, set.getBatchCount(1));
+        Assert.assertEquals(Integer.valueOf(5), set.put(5));
+        Assert.assertEquals(UnifiedSet.newSetWith(5), set);
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> UnifiedSet.newShrinkingSet(0.5f));
+        Assert.assertThrows(IllegalArgumentException.class, () -> UnifiedSet.newShrinkingSet(-0.1f));
+    }
+
+    @Test
+    public void shrinkingSetSerialization()
+    {
+        UnifiedSet<Integer> set = UnifiedSet.newShrinkingSet(0.25f);
+        set.addAll(Interval.oneTo(1000));
+
+        UnifiedSet<Integer> deserialized = SerializeTestHelper.serializeDeserialize(set);
+        Assert.assertEquals(set, deserialized);
+        Assert.assertEquals(0.25f, deserialized.shrinkLoadFactor, 0.0f);
+        Interval.fromTo(11, 1000).each(deserialized::remove);
+        Assert.assertEquals(32, deserialized.getBatchCount(1));
+        deserialized.clear();
+        Assert.assertEquals(1, deserialized.getBatchCount(1));
+        Assert.assertTrue(deserialized.add(1));
+        Assert.assertEquals(UnifiedSet.newSetWith(1), deserialized);
+
+        UnifiedSet<Integer> plain = SerializeTestHelper.serializeDeserialize(UnifiedSet.<Integer>newSet().withAll(set));
+        Assert.assertEquals(0.0f, plain.shrinkLoadFactor, 0.0f);
+        Assert.assertEquals(set, plain);
+    }
+
+    @Test
+    public void shrinkingSetCopies()
+    {
+        UnifiedSet<Integer> set = UnifiedSet.newShrinkingSet(0.25f);
+        set.addAll(Interval.oneTo(1000));
+
+        for (UnifiedSet<Integer> copy : Lists.mutable.with(set.clone(), UnifiedSet.newSet(set)))
+        {
+            Assert.assertEquals(set, copy);
+            Assert.assertEquals(0.25f, copy.shrinkLoadFactor, 0.0f);
+            Interval.fromTo(11, 1000).each(copy::remove);
+            Assert.assertEquals(32, copy.getBatchCount(1));
+            copy.clear();
+            Assert.assertEquals(1, copy.getBatchCount(1));
+        }
+
+        set.clear();
+        UnifiedSet<Integer> released = set.clone();
+        Assert.assertEquals(1, released.getBatchCount(1));
+        Assert.assertTrue(released.add(1));
+        Assert.assertEquals(16, released.getBatchCount(1));
+        Verify.assertEmpty(set);
+    }
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable.primitive;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.eclipse.collections.api.iterator.MutableLongIterator;
+import org.eclipse.collections.api.set.primitive.MutableLongSortedSet;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ConcurrentLongSkipListSet}.
+ */
+public class ConcurrentLongSkipListSetTest extends AbstractLongSetTestCase
+{
+    @Override
+    protected final ConcurrentLongSkipListSet classUnderTest()
+    {
+        return ConcurrentLongSkipListSet.newSetWith(1L, 2L, 3L);
+    }
+
+    @Override
+    protected ConcurrentLongSkipListSet newWith(long... elements)
+    {
+        return ConcurrentLongSkipListSet.newSetWith(elements);
+    }
+
+    @Test
+    public void ascendingOrder()
+    {
+        ConcurrentLongSkipListSet set = ConcurrentLongSkipListSet.newSetWith(31L, 2L, -17L, 0L, 5L, 2L);
+        Assert.assertArrayEquals(new long[]{-17L, 0L, 2L, 5L, 31L}, set.toArray());
+        Assert.assertEquals(LongArrayList.newListWith(-17L, 0L, 2L, 5L, 31L), set.toList());
+    }
+
+    @Test
+    public void navigation()
+    {
+        MutableLongSortedSet set = ConcurrentLongSkipListSet.newSetWith(10L, 20L, 30L);
+        long none = 99L;
+        Assert.assertEquals(10L, set.first());
+        Assert.assertEquals(30L, set.last());
+        Assert.assertEquals(20L, set.floor(25L, none));
+        Assert.assertEquals(20L, set.floor(20L, none));
+        Assert.assertEquals(none, set.floor(5L, none));
+        Assert.assertEquals(10L, set.lower(20L, none));
+        Assert.assertEquals(30L, set.ceiling(25L, none));
+        Assert.assertEquals(30L, set.ceiling(30L, none));
+        Assert.assertEquals(none, set.higher(30L, none));
+        Assert.assertEquals(20L, set.higher(10L, none));
+
+        MutableLongSortedSet empty = new ConcurrentLongSkipListSet();
+        Assert.assertThrows(NoSuchElementException.class, empty::first);
+        Assert.assertThrows(NoSuchElementException.class, empty::last);
+        Assert.assertEquals(none, empty.ceiling(1L, none));
+    }
+
+    @Test
+    public void rangeViews()
+    {
+        ConcurrentLongSkipListSet set = new ConcurrentLongSkipListSet();
+        for (int i = 0; i < 100; i++)
+        {
+            set.add((long) i);
+        }
+
+        MutableLongSortedSet subSet = set.subSet(20L, 40L);
+        Verify.assertSize(20, subSet);
+        Assert.assertEquals(20L, subSet.first());
+        Assert.assertEquals(39L, subSet.last());
+        Assert.assertFalse(subSet.contains(40L));
+        Assert.assertThrows(IllegalArgumentException.class, () -> subSet.add(40L));
+        Assert.assertThrows(IllegalArgumentException.class, () -> subSet.subSet(10L, 30L));
+        Assert.assertThrows(IllegalArgumentException.class, () -> set.subSet(30L, 20L));
+        Verify.assertSize(10, subSet.headSet(30L));
+        Verify.assertSize(5, subSet.tailSet(35L));
+        Verify.assertSize(30, set.headSet(30L));
+        Verify.assertSize(70, set.tailSet(30L));
+
+        subSet.clear();
+        Verify.assertEmpty(subSet);
+        Verify.assertSize(80, set);
+        Assert.assertEquals(19L, set.lower(40L, 0L));
+
+        set.add(25L);
+        Verify.assertSize(1, subSet);
+        Assert.assertTrue(subSet.contains(25L));
+    }
+
+    @Test
+    public void iteratorRemove()
+    {
+        ConcurrentLongSkipListSet set = new ConcurrentLongSkipListSet();
+        for (int i = 0; i < 100; i++)
+        {
+            set.add((long) i);
+        }
+        MutableLongIterator iterator = set.tailSet(50L).longIterator();
+        while (iterator.hasNext())
+        {
+            if (((int) iterator.next()) % 2 == 0)
+            {
+                iterator.remove();
+            }
+        }
+        Verify.assertSize(75, set);
+        Assert.assertTrue(set.contains(48L));
+        Assert.assertFalse(set.contains(50L));
+        Assert.assertTrue(set.contains(99L));
+    }
+
+    @Test
+    public void againstTreeSet()
+    {
+        Random random = new Random(42L);
+        ConcurrentLongSkipListSet set = new ConcurrentLongSkipListSet();
+        TreeSet<Long> expected = new TreeSet<>();
+        for (int i = 0; i < 20_000; i++)
+        {
+            long value = (long) random.nextInt(120);
+            if (random.nextInt(3) == 0)
+            {
+                Assert.assertEquals(expected.remove(value), set.remove(value));
+            }
+            else
+            {
+                Assert.assertEquals(expected.add(value), set.add(value));
+            }
+        }
+        Verify.assertSize(expected.size(), set);
+        int index = 0;
+        long[] actual = set.toArray();
+        for (Long each : expected)
+        {
+            Assert.assertEquals(each.longValue(), actual[index++]);
+        }
+    }
+
+    @Test
+    public void concurrentAddAndRemove()
+    {
+        ConcurrentLongSkipListSet set = new ConcurrentLongSkipListSet();
+        ParallelIterate.forEach(Interval.oneTo(20_000), each ->
+        {
+            Assert.assertTrue(set.add(each));
+            Assert.assertFalse(set.add(each));
+            if (each % 3 == 0)
+            {
+                Assert.assertTrue(set.remove(each));
+            }
+        }, 100);
+        Verify.assertSize(20_000 - 20_000 / 3, set);
+        Assert.assertEquals(1L, set.first());
+        Assert.assertEquals(20_000L, set.last());
+        Assert.assertTrue(set.noneSatisfy(each -> each % 3L == 0L));
+        long[] elements = set.toArray();
+        for (int i = 1; i < elements.length; i++)
+        {
+            Assert.assertTrue(elements[i - 1] < elements[i]);
+        }
+    }
+
+    @Test
+    public void serialization()
+    {
+        ConcurrentLongSkipListSet set = new ConcurrentLongSkipListSet();
+        for (int i = 0; i < 100; i++)
+        {
+            set.add((long) i);
+        }
+        Verify.assertPostSerializedEqualsAndHashCode(set);
+        Verify.assertPostSerializedEqualsAndHashCode(set.subSet(10L, 20L));
+    }
+}
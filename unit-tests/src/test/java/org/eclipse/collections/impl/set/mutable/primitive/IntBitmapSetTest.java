@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable.primitive;
+
+import java.util.Random;
+
+import org.eclipse.collections.api.factory.primitive.IntSets;
+import org.eclipse.collections.api.iterator.MutableIntIterator;
+import org.eclipse.collections.api.set.primitive.ImmutableIntSet;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.list.primitive.IntInterval;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IntBitmapSetTest extends AbstractIntSetTestCase
+{
+    @Override
+    protected final IntBitmapSet classUnderTest()
+    {
+        return IntBitmapSet.newSetWith(1, 2, 3);
+    }
+
+    @Override
+    protected IntBitmapSet newWith(int... elements)
+    {
+        return IntBitmapSet.newSetWith(elements);
+    }
+
+    @Test
+    public void factories()
+    {
+        Verify.assertInstanceOf(IntBitmapSet.class, IntSets.mutable.emptyBitmap());
+        Assert.assertEquals(IntHashSet.newSetWith(1, 2, 3), IntSets.mutable.bitmapOf(1, 2, 3));
+        Assert.assertEquals(IntHashSet.newSetWith(1, 2, 3), IntSets.mutable.bitmapOfAll(IntArrayList.newListWith(3, 2, 1, 2)));
+        Assert.assertEquals(IntHashSet.newSetWith(1, 2, 3), IntSets.immutable.bitmapOf(1, 2, 3));
+        Assert.assertEquals(IntHashSet.newSetWith(1, 2, 3), IntSets.immutable.bitmapOfAll(IntArrayList.newListWith(3, 2, 1, 2)));
+    }
+
+    @Test
+    public void containerConversions()
+    {
+        IntBitmapSet set = new IntBitmapSet();
+        IntHashSet expected = new IntHashSet();
+        for (int i = 0; i < 10_000; i += 2)
+        {
+            set.add(i);
+            expected.add(i);
+        }
+        Assert.assertEquals(expected, set);
+        Assert.assertEquals(set, expected);
+        Assert.assertEquals(expected.hashCode(), set.hashCode());
+        for (int i = 0; i < 10_000; i += 4)
+        {
+            set.remove(i);
+            expected.remove(i);
+        }
+        Assert.assertEquals(expected, set);
+        Assert.assertEquals(expected.sum(), set.sum());
+        Assert.assertArrayEquals(expected.toSortedArray(), set.toArray());
+    }
+
+    @Test
+    public void negativeValuesAreOrdered()
+    {
+        IntBitmapSet set = IntBitmapSet.newSetWith(Integer.MAX_VALUE, 0, -1, Integer.MIN_VALUE, 65_536, -65_537);
+        Assert.assertArrayEquals(new int[]{Integer.MIN_VALUE, -65_537, -1, 0, 65_536, Integer.MAX_VALUE}, set.toArray());
+        Assert.assertEquals(Integer.MIN_VALUE, set.min());
+        Assert.assertEquals(Integer.MAX_VALUE, set.max());
+        Assert.assertEquals("[-2147483648, -65537, -1, 0, 65536, 2147483647]", set.toString());
+    }
+
+    @Test
+    public void runOptimize()
+    {
+        IntBitmapSet set = IntBitmapSet.newSet(IntInterval.fromTo(-100_000, 100_000));
+        Assert.assertTrue(set.runOptimize());
+        Assert.assertFalse(set.runOptimize());
+        Assert.assertEquals(200_001, set.size());
+        Assert.assertTrue(set.contains(-100_000));
+        Assert.assertTrue(set.contains(100_000));
+        Assert.assertFalse(set.contains(100_001));
+        Assert.assertEquals(0L, set.sum());
+        Assert.assertEquals(-100_000, set.min());
+        Assert.assertEquals(100_000, set.max());
+        Assert.assertTrue(set.remove(0));
+        Assert.assertTrue(set.add(100_001));
+        Assert.assertEquals(200_001, set.size());
+        Assert.assertFalse(set.contains(0));
+        Assert.assertTrue(set.contains(100_001));
+    }
+
+    @Test
+    public void setAlgebraMatchesHashSet()
+    {
+        Random random = new Random(42L);
+        IntHashSet left = new IntHashSet();
+        IntHashSet right = new IntHashSet();
+        for (int i = 0; i < 20_000; i++)
+        {
+            left.add(random.nextInt(200_000) - 100_000);
+            right.add(random.nextInt(100_000));
+        }
+        for (int i = 0; i < 70_000; i++)
+        {
+            left.add(i);
+        }
+        IntBitmapSet bitmapLeft = IntBitmapSet.newSet(left);
+        IntBitmapSet bitmapRight = IntBitmapSet.newSet(right);
+        bitmapRight.runOptimize();
+
+        Assert.assertEquals(left.union(right), bitmapLeft.union(bitmapRight));
+        Assert.assertEquals(left.intersect(right), bitmapLeft.intersect(bitmapRight));
+        Assert.assertEquals(left.difference(right), bitmapLeft.difference(bitmapRight));
+        Assert.assertEquals(left.symmetricDifference(right), bitmapLeft.symmetricDifference(bitmapRight));
+
+        Assert.assertEquals(left.union(right), bitmapLeft.union(right));
+        Assert.assertEquals(left.intersect(right), bitmapLeft.intersect(right));
+        Assert.assertEquals(left.difference(right), bitmapLeft.difference(right));
+        Assert.assertEquals(left.symmetricDifference(right), bitmapLeft.symmetricDifference(right));
+
+        MutableIntSet retained = IntBitmapSet.newSet(bitmapLeft);
+        Assert.assertTrue(retained.retainAll(bitmapRight));
+        Assert.assertEquals(left.intersect(right), retained);
+        MutableIntSet removed = IntBitmapSet.newSet(bitmapLeft);
+        Assert.assertTrue(removed.removeAll(bitmapRight));
+        Assert.assertEquals(left.difference(right), removed);
+        MutableIntSet added = IntBitmapSet.newSet(bitmapLeft);
+        Assert.assertTrue(added.addAll(bitmapRight));
+        Assert.assertEquals(left.union(right), added);
+        Assert.assertEquals(left, bitmapLeft);
+    }
+
+    @Test
+    public void iteratorRemoveAcrossContainers()
+    {
+        IntBitmapSet set = IntBitmapSet.newSetWith(1, 70_000, 70_001, 140_000);
+        MutableIntIterator iterator = set.intIterator();
+        IntArrayList seen = new IntArrayList();
+        while (iterator.hasNext())
+        {
+            int value = iterator.next();
+            seen.add(value);
+            if (value != 70_001)
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(IntArrayList.newListWith(1, 70_000, 70_001, 140_000), seen);
+        Assert.assertEquals(IntHashSet.newSetWith(70_001), set);
+    }
+
+    @Test
+    public void immutableBitmapSet()
+    {
+        ImmutableIntSet immutable = IntBitmapSet.newSetWith(1, 2, 3, 100_000).toImmutable();
+        Assert.assertEquals(IntHashSet.newSetWith(1, 2, 3, 100_000), immutable);
+        Assert.assertEquals(IntHashSet.newSetWith(1, 2, 3, 4, 100_000), immutable.newWith(4));
+        Assert.assertEquals(IntHashSet.newSetWith(1, 2, 100_000), immutable.newWithout(3));
+        Assert.assertEquals(IntHashSet.newSetWith(2, 3), immutable.intersect(IntBitmapSet.newSetWith(2, 3, 4)));
+        Assert.assertEquals(IntHashSet.newSetWith(1, 2, 3, 100_000), IntBitmapSet.newSetWith(1, 2, 3, 100_000).freeze());
+        Verify.assertPostSerializedEqualsAndHashCode(immutable);
+        Verify.assertPostSerializedEqualsAndHashCode(IntBitmapSet.newSetWith(-5, 1, 2, 3, 100_000));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable.primitive;
+
+import java.util.Random;
+
+import org.eclipse.collections.api.factory.primitive.LongSets;
+import org.eclipse.collections.api.iterator.MutableLongIterator;
+import org.eclipse.collections.api.set.primitive.ImmutableLongSet;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LongBitmapSetTest extends AbstractLongSetTestCase
+{
+    @Override
+    protected final LongBitmapSet classUnderTest()
+    {
+        return LongBitmapSet.newSetWith(1L, 2L, 3L);
+    }
+
+    @Override
+    protected LongBitmapSet newWith(long... elements)
+    {
+        return LongBitmapSet.newSetWith(elements);
+    }
+
+    @Test
+    public void factories()
+    {
+        Verify.assertInstanceOf(LongBitmapSet.class, LongSets.mutable.emptyBitmap());
+        Assert.assertEquals(LongHashSet.newSetWith(1L, 2L, 3L), LongSets.mutable.bitmapOf(1L, 2L, 3L));
+        Assert.assertEquals(LongHashSet.newSetWith(1L, 2L, 3L), LongSets.mutable.bitmapOfAll(LongArrayList.newListWith(3L, 2L, 1L)));
+        Assert.assertEquals(LongHashSet.newSetWith(1L, 2L, 3L), LongSets.immutable.bitmapOf(1L, 2L, 3L));
+        Assert.assertEquals(LongHashSet.newSetWith(1L, 2L, 3L), LongSets.immutable.bitmapOfAll(LongArrayList.newListWith(3L, 2L, 1L)));
+    }
+
+    @Test
+    public void valuesAreOrdered()
+    {
+        long[] sorted = {Long.MIN_VALUE, -1L << 32, -1L, 0L, 1L, Integer.MAX_VALUE + 1L, 0xFFFFFFFFL, 1L << 32, Long.MAX_VALUE};
+        LongBitmapSet set = LongBitmapSet.newSetWith(1L, Long.MAX_VALUE, -1L, 0xFFFFFFFFL, Long.MIN_VALUE, 1L << 32, 0L, Integer.MAX_VALUE + 1L, -1L << 32);
+        Assert.assertArrayEquals(sorted, set.toArray());
+        Assert.assertEquals(Long.MIN_VALUE, set.min());
+        Assert.assertEquals(Long.MAX_VALUE, set.max());
+        Assert.assertEquals(LongHashSet.newSetWith(sorted).sum(), set.sum());
+        Assert.assertEquals(LongHashSet.newSetWith(sorted).hashCode(), set.hashCode());
+    }
+
+    @Test
+    public void setAlgebraMatchesHashSet()
+    {
+        Random random = new Random(42L);
+        LongHashSet left = new LongHashSet();
+        LongHashSet right = new LongHashSet();
+        for (int i = 0; i < 20_000; i++)
+        {
+            left.add((long) random.nextInt(4) << 32 | random.nextInt(100_000));
+            right.add((long) random.nextInt(4) << 32 | random.nextInt(100_000));
+        }
+        LongBitmapSet bitmapLeft = LongBitmapSet.newSet(left);
+        LongBitmapSet bitmapRight = LongBitmapSet.newSet(right);
+
+        Assert.assertEquals(left.union(right), bitmapLeft.union(bitmapRight));
+        Assert.assertEquals(left.intersect(right), bitmapLeft.intersect(bitmapRight));
+        Assert.assertEquals(left.difference(right), bitmapLeft.difference(bitmapRight));
+        Assert.assertEquals(left.symmetricDifference(right), bitmapLeft.symmetricDifference(bitmapRight));
+
+        LongBitmapSet retained = LongBitmapSet.newSet(bitmapLeft);
+        retained.retainAll(bitmapRight);
+        Assert.assertEquals(left.intersect(right), retained);
+        LongBitmapSet removed = LongBitmapSet.newSet(bitmapLeft);
+        removed.removeAll(bitmapRight);
+        Assert.assertEquals(left.difference(right), removed);
+        LongBitmapSet added = LongBitmapSet.newSet(bitmapLeft);
+        added.addAll(bitmapRight);
+        Assert.assertEquals(left.union(right), added);
+    }
+
+    @Test
+    public void iteratorRemoveAcrossPartitions()
+    {
+        LongBitmapSet set = LongBitmapSet.newSetWith(1L, 1L << 32, (1L << 32) + 1L, 2L << 32);
+        MutableLongIterator iterator = set.longIterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.next() != (1L << 32) + 1L)
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(LongHashSet.newSetWith((1L << 32) + 1L), set);
+    }
+
+    @Test
+    public void removeAllSelf()
+    {
+        LongBitmapSet set = LongBitmapSet.newSetWith(1L, 1L << 32, (1L << 32) + 1L, 2L << 32, 3L << 32);
+        Assert.assertTrue(set.removeAll(set));
+        Verify.assertEmpty(set);
+        Assert.assertFalse(set.removeAll(set));
+    }
+
+    @Test
+    public void immutableBitmapSet()
+    {
+        ImmutableLongSet immutable = LongBitmapSet.newSetWith(-1L, 1L, 2L, 1L << 40).toImmutable();
+        Assert.assertEquals(LongHashSet.newSetWith(-1L, 1L, 2L, 1L << 40), immutable);
+        Assert.assertEquals(LongHashSet.newSetWith(-1L, 1L, 2L, 3L, 1L << 40), immutable.newWith(3L));
+        Assert.assertEquals(LongHashSet.newSetWith(1L, 2L), immutable.intersect(LongBitmapSet.newSetWith(1L, 2L, 3L)));
+        Verify.assertPostSerializedEqualsAndHashCode(immutable);
+        Verify.assertPostSerializedEqualsAndHashCode(LongBitmapSet.newSetWith(-1L, 1L, 2L, 1L << 40));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.sorted.mutable;
+
+import java.util.Comparator;
+
+import org.eclipse.collections.api.set.sorted.MutableSortedSet;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.factory.SortedSets;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link BTreeSortedSet}.
+ */
+public class BTreeSortedSetTest extends AbstractSortedSetTestCase
+{
+    @Override
+    protected <T> BTreeSortedSet<T> newWith(T... elements)
+    {
+        return BTreeSortedSet.newSetWith(elements);
+    }
+
+    @Override
+    protected <T> BTreeSortedSet<T> newWith(Comparator<? super T> comparator, T... elements)
+    {
+        return BTreeSortedSet.newSetWith(comparator, elements);
+    }
+
+    @Override
+    @Test
+    public void asSynchronized()
+    {
+        Verify.assertInstanceOf(SynchronizedSortedSet.class, this.newWith().asSynchronized());
+    }
+
+    @Override
+    @Test
+    public void asUnmodifiable()
+    {
+        Verify.assertInstanceOf(UnmodifiableSortedSet.class, this.newWith().asUnmodifiable());
+    }
+
+    @Override
+    @Test(expected = UnsupportedOperationException.class)
+    public void detectLastIndex()
+    {
+        this.newWith(1, 2, 3).detectLastIndex(each -> each % 2 == 0);
+    }
+
+    @Override
+    @Test(expected = UnsupportedOperationException.class)
+    public void reverseForEach()
+    {
+        this.newWith(1, 2, 3).reverseForEach(each -> Assert.fail("Should not be evaluated"));
+    }
+
+    @Override
+    @Test(expected = UnsupportedOperationException.class)
+    public void reverseForEachWithIndex()
+    {
+        this.newWith(1, 2, 3).reverseForEachWithIndex((each, index) -> Assert.fail("Should not be evaluated"));
+    }
+
+    @Override
+    @Test(expected = UnsupportedOperationException.class)
+    public void toReversed()
+    {
+        this.newWith(1, 2, 3).toReversed();
+    }
+
+    @Test
+    public void rankAndSelect()
+    {
+        BTreeSortedSet<Integer> set = BTreeSortedSet.newSet(Interval.zeroToBy(10_000, 2));
+        Assert.assertEquals(0, set.indexOf(0));
+        Assert.assertEquals(2500, set.indexOf(5000));
+        Assert.assertEquals(-1, set.indexOf(5001));
+        Assert.assertEquals(Integer.valueOf(5000), set.get(2500));
+        Assert.assertEquals(Integer.valueOf(10_000), set.get(set.size() - 1));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> set.get(set.size()));
+
+        set.removeIf(each -> each < 5000);
+        Assert.assertEquals(0, set.indexOf(5000));
+        Assert.assertEquals(Integer.valueOf(5002), set.get(1));
+    }
+
+    @Test
+    public void rangeViews()
+    {
+        BTreeSortedSet<Integer> set = BTreeSortedSet.newSet(Comparators.reverseNaturalOrder(), Interval.oneTo(1000));
+        MutableSortedSet<Integer> subSet = set.subSet(600, 400);
+        Verify.assertSize(200, subSet);
+        Assert.assertEquals(Integer.valueOf(600), subSet.first());
+        Assert.assertEquals(Integer.valueOf(401), subSet.last());
+        Assert.assertTrue(subSet.remove(500));
+        Assert.assertTrue(subSet.add(500));
+        Assert.assertThrows(IllegalArgumentException.class, () -> subSet.add(300));
+
+        subSet.clear();
+        Verify.assertSize(800, set);
+        Verify.assertSize(400, set.headSet(600));
+        Verify.assertSize(400, set.tailSet(400));
+        Assert.assertEquals(Integer.valueOf(400), set.get(400));
+    }
+
+    @Test
+    public void selectKeepsBTree()
+    {
+        BTreeSortedSet<Integer> set = BTreeSortedSet.newSetWith(Comparators.reverseNaturalOrder(), 1, 2, 3, 4);
+        Verify.assertInstanceOf(BTreeSortedSet.class, set.select(each -> each > 2));
+        Verify.assertInstanceOf(BTreeSortedSet.class, set.reject(each -> each > 2));
+        Verify.assertInstanceOf(BTreeSortedSet.class, set.clone());
+        Verify.assertInstanceOf(BTreeSortedSet.class, set.newEmpty());
+        Verify.assertInstanceOf(BTreeSortedSet.class, set.partition(each -> each > 2).getSelected());
+        Verify.assertInstanceOf(BTreeSortedSet.class, set.union(SortedSets.mutable.with(5)));
+        Verify.assertInstanceOf(BTreeSortedSet.class, set.take(2));
+        Verify.assertInstanceOf(BTreeSortedSet.class, set.subSet(4, 2).select(each -> each > 2));
+        Assert.assertEquals(Integer.valueOf(4), set.select(each -> each > 2).getFirst());
+        Assert.assertEquals(Integer.valueOf(4), set.take(2).getFirst());
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.sorted.mutable;
+
+import java.util.Comparator;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.sorted.MutableSortedSet;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ConcurrentSkipListSortedSet}.
+ */
+public class ConcurrentSkipListSortedSetTest extends AbstractSortedSetTestCase
+{
+    @Override
+    protected <T> ConcurrentSkipListSortedSet<T> newWith(T... elements)
+    {
+        return ConcurrentSkipListSortedSet.newSetWith(elements);
+    }
+
+    @Override
+    protected <T> ConcurrentSkipListSortedSet<T> newWith(Comparator<? super T> comparator, T... elements)
+    {
+        return ConcurrentSkipListSortedSet.newSetWith(comparator, elements);
+    }
+
+    @Override
+    @Test
+    public void asSynchronized()
+    {
+        Verify.assertInstanceOf(SynchronizedSortedSet.class, this.newWith().asSynchronized());
+    }
+
+    @Override
+    @Test
+    public void asUnmodifiable()
+    {
+        Verify.assertInstanceOf(UnmodifiableSortedSet.class, this.newWith().asUnmodifiable());
+    }
+
+    @Override
+    @Test(expected = UnsupportedOperationException.class)
+    public void detectLastIndex()
+    {
+        this.newWith(1, 2, 3).detectLastIndex(each -> each % 2 == 0);
+    }
+
+    @Override
+    @Test(expected = UnsupportedOperationException.class)
+    public void reverseForEach()
+    {
+        this.newWith(1, 2, 3).reverseForEach(each -> Assert.fail("Should not be evaluated"));
+    }
+
+    @Override
+    @Test(expected = UnsupportedOperationException.class)
+    public void reverseForEachWithIndex()
+    {
+        this.newWith(1, 2, 3).reverseForEachWithIndex((each, index) -> Assert.fail("Should not be evaluated"));
+    }
+
+    @Override
+    @Test(expected = UnsupportedOperationException.class)
+    public void toReversed()
+    {
+        this.newWith(1, 2, 3).toReversed();
+    }
+
+    @Test
+    public void concurrentAddAndRemove()
+    {
+        ConcurrentSkipListSortedSet<Integer> set = ConcurrentSkipListSortedSet.newSet();
+        ParallelIterate.forEach(Interval.oneTo(10_000), each ->
+        {
+            Assert.assertTrue(set.add(each));
+            Assert.assertFalse(set.add(each));
+            if (each % 3 == 0)
+            {
+                Assert.assertTrue(set.remove(each));
+            }
+        }, 100);
+        Verify.assertSize(6667, set);
+        Assert.assertTrue(set.noneSatisfy(each -> each % 3 == 0));
+        Assert.assertTrue(set.allSatisfy(each -> each <= 10_000));
+        Assert.assertEquals(Integer.valueOf(10_000), set.detect(each -> each > 9999));
+        Assert.assertEquals(Interval.oneTo(10_000).reject(each -> each % 3 == 0).toList(), FastList.newList(set));
+    }
+
+    @Test
+    public void iterationDuringModification()
+    {
+        ConcurrentSkipListSortedSet<Integer> set = ConcurrentSkipListSortedSet.newSet(Interval.oneTo(10));
+        MutableList<Integer> visited = Lists.mutable.empty();
+        set.each(each ->
+        {
+            visited.add(each);
+            set.remove(each + 1);
+        });
+        Assert.assertEquals(Interval.fromToBy(1, 9, 2), visited);
+        Assert.assertEquals(Interval.fromToBy(1, 9, 2), FastList.newList(set));
+    }
+
+    @Test
+    public void rangeViewsKeepType()
+    {
+        ConcurrentSkipListSortedSet<Integer> set = ConcurrentSkipListSortedSet.newSet(Comparators.reverseNaturalOrder(), Interval.oneTo(100));
+        MutableSortedSet<Integer> subSet = set.subSet(60, 40);
+        Verify.assertInstanceOf(ConcurrentSkipListSortedSet.class, subSet);
+        Verify.assertSize(20, subSet);
+        Assert.assertEquals(Integer.valueOf(60), subSet.first());
+        Assert.assertThrows(IllegalArgumentException.class, () -> subSet.add(30));
+        Verify.assertSize(40, set.headSet(60));
+        Verify.assertSize(60, set.tailSet(60));
+
+        subSet.clear();
+        Verify.assertSize(80, set);
+        Verify.assertInstanceOf(ConcurrentSkipListSortedSet.class, set.select(each -> each > 50));
+        Verify.assertInstanceOf(ConcurrentSkipListSortedSet.class, set.clone());
+        Verify.assertInstanceOf(ConcurrentSkipListSortedSet.class, set.partition(each -> each > 50).getRejected());
+        Verify.assertInstanceOf(ConcurrentSkipListSortedSet.class, set.take(5));
+        Verify.assertInstanceOf(ConcurrentSkipListSortedSet.class, set.newEmpty());
+        Assert.assertEquals(Integer.valueOf(100), set.select(each -> each > 50).getFirst());
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2022 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class InternalArraySortTest
+{
+    private static final int SIZE = 2_000;
+
+    @Test
+    public void sortByInt()
+    {
+        String[] expected = InternalArraySortTest.randomStrings();
+        String[] actual = expected.clone();
+        Arrays.sort(expected, 0, SIZE, Comparator.comparingInt(String::length));
+        InternalArraySort.sortByInt(actual, SIZE, String::length);
+        Assert.assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void sortByInt_negativeKeys()
+    {
+        Integer[] items = {3, -1, Integer.MIN_VALUE, 0, Integer.MAX_VALUE, -7};
+        InternalArraySort.sortByInt(items, items.length, each -> each);
+        Assert.assertArrayEquals(new Integer[]{Integer.MIN_VALUE, -7, -1, 0, 3, Integer.MAX_VALUE}, items);
+    }
+
+    @Test
+    public void sortByLong()
+    {
+        String[] expected = InternalArraySortTest.randomStrings();
+        String[] actual = expected.clone();
+        Arrays.sort(expected, 0, SIZE, Comparator.comparingLong(each -> -(long) each.hashCode() % 10L));
+        InternalArraySort.sortByLong(actual, SIZE, each -> -(long) each.hashCode() % 10L);
+        Assert.assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void sortByDouble()
+    {
+        String[] expected = InternalArraySortTest.randomStrings();
+        String[] actual = expected.clone();
+        Arrays.sort(expected, 0, SIZE, Comparator.comparingDouble(each -> each.length() / 3.0d));
+        InternalArraySort.sortByDouble(actual, SIZE, each -> each.length() / 3.0d);
+        Assert.assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void sortByLong_extremeKeys()
+    {
+        Long[] items = {3L, Long.MIN_VALUE, -1L, Long.MAX_VALUE, 0L, 1L << 40, -(1L << 40), Long.MIN_VALUE + 1L};
+        Long[] expected = items.clone();
+        Arrays.sort(expected);
+        InternalArraySort.sortByLong(items, items.length, each -> each);
+        Assert.assertArrayEquals(expected, items);
+    }
+
+    @Test
+    public void sortByDouble_specialValues()
+    {
+        Double[] items = {
+                1.5d, Double.NaN, -0.0d, Double.NEGATIVE_INFINITY, 0.0d, -Double.MIN_VALUE, Double.MAX_VALUE,
+                Double.POSITIVE_INFINITY, -1.5d, Double.MIN_VALUE, -Double.MAX_VALUE, 0.0d, -0.0d};
+        Double[] expected = items.clone();
+        Arrays.sort(expected, Comparator.comparingDouble(Double::doubleValue));
+        InternalArraySort.sortByDouble(items, items.length, Double::doubleValue);
+        Assert.assertArrayEquals(expected, items);
+    }
+
+    @Test
+    public void sortOnlyPrefix()
+    {
+        Integer[] items = {5, 4, 3, 2, 1};
+        InternalArraySort.sortByInt(items, 3, each -> each);
+        Assert.assertArrayEquals(new Integer[]{3, 4, 5, 2, 1}, items);
+        InternalArraySort.sortByLong(items, 0, each -> each);
+        Assert.assertArrayEquals(new Integer[]{3, 4, 5, 2, 1}, items);
+    }
+
+    private static String[] randomStrings()
+    {
+        Random random = new Random(42L);
+        String[] strings = new String[SIZE];
+        for (int i = 0; i < SIZE; i++)
+        {
+            strings[i] = Integer.toString(random.nextInt(100_000), 36);
+        }
+        return strings;
+    }
+}
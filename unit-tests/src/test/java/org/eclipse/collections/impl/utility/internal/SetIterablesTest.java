@@ -10,8 +10,12 @@
 
 package org.eclipse.collections.impl.utility.internal;
 
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.SetIterable;
+import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.factory.Sets;
+import org.eclipse.collections.impl.test.Verify;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -164,4 +168,56 @@ public class SetIterablesTest
         SetIterable<? extends Number> actual = SetIterables.difference(set1, set2);
         Assert.assertEquals(expected, actual);
     }
+
+    @Test
+    public void symmetricDifference()
+    {
+        Assert.assertEquals(
+                Sets.mutable.with(1, 2, 4, 5),
+                SetIterables.symmetricDifference(Sets.mutable.with(1, 2, 3), Sets.immutable.with(3, 4, 5)));
+        Assert.assertEquals(
+                Sets.mutable.with(1, 2, 3),
+                SetIterables.symmetricDifference(Sets.immutable.with(1, 2, 3), Sets.mutable.empty()));
+        Assert.assertEquals(
+                Sets.mutable.empty(),
+                SetIterables.symmetricDifference(Sets.mutable.with(1, 2, 3), Sets.mutable.with(1, 2, 3)));
+    }
+
+    @Test
+    public void unionView()
+    {
+        MutableSet<Integer> setA = Sets.mutable.with(1, 2, 3);
+        MutableSet<Integer> setB = Sets.mutable.with(3, 4);
+        LazyIterable<Integer> view = SetIterables.unionView(setA, setB);
+        Assert.assertEquals(Sets.mutable.with(1, 2, 3, 4), view.toSet());
+        Verify.assertIterableSize(4, view);
+        Assert.assertEquals(4, view.toList().size());
+        Assert.assertTrue(view.contains(4));
+        Assert.assertFalse(view.contains(5));
+
+        setB.addAll(Lists.mutable.with(5, 6, 7, 8));
+        Assert.assertEquals(Sets.mutable.with(1, 2, 3, 4, 5, 6, 7, 8), view.toSet());
+        Assert.assertEquals(8, view.size());
+        Assert.assertTrue(view.contains(5));
+        Assert.assertFalse(SetIterables.unionView(Sets.mutable.empty(), setA).isEmpty());
+        Assert.assertTrue(SetIterables.unionView(Sets.mutable.empty(), Sets.mutable.empty()).isEmpty());
+    }
+
+    @Test
+    public void intersectView()
+    {
+        MutableSet<Integer> setA = Sets.mutable.with(1, 2, 3);
+        MutableSet<Integer> setB = Sets.mutable.with(2, 3, 4, 5);
+        LazyIterable<Integer> view = SetIterables.intersectView(setA, setB);
+        Assert.assertEquals(Sets.mutable.with(2, 3), view.toSet());
+        Assert.assertEquals(2, view.size());
+        Assert.assertEquals(2, view.toList().size());
+        Assert.assertTrue(view.contains(2));
+        Assert.assertFalse(view.contains(1));
+
+        setA.remove(2);
+        Assert.assertEquals(Sets.mutable.with(3), view.toSet());
+        setA.remove(3);
+        Assert.assertTrue(view.isEmpty());
+    }
 }